@@ -35,6 +35,10 @@ public class KernelServicePortalBuilder {
    * The event filter to be applied for the built portal.
    */
   private Predicate<Object> eventFilter = new ClassMatcher(Object.class);
+  /**
+   * Whether the built portal fetches events with object states encoded as deltas.
+   */
+  private boolean deltaEncodedEvents;
 
   /**
    * Creates a new instance.
@@ -111,6 +115,29 @@ public class KernelServicePortalBuilder {
     return this;
   }
 
+  /**
+   * Indicates whether the built portal fetches events with object states encoded as deltas.
+   *
+   * @return Whether the built portal fetches events with object states encoded as deltas.
+   */
+  public boolean isDeltaEncodedEvents() {
+    return deltaEncodedEvents;
+  }
+
+  /**
+   * Sets whether the built portal fetches events with object states encoded as deltas against
+   * states it received before.
+   * This considerably reduces the amount of data transferred for modified objects, e.g. for
+   * connections over slow networks.
+   *
+   * @param deltaEncodedEvents Whether to fetch events with object states encoded as deltas.
+   * @return This instance.
+   */
+  public KernelServicePortalBuilder setDeltaEncodedEvents(boolean deltaEncodedEvents) {
+    this.deltaEncodedEvents = deltaEncodedEvents;
+    return this;
+  }
+
   /**
    * Builds and returns a {@link KernelServicePortal} with the configured parameters.
    *
@@ -126,7 +153,8 @@ public class KernelServicePortalBuilder {
         userName,
         password,
         socketFactoryProvider,
-        eventFilter
+        eventFilter,
+        deltaEncodedEvents
     );
   }
 }
@@ -0,0 +1,74 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A batch of events fetched by a remote client, with {@link org.opentcs.data.TCSObjectEvent}s
+ * encoded as {@link EncodedObjectEvent}s.
+ * <p>
+ * Object states in a batch may be encoded as deltas against states the client received with
+ * previous events. The kernel uses such base states only if the client has acknowledged the batch
+ * they were transferred with (by passing the batch's ID when fetching the next batch) or if they
+ * were transferred earlier in the same batch. If a client passes {@link #NO_BATCH} or an ID other
+ * than the one of the batch it fetched last, all of its base states are discarded and objects'
+ * states are transferred in full again.
+ * </p>
+ */
+public class EncodedEventBatch
+    implements
+      Serializable {
+
+  /**
+   * The batch ID to be acknowledged by a client that has not received any batch yet or that
+   * requests a full resynchronization.
+   */
+  public static final long NO_BATCH = -1;
+  /**
+   * This batch's ID.
+   */
+  private final long batchId;
+  /**
+   * The events in this batch.
+   */
+  private final List<Object> events;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param batchId This batch's ID.
+   * @param events The events in this batch.
+   */
+  public EncodedEventBatch(
+      long batchId,
+      @Nonnull
+      List<Object> events
+  ) {
+    this.batchId = batchId;
+    this.events = requireNonNull(events, "events");
+  }
+
+  /**
+   * Returns this batch's ID.
+   *
+   * @return This batch's ID.
+   */
+  public long getBatchId() {
+    return batchId;
+  }
+
+  /**
+   * Returns the events in this batch.
+   *
+   * @return The events in this batch.
+   */
+  @Nonnull
+  public List<Object> getEvents() {
+    return events;
+  }
+}
@@ -0,0 +1,123 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * Decodes batches of events fetched from a remote kernel, keeping the object states that
+ * subsequent deltas may be based on.
+ */
+class EncodedEventDecoder {
+
+  /**
+   * The serialized base states, mapped by object references.
+   */
+  private final Map<TCSObjectReference<?>, byte[]> baseStates = new HashMap<>();
+  /**
+   * The ID of the last batch decoded.
+   */
+  private long lastBatchId = EncodedEventBatch.NO_BATCH;
+
+  /**
+   * Creates a new instance.
+   */
+  EncodedEventDecoder() {
+  }
+
+  /**
+   * Returns the ID of the last batch decoded, i.e. the batch to be acknowledged with the next
+   * fetch.
+   *
+   * @return The ID of the last batch decoded, or {@link EncodedEventBatch#NO_BATCH}, if no batch
+   * has been decoded since creation or the last reset.
+   */
+  long getLastBatchId() {
+    return lastBatchId;
+  }
+
+  /**
+   * Discards all base states, so that a full resynchronization is requested with the next fetch.
+   */
+  void reset() {
+    baseStates.clear();
+    lastBatchId = EncodedEventBatch.NO_BATCH;
+  }
+
+  /**
+   * Decodes the given batch of events.
+   *
+   * @param batch The batch.
+   * @return The decoded events.
+   * @throws IllegalStateException If an event could not be decoded. The decoder should be reset in
+   * this case.
+   */
+  @Nonnull
+  List<Object> decode(
+      @Nonnull
+      EncodedEventBatch batch
+  )
+      throws IllegalStateException {
+    requireNonNull(batch, "batch");
+
+    List<Object> result = new ArrayList<>(batch.getEvents().size());
+    for (Object event : batch.getEvents()) {
+      if (event instanceof EncodedObjectEvent encodedEvent) {
+        result.add(decode(encodedEvent));
+      }
+      else {
+        result.add(event);
+      }
+    }
+    lastBatchId = batch.getBatchId();
+    return result;
+  }
+
+  private TCSObjectEvent decode(EncodedObjectEvent event) {
+    // The order in which the states are decoded must match the order in which they were encoded.
+    TCSObject<?> previousState = decode(event.getPreviousObjectState());
+    TCSObject<?> currentState = decode(event.getCurrentObjectState());
+
+    if (event.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      baseStates.remove(event.getPreviousObjectState().getReference());
+    }
+
+    return new TCSObjectEvent(currentState, previousState, event.getType());
+  }
+
+  private TCSObject<?> decode(EncodedObjectState state) {
+    if (state == null) {
+      return null;
+    }
+
+    try {
+      byte[] bytes = state.decode(baseStates.get(state.getReference()));
+      baseStates.put(state.getReference(), bytes);
+      return deserialize(bytes);
+    }
+    catch (IllegalArgumentException exc) {
+      throw new IllegalStateException("Could not decode state of " + state.getReference(), exc);
+    }
+  }
+
+  private static TCSObject<?> deserialize(byte[] bytes) {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (TCSObject<?>) in.readObject();
+    }
+    catch (IOException | ClassNotFoundException | ClassCastException exc) {
+      throw new IllegalStateException("Could not deserialize object state", exc);
+    }
+  }
+}
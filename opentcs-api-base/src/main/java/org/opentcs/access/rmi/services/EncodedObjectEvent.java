@@ -0,0 +1,103 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import org.opentcs.data.TCSObjectEvent;
+
+/**
+ * A {@link TCSObjectEvent} with the object states encoded for transfer to a remote client.
+ */
+public class EncodedObjectEvent
+    implements
+      Serializable {
+
+  /**
+   * The event's type.
+   */
+  private final TCSObjectEvent.Type type;
+  /**
+   * The encoded current state of the object, or {@code null}, if the object was removed.
+   */
+  private final EncodedObjectState currentObjectState;
+  /**
+   * The encoded previous state of the object, or {@code null}, if the object was created.
+   */
+  private final EncodedObjectState previousObjectState;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param type The event's type.
+   * @param currentObjectState The encoded current state of the object. May be {@code null} only for
+   * events of type {@link TCSObjectEvent.Type#OBJECT_REMOVED}.
+   * @param previousObjectState The encoded previous state of the object. May be {@code null} only
+   * for events of type {@link TCSObjectEvent.Type#OBJECT_CREATED}.
+   */
+  public EncodedObjectEvent(
+      @Nonnull
+      TCSObjectEvent.Type type,
+      @Nullable
+      EncodedObjectState currentObjectState,
+      @Nullable
+      EncodedObjectState previousObjectState
+  ) {
+    this.type = requireNonNull(type, "type");
+    checkArgument(
+        currentObjectState != null || type == TCSObjectEvent.Type.OBJECT_REMOVED,
+        "currentObjectState is null for event of type %s",
+        type
+    );
+    checkArgument(
+        previousObjectState != null || type == TCSObjectEvent.Type.OBJECT_CREATED,
+        "previousObjectState is null for event of type %s",
+        type
+    );
+    this.currentObjectState = currentObjectState;
+    this.previousObjectState = previousObjectState;
+  }
+
+  /**
+   * Returns the event's type.
+   *
+   * @return The event's type.
+   */
+  @Nonnull
+  public TCSObjectEvent.Type getType() {
+    return type;
+  }
+
+  /**
+   * Returns the encoded current state of the object.
+   *
+   * @return The encoded current state of the object, or {@code null}, if the object was removed.
+   */
+  @Nullable
+  public EncodedObjectState getCurrentObjectState() {
+    return currentObjectState;
+  }
+
+  /**
+   * Returns the encoded previous state of the object.
+   *
+   * @return The encoded previous state of the object, or {@code null}, if the object was created.
+   */
+  @Nullable
+  public EncodedObjectState getPreviousObjectState() {
+    return previousObjectState;
+  }
+
+  @Override
+  public String toString() {
+    return "EncodedObjectEvent{"
+        + "type=" + type
+        + ", currentObjectState=" + currentObjectState
+        + ", previousObjectState=" + previousObjectState
+        + '}';
+  }
+}
@@ -0,0 +1,198 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Arrays;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * The serialized state of a {@link TCSObject} as transferred to remote clients, either in full or
+ * as a delta against a base state known to the client.
+ * <p>
+ * A delta is the serialized state with the longest prefix and the longest suffix it has in common
+ * with the serialized base state cut off. Since a modification usually affects only few of an
+ * object's fields and serializing unmodified fields yields the same bytes again, a delta is usually
+ * considerably smaller than the full state.
+ * </p>
+ */
+public class EncodedObjectState
+    implements
+      Serializable {
+
+  /**
+   * A reference to the object.
+   */
+  private final TCSObjectReference<?> reference;
+  /**
+   * Whether this is a delta against a base state.
+   */
+  private final boolean delta;
+  /**
+   * The number of leading bytes taken from the base state.
+   */
+  private final int prefixLength;
+  /**
+   * The number of trailing bytes taken from the base state.
+   */
+  private final int suffixLength;
+  /**
+   * The serialized state, or the part of it that differs from the base state.
+   */
+  private final byte[] bytes;
+
+  private EncodedObjectState(
+      TCSObjectReference<?> reference,
+      boolean delta,
+      int prefixLength,
+      int suffixLength,
+      byte[] bytes
+  ) {
+    this.reference = requireNonNull(reference, "reference");
+    this.delta = delta;
+    this.prefixLength = prefixLength;
+    this.suffixLength = suffixLength;
+    this.bytes = requireNonNull(bytes, "bytes");
+  }
+
+  /**
+   * Creates an instance carrying the full serialized state.
+   *
+   * @param reference A reference to the object.
+   * @param state The serialized state.
+   * @return The new instance.
+   */
+  @Nonnull
+  public static EncodedObjectState fullState(
+      @Nonnull
+      TCSObjectReference<?> reference,
+      @Nonnull
+      byte[] state
+  ) {
+    return new EncodedObjectState(reference, false, 0, 0, state);
+  }
+
+  /**
+   * Creates an instance carrying the delta between the given serialized state and base state.
+   *
+   * @param reference A reference to the object.
+   * @param state The serialized state.
+   * @param base The serialized base state.
+   * @return The new instance.
+   */
+  @Nonnull
+  public static EncodedObjectState deltaState(
+      @Nonnull
+      TCSObjectReference<?> reference,
+      @Nonnull
+      byte[] state,
+      @Nonnull
+      byte[] base
+  ) {
+    requireNonNull(state, "state");
+    requireNonNull(base, "base");
+
+    int maxCommonLength = Math.min(state.length, base.length);
+    int prefixLength = Arrays.mismatch(state, base);
+    if (prefixLength < 0) {
+      // The arrays are equal.
+      prefixLength = maxCommonLength;
+    }
+    int suffixLength = 0;
+    while (suffixLength < maxCommonLength - prefixLength
+        && state[state.length - 1 - suffixLength] == base[base.length - 1 - suffixLength]) {
+      suffixLength++;
+    }
+
+    return new EncodedObjectState(
+        reference,
+        true,
+        prefixLength,
+        suffixLength,
+        Arrays.copyOfRange(state, prefixLength, state.length - suffixLength)
+    );
+  }
+
+  /**
+   * Returns a reference to the object.
+   *
+   * @return A reference to the object.
+   */
+  @Nonnull
+  public TCSObjectReference<?> getReference() {
+    return reference;
+  }
+
+  /**
+   * Indicates whether this is a delta against a base state.
+   *
+   * @return {@code true} if, and only if, this is a delta against a base state.
+   */
+  public boolean isDelta() {
+    return delta;
+  }
+
+  /**
+   * Returns the number of bytes actually carried by this instance.
+   *
+   * @return The number of bytes actually carried by this instance.
+   */
+  public int getEncodedLength() {
+    return bytes.length;
+  }
+
+  /**
+   * Returns the serialized state, reassembled from this instance and the given base state if this
+   * is a delta.
+   *
+   * @param base The serialized base state. May be {@code null} if this is not a delta.
+   * @return The serialized state.
+   * @throws IllegalArgumentException If this is a delta and the given base state is {@code null} or
+   * too short.
+   */
+  @Nonnull
+  public byte[] decode(
+      @Nullable
+      byte[] base
+  )
+      throws IllegalArgumentException {
+    if (!delta) {
+      return bytes.clone();
+    }
+    checkArgument(base != null, "No base state for delta of %s", reference.getName());
+    checkArgument(
+        prefixLength + suffixLength <= base.length,
+        "Base state of %s does not match delta",
+        reference.getName()
+    );
+
+    byte[] result = new byte[prefixLength + bytes.length + suffixLength];
+    System.arraycopy(base, 0, result, 0, prefixLength);
+    System.arraycopy(bytes, 0, result, prefixLength, bytes.length);
+    System.arraycopy(
+        base,
+        base.length - suffixLength,
+        result,
+        prefixLength + bytes.length,
+        suffixLength
+    );
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return "EncodedObjectState{"
+        + "reference=" + reference
+        + ", delta=" + delta
+        + ", prefixLength=" + prefixLength
+        + ", suffixLength=" + suffixLength
+        + ", encodedLength=" + bytes.length
+        + '}';
+  }
+}
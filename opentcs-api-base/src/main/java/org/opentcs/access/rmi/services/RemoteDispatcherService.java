@@ -4,7 +4,9 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.List;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
@@ -40,6 +42,13 @@ public interface RemoteDispatcherService
   )
       throws RemoteException;
 
+  List<BatchItemResult<TCSObjectReference<TransportOrder>>> withdrawByTransportOrders(
+      ClientID clientId,
+      List<TCSObjectReference<TransportOrder>> refs,
+      boolean immediateAbort
+  )
+      throws RemoteException;
+
   void withdrawByTransportOrder(
       ClientID clientId,
       TCSObjectReference<TransportOrder> ref,
@@ -3,7 +3,9 @@
 package org.opentcs.access.rmi.services;
 
 import java.rmi.RemoteException;
+import java.util.List;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectReference;
@@ -61,6 +63,22 @@ class RemoteDispatcherServiceProxy
     }
   }
 
+  @Override
+  public List<BatchItemResult<TCSObjectReference<TransportOrder>>> withdrawByTransportOrders(
+      List<TCSObjectReference<TransportOrder>> refs,
+      boolean immediateAbort
+  )
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().withdrawByTransportOrders(getClientId(), refs, immediateAbort);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   @Override
   public void withdrawByTransportOrder(
       TCSObjectReference<TransportOrder> ref,
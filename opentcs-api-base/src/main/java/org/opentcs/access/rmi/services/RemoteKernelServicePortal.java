@@ -41,6 +41,21 @@ public interface RemoteKernelServicePortal
   List<Object> fetchEvents(ClientID clientId, long timeout)
       throws RemoteException;
 
+  /**
+   * Fetches events like {@link #fetchEvents(ClientID, long)}, but with the object states of
+   * {@link org.opentcs.data.TCSObjectEvent}s encoded as deltas against states the client already
+   * knows, where possible.
+   *
+   * @param clientId The client's ID.
+   * @param timeout The maximum time to wait for events (in ms) if there currently aren't any.
+   * @param acknowledgedBatchId The ID of the batch the client fetched and decoded last, or
+   * {@link EncodedEventBatch#NO_BATCH} to request a full resynchronization.
+   * @return The batch of events.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  EncodedEventBatch fetchEncodedEvents(ClientID clientId, long timeout, long acknowledgedBatchId)
+      throws RemoteException;
+
   void publishEvent(ClientID clientId, Object event)
       throws RemoteException;
 }
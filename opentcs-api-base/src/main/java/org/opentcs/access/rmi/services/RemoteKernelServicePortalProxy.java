@@ -71,6 +71,14 @@ public class RemoteKernelServicePortalProxy
    * The event filter to be applied to events on the server side (before polling).
    */
   private final Predicate<Object> eventFilter;
+  /**
+   * Whether to fetch events with object states encoded as deltas.
+   */
+  private final boolean deltaEncodedEvents;
+  /**
+   * Decodes events fetched with object states encoded as deltas.
+   */
+  private final EncodedEventDecoder eventDecoder = new EncodedEventDecoder();
   /**
    * The plant model service.
    */
@@ -135,11 +143,36 @@ public class RemoteKernelServicePortalProxy
       SocketFactoryProvider socketFactoryProvider,
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(userName, password, socketFactoryProvider, eventFilter, false);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param userName The user name used with the remote portal.
+   * @param password The password used with the remote portal.
+   * @param socketFactoryProvider Provides socket factories used for RMI.
+   * @param eventFilter The event filter to be applied to events on the server side.
+   * @param deltaEncodedEvents Whether to fetch events with object states encoded as deltas against
+   * states received before, which reduces the amount of data transferred considerably.
+   */
+  public RemoteKernelServicePortalProxy(
+      @Nonnull
+      String userName,
+      @Nonnull
+      String password,
+      @Nonnull
+      SocketFactoryProvider socketFactoryProvider,
+      @Nonnull
+      Predicate<Object> eventFilter,
+      boolean deltaEncodedEvents
   ) {
     this.userName = requireNonNull(userName, "userName");
     this.password = requireNonNull(password, "password");
     this.socketFactoryProvider = requireNonNull(socketFactoryProvider, "socketFactoryProvider");
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.deltaEncodedEvents = deltaEncodedEvents;
   }
 
   @Override
@@ -179,6 +212,8 @@ public class RemoteKernelServicePortalProxy
       setRemoteService((RemoteKernelServicePortal) registry.lookup(REMOTE_KERNEL_CLIENT_PORTAL));
       // Login and save the client ID.
       setClientId(getRemoteService().login(userName, password, eventFilter));
+      // A new session starts without any object states known.
+      resynchronizeEvents();
       // Get notified when a service call on us fails.
       setServiceListener(this);
 
@@ -230,6 +265,9 @@ public class RemoteKernelServicePortalProxy
     checkServiceAvailability();
 
     try {
+      if (deltaEncodedEvents) {
+        return fetchEncodedEvents(timeout);
+      }
       return getRemoteService().fetchEvents(getClientId(), timeout);
     }
     catch (RemoteException ex) {
@@ -237,6 +275,17 @@ public class RemoteKernelServicePortalProxy
     }
   }
 
+  /**
+   * Discards all object states received with events before, so that object states are transferred
+   * in full again with the next events fetched.
+   * Has no effect if events are not fetched with object states encoded as deltas.
+   */
+  public void resynchronizeEvents() {
+    synchronized (eventDecoder) {
+      eventDecoder.reset();
+    }
+  }
+
   @Override
   public void publishEvent(Object event)
       throws KernelRuntimeException {
@@ -310,6 +359,24 @@ public class RemoteKernelServicePortalProxy
     return peripheralDispatcherService;
   }
 
+  private List<Object> fetchEncodedEvents(long timeout)
+      throws RemoteException {
+    synchronized (eventDecoder) {
+      EncodedEventBatch batch = getRemoteService().fetchEncodedEvents(
+          getClientId(),
+          timeout,
+          eventDecoder.getLastBatchId()
+      );
+      try {
+        return eventDecoder.decode(batch);
+      }
+      catch (IllegalStateException exc) {
+        eventDecoder.reset();
+        throw new KernelRuntimeException("Could not decode events, resynchronizing", exc);
+      }
+    }
+  }
+
   private void updateServiceLogins(Registry registry)
       throws RemoteException,
         NotBoundException {
@@ -7,6 +7,7 @@ import java.rmi.RemoteException;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.TCSObject;
@@ -51,6 +52,13 @@ public interface RemoteTCSObjectService
   )
       throws RemoteException;
 
+  <T extends TCSObject<T>, V> Set<T> fetchObjects(
+      ClientID clientId,
+      ObjectAttribute<T, V> attribute,
+      V value
+  )
+      throws RemoteException;
+
   void updateObjectProperty(
       ClientID clientId,
       TCSObjectReference<?> ref,
@@ -6,6 +6,7 @@ import java.rmi.RemoteException;
 import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
@@ -79,6 +80,22 @@ abstract class RemoteTCSObjectServiceProxy<R extends RemoteTCSObjectService>
     }
   }
 
+  @Override
+  public <T extends TCSObject<T>, V> Set<T> fetchObjects(
+      ObjectAttribute<T, V> attribute,
+      V value
+  )
+      throws KernelRuntimeException {
+    checkServiceAvailability();
+
+    try {
+      return getRemoteService().fetchObjects(getClientId(), attribute, value);
+    }
+    catch (RemoteException ex) {
+      throw findSuitableExceptionFor(ex);
+    }
+  }
+
   @Override
   public void updateObjectProperty(TCSObjectReference<?> ref, String key, String value)
       throws ObjectUnknownException,
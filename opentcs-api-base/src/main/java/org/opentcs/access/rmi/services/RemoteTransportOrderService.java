@@ -4,9 +4,11 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.List;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
@@ -39,6 +41,18 @@ public interface RemoteTransportOrderService
   TransportOrder createTransportOrder(ClientID clientId, TransportOrderCreationTO to)
       throws RemoteException;
 
+  List<BatchItemResult<OrderSequence>> createOrderSequences(
+      ClientID clientId,
+      List<OrderSequenceCreationTO> tos
+  )
+      throws RemoteException;
+
+  List<BatchItemResult<TransportOrder>> createTransportOrders(
+      ClientID clientId,
+      List<TransportOrderCreationTO> tos
+  )
+      throws RemoteException;
+
   void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref)
       throws RemoteException;
 
@@ -69,6 +69,11 @@ public interface Dispatcher
    * <p>
    * This method is supposed to be called only from the kernel executor thread.
    * </p>
+   * <p>
+   * Implementations may execute the dispatching process asynchronously, i.e. this method may
+   * return before the process has happened. Callers should therefore not rely on transport orders
+   * having been assigned when this method returns.
+   * </p>
    */
   void dispatch();
 
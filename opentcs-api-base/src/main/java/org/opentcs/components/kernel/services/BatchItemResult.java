@@ -0,0 +1,140 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.components.kernel.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.opentcs.access.KernelRuntimeException;
+
+/**
+ * The result of an operation on a single item of a batch, e.g. the creation of a single transport
+ * order of a batch of transport orders.
+ * <p>
+ * Operations on the items of a batch are independent of each other, i.e. an operation failing for
+ * one item does not affect the operations for the other items of the batch.
+ * </p>
+ *
+ * @param <T> The type of the operation's result.
+ */
+public class BatchItemResult<T>
+    implements
+      Serializable {
+
+  /**
+   * The operation's result, or {@code null}, if the operation failed.
+   */
+  private final T result;
+  /**
+   * A description of why the operation failed, or {@code null}, if it succeeded.
+   */
+  private final String errorMessage;
+
+  private BatchItemResult(
+      @Nullable
+      T result,
+      @Nullable
+      String errorMessage
+  ) {
+    this.result = result;
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * Creates a result for a successful operation.
+   *
+   * @param <T> The type of the operation's result.
+   * @param result The operation's result.
+   * @return The new instance.
+   */
+  @Nonnull
+  public static <T> BatchItemResult<T> success(
+      @Nonnull
+      T result
+  ) {
+    return new BatchItemResult<>(requireNonNull(result, "result"), null);
+  }
+
+  /**
+   * Creates a result for a failed operation.
+   *
+   * @param <T> The type of the operation's result.
+   * @param errorMessage A description of why the operation failed.
+   * @return The new instance.
+   */
+  @Nonnull
+  public static <T> BatchItemResult<T> failure(
+      @Nonnull
+      String errorMessage
+  ) {
+    return new BatchItemResult<>(null, requireNonNull(errorMessage, "errorMessage"));
+  }
+
+  /**
+   * Executes the given operation and wraps its outcome.
+   * <p>
+   * A {@link KernelRuntimeException}, {@link IllegalArgumentException} or
+   * {@link IllegalStateException} thrown by the operation results in a failure, with the
+   * exception's message as the error message.
+   * </p>
+   *
+   * @param <T> The type of the operation's result.
+   * @param operation The operation.
+   * @return The operation's outcome.
+   */
+  @Nonnull
+  public static <T> BatchItemResult<T> of(
+      @Nonnull
+      Supplier<T> operation
+  ) {
+    requireNonNull(operation, "operation");
+
+    try {
+      return success(operation.get());
+    }
+    catch (KernelRuntimeException | IllegalArgumentException | IllegalStateException exc) {
+      return failure(Objects.toString(exc.getMessage(), exc.getClass().getSimpleName()));
+    }
+  }
+
+  /**
+   * Indicates whether the operation succeeded.
+   *
+   * @return {@code true} if, and only if, the operation succeeded.
+   */
+  public boolean isSuccessful() {
+    return errorMessage == null;
+  }
+
+  /**
+   * Returns the operation's result.
+   *
+   * @return The operation's result, or {@code null}, if the operation failed.
+   */
+  @Nullable
+  public T getResult() {
+    return result;
+  }
+
+  /**
+   * Returns a description of why the operation failed.
+   *
+   * @return A description of why the operation failed, or {@code null}, if it succeeded.
+   */
+  @Nullable
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  @Override
+  public String toString() {
+    return "BatchItemResult{"
+        + "result=" + result
+        + ", errorMessage=" + errorMessage
+        + '}';
+  }
+}
@@ -2,7 +2,11 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentException;
@@ -70,6 +74,43 @@ public interface DispatcherService {
       throws ObjectUnknownException,
         KernelRuntimeException;
 
+  /**
+   * Withdraws the referenced transport orders.
+   * <p>
+   * If called within the kernel application, this method is supposed to be called only on the
+   * kernel executor thread.
+   * </p>
+   * <p>
+   * This default implementation withdraws the transport orders one by one via
+   * {@link #withdrawByTransportOrder(TCSObjectReference, boolean)}.
+   * </p>
+   *
+   * @param refs References to the transport orders to be withdrawn.
+   * @param immediateAbort If {@code false}, this method once will initiate the withdrawals,
+   * leaving the transport orders assigned to their vehicles until they have finished the movements
+   * that they have already been ordered to execute. If {@code true}, the dispatcher will withdraw
+   * the orders from the vehicles without further waiting.
+   * @return The results of the withdrawals, in the order of the given references. The result of a
+   * successful withdrawal is the reference to the respective transport order.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  default List<BatchItemResult<TCSObjectReference<TransportOrder>>> withdrawByTransportOrders(
+      @Nonnull
+      List<TCSObjectReference<TransportOrder>> refs,
+      boolean immediateAbort
+  )
+      throws KernelRuntimeException {
+    requireNonNull(refs, "refs");
+
+    return refs.stream()
+        .map(ref -> BatchItemResult.of(() -> {
+          withdrawByTransportOrder(ref, immediateAbort);
+          return ref;
+        }))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Explicitly trigger a rerouting for the given vehicles.
    * <p>
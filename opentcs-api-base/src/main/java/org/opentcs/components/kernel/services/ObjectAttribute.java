@@ -0,0 +1,213 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.components.kernel.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.InvalidObjectException;
+import java.io.NotSerializableException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Describes an attribute of {@link TCSObject}s of a specific class that objects can be looked up
+ * by.
+ * <p>
+ * The kernel maintains secondary indexes for the attributes declared as constants in this class,
+ * so that looking up objects by one of these attributes (see
+ * {@link TCSObjectService#fetchObjects(ObjectAttribute, Object)}) takes time proportional to the
+ * number of matching objects instead of the number of all objects of the respective class.
+ * Lookups by other attributes are supported, too, but require examining all objects of the
+ * respective class.
+ * </p>
+ * <p>
+ * Only the attributes declared as constants in this class can be serialized, e.g. for looking up
+ * objects via RMI.
+ * </p>
+ *
+ * @param <T> The type of objects having the attribute.
+ * @param <V> The type of the attribute's values.
+ */
+public final class ObjectAttribute<T extends TCSObject<T>, V>
+    implements
+      Serializable {
+
+  /**
+   * A transport order's state.
+   */
+  public static final ObjectAttribute<TransportOrder, TransportOrder.State> TRANSPORT_ORDER_STATE
+      = new ObjectAttribute<>(TransportOrder.class, "state", TransportOrder::getState);
+  /**
+   * A reference to the vehicle intended to process a transport order.
+   */
+  public static final ObjectAttribute<TransportOrder, TCSObjectReference<Vehicle>>
+      TRANSPORT_ORDER_INTENDED_VEHICLE = new ObjectAttribute<>(
+          TransportOrder.class,
+          "intendedVehicle",
+          TransportOrder::getIntendedVehicle
+      );
+  /**
+   * A reference to the vehicle processing a transport order.
+   */
+  public static final ObjectAttribute<TransportOrder, TCSObjectReference<Vehicle>>
+      TRANSPORT_ORDER_PROCESSING_VEHICLE = new ObjectAttribute<>(
+          TransportOrder.class,
+          "processingVehicle",
+          TransportOrder::getProcessingVehicle
+      );
+  /**
+   * A reference to the order sequence a transport order belongs to.
+   */
+  public static final ObjectAttribute<TransportOrder, TCSObjectReference<OrderSequence>>
+      TRANSPORT_ORDER_WRAPPING_SEQUENCE = new ObjectAttribute<>(
+          TransportOrder.class,
+          "wrappingSequence",
+          TransportOrder::getWrappingSequence
+      );
+  /**
+   * A reference to the point a vehicle is currently positioned at.
+   */
+  public static final ObjectAttribute<Vehicle, TCSObjectReference<Point>> VEHICLE_CURRENT_POSITION
+      = new ObjectAttribute<>(Vehicle.class, "currentPosition", Vehicle::getCurrentPosition);
+  /**
+   * A vehicle's processing state.
+   */
+  public static final ObjectAttribute<Vehicle, Vehicle.ProcState> VEHICLE_PROC_STATE
+      = new ObjectAttribute<>(Vehicle.class, "procState", Vehicle::getProcState);
+  /**
+   * All attributes declared as constants in this class.
+   */
+  private static final List<ObjectAttribute<?, ?>> DECLARED_ATTRIBUTES = List.of(
+      TRANSPORT_ORDER_STATE,
+      TRANSPORT_ORDER_INTENDED_VEHICLE,
+      TRANSPORT_ORDER_PROCESSING_VEHICLE,
+      TRANSPORT_ORDER_WRAPPING_SEQUENCE,
+      VEHICLE_CURRENT_POSITION,
+      VEHICLE_PROC_STATE
+  );
+
+  /**
+   * The class of objects having this attribute.
+   */
+  private final Class<T> objectClass;
+  /**
+   * The attribute's name.
+   */
+  private final String name;
+  /**
+   * Retrieves the attribute's value from an object.
+   */
+  private final Function<T, V> accessor;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectClass The class of objects having this attribute.
+   * @param name The attribute's name.
+   * @param accessor Retrieves the attribute's value from an object. Must not have side effects and
+   * must always return equal values for the same object.
+   */
+  public ObjectAttribute(
+      @Nonnull
+      Class<T> objectClass,
+      @Nonnull
+      String name,
+      @Nonnull
+      Function<T, V> accessor
+  ) {
+    this.objectClass = requireNonNull(objectClass, "objectClass");
+    this.name = requireNonNull(name, "name");
+    this.accessor = requireNonNull(accessor, "accessor");
+  }
+
+  /**
+   * Returns the class of objects having this attribute.
+   *
+   * @return The class of objects having this attribute.
+   */
+  @Nonnull
+  public Class<T> getObjectClass() {
+    return objectClass;
+  }
+
+  /**
+   * Returns the attribute's name.
+   *
+   * @return The attribute's name.
+   */
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the attribute's value for the given object.
+   *
+   * @param object The object.
+   * @return The attribute's value for the given object.
+   */
+  @Nullable
+  public V getValue(
+      @Nonnull
+      T object
+  ) {
+    requireNonNull(object, "object");
+    return accessor.apply(object);
+  }
+
+  private Object writeReplace()
+      throws ObjectStreamException {
+    if (!DECLARED_ATTRIBUTES.contains(this)) {
+      throw new NotSerializableException("Not a declared attribute: " + this);
+    }
+    return new SerializedForm(objectClass, name);
+  }
+
+  @Override
+  public String toString() {
+    return "ObjectAttribute{"
+        + "objectClass=" + objectClass.getSimpleName()
+        + ", name=" + name
+        + '}';
+  }
+
+  /**
+   * The serialized form of a declared attribute, which is resolved to the respective constant on
+   * deserialization.
+   */
+  private static class SerializedForm
+      implements
+        Serializable {
+
+    private final Class<?> objectClass;
+    private final String name;
+
+    SerializedForm(Class<?> objectClass, String name) {
+      this.objectClass = objectClass;
+      this.name = name;
+    }
+
+    private Object readResolve()
+        throws ObjectStreamException {
+      return DECLARED_ATTRIBUTES.stream()
+          .filter(attribute -> attribute.getObjectClass().equals(objectClass))
+          .filter(attribute -> attribute.getName().equals(name))
+          .findFirst()
+          .orElseThrow(
+              () -> new InvalidObjectException(
+                  "Unknown attribute: " + objectClass.getSimpleName() + "." + name
+              )
+          );
+    }
+  }
+}
@@ -4,8 +4,10 @@ package org.opentcs.components.kernel.services;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
@@ -73,6 +75,39 @@ public interface TCSObjectService {
   )
       throws KernelRuntimeException;
 
+  /**
+   * Returns all existing {@link TCSObject}s for which the given attribute has the given value.
+   * <p>
+   * For the attributes declared as constants in {@link ObjectAttribute}, the kernel looks up the
+   * objects using secondary indexes, which is considerably faster than filtering all objects of the
+   * respective class.
+   * </p>
+   * <p>
+   * This default implementation retrieves all objects of the attribute's class and filters them.
+   * </p>
+   *
+   * @param <T> The TCSObjects' actual type.
+   * @param <V> The type of the attribute's values.
+   * @param attribute The attribute.
+   * @param value The value the attribute must have for returned objects.
+   * @return Copies of all existing objects for which the given attribute has the given value. If no
+   * such objects exist, the returned set will be empty.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default <T extends TCSObject<T>, V> Set<T> fetchObjects(
+      @Nonnull
+      ObjectAttribute<T, V> attribute,
+      @Nullable
+      V value
+  )
+      throws KernelRuntimeException {
+    Objects.requireNonNull(attribute, "attribute");
+
+    return fetchObjects(attribute.getObjectClass()).stream()
+        .filter(object -> Objects.equals(attribute.getValue(object), value))
+        .collect(Collectors.toSet());
+  }
+
   /**
    * Updates a {@link TCSObject}'s property.
    *
@@ -2,6 +2,11 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
@@ -54,6 +59,61 @@ public interface TransportOrderService
         ObjectExistsException,
         KernelRuntimeException;
 
+  /**
+   * Creates new order sequences.
+   * Creating the order sequences of a batch is independent of each other, i.e. if the creation of
+   * an order sequence fails, the other ones are still created.
+   * <p>
+   * This default implementation creates the order sequences one by one via
+   * {@link #createOrderSequence(OrderSequenceCreationTO)}.
+   * </p>
+   *
+   * @param tos Describe the order sequences to be created.
+   * @return The results of the creations, in the order of the given transfer objects. The result
+   * of a successful creation is a copy of the newly created order sequence.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  default List<BatchItemResult<OrderSequence>> createOrderSequences(
+      @Nonnull
+      List<OrderSequenceCreationTO> tos
+  )
+      throws KernelRuntimeException {
+    requireNonNull(tos, "tos");
+
+    return tos.stream()
+        .map(to -> BatchItemResult.of(() -> createOrderSequence(to)))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Creates new transport orders.
+   * Creating the transport orders of a batch is independent of each other, i.e. if the creation of
+   * a transport order fails, the other ones are still created.
+   * Transport orders may depend on transport orders created earlier in the same batch.
+   * <p>
+   * This default implementation creates the transport orders one by one via
+   * {@link #createTransportOrder(TransportOrderCreationTO)}.
+   * </p>
+   *
+   * @param tos Describe the transport orders to be created.
+   * @return The results of the creations, in the order of the given transfer objects. The result
+   * of a successful creation is a copy of the newly created transport order.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  @Nonnull
+  default List<BatchItemResult<TransportOrder>> createTransportOrders(
+      @Nonnull
+      List<TransportOrderCreationTO> tos
+  )
+      throws KernelRuntimeException {
+    requireNonNull(tos, "tos");
+
+    return tos.stream()
+        .map(to -> BatchItemResult.of(() -> createTransportOrder(to)))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Marks an order sequence as complete by setting its complete flag.
    *
@@ -6,38 +6,61 @@ import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * A history of events related to an object.
+ * <p>
+ * Instances of this class are immutable. Copies with entries appended share the entries with the
+ * original instance, so appending an entry takes amortized constant time and space, as long as
+ * entries are appended to the most recent copy only (which is the usual case). Appending an entry
+ * to an older copy requires copying that copy's entries once.
+ * </p>
  */
 public class ObjectHistory
     implements
       Serializable {
 
   /**
-   * The actual history entries.
+   * The log holding (at least) this history's entries.
    */
-  private final List<Entry> entries;
+  private final transient EntryLog log;
+  /**
+   * The index of this history's first entry in the log.
+   */
+  private final transient int offset;
+  /**
+   * The number of entries in this history.
+   */
+  private final transient int size;
 
   /**
    * Creates a new instance.
    */
   public ObjectHistory() {
-    this(List.of());
+    this(new EntryLog(), 0, 0);
   }
 
   /**
-   * Creates a new instance with the given list of entries.
+   * Creates a new instance with the given entries.
    *
-   * @param entries
+   * @param log The log holding this history's entries.
+   * @param offset The index of this history's first entry in the log.
+   * @param size The number of entries in this history.
    */
-  private ObjectHistory(List<Entry> entries) {
-    this.entries = Collections.unmodifiableList(requireNonNull(entries, "entries"));
+  private ObjectHistory(EntryLog log, int offset, int size) {
+    this.log = requireNonNull(log, "log");
+    this.offset = offset;
+    this.size = size;
   }
 
   /**
@@ -46,7 +69,7 @@ public class ObjectHistory
    * @return This history's entries.
    */
   public List<Entry> getEntries() {
-    return entries;
+    return new EntryList();
   }
 
   /**
@@ -56,7 +79,13 @@ public class ObjectHistory
    * @return A copy of this object, with the given entries.
    */
   public ObjectHistory withEntries(List<Entry> entries) {
-    return new ObjectHistory(entries);
+    requireNonNull(entries, "entries");
+
+    EntryLog newLog = new EntryLog();
+    for (Entry entry : entries) {
+      newLog.appendIfSizeIs(newLog.size(), requireNonNull(entry, "entry"));
+    }
+    return new ObjectHistory(newLog, 0, entries.size());
   }
 
   /**
@@ -68,15 +97,168 @@ public class ObjectHistory
   public ObjectHistory withEntryAppended(Entry entry) {
     requireNonNull(entry, "entry");
 
-    List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
-    newEntries.addAll(entries);
-    newEntries.add(entry);
-    return new ObjectHistory(newEntries);
+    return appended(entry, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns a copy of this object, with the given entry appended and, if necessary, the oldest
+   * entries removed so that the copy contains at most the given number of entries.
+   *
+   * @param entry The entry.
+   * @param maxEntries The maximum number of entries the copy may contain. Must be at least 1.
+   * @return A copy of this object, with the given entry appended.
+   */
+  public ObjectHistory withEntryAppended(Entry entry, int maxEntries) {
+    requireNonNull(entry, "entry");
+    checkArgument(maxEntries > 0, "maxEntries is not positive: %s", maxEntries);
+
+    return appended(entry, maxEntries);
   }
 
   @Override
   public String toString() {
-    return "ObjectHistory{" + "entries=" + entries + '}';
+    return "ObjectHistory{" + "entries=" + getEntries() + '}';
+  }
+
+  private ObjectHistory appended(Entry entry, int maxEntries) {
+    int newSize = Math.min(size + 1, maxEntries);
+    // The number of this history's (oldest) entries to be dropped.
+    int dropCount = size + 1 - newSize;
+    int newOffset = offset + dropCount;
+
+    // Share the log with this history if possible, i.e. if no entry has been appended to it since
+    // this history was created, and if it does not hold (many) more dropped than retained entries.
+    if (newOffset < Math.max(newSize, EntryLog.CHUNK_SIZE)
+        && log.appendIfSizeIs(offset + size, entry)) {
+      return new ObjectHistory(log, newOffset, newSize);
+    }
+
+    EntryLog newLog = new EntryLog();
+    for (int i = dropCount; i < size; i++) {
+      newLog.appendIfSizeIs(newLog.size(), log.get(offset + i));
+    }
+    newLog.appendIfSizeIs(newLog.size(), entry);
+    return new ObjectHistory(newLog, 0, newSize);
+  }
+
+  private Object writeReplace() {
+    return new SerializationProxy(new ArrayList<>(getEntries()));
+  }
+
+  private void readObject(ObjectInputStream stream)
+      throws InvalidObjectException {
+    throw new InvalidObjectException("Serialization proxy required");
+  }
+
+  /**
+   * An unmodifiable view on this history's entries.
+   */
+  private class EntryList
+      extends
+        AbstractList<Entry>
+      implements
+        RandomAccess {
+
+    EntryList() {
+    }
+
+    @Override
+    public Entry get(int index) {
+      Objects.checkIndex(index, size);
+      return log.get(offset + index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+
+  /**
+   * An append-only log of history entries, stored in chunks of fixed size.
+   * <p>
+   * Entries are only ever appended, never modified or removed, so that histories can share a log
+   * with the history they were created from. Appending is synchronized; reading entries that have
+   * been appended before is safe without synchronization.
+   * </p>
+   */
+  private static final class EntryLog {
+
+    /**
+     * The number of entries in a chunk. Must be a power of two.
+     */
+    private static final int CHUNK_SIZE = 64;
+    /**
+     * The number of bits to shift an index by to get the index of the chunk containing the entry.
+     */
+    private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_SIZE);
+    /**
+     * The chunks holding the entries.
+     * Written after every append, so readers see all entries appended before.
+     */
+    private volatile Entry[][] chunks = new Entry[1][];
+    /**
+     * The number of entries in this log.
+     */
+    private int size;
+
+    EntryLog() {
+    }
+
+    /**
+     * Appends the given entry, provided this log contains the given number of entries.
+     *
+     * @param expectedSize The expected number of entries in this log.
+     * @param entry The entry to append.
+     * @return {@code true} if, and only if, the entry was appended.
+     */
+    synchronized boolean appendIfSizeIs(int expectedSize, Entry entry) {
+      if (size != expectedSize) {
+        return false;
+      }
+
+      Entry[][] currentChunks = chunks;
+      int chunkIndex = size >>> CHUNK_SHIFT;
+      if (chunkIndex == currentChunks.length) {
+        currentChunks = Arrays.copyOf(currentChunks, currentChunks.length * 2);
+      }
+      if (currentChunks[chunkIndex] == null) {
+        currentChunks[chunkIndex] = new Entry[CHUNK_SIZE];
+      }
+      currentChunks[chunkIndex][size & (CHUNK_SIZE - 1)] = entry;
+      size++;
+      chunks = currentChunks;
+      return true;
+    }
+
+    synchronized int size() {
+      return size;
+    }
+
+    Entry get(int index) {
+      return chunks[index >>> CHUNK_SHIFT][index & (CHUNK_SIZE - 1)];
+    }
+  }
+
+  /**
+   * The serialized form of a history, containing only the history's entries.
+   */
+  private static class SerializationProxy
+      implements
+        Serializable {
+
+    /**
+     * The history's entries.
+     */
+    private final List<Entry> entries;
+
+    SerializationProxy(List<Entry> entries) {
+      this.entries = entries;
+    }
+
+    private Object readResolve() {
+      return new ObjectHistory().withEntries(entries);
+    }
   }
 
   /**
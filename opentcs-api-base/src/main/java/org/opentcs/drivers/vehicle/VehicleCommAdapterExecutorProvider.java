@@ -0,0 +1,36 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.vehicle;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.ScheduledExecutorService;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Provides the executors communication adapters run their tasks on.
+ * <p>
+ * Depending on the kernel's configuration, the executor provided for a vehicle may be the kernel
+ * executor or an executor that is shared with only a subset of all vehicles. Communication adapters
+ * using an executor provided by this interface must not assume that their tasks are executed on
+ * the kernel executor. Changes of their {@link VehicleProcessModel}s are processed by the kernel
+ * asynchronously, in the order they were made.
+ * </p>
+ */
+public interface VehicleCommAdapterExecutorProvider {
+
+  /**
+   * Returns the executor a communication adapter for the given vehicle should run its tasks on.
+   * <p>
+   * Every call for the same vehicle returns the same executor. Tasks for a single vehicle are
+   * executed sequentially.
+   * </p>
+   *
+   * @param vehicle The vehicle.
+   * @return The executor a communication adapter for the given vehicle should run its tasks on.
+   */
+  @Nonnull
+  ScheduledExecutorService getExecutorFor(
+      @Nonnull
+      Vehicle vehicle
+  );
+}
@@ -0,0 +1,353 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link EventBus} that delivers events to designated handlers
+ * asynchronously.
+ * <p>
+ * Each handler designated for asynchronous delivery gets its own bounded event queue and a
+ * dedicated thread delivering the queued events to it in the order they were published. As a
+ * result, slow handlers do not stall the threads publishing events (or other handlers), as long as
+ * their queues are not full. What happens when a handler's queue is full is determined by the
+ * configured {@link OverflowPolicy}.
+ * </p>
+ * <p>
+ * All other handlers are invoked synchronously on the publishing thread, just like with
+ * {@link SimpleEventBus}.
+ * </p>
+ */
+public class AsyncEventBus
+    implements
+      EventBus {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncEventBus.class);
+  /**
+   * Determines which handlers events are delivered to asynchronously.
+   */
+  private final Predicate<EventHandler> asynchronousDelivery;
+  /**
+   * The capacity of each asynchronously served handler's event queue.
+   */
+  private final int queueCapacity;
+  /**
+   * The policy for handling events for handlers whose queues are full.
+   */
+  private final OverflowPolicy overflowPolicy;
+  /**
+   * The subscriptions, in the order the handlers subscribed.
+   */
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param asynchronousDelivery Determines which handlers events are delivered to asynchronously.
+   * @param queueCapacity The capacity of each asynchronously served handler's event queue.
+   * @param overflowPolicy The policy for handling events for handlers whose queues are full.
+   */
+  public AsyncEventBus(
+      @Nonnull
+      Predicate<EventHandler> asynchronousDelivery,
+      int queueCapacity,
+      @Nonnull
+      OverflowPolicy overflowPolicy
+  ) {
+    this.asynchronousDelivery = requireNonNull(asynchronousDelivery, "asynchronousDelivery");
+    checkArgument(queueCapacity > 0, "queueCapacity <= 0: %s", queueCapacity);
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    for (Subscription subscription : subscriptions) {
+      subscription.publish(event);
+    }
+  }
+
+  @Override
+  public synchronized void subscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    if (findSubscription(listener) != null) {
+      return;
+    }
+
+    if (asynchronousDelivery.test(listener)) {
+      LOG.debug("Delivering events to {} asynchronously.", listener);
+      subscriptions.add(new AsynchronousSubscription(listener));
+    }
+    else {
+      subscriptions.add(new Subscription(listener));
+    }
+  }
+
+  @Override
+  public synchronized void unsubscribe(EventHandler listener) {
+    requireNonNull(listener, "listener");
+
+    Subscription subscription = findSubscription(listener);
+    if (subscription != null) {
+      subscriptions.remove(subscription);
+      subscription.cancel();
+    }
+  }
+
+  /**
+   * Returns statistics for all handlers events are delivered to asynchronously.
+   *
+   * @return Statistics for all handlers events are delivered to asynchronously.
+   */
+  @Nonnull
+  public List<SubscriberStatistics> getStatistics() {
+    return subscriptions.stream()
+        .filter(subscription -> subscription instanceof AsynchronousSubscription)
+        .map(subscription -> ((AsynchronousSubscription) subscription).getStatistics())
+        .toList();
+  }
+
+  private Subscription findSubscription(EventHandler listener) {
+    for (Subscription subscription : subscriptions) {
+      if (subscription.getHandler().equals(listener)) {
+        return subscription;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Defines how events for a handler whose event queue is full are handled.
+   */
+  public enum OverflowPolicy {
+    /**
+     * The publishing thread waits until there is space in the queue again.
+     */
+    BLOCK,
+    /**
+     * The oldest event in the queue is dropped.
+     */
+    DROP_OLDEST,
+    /**
+     * A {@link org.opentcs.data.TCSObjectEvent} is merged with the latest queued event for the
+     * same object, where possible, so that the handler receives the object's latest state only.
+     * Otherwise, the publishing thread waits until there is space in the queue again.
+     */
+    COALESCE_BY_OBJECT;
+  }
+
+  /**
+   * Statistics for a handler events are delivered to asynchronously.
+   */
+  public static class SubscriberStatistics {
+
+    private final String handler;
+    private final int queueSize;
+    private final int maxQueueSize;
+    private final long deliveredCount;
+    private final long droppedCount;
+    private final long coalescedCount;
+    private final Duration averageHandlerLatency;
+    private final Duration maxHandlerLatency;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param handler A description of the handler.
+     * @param queueSize The number of events currently queued for the handler.
+     * @param maxQueueSize The maximum number of events that have been queued at the same time.
+     * @param deliveredCount The number of events delivered to the handler.
+     * @param droppedCount The number of events dropped because the handler's queue was full.
+     * @param coalescedCount The number of events coalesced because the handler's queue was full.
+     * @param averageHandlerLatency The average time the handler took to process an event.
+     * @param maxHandlerLatency The maximum time the handler took to process an event.
+     */
+    public SubscriberStatistics(
+        @Nonnull
+        String handler,
+        int queueSize,
+        int maxQueueSize,
+        long deliveredCount,
+        long droppedCount,
+        long coalescedCount,
+        @Nonnull
+        Duration averageHandlerLatency,
+        @Nonnull
+        Duration maxHandlerLatency
+    ) {
+      this.handler = requireNonNull(handler, "handler");
+      this.queueSize = queueSize;
+      this.maxQueueSize = maxQueueSize;
+      this.deliveredCount = deliveredCount;
+      this.droppedCount = droppedCount;
+      this.coalescedCount = coalescedCount;
+      this.averageHandlerLatency = requireNonNull(averageHandlerLatency, "averageHandlerLatency");
+      this.maxHandlerLatency = requireNonNull(maxHandlerLatency, "maxHandlerLatency");
+    }
+
+    @Nonnull
+    public String getHandler() {
+      return handler;
+    }
+
+    public int getQueueSize() {
+      return queueSize;
+    }
+
+    public int getMaxQueueSize() {
+      return maxQueueSize;
+    }
+
+    public long getDeliveredCount() {
+      return deliveredCount;
+    }
+
+    public long getDroppedCount() {
+      return droppedCount;
+    }
+
+    public long getCoalescedCount() {
+      return coalescedCount;
+    }
+
+    @Nonnull
+    public Duration getAverageHandlerLatency() {
+      return averageHandlerLatency;
+    }
+
+    @Nonnull
+    public Duration getMaxHandlerLatency() {
+      return maxHandlerLatency;
+    }
+
+    @Override
+    public String toString() {
+      return "SubscriberStatistics{"
+          + "handler=" + handler
+          + ", queueSize=" + queueSize
+          + ", maxQueueSize=" + maxQueueSize
+          + ", deliveredCount=" + deliveredCount
+          + ", droppedCount=" + droppedCount
+          + ", coalescedCount=" + coalescedCount
+          + ", averageHandlerLatency=" + averageHandlerLatency
+          + ", maxHandlerLatency=" + maxHandlerLatency
+          + '}';
+    }
+  }
+
+  /**
+   * A handler that events are delivered to synchronously.
+   */
+  private static class Subscription {
+
+    private final EventHandler handler;
+
+    Subscription(EventHandler handler) {
+      this.handler = handler;
+    }
+
+    EventHandler getHandler() {
+      return handler;
+    }
+
+    void publish(Object event) {
+      try {
+        handler.onEvent(event);
+      }
+      catch (Exception exc) {
+        LOG.warn("Exception thrown by event handler", exc);
+      }
+    }
+
+    void cancel() {
+    }
+  }
+
+  /**
+   * A handler that events are delivered to asynchronously, via a queue and a dedicated thread.
+   */
+  private class AsynchronousSubscription
+      extends
+        Subscription {
+
+    private final BoundedEventQueue queue;
+    private final Thread deliveryThread;
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+    AsynchronousSubscription(EventHandler handler) {
+      super(handler);
+      this.queue = new BoundedEventQueue(queueCapacity, overflowPolicy);
+      this.deliveryThread = new Thread(
+          this::deliverEvents,
+          "eventBusDelivery-" + handler.getClass().getSimpleName()
+      );
+      deliveryThread.setDaemon(true);
+      deliveryThread.start();
+    }
+
+    @Override
+    void publish(Object event) {
+      try {
+        queue.put(event);
+      }
+      catch (InterruptedException exc) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while publishing event for {}, event lost.", getHandler());
+      }
+    }
+
+    @Override
+    void cancel() {
+      queue.close();
+      deliveryThread.interrupt();
+    }
+
+    SubscriberStatistics getStatistics() {
+      long delivered = deliveredCount.get();
+      return new SubscriberStatistics(
+          getHandler().toString(),
+          queue.getSize(),
+          queue.getMaxSize(),
+          delivered,
+          queue.getDroppedCount(),
+          queue.getCoalescedCount(),
+          Duration.ofNanos(delivered == 0 ? 0 : totalLatency.get() / delivered),
+          Duration.ofNanos(maxLatency.get())
+      );
+    }
+
+    private void deliverEvents() {
+      try {
+        for (Object event = queue.take(); event != null; event = queue.take()) {
+          long start = System.nanoTime();
+          super.publish(event);
+          long latency = System.nanoTime() - start;
+          deliveredCount.incrementAndGet();
+          totalLatency.addAndGet(latency);
+          maxLatency.accumulate(latency);
+        }
+      }
+      catch (InterruptedException exc) {
+        LOG.debug("Interrupted, stopping event delivery to {}.", getHandler());
+      }
+    }
+  }
+}
@@ -0,0 +1,316 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * A bounded FIFO queue of events, implemented as a ring buffer, with a configurable policy for
+ * handling events that arrive while the queue is full.
+ */
+class BoundedEventQueue {
+
+  /**
+   * Guards all of this queue's state.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+  /**
+   * Signalled when an event has been added.
+   */
+  private final Condition notEmpty = lock.newCondition();
+  /**
+   * Signalled when an event has been removed.
+   */
+  private final Condition notFull = lock.newCondition();
+  /**
+   * The ring buffer holding the queued events.
+   */
+  private final Object[] events;
+  /**
+   * The policy for handling events that arrive while the queue is full.
+   */
+  private final AsyncEventBus.OverflowPolicy overflowPolicy;
+  /**
+   * The sequence numbers of the latest queued events for objects, mapped by object references.
+   */
+  private final Map<TCSObjectReference<?>, Long> latestObjectEvents = new HashMap<>();
+  /**
+   * The sequence number of the queue's head, i.e. of the next event to be taken.
+   */
+  private long headSequence;
+  /**
+   * The sequence number the next event added will get.
+   */
+  private long tailSequence;
+  /**
+   * The maximum number of events that have been queued at the same time.
+   */
+  private int maxSize;
+  /**
+   * The number of events dropped.
+   */
+  private long droppedCount;
+  /**
+   * The number of events coalesced with queued events.
+   */
+  private long coalescedCount;
+  /**
+   * Whether this queue has been closed.
+   */
+  private boolean closed;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of events to be queued.
+   * @param overflowPolicy The policy for handling events that arrive while the queue is full.
+   */
+  BoundedEventQueue(
+      int capacity,
+      @Nonnull
+      AsyncEventBus.OverflowPolicy overflowPolicy
+  ) {
+    checkArgument(capacity > 0, "capacity <= 0: %s", capacity);
+    this.events = new Object[capacity];
+    this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+  }
+
+  /**
+   * Adds the given event to the tail of this queue, applying the overflow policy if the queue is
+   * full.
+   * Events added after the queue has been closed are discarded.
+   *
+   * @param event The event.
+   * @throws InterruptedException If the calling thread was interrupted while waiting for space in
+   * the queue.
+   */
+  void put(
+      @Nonnull
+      Object event
+  )
+      throws InterruptedException {
+    requireNonNull(event, "event");
+
+    lock.lock();
+    try {
+      while (!closed && size() == events.length) {
+        if (overflowPolicy == AsyncEventBus.OverflowPolicy.DROP_OLDEST) {
+          removeHead();
+          droppedCount++;
+        }
+        else if (overflowPolicy == AsyncEventBus.OverflowPolicy.COALESCE_BY_OBJECT
+            && coalesce(event)) {
+          coalescedCount++;
+          return;
+        }
+        else {
+          notFull.await();
+        }
+      }
+      if (closed) {
+        return;
+      }
+
+      events[slot(tailSequence)] = event;
+      if (event instanceof TCSObjectEvent objectEvent) {
+        latestObjectEvents.put(objectReference(objectEvent), tailSequence);
+      }
+      tailSequence++;
+      maxSize = Math.max(maxSize, size());
+      notEmpty.signal();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the event at the head of this queue, waiting for one to be added if necessary.
+   *
+   * @return The event at the head of this queue, or {@code null}, if this queue has been closed.
+   * @throws InterruptedException If the calling thread was interrupted while waiting.
+   */
+  @Nullable
+  Object take()
+      throws InterruptedException {
+    lock.lock();
+    try {
+      while (!closed && size() == 0) {
+        notEmpty.await();
+      }
+      if (closed) {
+        return null;
+      }
+      Object event = removeHead();
+      notFull.signal();
+      return event;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Closes this queue, discarding all queued events and waking up all waiting threads.
+   */
+  void close() {
+    lock.lock();
+    try {
+      closed = true;
+      while (size() > 0) {
+        removeHead();
+      }
+      notEmpty.signalAll();
+      notFull.signalAll();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of events currently queued.
+   *
+   * @return The number of events currently queued.
+   */
+  int getSize() {
+    lock.lock();
+    try {
+      return size();
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the maximum number of events that have been queued at the same time.
+   *
+   * @return The maximum number of events that have been queued at the same time.
+   */
+  int getMaxSize() {
+    lock.lock();
+    try {
+      return maxSize;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of events dropped because the queue was full.
+   *
+   * @return The number of events dropped.
+   */
+  long getDroppedCount() {
+    lock.lock();
+    try {
+      return droppedCount;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of events coalesced with queued events because the queue was full.
+   *
+   * @return The number of events coalesced.
+   */
+  long getCoalescedCount() {
+    lock.lock();
+    try {
+      return coalescedCount;
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+
+  private int size() {
+    return (int) (tailSequence - headSequence);
+  }
+
+  private int slot(long sequence) {
+    return (int) (sequence % events.length);
+  }
+
+  private Object removeHead() {
+    int slot = slot(headSequence);
+    Object event = events[slot];
+    events[slot] = null;
+    if (event instanceof TCSObjectEvent objectEvent) {
+      latestObjectEvents.remove(objectReference(objectEvent), headSequence);
+    }
+    headSequence++;
+    return event;
+  }
+
+  /**
+   * Tries to coalesce the given event with the latest queued event for the same object.
+   *
+   * @param event The event.
+   * @return {@code true} if, and only if, the event was coalesced.
+   */
+  private boolean coalesce(Object event) {
+    if (!(event instanceof TCSObjectEvent newEvent)) {
+      return false;
+    }
+    Long sequence = latestObjectEvents.get(objectReference(newEvent));
+    if (sequence == null) {
+      return false;
+    }
+    int slot = slot(sequence);
+    TCSObjectEvent coalescedEvent = coalesce((TCSObjectEvent) events[slot], newEvent);
+    if (coalescedEvent == null) {
+      return false;
+    }
+    events[slot] = coalescedEvent;
+    return true;
+  }
+
+  /**
+   * Coalesces two consecutive events for the same object into a single event.
+   *
+   * @param oldEvent The earlier event.
+   * @param newEvent The later event.
+   * @return The coalesced event, or {@code null}, if the events cannot be coalesced.
+   */
+  @Nullable
+  private static TCSObjectEvent coalesce(TCSObjectEvent oldEvent, TCSObjectEvent newEvent) {
+    if (newEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      return null;
+    }
+    switch (oldEvent.getType()) {
+      case OBJECT_CREATED:
+        return new TCSObjectEvent(
+            newEvent.getCurrentObjectState(),
+            null,
+            TCSObjectEvent.Type.OBJECT_CREATED
+        );
+      case OBJECT_MODIFIED:
+        return new TCSObjectEvent(
+            newEvent.getCurrentObjectState(),
+            oldEvent.getPreviousObjectState(),
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        );
+      default:
+        return null;
+    }
+  }
+
+  private static TCSObjectReference<?> objectReference(TCSObjectEvent event) {
+    return event.getCurrentOrPreviousObjectState().getReference();
+  }
+}
@@ -0,0 +1,93 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link EncodedObjectState}.
+ */
+class EncodedObjectStateTest {
+
+  private final TCSObjectReference<Vehicle> ref = new Vehicle("some-vehicle").getReference();
+
+  @Test
+  void decodeFullState() {
+    byte[] state = bytes("some-state");
+
+    EncodedObjectState encoded = EncodedObjectState.fullState(ref, state);
+
+    assertThat(encoded.isDelta(), is(false));
+    assertThat(encoded.decode(null), is(equalTo(state)));
+  }
+
+  @Test
+  void carryOnlyDifferingBytesInDelta() {
+    EncodedObjectState encoded = EncodedObjectState.deltaState(
+        ref,
+        bytes("prefix-new-suffix"),
+        bytes("prefix-old-value-suffix")
+    );
+
+    assertThat(encoded.isDelta(), is(true));
+    assertThat(encoded.getEncodedLength(), is(3));
+    assertThat(encoded.decode(bytes("prefix-old-value-suffix")), is(bytes("prefix-new-suffix")));
+  }
+
+  @Test
+  void carryNoBytesForUnmodifiedState() {
+    EncodedObjectState encoded = EncodedObjectState.deltaState(
+        ref,
+        bytes("some-state"),
+        bytes("some-state")
+    );
+
+    assertThat(encoded.getEncodedLength(), is(0));
+    assertThat(encoded.decode(bytes("some-state")), is(bytes("some-state")));
+  }
+
+  @Test
+  void decodeDeltaForPrefixOfBase() {
+    EncodedObjectState encoded = EncodedObjectState.deltaState(
+        ref,
+        bytes("aaa"),
+        bytes("aaaa")
+    );
+
+    assertThat(encoded.decode(bytes("aaaa")), is(bytes("aaa")));
+  }
+
+  @Test
+  void decodeDeltaForExtensionOfBase() {
+    EncodedObjectState encoded = EncodedObjectState.deltaState(
+        ref,
+        bytes("aaaa"),
+        bytes("aaa")
+    );
+
+    assertThat(encoded.decode(bytes("aaa")), is(bytes("aaaa")));
+  }
+
+  @Test
+  void rejectDecodingDeltaWithoutBase() {
+    EncodedObjectState encoded = EncodedObjectState.deltaState(
+        ref,
+        bytes("new-state"),
+        bytes("old-state")
+    );
+
+    assertThrows(IllegalArgumentException.class, () -> encoded.decode(null));
+  }
+
+  private static byte[] bytes(String string) {
+    return string.getBytes(StandardCharsets.UTF_8);
+  }
+}
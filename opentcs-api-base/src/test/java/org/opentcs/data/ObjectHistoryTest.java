@@ -5,11 +5,17 @@ package org.opentcs.data;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -66,6 +72,74 @@ class ObjectHistoryTest {
     assertThat(history.getEntries(), contains(entry1, entry2));
   }
 
+  @Test
+  void keepEntriesOfEarlierCopiesUnchanged() {
+    ObjectHistory history = new ObjectHistory();
+    List<ObjectHistory> copies = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      history = history.withEntryAppended(new Entry("eventCode" + i));
+      copies.add(history);
+    }
+
+    ObjectHistory earlierCopy = copies.get(99);
+    Entry otherEntry = new Entry("otherEventCode");
+    ObjectHistory branch = earlierCopy.withEntryAppended(otherEntry);
+
+    assertThat(history.getEntries(), hasSize(200));
+    assertThat(earlierCopy.getEntries(), hasSize(100));
+    assertThat(earlierCopy.getEntries().get(99).getEventCode(), is("eventCode99"));
+    assertThat(branch.getEntries(), hasSize(101));
+    assertThat(branch.getEntries().get(99).getEventCode(), is("eventCode99"));
+    assertThat(branch.getEntries().get(100), is(otherEntry));
+    assertThat(copies.get(100).getEntries().get(100).getEventCode(), is("eventCode100"));
+  }
+
+  @Test
+  void discardOldestEntriesWhenExceedingMaximum() {
+    ObjectHistory history = new ObjectHistory();
+    for (int i = 0; i < 500; i++) {
+      history = history.withEntryAppended(new Entry("eventCode" + i), 3);
+    }
+
+    assertThat(
+        history.getEntries().stream().map(Entry::getEventCode).toList(),
+        contains("eventCode497", "eventCode498", "eventCode499")
+    );
+  }
+
+  @Test
+  void throwIfMaximumNumberOfEntriesIsNotPositive() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ObjectHistory().withEntryAppended(new Entry("eventCode"), 0)
+    );
+  }
+
+  @Test
+  void serializeEntries()
+      throws Exception {
+    Entry entry1 = new Entry(Instant.now(), "eventCode1", "supplement");
+    Entry entry2 = new Entry(Instant.now(), "eventCode2");
+    ObjectHistory history = new ObjectHistory()
+        .withEntryAppended(entry1)
+        .withEntryAppended(entry2);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(history);
+    }
+    ObjectHistory deserialized;
+    try (ObjectInputStream in
+        = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (ObjectHistory) in.readObject();
+    }
+
+    assertThat(
+        deserialized.getEntries().stream().map(Entry::getEventCode).toList(),
+        contains("eventCode1", "eventCode2")
+    );
+  }
+
   @Test
   void checkIfEntryHasTimestampEventCodeAndSupplement() {
     Instant timestamp = Instant.now();
@@ -0,0 +1,163 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AsyncEventBus}.
+ */
+class AsyncEventBusTest {
+
+  private List<EventHandler> subscribedHandlers;
+  private AsyncEventBus eventBus;
+
+  @BeforeEach
+  void setUp() {
+    subscribedHandlers = new ArrayList<>();
+    eventBus = new AsyncEventBus(
+        handler -> handler instanceof RecordingHandler,
+        2,
+        AsyncEventBus.OverflowPolicy.DROP_OLDEST
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    subscribedHandlers.forEach(eventBus::unsubscribe);
+  }
+
+  @Test
+  void forwardEventToSynchronousHandlersOnPublishingThread() {
+    List<Thread> receivingThreads = new ArrayList<>();
+    subscribe(event -> receivingThreads.add(Thread.currentThread()));
+
+    eventBus.onEvent(new Object());
+
+    assertThat(receivingThreads, contains(Thread.currentThread()));
+    assertThat(eventBus.getStatistics(), is(empty()));
+  }
+
+  @Test
+  void forwardEventsToAsynchronousHandlerInOrder()
+      throws Exception {
+    // Block instead of dropping events, so no event is lost if the handler lags behind.
+    eventBus = new AsyncEventBus(
+        handler -> handler instanceof RecordingHandler,
+        2,
+        AsyncEventBus.OverflowPolicy.BLOCK
+    );
+    RecordingHandler handler = new RecordingHandler(3);
+    subscribe(handler);
+
+    eventBus.onEvent("event-1");
+    eventBus.onEvent("event-2");
+    eventBus.onEvent("event-3");
+
+    assertThat(handler.awaitEvents(), is(true));
+    assertThat(handler.getEvents(), contains("event-1", "event-2", "event-3"));
+    assertThat(handler.getThreads(), everyItem(is(not(Thread.currentThread()))));
+  }
+
+  @Test
+  void doNotBlockPublisherOnSlowAsynchronousHandler()
+      throws Exception {
+    CountDownLatch handlerReleased = new CountDownLatch(1);
+    RecordingHandler handler = new RecordingHandler(1) {
+      @Override
+      public void onEvent(Object event) {
+        try {
+          handlerReleased.await();
+        }
+        catch (InterruptedException exc) {
+          Thread.currentThread().interrupt();
+        }
+        super.onEvent(event);
+      }
+    };
+    subscribe(handler);
+
+    for (int i = 0; i < 100; i++) {
+      eventBus.onEvent("event-" + i);
+    }
+    handlerReleased.countDown();
+
+    assertThat(handler.awaitEvents(), is(true));
+    assertThat(eventBus.getStatistics(), hasSize(1));
+    AsyncEventBus.SubscriberStatistics statistics = eventBus.getStatistics().get(0);
+    assertThat(statistics.getDroppedCount() > 0, is(true));
+    assertThat(statistics.getMaxQueueSize(), is(2));
+  }
+
+  @Test
+  void stopDeliveringEventsAfterUnsubscribing()
+      throws Exception {
+    RecordingHandler handler = new RecordingHandler(1);
+    subscribe(handler);
+    eventBus.onEvent("event-1");
+    assertThat(handler.awaitEvents(), is(true));
+
+    eventBus.unsubscribe(handler);
+    List<Object> eventsAfterUnsubscribing = new ArrayList<>();
+    subscribe(eventsAfterUnsubscribing::add);
+    eventBus.onEvent("event-2");
+
+    // Events published after unsubscribing are not even queued for the handler.
+    assertThat(eventsAfterUnsubscribing, contains("event-2"));
+    assertThat(handler.getEvents(), contains("event-1"));
+    assertThat(eventBus.getStatistics(), is(empty()));
+  }
+
+  private void subscribe(EventHandler handler) {
+    eventBus.subscribe(handler);
+    subscribedHandlers.add(handler);
+  }
+
+  private static class RecordingHandler
+      implements
+        EventHandler {
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch expectedEventsReceived;
+
+    RecordingHandler(int expectedEvents) {
+      this.expectedEventsReceived = new CountDownLatch(expectedEvents);
+    }
+
+    @Override
+    public void onEvent(Object event) {
+      events.add(event);
+      threads.add(Thread.currentThread());
+      expectedEventsReceived.countDown();
+    }
+
+    List<Object> getEvents() {
+      return events;
+    }
+
+    List<Thread> getThreads() {
+      return threads;
+    }
+
+    boolean awaitEvents()
+        throws InterruptedException {
+      return expectedEventsReceived.await(5, TimeUnit.SECONDS);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link BoundedEventQueue}.
+ */
+class BoundedEventQueueTest {
+
+  @Test
+  void takeEventsInOrderTheyWereAdded()
+      throws Exception {
+    BoundedEventQueue queue = new BoundedEventQueue(3, AsyncEventBus.OverflowPolicy.BLOCK);
+
+    for (int i = 0; i < 10; i++) {
+      queue.put(i);
+      queue.put(i + 100);
+      assertThat(queue.take(), is(i));
+      assertThat(queue.take(), is(i + 100));
+    }
+    assertThat(queue.getSize(), is(0));
+    assertThat(queue.getMaxSize(), is(2));
+  }
+
+  @Test
+  void dropOldestEventWhenFull()
+      throws Exception {
+    BoundedEventQueue queue = new BoundedEventQueue(2, AsyncEventBus.OverflowPolicy.DROP_OLDEST);
+
+    queue.put("event-1");
+    queue.put("event-2");
+    queue.put("event-3");
+
+    assertThat(queue.getDroppedCount(), is(1L));
+    assertThat(queue.take(), is("event-2"));
+    assertThat(queue.take(), is("event-3"));
+  }
+
+  @Test
+  void coalesceObjectEventsWhenFull()
+      throws Exception {
+    BoundedEventQueue queue
+        = new BoundedEventQueue(2, AsyncEventBus.OverflowPolicy.COALESCE_BY_OBJECT);
+    Vehicle vehicle = new Vehicle("Vehicle-1");
+    Vehicle vehicle2 = vehicle.withEnergyLevel(50);
+    Vehicle vehicle3 = vehicle.withEnergyLevel(40);
+
+    queue.put(modified(vehicle2, vehicle));
+    queue.put("other-event");
+    queue.put(modified(vehicle3, vehicle2));
+
+    assertThat(queue.getCoalescedCount(), is(1L));
+    TCSObjectEvent event = (TCSObjectEvent) queue.take();
+    assertThat(event.getType(), is(TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(((Vehicle) event.getPreviousObjectState()).getEnergyLevel(), is(100));
+    assertThat(((Vehicle) event.getCurrentObjectState()).getEnergyLevel(), is(40));
+    assertThat(queue.take(), is("other-event"));
+  }
+
+  @Test
+  void coalesceModificationIntoCreation()
+      throws Exception {
+    BoundedEventQueue queue
+        = new BoundedEventQueue(1, AsyncEventBus.OverflowPolicy.COALESCE_BY_OBJECT);
+    Vehicle vehicle = new Vehicle("Vehicle-1");
+
+    queue.put(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED));
+    queue.put(modified(vehicle.withEnergyLevel(50), vehicle));
+
+    TCSObjectEvent event = (TCSObjectEvent) queue.take();
+    assertThat(event.getType(), is(TCSObjectEvent.Type.OBJECT_CREATED));
+    assertThat(event.getPreviousObjectState(), is(nullValue()));
+    assertThat(((Vehicle) event.getCurrentObjectState()).getEnergyLevel(), is(50));
+  }
+
+  @Test
+  void blockWhenFullAndNothingToCoalesce()
+      throws Exception {
+    BoundedEventQueue queue
+        = new BoundedEventQueue(1, AsyncEventBus.OverflowPolicy.COALESCE_BY_OBJECT);
+    queue.put("event-1");
+
+    CompletableFuture<Void> put = CompletableFuture.runAsync(() -> {
+      try {
+        queue.put("event-2");
+      }
+      catch (InterruptedException exc) {
+        throw new IllegalStateException(exc);
+      }
+    });
+    Thread.sleep(100);
+    assertThat(put.isDone(), is(false));
+
+    assertThat(queue.take(), is("event-1"));
+    put.get(5, TimeUnit.SECONDS);
+    assertThat(queue.take(), is("event-2"));
+  }
+
+  @Test
+  void returnNullWhenClosed()
+      throws Exception {
+    BoundedEventQueue queue = new BoundedEventQueue(1, AsyncEventBus.OverflowPolicy.BLOCK);
+    queue.put("event-1");
+
+    queue.close();
+    queue.put("event-2");
+
+    assertThat(queue.take(), is(nullValue()));
+    assertThat(queue.getSize(), is(0));
+  }
+
+  @Test
+  void wakeUpBlockedPublisherWhenClosed()
+      throws Exception {
+    BoundedEventQueue queue = new BoundedEventQueue(1, AsyncEventBus.OverflowPolicy.BLOCK);
+    queue.put("event-1");
+
+    CompletableFuture<Object> put = CompletableFuture.supplyAsync(() -> {
+      try {
+        queue.put("event-2");
+        return "done";
+      }
+      catch (InterruptedException exc) {
+        return exc;
+      }
+    });
+    Thread.sleep(100);
+    queue.close();
+
+    assertThat(put.get(5, TimeUnit.SECONDS), is(instanceOf(String.class)));
+  }
+
+  private TCSObjectEvent modified(Vehicle current, Vehicle previous) {
+    return new TCSObjectEvent(current, previous, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
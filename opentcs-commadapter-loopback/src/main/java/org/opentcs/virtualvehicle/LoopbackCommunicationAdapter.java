@@ -12,11 +12,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import org.opentcs.common.DiscreteEventSimulationExecutor;
 import org.opentcs.common.LoopbackAdapterConstants;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route.Step;
 import org.opentcs.data.order.TransportOrder;
@@ -25,6 +24,7 @@ import org.opentcs.drivers.vehicle.LoadHandlingDevice;
 import org.opentcs.drivers.vehicle.MovementCommand;
 import org.opentcs.drivers.vehicle.SimVehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapter;
+import org.opentcs.drivers.vehicle.VehicleCommAdapterExecutorProvider;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.util.ExplainedBoolean;
@@ -90,21 +90,24 @@ public class LoopbackCommunicationAdapter
    *
    * @param configuration This class's configuration.
    * @param vehicle The vehicle this adapter is associated with.
-   * @param kernelExecutor The kernel's executor.
+   * @param executorProvider Provides the executor to run the simulation on in real time.
+   * @param simulationExecutor The executor to run the simulation on in virtual time.
    */
   @Inject
   public LoopbackCommunicationAdapter(
       VirtualVehicleConfiguration configuration,
       @Assisted
       Vehicle vehicle,
-      @KernelExecutor
-      ScheduledExecutorService kernelExecutor
+      VehicleCommAdapterExecutorProvider executorProvider,
+      DiscreteEventSimulationExecutor simulationExecutor
   ) {
     super(
         new LoopbackVehicleModel(vehicle),
         configuration.commandQueueCapacity(),
         configuration.rechargeOperation(),
-        kernelExecutor
+        configuration.discreteEventSimulation()
+            ? simulationExecutor
+            : executorProvider.getExecutorFor(vehicle)
     );
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.configuration = requireNonNull(configuration, "configuration");
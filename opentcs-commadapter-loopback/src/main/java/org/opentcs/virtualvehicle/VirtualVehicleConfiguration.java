@@ -74,4 +74,18 @@ public interface VirtualVehicleConfiguration {
       orderKey = "2_behaviour_3"
   )
   int vehicleLengthUnloaded();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to simulate vehicles in virtual time instead of real time.",
+          "If true, the simulation jumps straight to the next simulation step instead of waiting "
+              + "for it and runs as fast as the kernel is able to process the vehicles' state "
+              + "changes. The simulation time factor is still applied to each simulation step.",
+          "For reproducible results, kernelapp.vehicleTelemetryPublishInterval should be 0."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "3_simulation_1"
+  )
+  boolean discreteEventSimulation();
 }
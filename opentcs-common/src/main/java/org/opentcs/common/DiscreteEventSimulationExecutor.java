@@ -0,0 +1,416 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A scheduled executor service that executes tasks in virtual time, for discrete-event simulation.
+ * <p>
+ * All tasks are executed sequentially on a single thread, ordered by the virtual point of time
+ * they are scheduled for and, for tasks scheduled for the same point of time, by the order in which
+ * they were submitted. Instead of waiting for a delay to pass, the virtual time jumps straight to
+ * the point of time the next task is scheduled for, so simulations run as fast as the CPU allows.
+ * </p>
+ * <p>
+ * Before each task is executed, this executor waits until the given kernel executor has finished
+ * all tasks that are due, i.e. until the kernel has processed all consequences of the previously
+ * executed task. As a result, the sequence of tasks executed does not depend on the speed of the
+ * kernel, and a simulation yields the same results whenever it is repeated with the same inputs.
+ * Tasks the kernel executor schedules with a delay are not waited for, as they are executed in
+ * real time.
+ * </p>
+ * <p>
+ * Tasks should therefore be submitted either by tasks executed by this executor or by tasks
+ * executed by the kernel executor. For tasks submitted by any other thread, the virtual time their
+ * delays are relative to depends on how far the simulation has advanced at that moment.
+ * </p>
+ */
+public class DiscreteEventSimulationExecutor
+    extends
+      AbstractExecutorService
+    implements
+      ScheduledExecutorService {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(DiscreteEventSimulationExecutor.class);
+  /**
+   * The kernel executor, or {@code null}, if it cannot be inspected for pending tasks.
+   */
+  private final ThreadPoolExecutor kernelExecutor;
+  /**
+   * The tasks to be executed, ordered by their points of time.
+   */
+  private final PriorityQueue<SimulationTask<?>> tasks = new PriorityQueue<>();
+  /**
+   * The current virtual time (in ns, since the simulation was started).
+   */
+  private volatile long currentTime;
+  /**
+   * The sequence number assigned to the next task submitted.
+   */
+  private long nextSequenceNumber;
+  /**
+   * The kernel executor's task count observed when it last had no due tasks.
+   */
+  private long quiescentKernelTaskCount = -1;
+  /**
+   * The thread executing the tasks, or {@code null}, if no task has been submitted, yet.
+   */
+  private Thread workerThread;
+  /**
+   * Whether this executor has been shut down.
+   */
+  private boolean shutdown;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor. If it is a {@link ThreadPoolExecutor}, tasks are
+   * executed only while the kernel executor has no due tasks.
+   */
+  public DiscreteEventSimulationExecutor(
+      @Nonnull
+      Executor kernelExecutor
+  ) {
+    requireNonNull(kernelExecutor, "kernelExecutor");
+    this.kernelExecutor = kernelExecutor instanceof ThreadPoolExecutor threadPoolExecutor
+        ? threadPoolExecutor
+        : null;
+  }
+
+  /**
+   * Returns the current virtual time.
+   *
+   * @param unit The time unit of the value to be returned.
+   * @return The virtual time passed since the first task was submitted.
+   */
+  public long getCurrentTime(
+      @Nonnull
+      TimeUnit unit
+  ) {
+    return unit.convert(currentTime, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void execute(
+      @Nonnull
+      Runnable command
+  ) {
+    enqueue(new SimulationTask<>(Executors.callable(command, null), currentTime, 0));
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(
+      @Nonnull
+      Runnable command,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    return schedule(Executors.callable(command, null), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(
+      @Nonnull
+      Callable<V> callable,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    return enqueue(new SimulationTask<>(callable, triggerTime(delay, unit), 0));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      @Nonnull
+      Runnable command,
+      long initialDelay,
+      long period,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    checkArgument(period > 0, "period <= 0: %s", period);
+    return enqueue(
+        new SimulationTask<>(
+            Executors.callable(command, null),
+            triggerTime(initialDelay, unit),
+            unit.toNanos(period)
+        )
+    );
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      @Nonnull
+      Runnable command,
+      long initialDelay,
+      long delay,
+      @Nonnull
+      TimeUnit unit
+  ) {
+    // Since executing a task does not take any virtual time, a fixed delay equals a fixed rate.
+    return scheduleAtFixedRate(command, initialDelay, delay, unit);
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    shutdown = true;
+    notifyAll();
+  }
+
+  @Override
+  public synchronized List<Runnable> shutdownNow() {
+    shutdown = true;
+    List<Runnable> pendingTasks = new ArrayList<>(tasks);
+    tasks.clear();
+    notifyAll();
+    return pendingTasks;
+  }
+
+  @Override
+  public synchronized boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public synchronized boolean isTerminated() {
+    return shutdown && tasks.isEmpty() && (workerThread == null || !workerThread.isAlive());
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit)
+      throws InterruptedException {
+    Thread thread;
+    synchronized (this) {
+      thread = workerThread;
+    }
+    if (thread != null) {
+      thread.join(Math.max(unit.toMillis(timeout), 1));
+    }
+    return isTerminated();
+  }
+
+  private long triggerTime(long delay, TimeUnit unit) {
+    return currentTime + Math.max(unit.toNanos(delay), 0);
+  }
+
+  private synchronized <V> SimulationTask<V> enqueue(SimulationTask<V> task) {
+    if (shutdown) {
+      throw new RejectedExecutionException("Executor has been shut down.");
+    }
+
+    task.sequenceNumber = nextSequenceNumber++;
+    tasks.add(task);
+    if (workerThread == null) {
+      workerThread = new Thread(this::processTasks, "discreteEventSimulation");
+      workerThread.setDaemon(true);
+      workerThread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+      workerThread.start();
+    }
+    notifyAll();
+    return task;
+  }
+
+  private synchronized void reenqueue(SimulationTask<?> task) {
+    if (!shutdown) {
+      task.sequenceNumber = nextSequenceNumber++;
+      tasks.add(task);
+    }
+  }
+
+  private void processTasks() {
+    try {
+      SimulationTask<?> task;
+      while ((task = nextTask()) != null) {
+        task.run();
+        logException(task);
+      }
+    }
+    catch (InterruptedException exc) {
+      LOG.warn("Interrupted, terminating simulation.", exc);
+    }
+  }
+
+  private SimulationTask<?> nextTask()
+      throws InterruptedException {
+    while (true) {
+      synchronized (this) {
+        while (tasks.isEmpty() && !shutdown) {
+          wait();
+        }
+        if (tasks.isEmpty()) {
+          return null;
+        }
+      }
+
+      awaitKernelQuiescence();
+
+      synchronized (this) {
+        // The kernel may have submitted tasks while we were waiting for it, so look again.
+        SimulationTask<?> task = tasks.poll();
+        if (task == null) {
+          continue;
+        }
+        if (task.time > currentTime) {
+          if (TimeUnit.NANOSECONDS.toHours(task.time)
+              > TimeUnit.NANOSECONDS.toHours(currentTime)) {
+            LOG.info("Simulation time: {} h", TimeUnit.NANOSECONDS.toHours(task.time));
+          }
+          currentTime = task.time;
+        }
+        return task;
+      }
+    }
+  }
+
+  private void awaitKernelQuiescence()
+      throws InterruptedException {
+    if (kernelExecutor == null) {
+      return;
+    }
+
+    // The task count changes whenever a task is submitted to or taken from the kernel executor's
+    // queue, so an unchanged task count means that nothing has happened since we last checked.
+    while (kernelExecutor.getTaskCount() != quiescentKernelTaskCount) {
+      // Wait for all tasks that are currently due to be executed.
+      try {
+        kernelExecutor.submit(() -> {
+        }).get();
+      }
+      catch (ExecutionException | RejectedExecutionException exc) {
+        LOG.warn("Could not synchronize with the kernel executor.", exc);
+        return;
+      }
+      if (!hasDueKernelTasks()) {
+        quiescentKernelTaskCount = kernelExecutor.getTaskCount();
+      }
+    }
+  }
+
+  private boolean hasDueKernelTasks() {
+    for (Runnable task : kernelExecutor.getQueue()) {
+      if (!(task instanceof Delayed delayedTask)
+          || delayedTask.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void logException(SimulationTask<?> task) {
+    if (!task.isDone()) {
+      return;
+    }
+    try {
+      task.get();
+    }
+    catch (ExecutionException exc) {
+      LOG.warn("Unhandled exception in executed task", exc.getCause());
+    }
+    catch (CancellationException | InterruptedException exc) {
+      LOG.debug("Task was cancelled or interrupted", exc);
+    }
+  }
+
+  /**
+   * A task scheduled for a point of time in virtual time.
+   *
+   * @param <V> The task's result type.
+   */
+  private class SimulationTask<V>
+      extends
+        FutureTask<V>
+      implements
+        RunnableScheduledFuture<V> {
+
+    /**
+     * The point of time (in virtual time) this task is scheduled for.
+     */
+    private long time;
+    /**
+     * The period (in ns) in which this task is repeated, or {@code 0}, if it is executed once.
+     */
+    private final long period;
+    /**
+     * The sequence number, for ordering tasks scheduled for the same point of time.
+     */
+    private long sequenceNumber;
+
+    SimulationTask(Callable<V> callable, long time, long period) {
+      super(callable);
+      this.time = time;
+      this.period = period;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period > 0;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(time - currentTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      if (other == this) {
+        return 0;
+      }
+      if (other instanceof SimulationTask<?> otherTask) {
+        int result = Long.compare(time, otherTask.time);
+        return result != 0 ? result : Long.compare(sequenceNumber, otherTask.sequenceNumber);
+      }
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void run() {
+      if (!isPeriodic()) {
+        super.run();
+      }
+      else if (runAndReset()) {
+        time += period;
+        reenqueue(this);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        synchronized (DiscreteEventSimulationExecutor.this) {
+          tasks.remove(this);
+        }
+      }
+      return cancelled;
+    }
+  }
+}
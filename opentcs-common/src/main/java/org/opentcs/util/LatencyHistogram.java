@@ -0,0 +1,196 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util;
+
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies with buckets of exponentially growing size.
+ * <p>
+ * Latencies are recorded with a resolution of one microsecond. Bucket {@code 0} counts latencies
+ * below one microsecond, and bucket {@code i > 0} counts latencies of at least {@code 2^(i-1)} and
+ * below {@code 2^i} microseconds. The last bucket counts all latencies exceeding the other
+ * buckets. Recording latencies is thread-safe and lock-free.
+ * </p>
+ */
+public class LatencyHistogram {
+
+  /**
+   * The number of buckets.
+   */
+  public static final int BUCKET_COUNT = 32;
+  /**
+   * The number of latencies recorded per bucket.
+   */
+  private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+  /**
+   * The sum of all latencies recorded (in ns).
+   */
+  private final LongAdder totalLatency = new LongAdder();
+  /**
+   * The maximum latency recorded (in ns).
+   */
+  private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Creates a new instance.
+   */
+  public LatencyHistogram() {
+  }
+
+  /**
+   * Records the given latency.
+   *
+   * @param latency The latency (in ns).
+   */
+  public void record(long latency) {
+    long nonNegativeLatency = Math.max(latency, 0);
+    bucketCounts.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMicros(nonNegativeLatency)));
+    totalLatency.add(nonNegativeLatency);
+    maxLatency.accumulate(nonNegativeLatency);
+  }
+
+  /**
+   * Returns a snapshot of the latencies recorded so far.
+   * <p>
+   * Latencies recorded concurrently with the creation of the snapshot may or may not be reflected
+   * by it.
+   * </p>
+   *
+   * @return A snapshot of the latencies recorded so far.
+   */
+  public Snapshot getSnapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = bucketCounts.get(i);
+    }
+    return new Snapshot(counts, totalLatency.sum(), maxLatency.get());
+  }
+
+  /**
+   * Returns the (exclusive) upper bound of the given bucket.
+   *
+   * @param bucketIndex The bucket's index.
+   * @return The bucket's upper bound (in microseconds), or {@link Long#MAX_VALUE} for the last
+   * bucket.
+   */
+  public static long bucketUpperBound(int bucketIndex) {
+    checkInRange(bucketIndex, 0, BUCKET_COUNT - 1, "bucketIndex");
+
+    return bucketIndex == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucketIndex;
+  }
+
+  private static int bucketIndex(long latencyMicros) {
+    return Math.min(64 - Long.numberOfLeadingZeros(latencyMicros), BUCKET_COUNT - 1);
+  }
+
+  /**
+   * An immutable snapshot of a histogram.
+   */
+  public static class Snapshot {
+
+    /**
+     * The number of latencies recorded per bucket.
+     */
+    private final long[] bucketCounts;
+    /**
+     * The total number of latencies recorded.
+     */
+    private final long count;
+    /**
+     * The sum of all latencies recorded (in ns).
+     */
+    private final long totalLatency;
+    /**
+     * The maximum latency recorded (in ns).
+     */
+    private final long maxLatency;
+
+    private Snapshot(long[] bucketCounts, long totalLatency, long maxLatency) {
+      this.bucketCounts = bucketCounts;
+      long sum = 0;
+      for (long bucketCount : bucketCounts) {
+        sum += bucketCount;
+      }
+      this.count = sum;
+      this.totalLatency = totalLatency;
+      this.maxLatency = maxLatency;
+    }
+
+    /**
+     * Returns the total number of latencies recorded.
+     *
+     * @return The total number of latencies recorded.
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * Returns the number of latencies recorded in the given bucket.
+     *
+     * @param bucketIndex The bucket's index.
+     * @return The number of latencies recorded in the given bucket.
+     */
+    public long getBucketCount(int bucketIndex) {
+      checkInRange(bucketIndex, 0, BUCKET_COUNT - 1, "bucketIndex");
+
+      return bucketCounts[bucketIndex];
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return The mean latency (in microseconds), or {@code 0}, if no latencies were recorded.
+     */
+    public long getMeanMicros() {
+      return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalLatency / count);
+    }
+
+    /**
+     * Returns the maximum latency.
+     *
+     * @return The maximum latency (in microseconds).
+     */
+    public long getMaxMicros() {
+      return TimeUnit.NANOSECONDS.toMicros(maxLatency);
+    }
+
+    /**
+     * Returns an estimate for the given percentile of the latencies recorded.
+     * The estimate is the upper bound of the bucket containing the percentile, limited to the
+     * maximum latency recorded.
+     *
+     * @param percentile The percentile, e.g. {@code 99.0}.
+     * @return An estimate for the given percentile (in microseconds), or {@code 0}, if no
+     * latencies were recorded.
+     */
+    public long getPercentileMicros(double percentile) {
+      checkArgument(
+          percentile > 0.0 && percentile <= 100.0,
+          "percentile not in (0, 100]: %s",
+          percentile
+      );
+
+      if (count == 0) {
+        return 0;
+      }
+
+      long rank = (long) Math.ceil(count * percentile / 100.0);
+      long cumulativeCount = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        cumulativeCount += bucketCounts[i];
+        if (cumulativeCount >= rank) {
+          return Math.min(bucketUpperBound(i), getMaxMicros());
+        }
+      }
+      return getMaxMicros();
+    }
+  }
+}
@@ -0,0 +1,141 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DiscreteEventSimulationExecutor}.
+ */
+class DiscreteEventSimulationExecutorTest {
+
+  private ScheduledThreadPoolExecutor kernelExecutor;
+  private DiscreteEventSimulationExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    kernelExecutor = new ScheduledThreadPoolExecutor(1);
+    executor = new DiscreteEventSimulationExecutor(kernelExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    kernelExecutor.shutdownNow();
+  }
+
+  @Test
+  void executeTasksInOrderOfVirtualTime()
+      throws Exception {
+    List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    ScheduledFuture<?> lastTask = onKernelExecutor(() -> {
+      executor.schedule(() -> executed.add("C"), 3, TimeUnit.HOURS);
+      executor.schedule(() -> executed.add("A"), 1, TimeUnit.HOURS);
+      executor.schedule(() -> executed.add("B1"), 2, TimeUnit.HOURS);
+      executor.schedule(() -> executed.add("B2"), 2, TimeUnit.HOURS);
+      return executor.schedule(() -> null, 3, TimeUnit.HOURS);
+    });
+    lastTask.get(1, TimeUnit.SECONDS);
+
+    assertThat(executed, contains("A", "B1", "B2", "C"));
+    assertThat(executor.getCurrentTime(TimeUnit.HOURS), is(3L));
+  }
+
+  @Test
+  void jumpToNextTaskWithoutWaiting()
+      throws Exception {
+    long start = System.nanoTime();
+
+    executor.schedule(() -> null, 8, TimeUnit.HOURS).get(1, TimeUnit.SECONDS);
+
+    assertThat(System.nanoTime() - start, is(lessThan(TimeUnit.SECONDS.toNanos(1))));
+    assertThat(executor.getCurrentTime(TimeUnit.HOURS), is(8L));
+  }
+
+  @Test
+  void doNotExecuteCancelledTasks()
+      throws Exception {
+    List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    ScheduledFuture<?> lastTask = onKernelExecutor(() -> {
+      executor.schedule(() -> executed.add("A"), 1, TimeUnit.MINUTES).cancel(false);
+      return executor.schedule(() -> executed.add("B"), 2, TimeUnit.MINUTES);
+    });
+    lastTask.get(1, TimeUnit.SECONDS);
+
+    assertThat(executed, contains("B"));
+  }
+
+  @Test
+  void repeatPeriodicTasksInVirtualTime()
+      throws Exception {
+    List<Long> executionTimes = Collections.synchronizedList(new ArrayList<>());
+
+    ScheduledFuture<?> lastTask = onKernelExecutor(() -> {
+      ScheduledFuture<?> periodicTask = executor.scheduleAtFixedRate(
+          () -> executionTimes.add(executor.getCurrentTime(TimeUnit.SECONDS)),
+          10,
+          10,
+          TimeUnit.SECONDS
+      );
+      // Stop the periodic task, as the simulation would otherwise keep repeating it.
+      return executor.schedule(() -> periodicTask.cancel(false), 35, TimeUnit.SECONDS);
+    });
+    lastTask.get(1, TimeUnit.SECONDS);
+
+    assertThat(executionTimes, contains(10L, 20L, 30L));
+  }
+
+  @Test
+  void letKernelProcessDueTasksBeforeAdvancingTime()
+      throws Exception {
+    List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    ScheduledFuture<?> lastTask = onKernelExecutor(() -> {
+      executor.schedule(
+          () -> kernelExecutor.execute(() -> {
+            try {
+              Thread.sleep(50);
+            }
+            catch (InterruptedException exc) {
+              Thread.currentThread().interrupt();
+            }
+            executed.add("kernel");
+          }),
+          1,
+          TimeUnit.SECONDS
+      );
+      return executor.schedule(() -> executed.add("simulation"), 2, TimeUnit.SECONDS);
+    });
+    lastTask.get(1, TimeUnit.SECONDS);
+
+    assertThat(executed, contains("kernel", "simulation"));
+  }
+
+  /**
+   * Schedules simulation tasks on the kernel executor, like the kernel's components do.
+   * <p>
+   * The simulation does not advance while the kernel executor is busy, so all tasks scheduled
+   * this way are known to the simulation before it executes the first of them.
+   * </p>
+   */
+  private ScheduledFuture<?> onKernelExecutor(Callable<ScheduledFuture<?>> scheduling)
+      throws Exception {
+    return kernelExecutor.submit(scheduling).get(1, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,83 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+  private LatencyHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new LatencyHistogram();
+  }
+
+  @Test
+  void provideZerosWithoutRecordedLatencies() {
+    LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getCount(), is(0L));
+    assertThat(snapshot.getMeanMicros(), is(0L));
+    assertThat(snapshot.getMaxMicros(), is(0L));
+    assertThat(snapshot.getPercentileMicros(99.0), is(0L));
+  }
+
+  @Test
+  void sortLatenciesIntoBuckets() {
+    histogram.record(500);
+    histogram.record(micros(1));
+    histogram.record(micros(3));
+    histogram.record(micros(1000));
+    histogram.record(TimeUnit.HOURS.toNanos(1));
+
+    LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getCount(), is(5L));
+    assertThat(snapshot.getBucketCount(0), is(1L));
+    assertThat(snapshot.getBucketCount(1), is(1L));
+    assertThat(snapshot.getBucketCount(2), is(1L));
+    assertThat(snapshot.getBucketCount(10), is(1L));
+    assertThat(snapshot.getBucketCount(LatencyHistogram.BUCKET_COUNT - 1), is(1L));
+    assertThat(snapshot.getMaxMicros(), is(TimeUnit.HOURS.toMicros(1)));
+  }
+
+  @Test
+  void estimatePercentilesByBucketUpperBounds() {
+    for (int i = 0; i < 90; i++) {
+      histogram.record(micros(100));
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(micros(5000));
+    }
+
+    LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+
+    assertThat(snapshot.getMeanMicros(), is(590L));
+    assertThat(snapshot.getPercentileMicros(50.0), is(128L));
+    assertThat(snapshot.getPercentileMicros(90.0), is(128L));
+    // Estimates do not exceed the maximum latency recorded.
+    assertThat(snapshot.getPercentileMicros(99.0), is(5000L));
+  }
+
+  @Test
+  void rejectInvalidPercentiles() {
+    LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+
+    assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentileMicros(0.0));
+    assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentileMicros(100.1));
+  }
+
+  private static long micros(long micros) {
+    return TimeUnit.MICROSECONDS.toNanos(micros);
+  }
+}
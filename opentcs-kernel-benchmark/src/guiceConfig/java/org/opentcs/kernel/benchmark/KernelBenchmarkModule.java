@@ -0,0 +1,43 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import com.google.inject.Singleton;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.customizations.kernel.KernelInjectionModule;
+
+/**
+ * Configures the kernel benchmark.
+ * <p>
+ * Meant to override the kernel's default modules, as it replaces the scheduler with one recording
+ * allocation wait times.
+ * </p>
+ */
+public class KernelBenchmarkModule
+    extends
+      KernelInjectionModule {
+
+  /**
+   * Creates a new instance.
+   */
+  public KernelBenchmarkModule() {
+  }
+
+  @Override
+  protected void configure() {
+    bind(KernelBenchmarkConfiguration.class)
+        .toInstance(
+            getConfigBindingProvider().get(
+                KernelBenchmarkConfiguration.PREFIX,
+                KernelBenchmarkConfiguration.class
+            )
+        );
+
+    bind(BenchmarkClock.class).in(Singleton.class);
+
+    bind(AllocationTimingScheduler.class).in(Singleton.class);
+    bind(Scheduler.class).to(AllocationTimingScheduler.class);
+
+    bind(TransportOrderMetrics.class).in(Singleton.class);
+  }
+}
@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.util.Modules;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import org.opentcs.configuration.ConfigurationBindingProvider;
+import org.opentcs.configuration.gestalt.GestaltConfigurationBindingProvider;
+import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.kernel.DefaultKernelInjectionModule;
+import org.opentcs.kernel.KernelStarter;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherModule;
+import org.opentcs.strategies.basic.peripherals.dispatching.DefaultPeripheralJobDispatcherModule;
+import org.opentcs.strategies.basic.routing.DefaultRouterModule;
+import org.opentcs.strategies.basic.scheduling.DefaultSchedulerModule;
+import org.opentcs.util.Environment;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The kernel benchmark's entry point.
+ * <p>
+ * Starts a kernel with the default and all registered injection modules, runs the benchmark in the
+ * same process and exits.
+ * </p>
+ */
+public class RunKernelBenchmark {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(RunKernelBenchmark.class);
+
+  /**
+   * Prevents external instantiation.
+   */
+  private RunKernelBenchmark() {
+  }
+
+  /**
+   * Starts the kernel and runs the benchmark.
+   *
+   * @param args The command line arguments.
+   * @throws Exception If there was a problem running the benchmark.
+   */
+  public static void main(String[] args)
+      throws Exception {
+    Thread.setDefaultUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+
+    Environment.logSystemInfo();
+
+    LOG.debug("Setting up openTCS kernel benchmark {}...", Environment.getBaselineVersion());
+    Injector injector = Guice.createInjector(customConfigurationModule());
+    injector.getInstance(KernelStarter.class).startKernel();
+    injector.getInstance(KernelBenchmark.class).run();
+
+    System.exit(0);
+  }
+
+  private static Module customConfigurationModule() {
+    List<KernelInjectionModule> defaultModules
+        = Arrays.asList(
+            new DefaultKernelInjectionModule(),
+            new DefaultDispatcherModule(),
+            new DefaultRouterModule(),
+            new DefaultSchedulerModule(),
+            new DefaultPeripheralJobDispatcherModule()
+        );
+
+    ConfigurationBindingProvider bindingProvider = configurationBindingProvider();
+    for (KernelInjectionModule defaultModule : defaultModules) {
+      defaultModule.setConfigBindingProvider(bindingProvider);
+    }
+
+    List<KernelInjectionModule> overridingModules = findRegisteredModules(bindingProvider);
+    KernelBenchmarkModule benchmarkModule = new KernelBenchmarkModule();
+    benchmarkModule.setConfigBindingProvider(bindingProvider);
+    overridingModules.add(benchmarkModule);
+
+    return Modules.override(defaultModules)
+        .with(overridingModules);
+  }
+
+  private static List<KernelInjectionModule> findRegisteredModules(
+      ConfigurationBindingProvider bindingProvider
+  ) {
+    List<KernelInjectionModule> registeredModules = new ArrayList<>();
+    for (KernelInjectionModule module : ServiceLoader.load(KernelInjectionModule.class)) {
+      LOG.info(
+          "Integrating injection module {} (source: {})",
+          module.getClass().getName(),
+          module.getClass().getProtectionDomain().getCodeSource()
+      );
+      module.setConfigBindingProvider(bindingProvider);
+      registeredModules.add(module);
+    }
+    return registeredModules;
+  }
+
+  private static ConfigurationBindingProvider configurationBindingProvider() {
+    return new GestaltConfigurationBindingProvider(
+        Paths.get(
+            System.getProperty("opentcs.base", "."),
+            "config",
+            "opentcs-kernel-defaults-baseline.properties"
+        )
+            .toAbsolutePath(),
+        Paths.get(
+            System.getProperty("opentcs.base", "."),
+            "config",
+            "opentcs-kernel-benchmark-defaults.properties"
+        )
+            .toAbsolutePath(),
+        Paths.get(
+            System.getProperty("opentcs.home", "."),
+            "config",
+            "opentcs-kernel-benchmark.properties"
+        )
+            .toAbsolutePath()
+    );
+  }
+}
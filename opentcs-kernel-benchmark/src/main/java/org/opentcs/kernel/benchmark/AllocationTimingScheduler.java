@@ -0,0 +1,267 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.components.kernel.ResourceAllocationException;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.scheduling.DefaultScheduler;
+import org.opentcs.util.LatencyHistogram;
+
+/**
+ * Decorates the default scheduler, recording how long clients wait for requested resources to be
+ * allocated.
+ * <p>
+ * The wait time of an allocation is the time between a client requesting the resources and the
+ * scheduler informing the client about the successful allocation. To be able to observe the
+ * latter, clients are wrapped before being passed to the decorated scheduler. Wait times are
+ * measured in the benchmark's time, i.e. in virtual time if vehicles are simulated in virtual time.
+ * </p>
+ */
+public class AllocationTimingScheduler
+    implements
+      Scheduler {
+
+  /**
+   * The decorated scheduler.
+   */
+  private final Scheduler scheduler;
+  /**
+   * Provides the time measurements are based on.
+   */
+  private final BenchmarkClock clock;
+  /**
+   * The wrappers passed to the decorated scheduler, mapped by the wrapped clients.
+   */
+  private final Map<Client, TimedClient> timedClients = new ConcurrentHashMap<>();
+  /**
+   * The histogram of allocation wait times.
+   */
+  private volatile LatencyHistogram allocationWaits = new LatencyHistogram();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param scheduler The decorated scheduler.
+   * @param clock Provides the time measurements are based on.
+   */
+  @Inject
+  public AllocationTimingScheduler(DefaultScheduler scheduler, BenchmarkClock clock) {
+    this.scheduler = requireNonNull(scheduler, "scheduler");
+    this.clock = requireNonNull(clock, "clock");
+  }
+
+  @Override
+  public void initialize() {
+    scheduler.initialize();
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return scheduler.isInitialized();
+  }
+
+  @Override
+  public void terminate() {
+    scheduler.terminate();
+    timedClients.clear();
+  }
+
+  /**
+   * Returns a snapshot of the allocation wait times recorded since the last reset.
+   *
+   * @return A snapshot of the allocation wait times.
+   */
+  @Nonnull
+  public LatencyHistogram.Snapshot getAllocationWaits() {
+    return allocationWaits.getSnapshot();
+  }
+
+  /**
+   * Discards all allocation wait times recorded so far.
+   */
+  public void resetAllocationWaits() {
+    allocationWaits = new LatencyHistogram();
+  }
+
+  @Override
+  public void claim(
+      @Nonnull
+      Client client,
+      @Nonnull
+      List<Set<TCSResource<?>>> resourceSequence
+  ) {
+    scheduler.claim(timed(client), resourceSequence);
+  }
+
+  @Override
+  public void allocate(
+      @Nonnull
+      Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  )
+      throws IllegalArgumentException {
+    TimedClient timedClient = timed(client);
+    timedClient.allocationRequested();
+    scheduler.allocate(timedClient, resources);
+  }
+
+  @Override
+  public boolean mayAllocateNow(
+      @Nonnull
+      Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    return scheduler.mayAllocateNow(timed(client), resources);
+  }
+
+  @Override
+  public void allocateNow(
+      @Nonnull
+      Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  )
+      throws ResourceAllocationException {
+    scheduler.allocateNow(timed(client), resources);
+  }
+
+  @Override
+  public void free(
+      @Nonnull
+      Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    scheduler.free(timed(client), resources);
+  }
+
+  @Override
+  public void freeAll(
+      @Nonnull
+      Client client
+  ) {
+    scheduler.freeAll(timed(client));
+  }
+
+  @Override
+  public void clearPendingAllocations(
+      @Nonnull
+      Client client
+  ) {
+    TimedClient timedClient = timed(client);
+    timedClient.allocationCancelled();
+    scheduler.clearPendingAllocations(timedClient);
+  }
+
+  @Override
+  public void reschedule() {
+    scheduler.reschedule();
+  }
+
+  @Override
+  @Nonnull
+  public Map<String, Set<TCSResource<?>>> getAllocations() {
+    return scheduler.getAllocations();
+  }
+
+  @Override
+  public void preparationSuccessful(
+      @Nonnull
+      Module module,
+      @Nonnull
+      Client client,
+      @Nonnull
+      Set<TCSResource<?>> resources
+  ) {
+    scheduler.preparationSuccessful(module, timed(client), resources);
+  }
+
+  private TimedClient timed(Client client) {
+    requireNonNull(client, "client");
+
+    // Scheduler modules call back with the clients they got from the decorated scheduler.
+    if (client instanceof TimedClient timedClient) {
+      return timedClient;
+    }
+    return timedClients.computeIfAbsent(client, TimedClient::new);
+  }
+
+  /**
+   * Wraps a client, recording the time its allocation requests are pending.
+   */
+  private class TimedClient
+      implements
+        Client {
+
+    /**
+     * The wrapped client.
+     */
+    private final Client client;
+    /**
+     * The point of time (in ns) the pending allocation was requested, or {@code -1}, if there is
+     * none.
+     */
+    private volatile long allocationRequestTime = -1;
+
+    TimedClient(Client client) {
+      this.client = requireNonNull(client, "client");
+    }
+
+    @Override
+    @Nonnull
+    public String getId() {
+      return client.getId();
+    }
+
+    @Override
+    @Nullable
+    public TCSObjectReference<Vehicle> getRelatedVehicle() {
+      return client.getRelatedVehicle();
+    }
+
+    @Override
+    public boolean allocationSuccessful(
+        @Nonnull
+        Set<TCSResource<?>> resources
+    ) {
+      long requestTime = allocationRequestTime;
+      if (requestTime != -1) {
+        allocationWaits.record(clock.getCurrentTime(TimeUnit.NANOSECONDS) - requestTime);
+        allocationRequestTime = -1;
+      }
+      return client.allocationSuccessful(resources);
+    }
+
+    @Override
+    public void allocationFailed(
+        @Nonnull
+        Set<TCSResource<?>> resources
+    ) {
+      allocationRequestTime = -1;
+      client.allocationFailed(resources);
+    }
+
+    void allocationRequested() {
+      allocationRequestTime = clock.getCurrentTime(TimeUnit.NANOSECONDS);
+    }
+
+    void allocationCancelled() {
+      allocationRequestTime = -1;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.common.DiscreteEventSimulationExecutor;
+import org.opentcs.virtualvehicle.VirtualVehicleConfiguration;
+
+/**
+ * Provides the time the benchmark's measurements are based on.
+ * <p>
+ * If vehicles are simulated in virtual time, this is the simulation executor's virtual time, so
+ * that durations measured are consistent with the simulated vehicles' movements. Otherwise, it is
+ * the wall-clock time as provided by {@link System#nanoTime()}.
+ * </p>
+ */
+public class BenchmarkClock {
+
+  /**
+   * The executor simulating vehicles in virtual time.
+   */
+  private final DiscreteEventSimulationExecutor simulationExecutor;
+  /**
+   * Whether vehicles are simulated in virtual time.
+   */
+  private final boolean simulatedTime;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param simulationExecutor The executor simulating vehicles in virtual time.
+   * @param vehicleConfiguration The loopback driver's configuration.
+   */
+  @Inject
+  public BenchmarkClock(
+      @Nonnull
+      DiscreteEventSimulationExecutor simulationExecutor,
+      @Nonnull
+      VirtualVehicleConfiguration vehicleConfiguration
+  ) {
+    this.simulationExecutor = requireNonNull(simulationExecutor, "simulationExecutor");
+    this.simulatedTime = vehicleConfiguration.discreteEventSimulation();
+  }
+
+  /**
+   * Indicates whether the time provided is the simulation executor's virtual time.
+   *
+   * @return {@code true} if, and only if, vehicles are simulated in virtual time.
+   */
+  public boolean isSimulatedTime() {
+    return simulatedTime;
+  }
+
+  /**
+   * Returns the current time.
+   * <p>
+   * Only the difference between two values returned is meaningful.
+   * </p>
+   *
+   * @param unit The time unit of the value to be returned.
+   * @return The current time.
+   */
+  public long getCurrentTime(
+      @Nonnull
+      TimeUnit unit
+  ) {
+    requireNonNull(unit, "unit");
+
+    return simulatedTime
+        ? simulationExecutor.getCurrentTime(unit)
+        : unit.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+}
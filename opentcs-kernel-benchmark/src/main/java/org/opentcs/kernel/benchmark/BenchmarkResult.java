@@ -0,0 +1,309 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Locale;
+import org.opentcs.util.LatencyHistogram;
+
+/**
+ * The results of a benchmark run.
+ */
+public class BenchmarkResult {
+
+  /**
+   * The number of vehicles.
+   */
+  private final int vehicleCount;
+  /**
+   * Whether the measurement duration is simulated time.
+   */
+  private final boolean simulatedTime;
+  /**
+   * The duration of the measurement (in ms).
+   */
+  private final long measurementDuration;
+  /**
+   * The wall-clock time the measurement took (in ms).
+   */
+  private final long wallClockDuration;
+  /**
+   * The number of transport orders finished.
+   */
+  private final long finishedOrders;
+  /**
+   * The number of transport orders failed.
+   */
+  private final long failedOrders;
+  /**
+   * The distribution of dispatch latencies (in ms).
+   */
+  private final Distribution dispatchLatency;
+  /**
+   * The distribution of allocation wait times (in ms).
+   */
+  private final Distribution allocationWait;
+  /**
+   * The distribution of the kernel executor's queue depth.
+   */
+  private final Distribution kernelExecutorQueueDepth;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleCount The number of vehicles.
+   * @param simulatedTime Whether the measurement duration is simulated time.
+   * @param measurementDuration The duration of the measurement (in ms).
+   * @param wallClockDuration The wall-clock time the measurement took (in ms).
+   * @param finishedOrders The number of transport orders finished.
+   * @param failedOrders The number of transport orders failed.
+   * @param dispatchLatency The distribution of dispatch latencies (in ms).
+   * @param allocationWait The distribution of allocation wait times (in ms).
+   * @param kernelExecutorQueueDepth The distribution of the kernel executor's queue depth.
+   */
+  public BenchmarkResult(
+      int vehicleCount,
+      boolean simulatedTime,
+      long measurementDuration,
+      long wallClockDuration,
+      long finishedOrders,
+      long failedOrders,
+      @Nonnull
+      Distribution dispatchLatency,
+      @Nonnull
+      Distribution allocationWait,
+      @Nonnull
+      Distribution kernelExecutorQueueDepth
+  ) {
+    this.vehicleCount = vehicleCount;
+    this.simulatedTime = simulatedTime;
+    this.measurementDuration = measurementDuration;
+    this.wallClockDuration = wallClockDuration;
+    this.finishedOrders = finishedOrders;
+    this.failedOrders = failedOrders;
+    this.dispatchLatency = requireNonNull(dispatchLatency, "dispatchLatency");
+    this.allocationWait = requireNonNull(allocationWait, "allocationWait");
+    this.kernelExecutorQueueDepth
+        = requireNonNull(kernelExecutorQueueDepth, "kernelExecutorQueueDepth");
+  }
+
+  public int getVehicleCount() {
+    return vehicleCount;
+  }
+
+  public boolean isSimulatedTime() {
+    return simulatedTime;
+  }
+
+  public long getMeasurementDuration() {
+    return measurementDuration;
+  }
+
+  public long getWallClockDuration() {
+    return wallClockDuration;
+  }
+
+  public long getFinishedOrders() {
+    return finishedOrders;
+  }
+
+  public long getFailedOrders() {
+    return failedOrders;
+  }
+
+  /**
+   * Returns the number of transport orders finished per hour of the measurement's duration.
+   *
+   * @return The number of transport orders finished per hour.
+   */
+  public double getOrdersPerHour() {
+    return measurementDuration == 0 ? 0.0 : finishedOrders * 3_600_000.0 / measurementDuration;
+  }
+
+  @Nonnull
+  public Distribution getDispatchLatency() {
+    return dispatchLatency;
+  }
+
+  @Nonnull
+  public Distribution getAllocationWait() {
+    return allocationWait;
+  }
+
+  @Nonnull
+  public Distribution getKernelExecutorQueueDepth() {
+    return kernelExecutorQueueDepth;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.ROOT,
+        "vehicles: %d, duration: %d ms (%s), wall-clock duration: %d ms%n"
+            + "finished orders: %d, failed orders: %d, orders per hour: %.1f%n"
+            + "dispatch latency (ms): %s%n"
+            + "allocation wait (ms): %s%n"
+            + "kernel executor queue depth: %s",
+        vehicleCount,
+        measurementDuration,
+        simulatedTime ? "simulated" : "real",
+        wallClockDuration,
+        finishedOrders,
+        failedOrders,
+        getOrdersPerHour(),
+        dispatchLatency,
+        allocationWait,
+        kernelExecutorQueueDepth
+    );
+  }
+
+  /**
+   * Summarizes the distribution of a measured value.
+   */
+  public static class Distribution {
+
+    /**
+     * The number of values measured.
+     */
+    private final long count;
+    /**
+     * The mean value.
+     */
+    private final double mean;
+    /**
+     * The median.
+     */
+    private final double p50;
+    /**
+     * The 90th percentile.
+     */
+    private final double p90;
+    /**
+     * The 99th percentile.
+     */
+    private final double p99;
+    /**
+     * The maximum value.
+     */
+    private final double max;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param count The number of values measured.
+     * @param mean The mean value.
+     * @param p50 The median.
+     * @param p90 The 90th percentile.
+     * @param p99 The 99th percentile.
+     * @param max The maximum value.
+     */
+    public Distribution(long count, double mean, double p50, double p90, double p99, double max) {
+      this.count = count;
+      this.mean = mean;
+      this.p50 = p50;
+      this.p90 = p90;
+      this.p99 = p99;
+      this.max = max;
+    }
+
+    /**
+     * Creates a distribution of the latencies in the given histogram.
+     *
+     * @param latencies The histogram.
+     * @return The distribution of the latencies, in milliseconds.
+     */
+    @Nonnull
+    public static Distribution ofLatencies(
+        @Nonnull
+        LatencyHistogram.Snapshot latencies
+    ) {
+      requireNonNull(latencies, "latencies");
+
+      return new Distribution(
+          latencies.getCount(),
+          latencies.getMeanMicros() / 1000.0,
+          latencies.getPercentileMicros(50.0) / 1000.0,
+          latencies.getPercentileMicros(90.0) / 1000.0,
+          latencies.getPercentileMicros(99.0) / 1000.0,
+          latencies.getMaxMicros() / 1000.0
+      );
+    }
+
+    /**
+     * Creates a distribution of the given samples.
+     *
+     * @param sortedSamples The samples, in ascending order.
+     * @return The distribution of the samples.
+     */
+    @Nonnull
+    public static Distribution ofSamples(
+        @Nonnull
+        int[] sortedSamples
+    ) {
+      requireNonNull(sortedSamples, "sortedSamples");
+
+      if (sortedSamples.length == 0) {
+        return new Distribution(0, 0.0, 0.0, 0.0, 0.0, 0.0);
+      }
+
+      long sum = 0;
+      for (int sample : sortedSamples) {
+        sum += sample;
+      }
+      return new Distribution(
+          sortedSamples.length,
+          (double) sum / sortedSamples.length,
+          percentile(sortedSamples, 50.0),
+          percentile(sortedSamples, 90.0),
+          percentile(sortedSamples, 99.0),
+          sortedSamples[sortedSamples.length - 1]
+      );
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public double getMean() {
+      return mean;
+    }
+
+    public double getP50() {
+      return p50;
+    }
+
+    public double getP90() {
+      return p90;
+    }
+
+    public double getP99() {
+      return p99;
+    }
+
+    public double getMax() {
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "count=%d, mean=%.3f, p50=%.3f, p90=%.3f, p99=%.3f, max=%.3f",
+          count,
+          mean,
+          p50,
+          p90,
+          p99,
+          max
+      );
+    }
+
+    private static double percentile(int[] sortedSamples, double percentile) {
+      // Nearest-rank method.
+      int rank = (int) Math.ceil(sortedSamples.length * percentile / 100.0);
+      return sortedSamples[Math.max(rank, 1) - 1];
+    }
+  }
+}
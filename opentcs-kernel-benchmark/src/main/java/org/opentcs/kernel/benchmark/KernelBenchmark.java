@@ -0,0 +1,282 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.components.kernel.services.PlantModelService;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.components.kernel.services.VehicleService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.loadgenerator.batchcreator.RandomOrderBatchCreator;
+import org.opentcs.loadgenerator.trigger.ThresholdOrderGenTrigger;
+import org.opentcs.util.event.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a benchmark in the kernel's process.
+ * <p>
+ * A generated plant model is loaded and its loopback vehicles are kept busy with random transport
+ * orders, created the same way the load generator panel creates them. After warming up, the
+ * kernel's throughput and latencies are measured.
+ * </p>
+ */
+public class KernelBenchmark {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(KernelBenchmark.class);
+  /**
+   * The interval (in ms) at which the benchmark's progress is checked.
+   */
+  private static final long POLL_INTERVAL = 100;
+  /**
+   * The maximum wall-clock time (in ms) to wait for vehicles to become ready or for simulated time
+   * to advance.
+   */
+  private static final long STALL_TIMEOUT = 60000;
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The plant model service.
+   */
+  private final PlantModelService plantModelService;
+  /**
+   * The transport order service.
+   */
+  private final TransportOrderService transportOrderService;
+  /**
+   * The dispatcher service.
+   */
+  private final DispatcherService dispatcherService;
+  /**
+   * The vehicle service.
+   */
+  private final VehicleService vehicleService;
+  /**
+   * Where we get events from.
+   */
+  private final EventSource eventSource;
+  /**
+   * The scheduler recording allocation wait times.
+   */
+  private final AllocationTimingScheduler scheduler;
+  /**
+   * Records metrics of transport orders.
+   */
+  private final TransportOrderMetrics orderMetrics;
+  /**
+   * Provides the time measurements are based on.
+   */
+  private final BenchmarkClock clock;
+  /**
+   * Generates the plant model.
+   */
+  private final PlantModelGenerator plantModelGenerator;
+  /**
+   * The benchmark's configuration.
+   */
+  private final KernelBenchmarkConfiguration configuration;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor.
+   * @param plantModelService The plant model service.
+   * @param transportOrderService The transport order service.
+   * @param dispatcherService The dispatcher service.
+   * @param vehicleService The vehicle service.
+   * @param eventSource Where this instance registers for events.
+   * @param scheduler The scheduler recording allocation wait times.
+   * @param orderMetrics Records metrics of transport orders.
+   * @param clock Provides the time measurements are based on.
+   * @param plantModelGenerator Generates the plant model.
+   * @param configuration The benchmark's configuration.
+   */
+  @Inject
+  public KernelBenchmark(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      PlantModelService plantModelService,
+      TransportOrderService transportOrderService,
+      DispatcherService dispatcherService,
+      VehicleService vehicleService,
+      @ApplicationEventBus
+      EventSource eventSource,
+      AllocationTimingScheduler scheduler,
+      TransportOrderMetrics orderMetrics,
+      BenchmarkClock clock,
+      PlantModelGenerator plantModelGenerator,
+      KernelBenchmarkConfiguration configuration
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.plantModelService = requireNonNull(plantModelService, "plantModelService");
+    this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
+    this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
+    this.vehicleService = requireNonNull(vehicleService, "vehicleService");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.scheduler = requireNonNull(scheduler, "scheduler");
+    this.orderMetrics = requireNonNull(orderMetrics, "orderMetrics");
+    this.clock = requireNonNull(clock, "clock");
+    this.plantModelGenerator = requireNonNull(plantModelGenerator, "plantModelGenerator");
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  /**
+   * Runs the benchmark.
+   * <p>
+   * Expects the kernel to have been started, and replaces its plant model.
+   * </p>
+   *
+   * @return The benchmark's results.
+   * @throws InterruptedException If the calling thread was interrupted while waiting.
+   * @throws ExecutionException If the plant model could not be created.
+   * @throws IOException If the results could not be written.
+   */
+  @Nonnull
+  public BenchmarkResult run()
+      throws InterruptedException,
+        ExecutionException,
+        IOException {
+    LOG.info("Creating plant model...");
+    PlantModelCreationTO plantModel = plantModelGenerator.createPlantModel();
+    kernelExecutor.submit(() -> plantModelService.createPlantModel(plantModel)).get();
+
+    LOG.info("Waiting for {} vehicles to become ready...", plantModel.getVehicles().size());
+    Set<Vehicle> vehicles = awaitVehiclesReady();
+    kernelExecutor.submit(() -> {
+      for (Vehicle vehicle : vehicles) {
+        vehicleService.updateVehicleIntegrationLevel(
+            vehicle.getReference(),
+            Vehicle.IntegrationLevel.TO_BE_UTILIZED
+        );
+      }
+    }).get();
+
+    ThresholdOrderGenTrigger orderGenTrigger = new ThresholdOrderGenTrigger(
+        eventSource,
+        transportOrderService,
+        configuration.orderThreshold(),
+        new RandomOrderBatchCreator(
+            transportOrderService,
+            dispatcherService,
+            configuration.orderBatchSize(),
+            configuration.driveOrdersPerTransportOrder(),
+            new Random(configuration.randomSeed())
+        )
+    );
+    KernelExecutorSampler sampler = new KernelExecutorSampler(
+        (ThreadPoolExecutor) kernelExecutor,
+        configuration.queueDepthSampleInterval()
+    );
+
+    BenchmarkResult result;
+    eventSource.subscribe(orderMetrics);
+    try {
+      orderGenTrigger.setTriggeringEnabled(true);
+      sampler.start();
+
+      LOG.info("Warming up for {} s...", configuration.warmUpDuration());
+      awaitBenchmarkTime(
+          benchmarkTime() + TimeUnit.SECONDS.toMillis(configuration.warmUpDuration())
+      );
+
+      orderMetrics.reset();
+      scheduler.resetAllocationWaits();
+      sampler.reset();
+      long startTime = benchmarkTime();
+      long wallClockStartTime = System.nanoTime();
+
+      LOG.info("Measuring for {} s...", configuration.measurementDuration());
+      awaitBenchmarkTime(
+          startTime + TimeUnit.SECONDS.toMillis(configuration.measurementDuration())
+      );
+
+      result = new BenchmarkResult(
+          vehicles.size(),
+          clock.isSimulatedTime(),
+          benchmarkTime() - startTime,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - wallClockStartTime),
+          orderMetrics.getFinishedOrders(),
+          orderMetrics.getFailedOrders(),
+          BenchmarkResult.Distribution.ofLatencies(orderMetrics.getDispatchLatencies()),
+          BenchmarkResult.Distribution.ofLatencies(scheduler.getAllocationWaits()),
+          BenchmarkResult.Distribution.ofSamples(sampler.getSortedSamples())
+      );
+    }
+    finally {
+      orderGenTrigger.setTriggeringEnabled(false);
+      sampler.stop();
+      eventSource.unsubscribe(orderMetrics);
+    }
+
+    LOG.info("Benchmark results:{}{}", System.lineSeparator(), result);
+    if (!configuration.resultFile().isBlank()) {
+      Path resultFile = Path.of(configuration.resultFile());
+      LOG.info("Writing results to {}...", resultFile.toAbsolutePath());
+      new ObjectMapper().writerWithDefaultPrettyPrinter()
+          .writeValue(resultFile.toFile(), result);
+    }
+
+    return result;
+  }
+
+  private Set<Vehicle> awaitVehiclesReady()
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + STALL_TIMEOUT;
+    while (true) {
+      Set<Vehicle> vehicles = vehicleService.fetchObjects(Vehicle.class);
+      if (vehicles.stream().allMatch(this::isReady)) {
+        return vehicles;
+      }
+      if (System.currentTimeMillis() > deadline) {
+        throw new IllegalStateException("Vehicles did not become ready in time.");
+      }
+      Thread.sleep(POLL_INTERVAL);
+    }
+  }
+
+  private boolean isReady(Vehicle vehicle) {
+    return vehicle.getCurrentPosition() != null && vehicle.hasState(Vehicle.State.IDLE);
+  }
+
+  private void awaitBenchmarkTime(long time)
+      throws InterruptedException {
+    long lastTime = benchmarkTime();
+    long deadline = System.currentTimeMillis() + STALL_TIMEOUT;
+    while (benchmarkTime() < time) {
+      // Simulated time only advances as long as vehicles are moving.
+      if (benchmarkTime() != lastTime) {
+        lastTime = benchmarkTime();
+        deadline = System.currentTimeMillis() + STALL_TIMEOUT;
+      }
+      else if (System.currentTimeMillis() > deadline) {
+        throw new IllegalStateException("Simulation stalled at " + lastTime + " ms.");
+      }
+      Thread.sleep(POLL_INTERVAL);
+    }
+  }
+
+  private long benchmarkTime() {
+    return clock.getCurrentTime(TimeUnit.MILLISECONDS);
+  }
+}
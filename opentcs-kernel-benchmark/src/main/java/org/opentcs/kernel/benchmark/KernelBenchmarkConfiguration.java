@@ -0,0 +1,148 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure the kernel benchmark.
+ */
+@ConfigurationPrefix(KernelBenchmarkConfiguration.PREFIX)
+public interface KernelBenchmarkConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "kernelbenchmark";
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of columns of points in the generated plant model's grid.",
+          "Odd numbers are rounded up, as each column's paths lead in the opposite direction of "
+              + "its neighbours' paths."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_model_0"
+  )
+  int gridColumns();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of rows of points in the generated plant model's grid.",
+          "Odd numbers are rounded up, as each row's paths lead in the opposite direction of its "
+              + "neighbours' paths."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_model_1"
+  )
+  int gridRows();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The length (in mm) of each path in the generated plant model.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_model_2"
+  )
+  int pathLength();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum velocity (in mm/s) of paths and vehicles in the generated plant "
+          + "model.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_model_3"
+  )
+  int maxVelocity();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The interval at which locations are linked to the grid's points, e.g. 3 for "
+          + "linking a location to every third point.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_model_4"
+  )
+  int locationInterval();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of vehicles in the generated plant model.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_model_5"
+  )
+  int vehicleCount();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of transport orders in progress at or below which a new batch of "
+          + "transport orders is created.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_orders_0"
+  )
+  int orderThreshold();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of transport orders per batch.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_orders_1"
+  )
+  int orderBatchSize();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The number of drive orders per transport order.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_orders_2"
+  )
+  int driveOrdersPerTransportOrder();
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The seed for randomly selecting the transport orders' destinations.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_orders_3"
+  )
+  long randomSeed();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The time (in s) to run the benchmark before starting measurements.",
+          "With virtualvehicle.discreteEventSimulation enabled, this is simulated time."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "2_duration_0"
+  )
+  int warmUpDuration();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The time (in s) to take measurements for.",
+          "With virtualvehicle.discreteEventSimulation enabled, this is simulated time."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "2_duration_1"
+  )
+  int measurementDuration();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The interval (in ms) at which the kernel executor's queue depth is sampled.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_results_0"
+  )
+  int queueDepthSampleInterval();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = "The file the benchmark's results are written to in JSON format, or an empty "
+          + "string to only log them.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_results_1"
+  )
+  String resultFile();
+}
@@ -0,0 +1,128 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkState;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples the depth of the kernel executor's queue.
+ * <p>
+ * The depth is the number of queued tasks that are due for execution, i.e. tasks scheduled for a
+ * later point of time are not counted.
+ * </p>
+ */
+public class KernelExecutorSampler {
+
+  /**
+   * The kernel executor.
+   */
+  private final ThreadPoolExecutor kernelExecutor;
+  /**
+   * The interval (in ms) at which the queue depth is sampled.
+   */
+  private final long sampleInterval;
+  /**
+   * The samples taken since the last reset.
+   */
+  private int[] samples = new int[1024];
+  /**
+   * The number of samples taken since the last reset.
+   */
+  private int sampleCount;
+  /**
+   * Executes the sampling task, or {@code null}, if sampling has not been started.
+   */
+  private ScheduledExecutorService samplingExecutor;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor.
+   * @param sampleInterval The interval (in ms) at which the queue depth is sampled.
+   */
+  public KernelExecutorSampler(
+      @Nonnull
+      ThreadPoolExecutor kernelExecutor,
+      long sampleInterval
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    checkArgument(sampleInterval > 0, "sampleInterval <= 0: %s", sampleInterval);
+    this.sampleInterval = sampleInterval;
+  }
+
+  /**
+   * Starts sampling.
+   */
+  public synchronized void start() {
+    checkState(samplingExecutor == null, "Already started.");
+
+    samplingExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "kernelExecutorSampler");
+      thread.setDaemon(true);
+      return thread;
+    });
+    samplingExecutor.scheduleAtFixedRate(
+        this::takeSample,
+        sampleInterval,
+        sampleInterval,
+        TimeUnit.MILLISECONDS
+    );
+  }
+
+  /**
+   * Stops sampling.
+   */
+  public synchronized void stop() {
+    if (samplingExecutor != null) {
+      samplingExecutor.shutdownNow();
+      samplingExecutor = null;
+    }
+  }
+
+  /**
+   * Discards all samples taken so far.
+   */
+  public synchronized void reset() {
+    sampleCount = 0;
+  }
+
+  /**
+   * Returns the samples taken since the last reset.
+   *
+   * @return The samples taken since the last reset, in ascending order.
+   */
+  @Nonnull
+  public synchronized int[] getSortedSamples() {
+    int[] result = Arrays.copyOf(samples, sampleCount);
+    Arrays.sort(result);
+    return result;
+  }
+
+  private void takeSample() {
+    int depth = 0;
+    for (Runnable task : kernelExecutor.getQueue()) {
+      if (!(task instanceof Delayed delayedTask)
+          || delayedTask.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+        depth++;
+      }
+    }
+    addSample(depth);
+  }
+
+  private synchronized void addSample(int depth) {
+    if (sampleCount == samples.length) {
+      samples = Arrays.copyOf(samples, samples.length * 2);
+    }
+    samples[sampleCount++] = depth;
+  }
+}
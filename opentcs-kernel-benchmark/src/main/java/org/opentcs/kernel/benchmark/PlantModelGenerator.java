@@ -0,0 +1,202 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.common.LoopbackAdapterConstants;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.order.DriveOrder.Destination;
+
+/**
+ * Generates plant models with a grid of points, with locations and vehicles spread across it.
+ * <p>
+ * The paths in the grid are unidirectional, with neighbouring rows and columns leading in opposite
+ * directions, so vehicles never meet head-on. With an even number of rows and columns, every point
+ * can be reached from every other point.
+ * </p>
+ */
+public class PlantModelGenerator {
+
+  /**
+   * The name of the location type of all generated locations.
+   */
+  private static final String LOCATION_TYPE_NAME = "Station";
+  /**
+   * The number of columns of the grid.
+   */
+  private final int columns;
+  /**
+   * The number of rows of the grid.
+   */
+  private final int rows;
+  /**
+   * The length of each path (in mm).
+   */
+  private final int pathLength;
+  /**
+   * The maximum velocity of paths and vehicles (in mm/s).
+   */
+  private final int maxVelocity;
+  /**
+   * The interval at which locations are linked to the grid's points.
+   */
+  private final int locationInterval;
+  /**
+   * The number of vehicles.
+   */
+  private final int vehicleCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The benchmark's configuration.
+   */
+  @Inject
+  public PlantModelGenerator(KernelBenchmarkConfiguration configuration) {
+    requireNonNull(configuration, "configuration");
+    this.columns = roundUpToEven(configuration.gridColumns());
+    this.rows = roundUpToEven(configuration.gridRows());
+    this.pathLength = configuration.pathLength();
+    this.maxVelocity = configuration.maxVelocity();
+    this.locationInterval = configuration.locationInterval();
+    this.vehicleCount = configuration.vehicleCount();
+
+    checkArgument(columns >= 2, "gridColumns < 2: %s", columns);
+    checkArgument(rows >= 2, "gridRows < 2: %s", rows);
+    checkArgument(pathLength > 0, "pathLength <= 0: %s", pathLength);
+    checkArgument(maxVelocity > 0, "maxVelocity <= 0: %s", maxVelocity);
+    checkArgument(locationInterval > 0, "locationInterval <= 0: %s", locationInterval);
+    checkArgument(
+        vehicleCount >= 0 && vehicleCount <= columns * rows,
+        "vehicleCount not in [0..%s]: %s",
+        columns * rows,
+        vehicleCount
+    );
+  }
+
+  /**
+   * Generates a plant model.
+   *
+   * @return The generated plant model.
+   */
+  @Nonnull
+  public PlantModelCreationTO createPlantModel() {
+    return new PlantModelCreationTO(String.format("Benchmark-%dx%d", columns, rows))
+        .withPoints(createPoints())
+        .withPaths(createPaths())
+        .withLocationTypes(
+            List.of(
+                new LocationTypeCreationTO(LOCATION_TYPE_NAME)
+                    .withAllowedOperations(List.of(Destination.OP_NOP))
+            )
+        )
+        .withLocations(createLocations())
+        .withVehicles(createVehicles());
+  }
+
+  private List<PointCreationTO> createPoints() {
+    List<PointCreationTO> points = new ArrayList<>();
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        points.add(
+            new PointCreationTO(pointName(column, row))
+                .withPose(
+                    new Pose(
+                        new Triple((long) column * pathLength, (long) row * pathLength, 0),
+                        Double.NaN
+                    )
+                )
+        );
+      }
+    }
+    return points;
+  }
+
+  private List<PathCreationTO> createPaths() {
+    List<PathCreationTO> paths = new ArrayList<>();
+    for (int row = 0; row < rows; row++) {
+      // Even rows lead in positive x direction, odd rows in negative x direction.
+      for (int column = 0; column < columns - 1; column++) {
+        paths.add(
+            row % 2 == 0
+                ? createPath(pointName(column, row), pointName(column + 1, row))
+                : createPath(pointName(column + 1, row), pointName(column, row))
+        );
+      }
+    }
+    for (int column = 0; column < columns; column++) {
+      // Odd columns lead in positive y direction, even columns in negative y direction.
+      for (int row = 0; row < rows - 1; row++) {
+        paths.add(
+            column % 2 == 1
+                ? createPath(pointName(column, row), pointName(column, row + 1))
+                : createPath(pointName(column, row + 1), pointName(column, row))
+        );
+      }
+    }
+    return paths;
+  }
+
+  private PathCreationTO createPath(String srcPointName, String destPointName) {
+    return new PathCreationTO(srcPointName + " --- " + destPointName, srcPointName, destPointName)
+        .withLength(pathLength)
+        .withMaxVelocity(maxVelocity);
+  }
+
+  private List<LocationCreationTO> createLocations() {
+    List<LocationCreationTO> locations = new ArrayList<>();
+    for (int index = 0; index < columns * rows; index += locationInterval) {
+      int column = index % columns;
+      int row = index / columns;
+      locations.add(
+          new LocationCreationTO(
+              String.format("Location-%04d-%04d", column, row),
+              LOCATION_TYPE_NAME,
+              new Triple((long) column * pathLength, (long) row * pathLength + pathLength / 4, 0)
+          )
+              .withLink(pointName(column, row), Set.of())
+      );
+    }
+    return locations;
+  }
+
+  private List<VehicleCreationTO> createVehicles() {
+    List<VehicleCreationTO> vehicles = new ArrayList<>();
+    for (int i = 0; i < vehicleCount; i++) {
+      // Spread the vehicles' initial positions evenly across the grid.
+      int index = (int) ((long) i * columns * rows / vehicleCount);
+      vehicles.add(
+          new VehicleCreationTO(String.format("Vehicle-%04d", i + 1))
+              .withMaxVelocity(maxVelocity)
+              .withMaxReverseVelocity(maxVelocity)
+              .withProperty(
+                  LoopbackAdapterConstants.PROPKEY_INITIAL_POSITION,
+                  pointName(index % columns, index / columns)
+              )
+      );
+    }
+    return vehicles;
+  }
+
+  private static String pointName(int column, int row) {
+    return String.format("Point-%04d-%04d", column, row);
+  }
+
+  private static int roundUpToEven(int value) {
+    return value % 2 == 0 ? value : value + 1;
+  }
+}
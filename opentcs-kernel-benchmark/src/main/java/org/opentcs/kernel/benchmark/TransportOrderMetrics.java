@@ -0,0 +1,140 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.LatencyHistogram;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * Records metrics of transport orders from the events emitted for them.
+ * <p>
+ * The dispatch latency of a transport order is the time between its creation and it being
+ * assigned to a vehicle, i.e. it includes the time the transport order waited for a vehicle to
+ * become available. It is measured in the benchmark's time, i.e. in virtual time if vehicles are
+ * simulated in virtual time.
+ * </p>
+ */
+public class TransportOrderMetrics
+    implements
+      EventHandler {
+
+  /**
+   * Provides the time measurements are based on.
+   */
+  private final BenchmarkClock clock;
+  /**
+   * The points of time (in ns) transport orders not yet assigned to a vehicle were created, mapped
+   * by the transport orders' names.
+   */
+  private final Map<String, Long> creationTimes = new ConcurrentHashMap<>();
+  /**
+   * The number of transport orders finished.
+   */
+  private final LongAdder finishedOrders = new LongAdder();
+  /**
+   * The number of transport orders failed.
+   */
+  private final LongAdder failedOrders = new LongAdder();
+  /**
+   * The histogram of dispatch latencies.
+   */
+  private volatile LatencyHistogram dispatchLatencies = new LatencyHistogram();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clock Provides the time measurements are based on.
+   */
+  @Inject
+  public TransportOrderMetrics(BenchmarkClock clock) {
+    this.clock = requireNonNull(clock, "clock");
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)
+        || !(objectEvent.getCurrentOrPreviousObjectState() instanceof TransportOrder order)) {
+      return;
+    }
+
+    if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_CREATED) {
+      creationTimes.put(order.getName(), clock.getCurrentTime(TimeUnit.NANOSECONDS));
+    }
+    else if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      creationTimes.remove(order.getName());
+    }
+    else if (((TransportOrder) objectEvent.getPreviousObjectState()).getState()
+        != order.getState()) {
+      stateChanged(order);
+    }
+  }
+
+  /**
+   * Returns the number of transport orders finished since the last reset.
+   *
+   * @return The number of transport orders finished.
+   */
+  public long getFinishedOrders() {
+    return finishedOrders.sum();
+  }
+
+  /**
+   * Returns the number of transport orders failed since the last reset.
+   *
+   * @return The number of transport orders failed.
+   */
+  public long getFailedOrders() {
+    return failedOrders.sum();
+  }
+
+  /**
+   * Returns a snapshot of the dispatch latencies recorded since the last reset.
+   *
+   * @return A snapshot of the dispatch latencies.
+   */
+  @Nonnull
+  public LatencyHistogram.Snapshot getDispatchLatencies() {
+    return dispatchLatencies.getSnapshot();
+  }
+
+  /**
+   * Discards all metrics recorded so far.
+   * <p>
+   * Transport orders created before, but assigned to a vehicle after the reset are still considered
+   * for the dispatch latencies.
+   * </p>
+   */
+  public void reset() {
+    finishedOrders.reset();
+    failedOrders.reset();
+    dispatchLatencies = new LatencyHistogram();
+  }
+
+  private void stateChanged(TransportOrder order) {
+    if (order.hasState(TransportOrder.State.BEING_PROCESSED)) {
+      Long creationTime = creationTimes.remove(order.getName());
+      if (creationTime != null) {
+        dispatchLatencies.record(clock.getCurrentTime(TimeUnit.NANOSECONDS) - creationTime);
+      }
+    }
+    else if (order.getState().isFinalState()) {
+      creationTimes.remove(order.getName());
+      if (order.hasState(TransportOrder.State.FINISHED)) {
+        finishedOrders.increment();
+      }
+      else {
+        failedOrders.increment();
+      }
+    }
+  }
+}
@@ -0,0 +1,6 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+/**
+ * A headless benchmark measuring the kernel's throughput with loopback vehicles.
+ */
+package org.opentcs.kernel.benchmark;
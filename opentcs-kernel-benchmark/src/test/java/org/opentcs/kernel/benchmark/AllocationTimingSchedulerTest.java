@@ -0,0 +1,117 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.strategies.basic.scheduling.DefaultScheduler;
+
+/**
+ * Unit tests for {@link AllocationTimingScheduler}.
+ */
+class AllocationTimingSchedulerTest {
+
+  private final Set<TCSResource<?>> resources = Set.of(new Point("point1"));
+  private DefaultScheduler defaultScheduler;
+  private Scheduler.Client client;
+  private BenchmarkClock clock;
+  private AllocationTimingScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    defaultScheduler = mock(DefaultScheduler.class);
+    client = mock(Scheduler.Client.class);
+    when(client.getId()).thenReturn("client1");
+    when(client.allocationSuccessful(anySet())).thenReturn(true);
+    clock = mock(BenchmarkClock.class);
+    scheduler = new AllocationTimingScheduler(defaultScheduler, clock);
+  }
+
+  @Test
+  void recordWaitTimeOfSuccessfulAllocation() {
+    when(clock.getCurrentTime(TimeUnit.NANOSECONDS)).thenReturn(1_000_000L, 6_000_000L);
+
+    scheduler.allocate(client, resources);
+    Scheduler.Client timedClient = passedAllocatingClient();
+
+    assertThat(timedClient.allocationSuccessful(resources)).isTrue();
+
+    verify(client).allocationSuccessful(resources);
+    assertThat(scheduler.getAllocationWaits().getCount()).isEqualTo(1);
+    // The wait time is measured with the benchmark's clock.
+    assertThat(scheduler.getAllocationWaits().getMaxMicros()).isEqualTo(5_000);
+  }
+
+  @Test
+  void recordNoWaitTimeOfFailedAllocation() {
+    scheduler.allocate(client, resources);
+    Scheduler.Client timedClient = passedAllocatingClient();
+
+    timedClient.allocationFailed(resources);
+    timedClient.allocationSuccessful(resources);
+
+    verify(client).allocationFailed(resources);
+    assertThat(scheduler.getAllocationWaits().getCount()).isZero();
+  }
+
+  @Test
+  void discardWaitTimesOnReset() {
+    scheduler.allocate(client, resources);
+    passedAllocatingClient().allocationSuccessful(resources);
+
+    scheduler.resetAllocationWaits();
+
+    assertThat(scheduler.getAllocationWaits().getCount()).isZero();
+  }
+
+  @Test
+  void passSameWrapperForClientInEveryCall() {
+    scheduler.claim(client, List.of(resources));
+    scheduler.allocate(client, resources);
+    scheduler.free(client, resources);
+
+    ArgumentCaptor<Scheduler.Client> claimingClient
+        = ArgumentCaptor.forClass(Scheduler.Client.class);
+    verify(defaultScheduler).claim(claimingClient.capture(), anyList());
+    ArgumentCaptor<Scheduler.Client> freeingClient
+        = ArgumentCaptor.forClass(Scheduler.Client.class);
+    verify(defaultScheduler).free(freeingClient.capture(), anySet());
+
+    assertThat(claimingClient.getValue())
+        .isSameAs(passedAllocatingClient())
+        .isSameAs(freeingClient.getValue());
+    assertThat(claimingClient.getValue().getId()).isEqualTo("client1");
+  }
+
+  @Test
+  void doNotWrapClientsPassedBackByModules() {
+    Scheduler.Module module = mock(Scheduler.Module.class);
+    scheduler.allocate(client, resources);
+    Scheduler.Client timedClient = passedAllocatingClient();
+
+    scheduler.preparationSuccessful(module, timedClient, resources);
+
+    verify(defaultScheduler).preparationSuccessful(module, timedClient, resources);
+  }
+
+  private Scheduler.Client passedAllocatingClient() {
+    ArgumentCaptor<Scheduler.Client> captor = ArgumentCaptor.forClass(Scheduler.Client.class);
+    verify(defaultScheduler).allocate(captor.capture(), any());
+    return captor.getValue();
+  }
+}
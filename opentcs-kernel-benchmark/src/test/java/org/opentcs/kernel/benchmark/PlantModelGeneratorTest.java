@@ -0,0 +1,124 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.to.model.PathCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.common.LoopbackAdapterConstants;
+
+/**
+ * Unit tests for {@link PlantModelGenerator}.
+ */
+class PlantModelGeneratorTest {
+
+  private KernelBenchmarkConfiguration configuration;
+
+  @BeforeEach
+  void setUp() {
+    configuration = mock(KernelBenchmarkConfiguration.class);
+    when(configuration.gridColumns()).thenReturn(4);
+    when(configuration.gridRows()).thenReturn(4);
+    when(configuration.pathLength()).thenReturn(5000);
+    when(configuration.maxVelocity()).thenReturn(1000);
+    when(configuration.locationInterval()).thenReturn(3);
+    when(configuration.vehicleCount()).thenReturn(5);
+  }
+
+  @Test
+  void roundUpOddGridDimensions() {
+    when(configuration.gridColumns()).thenReturn(3);
+    when(configuration.gridRows()).thenReturn(5);
+
+    PlantModelCreationTO model = new PlantModelGenerator(configuration).createPlantModel();
+
+    assertThat(model.getPoints()).hasSize(4 * 6);
+    assertThat(model.getPaths()).hasSize(6 * 3 + 4 * 5);
+  }
+
+  @Test
+  void makeEveryPointReachableFromEveryOtherPoint() {
+    when(configuration.gridColumns()).thenReturn(6);
+    when(configuration.gridRows()).thenReturn(8);
+
+    PlantModelCreationTO model = new PlantModelGenerator(configuration).createPlantModel();
+
+    Map<String, Set<String>> successors = new HashMap<>();
+    Map<String, Set<String>> predecessors = new HashMap<>();
+    for (PathCreationTO path : model.getPaths()) {
+      successors.computeIfAbsent(path.getSrcPointName(), name -> new HashSet<>())
+          .add(path.getDestPointName());
+      predecessors.computeIfAbsent(path.getDestPointName(), name -> new HashSet<>())
+          .add(path.getSrcPointName());
+    }
+    Set<String> pointNames = new HashSet<>();
+    for (PointCreationTO point : model.getPoints()) {
+      pointNames.add(point.getName());
+    }
+    String start = model.getPoints().get(0).getName();
+
+    assertThat(reachablePoints(start, successors)).isEqualTo(pointNames);
+    assertThat(reachablePoints(start, predecessors)).isEqualTo(pointNames);
+  }
+
+  @Test
+  void linkLocationsAtConfiguredInterval() {
+    PlantModelCreationTO model = new PlantModelGenerator(configuration).createPlantModel();
+
+    // Points 0, 3, 6, 9, 12 and 15 of 16.
+    assertThat(model.getLocations()).hasSize(6);
+    assertThat(model.getLocationTypes()).hasSize(1);
+  }
+
+  @Test
+  void placeVehiclesOnDistinctPoints() {
+    PlantModelCreationTO model = new PlantModelGenerator(configuration).createPlantModel();
+
+    List<String> initialPositions = model.getVehicles().stream()
+        .map(VehicleCreationTO::getProperties)
+        .map(properties -> properties.get(LoopbackAdapterConstants.PROPKEY_INITIAL_POSITION))
+        .toList();
+    assertThat(initialPositions)
+        .hasSize(5)
+        .doesNotHaveDuplicates()
+        .doesNotContainNull();
+  }
+
+  @Test
+  void rejectMoreVehiclesThanPoints() {
+    when(configuration.vehicleCount()).thenReturn(17);
+
+    assertThatThrownBy(() -> new PlantModelGenerator(configuration))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Set<String> reachablePoints(String start, Map<String, Set<String>> edges) {
+    Set<String> visited = new HashSet<>();
+    Queue<String> queue = new ArrayDeque<>();
+    visited.add(start);
+    queue.add(start);
+    while (!queue.isEmpty()) {
+      for (String next : edges.getOrDefault(queue.poll(), Set.of())) {
+        if (visited.add(next)) {
+          queue.add(next);
+        }
+      }
+    }
+    return visited;
+  }
+}
@@ -40,6 +40,8 @@ public class ServiceWebApiModule
 
     bind(ServiceWebApiConfiguration.class)
         .toInstance(configuration);
+    bind(KernelExecutorWrapper.class)
+        .in(Singleton.class);
 
     extensionsBinderAllModes().addBinding()
         .to(ServiceWebApi.class)
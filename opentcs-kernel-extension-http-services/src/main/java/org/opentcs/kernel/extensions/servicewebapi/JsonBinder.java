@@ -2,11 +2,19 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.extensions.servicewebapi;
 
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Binds JSON strings to objects and vice versa.
@@ -68,6 +76,51 @@ public class JsonBinder {
     }
   }
 
+  /**
+   * Writes the given elements as a JSON array to the given output stream.
+   * <p>
+   * Elements are mapped to JSON and written one after the other, so only a single element's JSON
+   * representation is kept in memory at a time.
+   * </p>
+   *
+   * @param out The output stream. It is flushed, but not closed.
+   * @param elements The elements to be written.
+   * @param fields The names of the (top-level) properties to be included for each element. If
+   * empty, all properties are included. Names of properties an element does not have are ignored.
+   * @throws IOException In case there was a problem writing to the output stream.
+   * @throws IllegalStateException In case there was a problem mapping an element to JSON.
+   */
+  public void writeJsonArray(OutputStream out, Iterator<?> elements, Set<String> fields)
+      throws IOException,
+        IllegalStateException {
+    requireNonNull(out, "out");
+    requireNonNull(elements, "elements");
+    requireNonNull(fields, "fields");
+
+    // Elements are written with the generator's pretty printer, which keeps track of the nesting.
+    ObjectWriter writer = objectMapper.writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.useDefaultPrettyPrinter();
+      generator.writeStartArray();
+      while (elements.hasNext()) {
+        Object element = elements.next();
+        if (fields.isEmpty()) {
+          writer.writeValue(generator, element);
+        }
+        else {
+          ObjectNode node = objectMapper.valueToTree(element);
+          writer.writeValue(generator, node.retain(fields));
+        }
+      }
+      generator.writeEndArray();
+    }
+    catch (JsonProcessingException exc) {
+      throw new IllegalStateException("Could not produce JSON output", exc);
+    }
+  }
+
   /**
    * Maps the given throwable to a JSON string.
    *
@@ -4,32 +4,85 @@ package org.opentcs.kernel.extensions.servicewebapi;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.util.LatencyHistogram;
 
 /**
  * Calls callables/runnables via the kernel executor and waits for the outcome.
+ * <p>
+ * Read-only calls for endpoints configured accordingly are executed directly on the calling
+ * thread instead, relying on the kernel services to provide consistent views on the kernel's
+ * objects. For both ways of executing read-only calls, the latencies are recorded.
+ * </p>
  */
 public class KernelExecutorWrapper {
 
   private final ExecutorService kernelExecutor;
+  /**
+   * The endpoints for which read-only calls are executed directly on the calling thread.
+   */
+  private final Set<ReadEndpoint> directReadEndpoints;
+  /**
+   * The latencies of read-only calls, mapped by the path they took.
+   */
+  private final Map<ReadPath, LatencyHistogram> readLatencies = new EnumMap<>(ReadPath.class);
 
   /**
    * Creates a new instance.
    *
    * @param kernelExecutor The kernel executor.
+   * @param configuration The service web API's configuration.
+   * @throws IllegalArgumentException If the configuration contains an unknown endpoint.
    */
   @Inject
   public KernelExecutorWrapper(
       @KernelExecutor
-      ExecutorService kernelExecutor
+      ExecutorService kernelExecutor,
+      ServiceWebApiConfiguration configuration
+  )
+      throws IllegalArgumentException {
+    this(kernelExecutor, toReadEndpoints(configuration.directReadEndpoints()));
+  }
+
+  /**
+   * Creates a new instance that executes all calls via the kernel executor.
+   *
+   * @param kernelExecutor The kernel executor.
+   */
+  public KernelExecutorWrapper(ExecutorService kernelExecutor) {
+    this(kernelExecutor, Set.of());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor.
+   * @param directReadEndpoints The endpoints for which read-only calls are executed directly on
+   * the calling thread.
+   */
+  public KernelExecutorWrapper(
+      ExecutorService kernelExecutor,
+      Set<ReadEndpoint> directReadEndpoints
   ) {
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.directReadEndpoints = directReadEndpoints.isEmpty()
+        ? EnumSet.noneOf(ReadEndpoint.class)
+        : EnumSet.copyOf(directReadEndpoints);
+    for (ReadPath path : ReadPath.values()) {
+      readLatencies.put(path, new LatencyHistogram());
+    }
   }
 
   /**
@@ -80,4 +133,111 @@ public class KernelExecutorWrapper {
 
     callAndWait(Executors.callable(runnable));
   }
+
+  /**
+   * Executes the given read-only callable for the given endpoint and returns the outcome.
+   * <p>
+   * If the endpoint is configured for direct reads, the callable is executed on the calling
+   * thread. Otherwise, it is executed via the kernel executor. In both cases, exceptions are
+   * handled as with {@link #callAndWait(Callable)}.
+   * </p>
+   *
+   * @param <T> The callable's return type.
+   * @param endpoint The endpoint the callable serves.
+   * @param callable The callable. It must not modify any kernel objects.
+   * @return The result of the call.
+   * @throws IllegalStateException In case the call via the kernel executor was unexpectedly
+   * interrupted.
+   * @throws RuntimeException In case an exception was thrown from the callable.
+   */
+  public <T> T read(
+      @Nonnull
+      ReadEndpoint endpoint,
+      @Nonnull
+      Callable<T> callable
+  )
+      throws IllegalStateException,
+        RuntimeException {
+    requireNonNull(endpoint, "endpoint");
+    requireNonNull(callable, "callable");
+
+    ReadPath path = getReadPath(endpoint);
+    long start = System.nanoTime();
+    try {
+      return path == ReadPath.DIRECT ? callDirectly(callable) : callAndWait(callable);
+    }
+    finally {
+      readLatencies.get(path).record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Returns the path read-only calls for the given endpoint take.
+   *
+   * @param endpoint The endpoint.
+   * @return The path read-only calls for the given endpoint take.
+   */
+  @Nonnull
+  public ReadPath getReadPath(
+      @Nonnull
+      ReadEndpoint endpoint
+  ) {
+    requireNonNull(endpoint, "endpoint");
+
+    return directReadEndpoints.contains(endpoint) ? ReadPath.DIRECT : ReadPath.KERNEL_EXECUTOR;
+  }
+
+  /**
+   * Returns the latencies of the read-only calls that took the given path.
+   *
+   * @param path The path.
+   * @return The latencies of the read-only calls that took the given path.
+   */
+  @Nonnull
+  public LatencyHistogram getReadLatencies(
+      @Nonnull
+      ReadPath path
+  ) {
+    requireNonNull(path, "path");
+
+    return readLatencies.get(path);
+  }
+
+  private static <T> T callDirectly(Callable<T> callable)
+      throws RuntimeException {
+    try {
+      return callable.call();
+    }
+    catch (RuntimeException exc) {
+      throw exc;
+    }
+    catch (Exception exc) {
+      throw new KernelRuntimeException(exc);
+    }
+  }
+
+  private static Set<ReadEndpoint> toReadEndpoints(Collection<String> names)
+      throws IllegalArgumentException {
+    Set<ReadEndpoint> result = EnumSet.noneOf(ReadEndpoint.class);
+    for (String name : names) {
+      if (!name.isBlank()) {
+        result.add(ReadEndpoint.valueOf(name.trim()));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The paths read-only calls can take.
+   */
+  public enum ReadPath {
+    /**
+     * The call is executed via the kernel executor.
+     */
+    KERNEL_EXECUTOR,
+    /**
+     * The call is executed directly on the calling thread.
+     */
+    DIRECT;
+  }
 }
@@ -0,0 +1,31 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi;
+
+/**
+ * Groups of read-only endpoints that may be served without scheduling onto the kernel executor.
+ *
+ * @see ServiceWebApiConfiguration#directReadEndpoints()
+ */
+public enum ReadEndpoint {
+  /**
+   * Retrieval of transport orders.
+   */
+  TRANSPORT_ORDERS,
+  /**
+   * Retrieval of order sequences.
+   */
+  ORDER_SEQUENCES,
+  /**
+   * Retrieval of vehicles.
+   */
+  VEHICLES,
+  /**
+   * Retrieval of peripheral jobs.
+   */
+  PERIPHERAL_JOBS,
+  /**
+   * Retrieval of the plant model.
+   */
+  PLANT_MODEL;
+}
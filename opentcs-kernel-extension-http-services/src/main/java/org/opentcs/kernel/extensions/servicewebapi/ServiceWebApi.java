@@ -115,6 +115,8 @@ public class ServiceWebApi
       // Add a CORS header to allow cross-origin requests from all hosts.
       // This also makes using the "try it out" buttons in the Swagger UI documentation possible.
       response.header("Access-Control-Allow-Origin", "*");
+      // Allow cross-origin clients to retrieve collections in pages.
+      response.header("Access-Control-Expose-Headers", "Next-Cursor");
     });
 
     // Reflect that we allow cross-origin requests for any headers and methods.
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.extensions.servicewebapi;
 
+import java.util.List;
 import org.opentcs.configuration.ConfigurationEntry;
 import org.opentcs.configuration.ConfigurationPrefix;
 
@@ -56,6 +57,35 @@ public interface ServiceWebApiConfiguration {
   )
   int statusEventsCapacity();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to keep only the latest status event for each modified object.",
+          "If 'true', a status event for a modified object replaces the object's previous status "
+              + "event, unless the object has been created or removed in between."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "4_coalesce"
+  )
+  boolean coalesceStatusEvents();
+
+  @ConfigurationEntry(
+      type = "Comma-separated list of strings",
+      description = {
+          "The read-only endpoints served directly on the requesting thread instead of via the "
+              + "kernel executor.",
+          "Possible values: TRANSPORT_ORDERS, ORDER_SEQUENCES, VEHICLES, PERIPHERAL_JOBS, "
+              + "PLANT_MODEL",
+          "Requests to these endpoints do not have to wait for the kernel executor (e.g. while it "
+              + "is busy dispatching), but objects retrieved with a single request may reflect "
+              + "different states of the kernel.",
+          "If empty, all requests are served via the kernel executor."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "4_reads"
+  )
+  List<String> directReadEndpoints();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
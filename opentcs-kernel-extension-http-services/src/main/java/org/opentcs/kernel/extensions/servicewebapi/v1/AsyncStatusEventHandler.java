@@ -0,0 +1,264 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.AsyncContext;
+import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetEventsResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Responds to requests for status events using asynchronous request processing.
+ * <p>
+ * Requests waiting for status events do not occupy a request thread. Instead, the response is
+ * written once the {@link StatusEventDispatcher} has collected events the client is interested in,
+ * or once the request has timed out.
+ * </p>
+ */
+public class AsyncStatusEventHandler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncStatusEventHandler.class);
+  /**
+   * The content type for event streams.
+   */
+  private static final String CONTENT_TYPE_TEXT_EVENT_STREAM_UTF8
+      = "text/event-stream; charset=utf-8";
+  /**
+   * The interval (in ms) after which a comment is sent to event stream clients if there were no
+   * events, to keep the connection alive and to detect disconnected clients.
+   */
+  private static final long EVENT_STREAM_KEEP_ALIVE_INTERVAL = 15000;
+  /**
+   * Binds JSON data to objects and vice versa.
+   */
+  private final JsonBinder jsonBinder;
+  /**
+   * Collects the status events.
+   */
+  private final StatusEventDispatcher statusEventDispatcher;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param jsonBinder Binds JSON data to objects and vice versa.
+   * @param statusEventDispatcher Collects the status events.
+   */
+  @Inject
+  public AsyncStatusEventHandler(
+      JsonBinder jsonBinder,
+      StatusEventDispatcher statusEventDispatcher
+  ) {
+    this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
+    this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
+  }
+
+  /**
+   * Responds with a list of events within the given range, waiting at most {@code timeout}
+   * milliseconds for new events if there currently aren't any.
+   *
+   * @param request The request.
+   * @param response The response.
+   * @param minSequenceNo The minimum sequence number for accepted events.
+   * @param maxSequenceNo The maximum sequence number for accepted events.
+   * @param timeout The maximum time to wait for events (in ms) if there currently aren't any.
+   * @return The response body, if the response is not written asynchronously.
+   * @throws IllegalArgumentException If any of the given sequence numbers or the timeout is
+   * invalid.
+   * @throws IllegalStateException If starting asynchronous processing failed.
+   */
+  public Object handleGetEvents(
+      Request request,
+      Response response,
+      long minSequenceNo,
+      long maxSequenceNo,
+      long timeout
+  )
+      throws IllegalArgumentException,
+        IllegalStateException {
+    checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
+
+    CompletableFuture<GetEventsResponseTO> fetch
+        = statusEventDispatcher.fetchEventsAsync(minSequenceNo, maxSequenceNo);
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+
+    if (fetch.isDone() || timeout == 0) {
+      GetEventsResponseTO result = fetch.getNow(new GetEventsResponseTO());
+      // Cancel the fetch only after retrieving the result, as a cancelled fetch has no result.
+      if (!fetch.isDone()) {
+        fetch.cancel(false);
+      }
+      return jsonBinder.toJson(result);
+    }
+
+    AsyncContext asyncContext = startAsync(request, response);
+    fetch.completeOnTimeout(new GetEventsResponseTO(), timeout, TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (result, exc) -> asyncContext.start(() -> {
+              try {
+                write(
+                    asyncContext,
+                    jsonBinder.toJson(result == null ? new GetEventsResponseTO() : result)
+                );
+              }
+              catch (IOException e) {
+                LOG.debug("Could not write events, client probably disconnected.", e);
+              }
+              finally {
+                asyncContext.complete();
+              }
+            })
+        );
+    return "";
+  }
+
+  /**
+   * Responds with a stream of server-sent events, one for every status message, starting with the
+   * given sequence number.
+   * Every server-sent event's ID is the respective status message's sequence number, so a client
+   * reconnecting with the standard {@code Last-Event-ID} header resumes after the last status
+   * message it has received.
+   *
+   * @param request The request.
+   * @param response The response.
+   * @param minSequenceNo The minimum sequence number for streamed events, used if the request
+   * does not contain a {@code Last-Event-ID} header.
+   * @return The response body, which is empty as the response is written asynchronously.
+   * @throws IllegalArgumentException If the given sequence number or the {@code Last-Event-ID}
+   * header is invalid.
+   * @throws IllegalStateException If starting asynchronous processing failed.
+   */
+  public Object handleGetEventStream(Request request, Response response, long minSequenceNo)
+      throws IllegalArgumentException,
+        IllegalStateException {
+    long firstSequenceNo = resumeSequenceNo(request, minSequenceNo);
+    // Validate the sequence number before starting to respond.
+    statusEventDispatcher.fetchEventsAsync(firstSequenceNo, Long.MAX_VALUE).cancel(false);
+
+    response.type(CONTENT_TYPE_TEXT_EVENT_STREAM_UTF8);
+    response.header("Cache-Control", "no-cache");
+    new EventStream(startAsync(request, response)).fetchFrom(firstSequenceNo);
+    return "";
+  }
+
+  private long resumeSequenceNo(Request request, long minSequenceNo)
+      throws IllegalArgumentException {
+    String lastEventId = request.headers("Last-Event-ID");
+    if (lastEventId == null) {
+      return minSequenceNo;
+    }
+    try {
+      return Long.parseLong(lastEventId.trim()) + 1;
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed Last-Event-ID: " + lastEventId);
+    }
+  }
+
+  /**
+   * Starts asynchronous processing of the given request.
+   * <p>
+   * The response's headers are sent immediately, since the response body is written after the
+   * request handler has returned.
+   * </p>
+   */
+  private AsyncContext startAsync(Request request, Response response)
+      throws IllegalStateException {
+    AsyncContext asyncContext = request.raw().startAsync();
+    // Timeouts are handled via the futures for the events.
+    asyncContext.setTimeout(0);
+    try {
+      response.raw().flushBuffer();
+    }
+    catch (IOException exc) {
+      asyncContext.complete();
+      throw new IllegalStateException("Could not send response headers", exc);
+    }
+    return asyncContext;
+  }
+
+  private static void write(AsyncContext asyncContext, String content)
+      throws IOException {
+    asyncContext.getResponse().getOutputStream().write(content.getBytes(StandardCharsets.UTF_8));
+    asyncContext.getResponse().flushBuffer();
+  }
+
+  /**
+   * A stream of server-sent events for a single client.
+   */
+  private class EventStream {
+
+    private final AsyncContext asyncContext;
+
+    EventStream(AsyncContext asyncContext) {
+      this.asyncContext = asyncContext;
+    }
+
+    /**
+     * Sends the events starting with the given sequence number as soon as there are any.
+     *
+     * @param sequenceNo The sequence number of the first event to send.
+     */
+    void fetchFrom(long sequenceNo) {
+      statusEventDispatcher.fetchEventsAsync(sequenceNo, Long.MAX_VALUE)
+          .completeOnTimeout(
+              new GetEventsResponseTO(),
+              EVENT_STREAM_KEEP_ALIVE_INTERVAL,
+              TimeUnit.MILLISECONDS
+          )
+          .whenComplete(
+              (result, exc) -> asyncContext.start(
+                  () -> send(sequenceNo, result == null ? new GetEventsResponseTO() : result)
+              )
+          );
+    }
+
+    private void send(long sequenceNo, GetEventsResponseTO events) {
+      long nextSequenceNo = sequenceNo;
+      StringBuilder content = new StringBuilder();
+      if (events.getStatusMessages().isEmpty()) {
+        content.append(": keep-alive\n\n");
+      }
+      for (StatusMessage message : events.getStatusMessages()) {
+        content.append("id: ").append(message.getSequenceNumber()).append('\n');
+        for (String line : jsonBinder.toJson(message).split("\\R")) {
+          content.append("data: ").append(line).append('\n');
+        }
+        content.append('\n');
+        nextSequenceNo = message.getSequenceNumber() + 1;
+      }
+
+      try {
+        write(asyncContext, content.toString());
+      }
+      catch (IOException | IllegalStateException exc) {
+        LOG.debug("Closing event stream, client probably disconnected.", exc);
+        asyncContext.complete();
+        return;
+      }
+
+      if (!statusEventDispatcher.isInitialized()) {
+        // The dispatcher was terminated, so there won't be any more events.
+        asyncContext.complete();
+        return;
+      }
+
+      fetchFrom(nextSequenceNo);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+
+/**
+ * A page of a collection of objects.
+ *
+ * @param <T> The objects' type.
+ * @see PageRequest
+ */
+public class Page<T> {
+
+  /**
+   * The objects in this page.
+   */
+  private final List<T> elements;
+  /**
+   * The cursor for the next page, or {@code null}, if this is the last page.
+   */
+  private final String nextCursor;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param elements The objects in this page.
+   * @param nextCursor The cursor for the next page, or {@code null}, if this is the last page.
+   */
+  public Page(
+      @Nonnull
+      List<T> elements,
+      @Nullable
+      String nextCursor
+  ) {
+    this.elements = requireNonNull(elements, "elements");
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * Returns the objects in this page.
+   *
+   * @return The objects in this page.
+   */
+  @Nonnull
+  public List<T> getElements() {
+    return elements;
+  }
+
+  /**
+   * Returns the cursor for the next page.
+   *
+   * @return The cursor for the next page, or {@code null}, if this is the last page.
+   */
+  @Nullable
+  public String getNextCursor() {
+    return nextCursor;
+  }
+}
@@ -0,0 +1,140 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.opentcs.data.TCSObject;
+
+/**
+ * A request for a page of a collection of objects, with the objects ordered by their names.
+ * <p>
+ * Pages are addressed by cursors. The cursor for the next page refers to the last object of the
+ * current page, so that retrieving the next page is not affected by objects being created or
+ * removed in the meantime.
+ * </p>
+ */
+public class PageRequest {
+
+  /**
+   * A request for all objects of a collection in a single page.
+   */
+  public static final PageRequest UNLIMITED = new PageRequest(null, Integer.MAX_VALUE);
+  /**
+   * The name of the last object of the previous page, or {@code null}, if the first page is
+   * requested.
+   */
+  private final String lastName;
+  /**
+   * The maximum number of objects in the page.
+   */
+  private final int limit;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param cursor The cursor of the requested page, or {@code null}, if the first page is
+   * requested.
+   * @param limit The maximum number of objects in the page.
+   * @throws IllegalArgumentException If the cursor is malformed or the limit is less than 1.
+   */
+  public PageRequest(
+      @Nullable
+      String cursor,
+      int limit
+  )
+      throws IllegalArgumentException {
+    this.lastName = cursor == null ? null : decode(cursor);
+    this.limit = checkInRange(limit, 1, Integer.MAX_VALUE, "limit");
+  }
+
+  /**
+   * Returns the maximum number of objects in the page.
+   *
+   * @return The maximum number of objects in the page.
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Checks whether the given object comes after the cursor.
+   * Can be used to filter the objects before selecting the page.
+   *
+   * @param object The object.
+   * @return {@code true} if, and only if, the given object comes after the cursor.
+   */
+  public boolean isAfterCursor(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    return lastName == null || object.getName().compareTo(lastName) > 0;
+  }
+
+  /**
+   * Selects the requested page from the given objects.
+   * <p>
+   * Only the objects of the page are kept in memory while selecting them, so the memory required
+   * does not depend on the number of the given objects.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param objects The objects.
+   * @return The requested page.
+   */
+  @Nonnull
+  public <T extends TCSObject<?>> Page<T> select(
+      @Nonnull
+      Collection<T> objects
+  ) {
+    requireNonNull(objects, "objects");
+
+    Comparator<T> byName = Comparator.comparing(TCSObject::getName);
+    // Keep the object following the page, too, to know whether there is a next page.
+    int capacity = limit == Integer.MAX_VALUE ? limit : limit + 1;
+    PriorityQueue<T> candidates = new PriorityQueue<>(byName.reversed());
+    for (T object : objects) {
+      if (isAfterCursor(object)) {
+        candidates.add(object);
+        if (candidates.size() > capacity) {
+          candidates.poll();
+        }
+      }
+    }
+
+    List<T> elements = new ArrayList<>(candidates);
+    elements.sort(byName);
+    if (elements.size() <= limit) {
+      return new Page<>(elements, null);
+    }
+
+    elements = elements.subList(0, limit);
+    return new Page<>(elements, encode(elements.get(limit - 1).getName()));
+  }
+
+  private static String encode(String name) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(name.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decode(String cursor)
+      throws IllegalArgumentException {
+    try {
+      return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+    catch (IllegalArgumentException exc) {
+      throw new IllegalArgumentException("Malformed cursor: " + cursor, exc);
+    }
+  }
+}
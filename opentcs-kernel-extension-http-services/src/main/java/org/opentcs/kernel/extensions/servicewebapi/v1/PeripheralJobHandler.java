@@ -22,6 +22,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.ReadEndpoint;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralJobResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 
@@ -131,7 +132,7 @@ public class PeripheralJobHandler {
       @Nullable
       String relatedTransportOrder
   ) {
-    return executorWrapper.callAndWait(() -> {
+    return executorWrapper.read(ReadEndpoint.PERIPHERAL_JOBS, () -> {
       // If a related vehicle is set, make sure it exists.
       TCSObjectReference<Vehicle> relatedVehicleRef
           = Optional.ofNullable(relatedVehicle)
@@ -178,7 +179,7 @@ public class PeripheralJobHandler {
   ) {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
+    return executorWrapper.read(ReadEndpoint.PERIPHERAL_JOBS, () -> {
       PeripheralJob job = jobService.fetchObject(PeripheralJob.class, name);
       if (job == null) {
         throw new ObjectUnknownException("Unknown peripheral job: " + name);
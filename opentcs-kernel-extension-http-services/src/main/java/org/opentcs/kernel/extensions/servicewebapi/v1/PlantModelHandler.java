@@ -16,6 +16,7 @@ import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.PlantModel;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.ReadEndpoint;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PlantModelTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTopologyUpdateRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.BlockConverter;
@@ -116,7 +117,10 @@ public class PlantModelHandler {
   }
 
   public PlantModelTO getPlantModel() {
-    PlantModel plantModel = plantModelService.getPlantModel();
+    PlantModel plantModel = executorWrapper.read(
+        ReadEndpoint.PLANT_MODEL,
+        () -> plantModelService.getPlantModel()
+    );
     return new PlantModelTO(plantModel.getName())
         .setPoints(pointConverter.toPointTOs(plantModel.getPoints()))
         .setPaths(pathConverter.toPathTOs(plantModel.getPaths()))
@@ -0,0 +1,44 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.EnumMap;
+import java.util.Map;
+import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper.ReadPath;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetReadLatenciesResponseTO;
+import org.opentcs.util.LatencyHistogram;
+
+/**
+ * Handles requests for statistics on the web API itself.
+ */
+public class StatisticsHandler {
+
+  private final KernelExecutorWrapper executorWrapper;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executorWrapper Executes calls via the kernel executor and records read latencies.
+   */
+  @Inject
+  public StatisticsHandler(KernelExecutorWrapper executorWrapper) {
+    this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
+  }
+
+  /**
+   * Returns the latencies of read requests, per path they took.
+   *
+   * @return The latencies of read requests.
+   */
+  public GetReadLatenciesResponseTO getReadLatencies() {
+    Map<ReadPath, LatencyHistogram.Snapshot> snapshots = new EnumMap<>(ReadPath.class);
+    for (ReadPath path : ReadPath.values()) {
+      snapshots.put(path, executorWrapper.getReadLatencies(path).getSnapshot());
+    }
+    return GetReadLatenciesResponseTO.fromSnapshots(snapshots);
+  }
+}
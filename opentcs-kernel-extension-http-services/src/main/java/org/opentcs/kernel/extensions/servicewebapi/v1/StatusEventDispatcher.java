@@ -6,15 +6,22 @@ import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelStateTransitionEvent;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
@@ -53,6 +60,16 @@ public class StatusEventDispatcher
    * The events collected.
    */
   private final SortedMap<Long, StatusMessage> events = new TreeMap<>();
+  /**
+   * The sequence numbers of the latest collected events for modified objects, mapped by the
+   * objects' references, in ascending order of the sequence numbers.
+   * Used for coalescing events for the same object.
+   */
+  private final Map<TCSObjectReference<?>, Long> latestModificationEvents = new LinkedHashMap<>();
+  /**
+   * Asynchronous fetches waiting for events to be collected.
+   */
+  private final List<PendingFetch> pendingFetches = new ArrayList<>();
   /**
    * The number of events collected so far.
    */
@@ -100,6 +117,14 @@ public class StatusEventDispatcher
 
     eventSource.unsubscribe(this);
 
+    // Let clients still waiting for events know that there won't be any.
+    List<PendingFetch> fetches;
+    synchronized (events) {
+      fetches = new ArrayList<>(pendingFetches);
+      pendingFetches.clear();
+    }
+    fetches.forEach(fetch -> fetch.future.complete(new GetEventsResponseTO()));
+
     initialized = false;
   }
 
@@ -150,6 +175,42 @@ public class StatusEventDispatcher
     return result;
   }
 
+  /**
+   * Provides a list of events within the given range as soon as there are any, without blocking
+   * the calling thread.
+   * <p>
+   * If there currently are events within the given range, the returned future is already
+   * completed. Otherwise, it is completed by the thread collecting the next event within the given
+   * range, so actions depending on the future should not block.
+   * Callers not interested in the events any more (e.g. after a timeout) should complete or cancel
+   * the future.
+   * </p>
+   *
+   * @param minSequenceNo The minimum sequence number for accepted events.
+   * @param maxSequenceNo The maximum sequence number for accepted events.
+   * @return A future for a list of events within the given range.
+   */
+  public CompletableFuture<GetEventsResponseTO> fetchEventsAsync(
+      long minSequenceNo,
+      long maxSequenceNo
+  )
+      throws IllegalArgumentException {
+    checkInRange(minSequenceNo, 0, Long.MAX_VALUE, "minSequenceNo");
+    checkInRange(maxSequenceNo, minSequenceNo, Long.MAX_VALUE, "maxSequenceNo");
+
+    synchronized (events) {
+      Collection<StatusMessage> messages = events.subMap(minSequenceNo, maxSequenceNo).values();
+      if (!messages.isEmpty()) {
+        return CompletableFuture.completedFuture(toResponse(messages));
+      }
+
+      pendingFetches.removeIf(fetch -> fetch.future.isDone());
+      PendingFetch fetch = new PendingFetch(minSequenceNo, maxSequenceNo);
+      pendingFetches.add(fetch);
+      return fetch.future;
+    }
+  }
+
   private void handleStateTransition(KernelStateTransitionEvent event) {
     boolean wasOn = eventCollectingOn;
     eventCollectingOn
@@ -160,36 +221,94 @@ public class StatusEventDispatcher
       synchronized (events) {
         eventCount = 0;
         events.clear();
+        latestModificationEvents.clear();
       }
     }
   }
 
   private void handleObjectEvent(TCSObjectEvent event) {
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
-    if (object instanceof TransportOrder) {
-      synchronized (events) {
+    if (!(object instanceof TransportOrder)
+        && !(object instanceof Vehicle)
+        && !(object instanceof PeripheralJob)) {
+      return;
+    }
+
+    Map<PendingFetch, GetEventsResponseTO> completableFetches;
+    synchronized (events) {
+      coalesceWithPreviousEvent(event, eventCount);
+      if (object instanceof TransportOrder) {
         addOrderStatusMessage((TransportOrder) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
       }
-    }
-    else if (object instanceof Vehicle) {
-      synchronized (events) {
+      else if (object instanceof Vehicle) {
         addVehicleStatusMessage((Vehicle) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
       }
-    }
-    else if (object instanceof PeripheralJob) {
-      synchronized (events) {
+      else {
         addPeripheralStatusMessage((PeripheralJob) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
       }
+      eventCount++;
+      cleanUpEvents();
+      events.notifyAll();
+      completableFetches = takeCompletableFetches();
     }
+
+    // Complete the fetches outside of the synchronized block, as completing them may trigger
+    // further actions.
+    completableFetches.forEach((fetch, response) -> fetch.future.complete(response));
+  }
+
+  /**
+   * Removes all pending fetches that are done or for which there are events now.
+   *
+   * @return The fetches for which there are events now, mapped to their responses.
+   */
+  private Map<PendingFetch, GetEventsResponseTO> takeCompletableFetches() {
+    Map<PendingFetch, GetEventsResponseTO> result = new LinkedHashMap<>();
+    for (Iterator<PendingFetch> iter = pendingFetches.iterator(); iter.hasNext();) {
+      PendingFetch fetch = iter.next();
+      if (fetch.future.isDone()) {
+        iter.remove();
+        continue;
+      }
+      Collection<StatusMessage> messages
+          = events.subMap(fetch.minSequenceNo, fetch.maxSequenceNo).values();
+      if (!messages.isEmpty()) {
+        iter.remove();
+        result.put(fetch, toResponse(messages));
+      }
+    }
+    return result;
+  }
+
+  private GetEventsResponseTO toResponse(Collection<StatusMessage> messages) {
+    GetEventsResponseTO result = new GetEventsResponseTO();
+    result.getStatusMessages().addAll(messages);
+    return result;
+  }
+
+  /**
+   * If coalescing is enabled and the given event is a modification event, discards the latest
+   * collected event for the same object, provided that one was a modification event, too.
+   *
+   * @param event The event for which a status message is about to be added.
+   * @param sequenceNumber The sequence number the status message will get.
+   */
+  private void coalesceWithPreviousEvent(TCSObjectEvent event, long sequenceNumber) {
+    if (!configuration.coalesceStatusEvents()) {
+      latestModificationEvents.clear();
+      return;
+    }
+
+    TCSObjectReference<?> ref = event.getCurrentOrPreviousObjectState().getReference();
+    Long previousSequenceNumber = latestModificationEvents.remove(ref);
+    if (event.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      return;
+    }
+
+    if (previousSequenceNumber != null) {
+      events.remove(previousSequenceNumber);
+    }
+    latestModificationEvents.put(ref, sequenceNumber);
   }
 
   private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
@@ -210,5 +329,26 @@ public class StatusEventDispatcher
     while (events.size() > maxEventCount) {
       events.remove(events.firstKey());
     }
+
+    // Forget about events that have been discarded.
+    Iterator<Long> iter = latestModificationEvents.values().iterator();
+    while (iter.hasNext() && !events.containsKey(iter.next())) {
+      iter.remove();
+    }
+  }
+
+  /**
+   * An asynchronous fetch waiting for events within a range of sequence numbers.
+   */
+  private static class PendingFetch {
+
+    private final long minSequenceNo;
+    private final long maxSequenceNo;
+    private final CompletableFuture<GetEventsResponseTO> future = new CompletableFuture<>();
+
+    PendingFetch(long minSequenceNo, long maxSequenceNo) {
+      this.minSequenceNo = minSequenceNo;
+      this.maxSequenceNo = maxSequenceNo;
+    }
   }
 }
@@ -5,13 +5,21 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.BatchItemResultTO;
 
 /**
  * Handles requests related to transport order dispatching.
@@ -80,6 +88,70 @@ public class TransportOrderDispatcherHandler {
     });
   }
 
+  /**
+   * Withdraws the transport orders with the given names in a single call to the kernel.
+   *
+   * @param names The names of the transport orders to be withdrawn.
+   * @param immediate Whether to withdraw the transport orders immediately.
+   * @param disableVehicle Whether to disable the vehicles processing the transport orders.
+   * @return The results of the withdrawals, in the order of the given names.
+   */
+  public List<BatchItemResultTO> withdrawByTransportOrders(
+      List<String> names,
+      boolean immediate,
+      boolean disableVehicle
+  ) {
+    requireNonNull(names, "names");
+
+    return executorWrapper.callAndWait(() -> {
+      List<TransportOrder> orders = names.stream()
+          .map(name -> vehicleService.fetchObject(TransportOrder.class, name))
+          .collect(Collectors.toList());
+
+      if (disableVehicle) {
+        orders.stream()
+            .filter(order -> order != null && order.getProcessingVehicle() != null)
+            .forEach(
+                order -> vehicleService.updateVehicleIntegrationLevel(
+                    order.getProcessingVehicle(),
+                    Vehicle.IntegrationLevel.TO_BE_RESPECTED
+                )
+            );
+      }
+
+      Iterator<BatchItemResult<TCSObjectReference<TransportOrder>>> withdrawals
+          = dispatcherService.withdrawByTransportOrders(
+              orders.stream()
+                  .filter(Objects::nonNull)
+                  .map(TransportOrder::getReference)
+                  .collect(Collectors.toList()),
+              immediate
+          ).iterator();
+
+      List<BatchItemResultTO> result = new ArrayList<>(names.size());
+      for (int i = 0; i < names.size(); i++) {
+        if (orders.get(i) == null) {
+          result.add(
+              new BatchItemResultTO()
+                  .setName(names.get(i))
+                  .setSuccessful(false)
+                  .setError("Unknown transport order: " + names.get(i))
+          );
+        }
+        else {
+          BatchItemResult<TCSObjectReference<TransportOrder>> withdrawal = withdrawals.next();
+          result.add(
+              new BatchItemResultTO()
+                  .setName(names.get(i))
+                  .setSuccessful(withdrawal.isSuccessful())
+                  .setError(withdrawal.getErrorMessage())
+          );
+        }
+      }
+      return result;
+    });
+  }
+
   public void withdrawByVehicle(String name, boolean immediate, boolean disableVehicle)
       throws ObjectUnknownException {
     requireNonNull(name, "name");
@@ -20,20 +20,29 @@ import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.BatchItemResult;
+import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.ReadEndpoint;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedOrderSequence;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedTransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.BatchItemResultTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 
 /**
@@ -42,20 +51,25 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 public class TransportOrderHandler {
 
   private final TransportOrderService orderService;
+  private final DispatcherService dispatcherService;
   private final KernelExecutorWrapper executorWrapper;
 
   /**
    * Creates a new instance.
    *
    * @param orderService The service we use to get the transport orders.
+   * @param dispatcherService Used to trigger dispatching after creating batches of transport
+   * orders.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
    */
   @Inject
   public TransportOrderHandler(
       TransportOrderService orderService,
+      DispatcherService dispatcherService,
       KernelExecutorWrapper executorWrapper
   ) {
     this.orderService = requireNonNull(orderService, "orderService");
+    this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
   }
 
@@ -67,23 +81,54 @@ public class TransportOrderHandler {
     requireNonNull(name, "name");
     requireNonNull(order, "order");
 
-    TransportOrderCreationTO to
-        = new TransportOrderCreationTO(name, destinations(order))
-            .withIncompleteName(order.isIncompleteName())
-            .withDispensable(order.isDispensable())
-            .withIntendedVehicleName(order.getIntendedVehicle())
-            .withDependencyNames(dependencyNames(order.getDependencies()))
-            .withDeadline(deadline(order))
-            .withPeripheralReservationToken(order.getPeripheralReservationToken())
-            .withWrappingSequence(order.getWrappingSequence())
-            .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
-            .withProperties(properties(order.getProperties()));
+    TransportOrderCreationTO to = transportOrderCreationTO(name, order);
 
     return executorWrapper.callAndWait(() -> {
       return orderService.createTransportOrder(to);
     });
   }
 
+  /**
+   * Creates the given order sequences and transport orders in a single call to the kernel.
+   * The order sequences are created first, so transport orders may refer to them as their wrapping
+   * sequences.
+   * If any transport order was created, a single dispatch run is triggered for all of them.
+   *
+   * @param batch The order sequences and transport orders to be created.
+   * @return The results of the creations.
+   */
+  public PostTransportOrdersResponseTO createOrders(PostTransportOrdersRequestTO batch) {
+    requireNonNull(batch, "batch");
+
+    List<String> sequenceNames = batch.getOrderSequences().stream()
+        .map(NamedOrderSequence::getName)
+        .collect(Collectors.toList());
+    List<OrderSequenceCreationTO> sequenceTos = batch.getOrderSequences().stream()
+        .map(sequence -> orderSequenceCreationTO(sequence.getName(), sequence))
+        .collect(Collectors.toList());
+    List<String> orderNames = batch.getTransportOrders().stream()
+        .map(NamedTransportOrder::getName)
+        .collect(Collectors.toList());
+    List<TransportOrderCreationTO> orderTos = batch.getTransportOrders().stream()
+        .map(order -> transportOrderCreationTO(order.getName(), order))
+        .collect(Collectors.toList());
+
+    return executorWrapper.callAndWait(() -> {
+      List<BatchItemResult<OrderSequence>> sequenceResults
+          = orderService.createOrderSequences(sequenceTos);
+      List<BatchItemResult<TransportOrder>> orderResults
+          = orderService.createTransportOrders(orderTos);
+
+      if (orderResults.stream().anyMatch(BatchItemResult::isSuccessful)) {
+        dispatcherService.dispatch();
+      }
+
+      return new PostTransportOrdersResponseTO()
+          .setOrderSequences(batchItemResults(sequenceNames, sequenceResults))
+          .setTransportOrders(batchItemResults(orderNames, orderResults));
+    });
+  }
+
   public void updateTransportOrderIntendedVehicle(
       String orderName,
       @Nullable
@@ -124,7 +169,28 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
+    return getTransportOrders(intendedVehicle, PageRequest.UNLIMITED).getElements().stream()
+        .map(GetTransportOrderResponseTO::fromTransportOrder)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Finds a page of the transport orders that match the given filter parameters.
+   *
+   * @param intendedVehicle The filter parameter for the name of the
+   * intended vehicle for the transport order. The filtering is disabled for this parameter if the
+   * value is null.
+   * @param pageRequest The requested page.
+   * @return The requested page of the transport orders that match the filter, ordered by name.
+   */
+  public Page<TransportOrder> getTransportOrders(
+      @Nullable
+      String intendedVehicle,
+      PageRequest pageRequest
+  ) {
+    requireNonNull(pageRequest, "pageRequest");
+
+    return executorWrapper.read(ReadEndpoint.TRANSPORT_ORDERS, () -> {
       TCSObjectReference<Vehicle> intendedVehicleRef
           = Optional.ofNullable(intendedVehicle)
               .map(name -> orderService.fetchObject(Vehicle.class, name))
@@ -135,14 +201,13 @@ public class TransportOrderHandler {
         throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
       }
 
-      return orderService.fetchObjects(
-          TransportOrder.class,
-          Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
-          .map(GetTransportOrderResponseTO::fromTransportOrder)
-          .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
-          .collect(Collectors.toList());
+      return pageRequest.select(
+          orderService.fetchObjects(
+              TransportOrder.class,
+              Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
+                  .and(pageRequest::isAfterCursor)
+          )
+      );
     });
   }
 
@@ -157,7 +222,7 @@ public class TransportOrderHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
+    return executorWrapper.read(ReadEndpoint.TRANSPORT_ORDERS, () -> {
       return Optional.ofNullable(orderService.fetchObject(TransportOrder.class, name))
           .map(GetTransportOrderResponseTO::fromTransportOrder)
           .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
@@ -172,12 +237,7 @@ public class TransportOrderHandler {
     requireNonNull(name, "name");
     requireNonNull(sequence, "sequence");
 
-    OrderSequenceCreationTO to = new OrderSequenceCreationTO(name)
-        .withFailureFatal(sequence.isFailureFatal())
-        .withIncompleteName(sequence.isIncompleteName())
-        .withIntendedVehicleName(sequence.getIntendedVehicle())
-        .withProperties(properties(sequence.getProperties()))
-        .withType(sequence.getType());
+    OrderSequenceCreationTO to = orderSequenceCreationTO(name, sequence);
 
     return executorWrapper.callAndWait(() -> {
       return orderService.createOrderSequence(to);
@@ -202,7 +262,7 @@ public class TransportOrderHandler {
       @Nullable
       String intendedVehicle
   ) {
-    return executorWrapper.callAndWait(() -> {
+    return executorWrapper.read(ReadEndpoint.ORDER_SEQUENCES, () -> {
       TCSObjectReference<Vehicle> intendedVehicleRef
           = Optional.ofNullable(intendedVehicle)
               .map(name -> orderService.fetchObject(Vehicle.class, name))
@@ -228,13 +288,62 @@ public class TransportOrderHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
+    return executorWrapper.read(ReadEndpoint.ORDER_SEQUENCES, () -> {
       return Optional.ofNullable(orderService.fetchObject(OrderSequence.class, name))
           .map(GetOrderSequenceResponseTO::fromOrderSequence)
           .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
     });
   }
 
+  private TransportOrderCreationTO transportOrderCreationTO(
+      String name,
+      PostTransportOrderRequestTO order
+  ) {
+    return new TransportOrderCreationTO(name, destinations(order))
+        .withIncompleteName(order.isIncompleteName())
+        .withDispensable(order.isDispensable())
+        .withIntendedVehicleName(order.getIntendedVehicle())
+        .withDependencyNames(dependencyNames(order.getDependencies()))
+        .withDeadline(deadline(order))
+        .withPeripheralReservationToken(order.getPeripheralReservationToken())
+        .withWrappingSequence(order.getWrappingSequence())
+        .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
+        .withProperties(properties(order.getProperties()));
+  }
+
+  private OrderSequenceCreationTO orderSequenceCreationTO(
+      String name,
+      PostOrderSequenceRequestTO sequence
+  ) {
+    return new OrderSequenceCreationTO(name)
+        .withFailureFatal(sequence.isFailureFatal())
+        .withIncompleteName(sequence.isIncompleteName())
+        .withIntendedVehicleName(sequence.getIntendedVehicle())
+        .withProperties(properties(sequence.getProperties()))
+        .withType(sequence.getType());
+  }
+
+  private <T extends TCSObject<T>> List<BatchItemResultTO> batchItemResults(
+      List<String> requestedNames,
+      List<BatchItemResult<T>> results
+  ) {
+    List<BatchItemResultTO> result = new ArrayList<>(results.size());
+    for (int i = 0; i < results.size(); i++) {
+      BatchItemResult<T> itemResult = results.get(i);
+      result.add(
+          new BatchItemResultTO()
+              .setName(
+                  itemResult.isSuccessful()
+                      ? itemResult.getResult().getName()
+                      : requestedNames.get(i)
+              )
+              .setSuccessful(itemResult.isSuccessful())
+              .setError(itemResult.getErrorMessage())
+      );
+    }
+    return result;
+  }
+
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
     List<DestinationCreationTO> result = new ArrayList<>(order.getDestinations().size());
 
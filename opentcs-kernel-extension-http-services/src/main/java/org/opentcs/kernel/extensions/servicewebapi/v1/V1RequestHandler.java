@@ -5,8 +5,13 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
@@ -18,11 +23,14 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralAttac
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralJobResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleAttachmentInfoResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PlantModelTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTopologyUpdateRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersWithdrawalRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleAllowedOrderTypesTO;
@@ -39,8 +47,13 @@ public class V1RequestHandler
     implements
       RequestHandler {
 
+  /**
+   * The response header providing the cursor for the next page of a collection.
+   */
+  private static final String HEADER_NEXT_CURSOR = "Next-Cursor";
   private final JsonBinder jsonBinder;
   private final StatusEventDispatcher statusEventDispatcher;
+  private final AsyncStatusEventHandler statusEventHandler;
   private final TransportOrderDispatcherHandler orderDispatcherHandler;
   private final TransportOrderHandler transportOrderHandler;
   private final PeripheralJobHandler peripheralJobHandler;
@@ -50,6 +63,7 @@ public class V1RequestHandler
   private final PathHandler pathHandler;
   private final LocationHandler locationHandler;
   private final PeripheralHandler peripheralHandler;
+  private final StatisticsHandler statisticsHandler;
 
   private boolean initialized;
 
@@ -57,6 +71,7 @@ public class V1RequestHandler
   public V1RequestHandler(
       JsonBinder jsonBinder,
       StatusEventDispatcher statusEventDispatcher,
+      AsyncStatusEventHandler statusEventHandler,
       TransportOrderDispatcherHandler orderDispatcherHandler,
       TransportOrderHandler transportOrderHandler,
       PeripheralJobHandler peripheralJobHandler,
@@ -65,10 +80,12 @@ public class V1RequestHandler
       VehicleHandler vehicleHandler,
       PathHandler pathHandler,
       LocationHandler locationHandler,
-      PeripheralHandler peripheralHandler
+      PeripheralHandler peripheralHandler,
+      StatisticsHandler statisticsHandler
   ) {
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
     this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
+    this.statusEventHandler = requireNonNull(statusEventHandler, "statusEventHandler");
     this.orderDispatcherHandler = requireNonNull(orderDispatcherHandler, "orderDispatcherHandler");
     this.transportOrderHandler = requireNonNull(transportOrderHandler, "transportOrderHandler");
     this.peripheralJobHandler = requireNonNull(peripheralJobHandler, "peripheralJobHandler");
@@ -78,6 +95,7 @@ public class V1RequestHandler
     this.pathHandler = requireNonNull(pathHandler, "pathHandler");
     this.locationHandler = requireNonNull(locationHandler, "locationHandler");
     this.peripheralHandler = requireNonNull(peripheralHandler, "peripheralHandler");
+    this.statisticsHandler = requireNonNull(statisticsHandler, "statisticsHandler");
   }
 
   @Override
@@ -115,6 +133,10 @@ public class V1RequestHandler
         "/events",
         this::handleGetEvents
     );
+    service.get(
+        "/events/stream",
+        this::handleGetEventStream
+    );
     service.post(
         "/vehicles/dispatcher/trigger",
         this::handlePostDispatcherTrigger
@@ -175,6 +197,10 @@ public class V1RequestHandler
         "/transportOrders/dispatcher/trigger",
         this::handlePostDispatcherTrigger
     );
+    service.post(
+        "/transportOrders/dispatcher/withdrawal",
+        this::handlePostWithdrawalByOrders
+    );
     service.post(
         "/transportOrders/:NAME/immediateAssignment",
         this::handlePostImmediateAssignment
@@ -187,6 +213,10 @@ public class V1RequestHandler
         "/transportOrders/:NAME",
         this::handlePostTransportOrder
     );
+    service.post(
+        "/transportOrders",
+        this::handlePostTransportOrders
+    );
     service.put(
         "/transportOrders/:NAME/intendedVehicle",
         this::handlePutTransportOrderIntendedVehicle
@@ -279,6 +309,10 @@ public class V1RequestHandler
         "/peripheralJobs/dispatcher/trigger",
         this::handlePostPeripheralJobsDispatchTrigger
     );
+    service.get(
+        "/statistics/readLatencies",
+        this::handleGetReadLatencies
+    );
   }
 
   private Object handlePostDispatcherTrigger(Request request, Response response)
@@ -291,16 +325,21 @@ public class V1RequestHandler
   private Object handleGetEvents(Request request, Response response)
       throws IllegalArgumentException,
         IllegalStateException {
-    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(
-        statusEventDispatcher.fetchEvents(
-            minSequenceNo(request),
-            maxSequenceNo(request),
-            timeout(request)
-        )
+    return statusEventHandler.handleGetEvents(
+        request,
+        response,
+        minSequenceNo(request),
+        maxSequenceNo(request),
+        timeout(request)
     );
   }
 
+  private Object handleGetEventStream(Request request, Response response)
+      throws IllegalArgumentException,
+        IllegalStateException {
+    return statusEventHandler.handleGetEventStream(request, response, minSequenceNo(request));
+  }
+
   private Object handlePutVehicleCommAdapterEnabled(Request request, Response response)
       throws ObjectUnknownException,
         IllegalArgumentException {
@@ -366,6 +405,17 @@ public class V1RequestHandler
     );
   }
 
+  private Object handlePostTransportOrders(Request request, Response response)
+      throws IllegalArgumentException,
+        IllegalStateException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return jsonBinder.toJson(
+        transportOrderHandler.createOrders(
+            jsonBinder.fromJson(request.body(), PostTransportOrdersRequestTO.class)
+        )
+    );
+  }
+
   private Object handlePutTransportOrderIntendedVehicle(Request request, Response response)
       throws ObjectUnknownException {
     transportOrderHandler.updateTransportOrderIntendedVehicle(
@@ -436,6 +486,19 @@ public class V1RequestHandler
     return "";
   }
 
+  private Object handlePostWithdrawalByOrders(Request request, Response response)
+      throws IllegalArgumentException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return jsonBinder.toJson(
+        orderDispatcherHandler.withdrawByTransportOrders(
+            jsonBinder.fromJson(request.body(), PostTransportOrdersWithdrawalRequestTO.class)
+                .getTransportOrders(),
+            immediate(request),
+            disableVehicle(request)
+        )
+    );
+  }
+
   private Object handlePostWithdrawalByVehicle(Request request, Response response)
       throws ObjectUnknownException {
     orderDispatcherHandler.withdrawByVehicle(
@@ -461,12 +524,17 @@ public class V1RequestHandler
     return "";
   }
 
-  private Object handleGetTransportOrders(Request request, Response response) {
-    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(
+  private Object handleGetTransportOrders(Request request, Response response)
+      throws IllegalArgumentException,
+        IllegalStateException {
+    return writeJsonArray(
+        response,
         transportOrderHandler.getTransportOrders(
-            valueIfKeyPresent(request.queryMap(), "intendedVehicle")
-        )
+            valueIfKeyPresent(request.queryMap(), "intendedVehicle"),
+            pageRequest(request)
+        ),
+        GetTransportOrderResponseTO::fromTransportOrder,
+        fields(request)
     );
   }
 
@@ -483,6 +551,11 @@ public class V1RequestHandler
     return jsonBinder.toJson(plantModelHandler.getPlantModel());
   }
 
+  private Object handleGetReadLatencies(Request request, Response response) {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    return jsonBinder.toJson(statisticsHandler.getReadLatencies());
+  }
+
   private Object handlePostUpdateTopology(Request request, Response response)
       throws ObjectUnknownException,
         KernelRuntimeException {
@@ -525,15 +598,19 @@ public class V1RequestHandler
   }
 
   private Object handleGetVehicles(Request request, Response response)
-      throws IllegalArgumentException {
-    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    return jsonBinder.toJson(
+      throws IllegalArgumentException,
+        IllegalStateException {
+    return writeJsonArray(
+        response,
         vehicleHandler.getVehiclesState(
             valueIfKeyPresent(
                 request.queryMap(),
                 "procState"
-            )
-        )
+            ),
+            pageRequest(request)
+        ),
+        GetVehicleResponseTO::fromVehicle,
+        fields(request)
     );
   }
 
@@ -677,6 +754,59 @@ public class V1RequestHandler
     return "";
   }
 
+  /**
+   * Writes the given page's elements as a JSON array directly to the response's output stream.
+   * If there is a next page, its cursor is provided via the {@code Next-Cursor} header.
+   */
+  private <T> Object writeJsonArray(
+      Response response,
+      Page<T> page,
+      Function<T, ?> mapper,
+      Set<String> fields
+  )
+      throws IllegalStateException {
+    response.type(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    if (page.getNextCursor() != null) {
+      response.header(HEADER_NEXT_CURSOR, page.getNextCursor());
+    }
+
+    try {
+      jsonBinder.writeJsonArray(
+          response.raw().getOutputStream(),
+          page.getElements().stream().map(mapper).iterator(),
+          fields
+      );
+      // Commit the response, so the (empty) return value is not written to it.
+      response.raw().flushBuffer();
+    }
+    catch (IOException exc) {
+      throw new IllegalStateException("Could not write response", exc);
+    }
+    return "";
+  }
+
+  private PageRequest pageRequest(Request request)
+      throws IllegalArgumentException {
+    String param = request.queryParamOrDefault("limit", String.valueOf(Integer.MAX_VALUE));
+    try {
+      return new PageRequest(request.queryParams("cursor"), Integer.parseInt(param));
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed limit: " + param);
+    }
+  }
+
+  private Set<String> fields(Request request) {
+    String param = request.queryParams("fields");
+    if (param == null) {
+      return Set.of();
+    }
+    return Arrays.stream(param.split(","))
+        .map(String::trim)
+        .filter(field -> !field.isEmpty())
+        .collect(Collectors.toSet());
+  }
+
   private String valueIfKeyPresent(QueryParamsMap queryParams, String key) {
     if (queryParams.hasKey(key)) {
       return queryParams.value(key);
@@ -712,7 +842,7 @@ public class V1RequestHandler
       throws IllegalArgumentException {
     String param = request.queryParamOrDefault("timeout", "1000");
     try {
-      // Allow a maximum timeout of 10 seconds so server threads are only bound for a limited time.
+      // Allow a maximum timeout of 10 seconds so requests are only kept pending for a limited time.
       return Math.min(10000, Long.parseLong(param));
     }
     catch (NumberFormatException exc) {
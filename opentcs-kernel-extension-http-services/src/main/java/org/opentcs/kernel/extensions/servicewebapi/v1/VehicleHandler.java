@@ -6,7 +6,6 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +26,7 @@ import org.opentcs.data.order.Route;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterDescription;
 import org.opentcs.drivers.vehicle.management.VehicleAttachmentInformation;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.ReadEndpoint;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleAllowedOrderTypesTO;
@@ -72,16 +72,39 @@ public class VehicleHandler {
       String procStateName
   )
       throws IllegalArgumentException {
-    return executorWrapper.callAndWait(() -> {
+    return getVehiclesState(procStateName, PageRequest.UNLIMITED).getElements().stream()
+        .map(GetVehicleResponseTO::fromVehicle)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Finds a page of the vehicles that match the given filter parameters.
+   *
+   * @param procStateName The filter parameter for the processing state of the vehicle.
+   * The filtering is disabled for this parameter if the value is null.
+   * @param pageRequest The requested page.
+   * @return The requested page of the vehicles that match the filter, ordered by name.
+   * @throws IllegalArgumentException If procStateName could not be parsed.
+   */
+  public Page<Vehicle> getVehiclesState(
+      @Nullable
+      String procStateName,
+      PageRequest pageRequest
+  )
+      throws IllegalArgumentException {
+    requireNonNull(pageRequest, "pageRequest");
+
+    return executorWrapper.read(ReadEndpoint.VEHICLES, () -> {
       Vehicle.ProcState pState = procStateName == null
           ? null
           : Vehicle.ProcState.valueOf(procStateName);
 
-      return vehicleService.fetchObjects(Vehicle.class, Filters.vehicleWithProcState(pState))
-          .stream()
-          .map(GetVehicleResponseTO::fromVehicle)
-          .sorted(Comparator.comparing(GetVehicleResponseTO::getName))
-          .collect(Collectors.toList());
+      return pageRequest.select(
+          vehicleService.fetchObjects(
+              Vehicle.class,
+              Filters.vehicleWithProcState(pState).and(pageRequest::isAfterCursor)
+          )
+      );
     });
   }
 
@@ -96,7 +119,7 @@ public class VehicleHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
+    return executorWrapper.read(ReadEndpoint.VEHICLES, () -> {
       return Optional.ofNullable(vehicleService.fetchObject(Vehicle.class, name))
           .map(GetVehicleResponseTO::fromVehicle)
           .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper.ReadPath;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getreadlatencies.ReadPathLatenciesTO;
+import org.opentcs.util.LatencyHistogram;
+
+/**
+ * The latencies of read requests, per path they took.
+ */
+public class GetReadLatenciesResponseTO {
+
+  private List<ReadPathLatenciesTO> readPaths = List.of();
+
+  public GetReadLatenciesResponseTO() {
+  }
+
+  @Nonnull
+  public List<ReadPathLatenciesTO> getReadPaths() {
+    return readPaths;
+  }
+
+  public GetReadLatenciesResponseTO setReadPaths(
+      @Nonnull
+      List<ReadPathLatenciesTO> readPaths
+  ) {
+    this.readPaths = requireNonNull(readPaths, "readPaths");
+    return this;
+  }
+
+  public static GetReadLatenciesResponseTO fromSnapshots(
+      Map<ReadPath, LatencyHistogram.Snapshot> snapshots
+  ) {
+    return new GetReadLatenciesResponseTO()
+        .setReadPaths(
+            snapshots.entrySet().stream()
+                .map(entry -> toReadPathLatenciesTO(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList())
+        );
+  }
+
+  private static ReadPathLatenciesTO toReadPathLatenciesTO(
+      ReadPath path,
+      LatencyHistogram.Snapshot snapshot
+  ) {
+    return new ReadPathLatenciesTO()
+        .setReadPath(path.name())
+        .setCount(snapshot.getCount())
+        .setMean(snapshot.getMeanMicros())
+        .setMax(snapshot.getMaxMicros())
+        .setP50(snapshot.getPercentileMicros(50.0))
+        .setP90(snapshot.getPercentileMicros(90.0))
+        .setP99(snapshot.getPercentileMicros(99.0))
+        .setP999(snapshot.getPercentileMicros(99.9))
+        .setBuckets(toBuckets(snapshot));
+  }
+
+  private static List<ReadPathLatenciesTO.Bucket> toBuckets(LatencyHistogram.Snapshot snapshot) {
+    // Omit the leading and trailing empty buckets.
+    int first = 0;
+    while (first < LatencyHistogram.BUCKET_COUNT && snapshot.getBucketCount(first) == 0) {
+      first++;
+    }
+    int last = LatencyHistogram.BUCKET_COUNT - 1;
+    while (last > first && snapshot.getBucketCount(last) == 0) {
+      last--;
+    }
+
+    List<ReadPathLatenciesTO.Bucket> result = new ArrayList<>();
+    for (int i = first; i <= last && i < LatencyHistogram.BUCKET_COUNT; i++) {
+      result.add(
+          new ReadPathLatenciesTO.Bucket()
+              .setUpperBound(
+                  i == LatencyHistogram.BUCKET_COUNT - 1
+                      ? null
+                      : LatencyHistogram.bucketUpperBound(i)
+              )
+              .setCount(snapshot.getBucketCount(i))
+      );
+    }
+    return result;
+  }
+}
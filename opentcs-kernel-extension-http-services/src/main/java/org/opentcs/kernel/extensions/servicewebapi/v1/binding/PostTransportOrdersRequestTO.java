@@ -0,0 +1,51 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedOrderSequence;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedTransportOrder;
+
+/**
+ * A batch of order sequences and transport orders to be created by the kernel.
+ */
+public class PostTransportOrdersRequestTO {
+
+  @Nonnull
+  private List<NamedOrderSequence> orderSequences = List.of();
+
+  @Nonnull
+  private List<NamedTransportOrder> transportOrders = List.of();
+
+  public PostTransportOrdersRequestTO() {
+  }
+
+  @Nonnull
+  public List<NamedOrderSequence> getOrderSequences() {
+    return orderSequences;
+  }
+
+  public PostTransportOrdersRequestTO setOrderSequences(
+      @Nonnull
+      List<NamedOrderSequence> orderSequences
+  ) {
+    this.orderSequences = requireNonNull(orderSequences, "orderSequences");
+    return this;
+  }
+
+  @Nonnull
+  public List<NamedTransportOrder> getTransportOrders() {
+    return transportOrders;
+  }
+
+  public PostTransportOrdersRequestTO setTransportOrders(
+      @Nonnull
+      List<NamedTransportOrder> transportOrders
+  ) {
+    this.transportOrders = requireNonNull(transportOrders, "transportOrders");
+    return this;
+  }
+}
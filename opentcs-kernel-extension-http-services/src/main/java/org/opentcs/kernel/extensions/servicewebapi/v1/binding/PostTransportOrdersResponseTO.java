@@ -0,0 +1,51 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.BatchItemResultTO;
+
+/**
+ * The results of creating a batch of order sequences and transport orders, in the order of the
+ * request.
+ */
+public class PostTransportOrdersResponseTO {
+
+  @Nonnull
+  private List<BatchItemResultTO> orderSequences = List.of();
+
+  @Nonnull
+  private List<BatchItemResultTO> transportOrders = List.of();
+
+  public PostTransportOrdersResponseTO() {
+  }
+
+  @Nonnull
+  public List<BatchItemResultTO> getOrderSequences() {
+    return orderSequences;
+  }
+
+  public PostTransportOrdersResponseTO setOrderSequences(
+      @Nonnull
+      List<BatchItemResultTO> orderSequences
+  ) {
+    this.orderSequences = requireNonNull(orderSequences, "orderSequences");
+    return this;
+  }
+
+  @Nonnull
+  public List<BatchItemResultTO> getTransportOrders() {
+    return transportOrders;
+  }
+
+  public PostTransportOrdersResponseTO setTransportOrders(
+      @Nonnull
+      List<BatchItemResultTO> transportOrders
+  ) {
+    this.transportOrders = requireNonNull(transportOrders, "transportOrders");
+    return this;
+  }
+}
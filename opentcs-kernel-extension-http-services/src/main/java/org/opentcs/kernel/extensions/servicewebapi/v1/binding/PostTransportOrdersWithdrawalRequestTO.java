@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * A batch of transport orders to be withdrawn.
+ */
+public class PostTransportOrdersWithdrawalRequestTO {
+
+  @Nonnull
+  private List<String> transportOrders;
+
+  @JsonCreator
+  public PostTransportOrdersWithdrawalRequestTO(
+      @Nonnull
+      @JsonProperty(value = "transportOrders", required = true)
+      List<String> transportOrders
+  ) {
+    this.transportOrders = requireNonNull(transportOrders, "transportOrders");
+  }
+
+  @Nonnull
+  public List<String> getTransportOrders() {
+    return transportOrders;
+  }
+
+  public PostTransportOrdersWithdrawalRequestTO setTransportOrders(
+      @Nonnull
+      List<String> transportOrders
+  ) {
+    this.transportOrders = requireNonNull(transportOrders, "transportOrders");
+    return this;
+  }
+}
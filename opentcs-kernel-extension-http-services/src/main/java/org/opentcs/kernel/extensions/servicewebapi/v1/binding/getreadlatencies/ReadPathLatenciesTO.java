@@ -0,0 +1,158 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.getreadlatencies;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+
+/**
+ * The latencies of the read requests that took a specific path.
+ * All latencies are given in microseconds.
+ */
+public class ReadPathLatenciesTO {
+
+  private String readPath = "";
+  private long count;
+  private long mean;
+  private long max;
+  private long p50;
+  private long p90;
+  private long p99;
+  private long p999;
+  private List<Bucket> buckets = List.of();
+
+  public ReadPathLatenciesTO() {
+  }
+
+  @Nonnull
+  public String getReadPath() {
+    return readPath;
+  }
+
+  public ReadPathLatenciesTO setReadPath(
+      @Nonnull
+      String readPath
+  ) {
+    this.readPath = requireNonNull(readPath, "readPath");
+    return this;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public ReadPathLatenciesTO setCount(long count) {
+    this.count = count;
+    return this;
+  }
+
+  public long getMean() {
+    return mean;
+  }
+
+  public ReadPathLatenciesTO setMean(long mean) {
+    this.mean = mean;
+    return this;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public ReadPathLatenciesTO setMax(long max) {
+    this.max = max;
+    return this;
+  }
+
+  public long getP50() {
+    return p50;
+  }
+
+  public ReadPathLatenciesTO setP50(long p50) {
+    this.p50 = p50;
+    return this;
+  }
+
+  public long getP90() {
+    return p90;
+  }
+
+  public ReadPathLatenciesTO setP90(long p90) {
+    this.p90 = p90;
+    return this;
+  }
+
+  public long getP99() {
+    return p99;
+  }
+
+  public ReadPathLatenciesTO setP99(long p99) {
+    this.p99 = p99;
+    return this;
+  }
+
+  public long getP999() {
+    return p999;
+  }
+
+  public ReadPathLatenciesTO setP999(long p999) {
+    this.p999 = p999;
+    return this;
+  }
+
+  @Nonnull
+  public List<Bucket> getBuckets() {
+    return buckets;
+  }
+
+  public ReadPathLatenciesTO setBuckets(
+      @Nonnull
+      List<Bucket> buckets
+  ) {
+    this.buckets = requireNonNull(buckets, "buckets");
+    return this;
+  }
+
+  /**
+   * A histogram bucket, counting latencies below its upper bound and at least as high as the
+   * previous bucket's upper bound.
+   */
+  public static class Bucket {
+
+    private Long upperBound;
+    private long count;
+
+    public Bucket() {
+    }
+
+    /**
+     * Returns the bucket's (exclusive) upper bound.
+     *
+     * @return The bucket's upper bound, or {@code null}, if the bucket is unbounded.
+     */
+    @Nullable
+    public Long getUpperBound() {
+      return upperBound;
+    }
+
+    public Bucket setUpperBound(
+        @Nullable
+        Long upperBound
+    ) {
+      this.upperBound = upperBound;
+      return this;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public Bucket setCount(long count) {
+      this.count = count;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
+
+/**
+ * An order sequence to be created by the kernel as part of a batch.
+ */
+public class NamedOrderSequence
+    extends
+      PostOrderSequenceRequestTO {
+
+  @Nonnull
+  private String name;
+
+  @JsonCreator
+  public NamedOrderSequence(
+      @Nonnull
+      @JsonProperty(value = "name", required = true)
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+  }
+
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public NamedOrderSequence setName(
+      @Nonnull
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+}
@@ -0,0 +1,90 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.List;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
+
+/**
+ * A transport order to be created by the kernel as part of a batch.
+ */
+public class NamedTransportOrder
+    extends
+      PostTransportOrderRequestTO {
+
+  @Nonnull
+  private String name;
+
+  // CHECKSTYLE:OFF (because of very long parameter declarations)
+  @JsonCreator
+  public NamedTransportOrder(
+      @Nonnull
+      @JsonProperty(required = true, value = "name")
+      String name,
+      @JsonProperty(required = false, value = "incompleteName")
+      boolean incompleteName,
+      @JsonProperty(required = false, value = "dispensable")
+      boolean dispensable,
+      @Nullable
+      @JsonProperty(required = false, value = "deadline")
+      Instant deadline,
+      @Nullable
+      @JsonProperty(required = false, value = "intendedVehicle")
+      String intendedVehicle,
+      @Nullable
+      @JsonProperty(required = false, value = "peripheralReservationToken")
+      String peripheralReservationToken,
+      @Nullable
+      @JsonProperty(required = false, value = "wrappingSequence")
+      String wrappingSequence,
+      @Nullable
+      @JsonProperty(required = false, value = "type")
+      String type,
+      @Nonnull
+      @JsonProperty(required = true, value = "destinations")
+      List<Destination> destinations,
+      @Nullable
+      @JsonProperty(required = false, value = "properties")
+      List<Property> properties,
+      @Nullable
+      @JsonProperty(required = false, value = "dependencies")
+      List<String> dependencies
+  ) {
+    super(
+        incompleteName,
+        dispensable,
+        deadline,
+        intendedVehicle,
+        peripheralReservationToken,
+        wrappingSequence,
+        type,
+        destinations,
+        properties,
+        dependencies
+    );
+    this.name = requireNonNull(name, "name");
+  }
+  // CHECKSTYLE:ON
+
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public NamedTransportOrder setName(
+      @Nonnull
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+}
@@ -0,0 +1,67 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * The result of an operation on a single item of a batch.
+ */
+public class BatchItemResultTO {
+
+  @Nonnull
+  private String name = "";
+
+  private boolean successful;
+
+  @Nullable
+  private String error;
+
+  public BatchItemResultTO() {
+  }
+
+  /**
+   * Returns the name of the object the operation was performed on.
+   * For a successful creation of an object, this is the name of the created object, which may
+   * differ from the requested one if the name was requested to be completed by the kernel.
+   *
+   * @return The name of the object.
+   */
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public BatchItemResultTO setName(
+      @Nonnull
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+
+  public boolean isSuccessful() {
+    return successful;
+  }
+
+  public BatchItemResultTO setSuccessful(boolean successful) {
+    this.successful = successful;
+    return this;
+  }
+
+  @Nullable
+  public String getError() {
+    return error;
+  }
+
+  public BatchItemResultTO setError(
+      @Nullable
+      String error
+  ) {
+    this.error = error;
+    return this;
+  }
+}
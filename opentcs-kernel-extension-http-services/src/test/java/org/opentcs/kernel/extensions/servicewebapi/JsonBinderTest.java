@@ -6,6 +6,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
 import org.approvaltests.Approvals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +43,47 @@ class JsonBinderTest {
     Approvals.verify(jsonBinder.toJson(new TestException("some-message")));
   }
 
+  @Test
+  void writeJsonArrayLikeList()
+      throws IOException {
+    List<TestElement> elements = List.of(
+        new TestElement("some-name", "some-description"),
+        new TestElement("some-other-name", null)
+    );
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    jsonBinder.writeJsonArray(out, elements.iterator(), Set.of());
+
+    assertThat(out.toString(StandardCharsets.UTF_8), is(equalTo(jsonBinder.toJson(elements))));
+  }
+
+  @Test
+  void writeJsonArrayWithSelectedFieldsOnly()
+      throws IOException {
+    List<TestElement> elements = List.of(
+        new TestElement("some-name", "some-description"),
+        new TestElement("some-other-name", null)
+    );
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    jsonBinder.writeJsonArray(out, elements.iterator(), Set.of("name", "some-unknown-field"));
+
+    // Only the name is expected to be included, just as for a list of TestObjects.
+    assertThat(
+        out.toString(StandardCharsets.UTF_8),
+        is(
+            equalTo(
+                jsonBinder.toJson(
+                    List.of(
+                        new TestObject().setName("some-name"),
+                        new TestObject().setName("some-other-name")
+                    )
+                )
+            )
+        )
+    );
+  }
+
   private static class TestObject {
 
     private String name;
@@ -61,4 +107,23 @@ class JsonBinderTest {
     }
 
   }
+
+  private static class TestElement {
+
+    private final String name;
+    private final String description;
+
+    TestElement(String name, String description) {
+      this.name = name;
+      this.description = description;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+  }
 }
@@ -4,8 +4,10 @@ package org.opentcs.kernel.extensions.servicewebapi;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper.ReadPath;
 
 /**
  * Tests for {@link KernelExecutorWrapper}.
@@ -75,4 +78,60 @@ class KernelExecutorWrapperTest {
     );
 
   }
+
+  @Test
+  void executeReadsViaKernelExecutorByDefault() {
+    Thread callingThread = Thread.currentThread();
+
+    assertThat(
+        executorWrapper.read(ReadEndpoint.VEHICLES, () -> Thread.currentThread()),
+        is(not(callingThread))
+    );
+    assertThat(readCount(ReadPath.KERNEL_EXECUTOR), is(1L));
+    assertThat(readCount(ReadPath.DIRECT), is(0L));
+  }
+
+  @Test
+  void executeReadsForConfiguredEndpointsDirectly() {
+    executorWrapper = new KernelExecutorWrapper(executorService, Set.of(ReadEndpoint.VEHICLES));
+    Thread callingThread = Thread.currentThread();
+
+    assertThat(
+        executorWrapper.read(ReadEndpoint.VEHICLES, () -> Thread.currentThread()),
+        is(callingThread)
+    );
+    assertThat(
+        executorWrapper.read(ReadEndpoint.TRANSPORT_ORDERS, () -> Thread.currentThread()),
+        is(not(callingThread))
+    );
+    assertThat(readCount(ReadPath.KERNEL_EXECUTOR), is(1L));
+    assertThat(readCount(ReadPath.DIRECT), is(1L));
+  }
+
+  @Test
+  void handleExceptionsFromDirectReadsLikeFromKernelExecutor() {
+    executorWrapper = new KernelExecutorWrapper(executorService, Set.of(ReadEndpoint.VEHICLES));
+
+    assertThrows(
+        ObjectUnknownException.class,
+        () -> {
+          executorWrapper.read(ReadEndpoint.VEHICLES, () -> {
+            throw new ObjectUnknownException("some exception");
+          });
+        }
+    );
+    assertThrows(
+        KernelRuntimeException.class,
+        () -> {
+          executorWrapper.read(ReadEndpoint.VEHICLES, () -> {
+            throw new Exception("some exception");
+          });
+        }
+    );
+    assertThat(readCount(ReadPath.DIRECT), is(2L));
+  }
+
+  private long readCount(ReadPath path) {
+    return executorWrapper.getReadLatencies(path).getSnapshot().getCount();
+  }
 }
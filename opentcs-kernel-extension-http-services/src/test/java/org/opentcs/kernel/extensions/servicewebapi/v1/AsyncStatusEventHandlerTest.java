@@ -0,0 +1,218 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetEventsResponseTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.OrderStatusMessage;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.getevents.StatusMessage;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Unit tests for {@link AsyncStatusEventHandler}.
+ */
+class AsyncStatusEventHandlerTest {
+
+  private JsonBinder jsonBinder;
+  private StatusEventDispatcher statusEventDispatcher;
+  private Request request;
+  private Response response;
+  private AsyncContext asyncContext;
+  private ByteArrayOutputStream asyncOutput;
+
+  private AsyncStatusEventHandler handler;
+
+  @BeforeEach
+  void setUp()
+      throws IOException {
+    jsonBinder = new JsonBinder();
+    statusEventDispatcher = mock();
+
+    asyncOutput = new ByteArrayOutputStream();
+    ServletResponse asyncResponse = mock();
+    when(asyncResponse.getOutputStream()).thenReturn(new CapturingOutputStream(asyncOutput));
+    asyncContext = mock();
+    when(asyncContext.getResponse()).thenReturn(asyncResponse);
+    // Run the asynchronous tasks right away.
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(asyncContext).start(any());
+
+    HttpServletRequest rawRequest = mock();
+    when(rawRequest.startAsync()).thenReturn(asyncContext);
+    request = mock();
+    when(request.raw()).thenReturn(rawRequest);
+    response = mock();
+    when(response.raw()).thenReturn(mock(HttpServletResponse.class));
+
+    handler = new AsyncStatusEventHandler(jsonBinder, statusEventDispatcher);
+  }
+
+  @Test
+  void respondImmediatelyWithoutEventsForZeroTimeout() {
+    CompletableFuture<GetEventsResponseTO> fetch = new CompletableFuture<>();
+    when(statusEventDispatcher.fetchEventsAsync(0, 100)).thenReturn(fetch);
+
+    Object result = handler.handleGetEvents(request, response, 0, 100, 0);
+
+    assertThat(
+        jsonBinder.fromJson((String) result, GetEventsResponseTO.class).getStatusMessages(),
+        is(empty())
+    );
+    assertThat(fetch.isCancelled(), is(true));
+    verify(request, never()).raw();
+  }
+
+  @Test
+  void respondImmediatelyWithAvailableEventsForZeroTimeout() {
+    GetEventsResponseTO events = eventsWithSequenceNumbers(5);
+    when(statusEventDispatcher.fetchEventsAsync(0, 100))
+        .thenReturn(CompletableFuture.completedFuture(events));
+
+    Object result = handler.handleGetEvents(request, response, 0, 100, 0);
+
+    assertThat(result, is(jsonBinder.toJson(events)));
+  }
+
+  @Test
+  void writeEventsAsServerSentEvents() {
+    GetEventsResponseTO events = eventsWithSequenceNumbers(5, 6);
+    when(statusEventDispatcher.fetchEventsAsync(anyLong(), anyLong()))
+        .thenReturn(CompletableFuture.completedFuture(events));
+    when(statusEventDispatcher.isInitialized()).thenReturn(false);
+
+    handler.handleGetEventStream(request, response, 5);
+
+    StringBuilder expected = new StringBuilder();
+    for (StatusMessage message : events.getStatusMessages()) {
+      expected.append("id: ").append(message.getSequenceNumber()).append('\n');
+      for (String line : jsonBinder.toJson(message).split("\\R")) {
+        expected.append("data: ").append(line).append('\n');
+      }
+      expected.append('\n');
+    }
+    assertThat(asyncOutput.toString(StandardCharsets.UTF_8), is(expected.toString()));
+    verify(response).type("text/event-stream; charset=utf-8");
+    verify(asyncContext).complete();
+  }
+
+  @Test
+  void continueEventStreamAfterLastSentEvent() {
+    when(statusEventDispatcher.fetchEventsAsync(anyLong(), anyLong()))
+        .thenReturn(CompletableFuture.completedFuture(new GetEventsResponseTO()));
+    when(statusEventDispatcher.fetchEventsAsync(5, Long.MAX_VALUE))
+        .thenReturn(CompletableFuture.completedFuture(eventsWithSequenceNumbers(5, 6)));
+    // Stop streaming after the second batch.
+    when(statusEventDispatcher.isInitialized()).thenReturn(true, false);
+
+    handler.handleGetEventStream(request, response, 5);
+
+    verify(statusEventDispatcher).fetchEventsAsync(7, Long.MAX_VALUE);
+  }
+
+  @Test
+  void resumeEventStreamAfterLastEventId() {
+    when(request.headers("Last-Event-ID")).thenReturn("41");
+    when(statusEventDispatcher.fetchEventsAsync(anyLong(), anyLong()))
+        .thenReturn(CompletableFuture.completedFuture(eventsWithSequenceNumbers(42)));
+
+    handler.handleGetEventStream(request, response, 0);
+
+    verify(statusEventDispatcher, never()).fetchEventsAsync(0, Long.MAX_VALUE);
+    assertThat(asyncOutput.toString(StandardCharsets.UTF_8), startsWith("id: 42\n"));
+  }
+
+  @Test
+  void rejectMalformedLastEventId() {
+    when(request.headers("Last-Event-ID")).thenReturn("not-a-number");
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> handler.handleGetEventStream(request, response, 0)
+    );
+    verify(request, never()).raw();
+  }
+
+  @Test
+  void sendKeepAliveCommentWithoutEvents() {
+    when(statusEventDispatcher.fetchEventsAsync(anyLong(), anyLong()))
+        .thenReturn(CompletableFuture.completedFuture(new GetEventsResponseTO()));
+
+    handler.handleGetEventStream(request, response, 0);
+
+    assertThat(asyncOutput.toString(StandardCharsets.UTF_8), is(": keep-alive\n\n"));
+  }
+
+  private GetEventsResponseTO eventsWithSequenceNumbers(long... sequenceNumbers) {
+    List<StatusMessage> messages = Arrays.stream(sequenceNumbers)
+        .<StatusMessage>mapToObj(
+            sequenceNumber -> new OrderStatusMessage()
+                .setSequenceNumber(sequenceNumber)
+                .setCreationTimeStamp(Instant.EPOCH)
+                .setOrderName("order-" + sequenceNumber)
+        )
+        .toList();
+    return new GetEventsResponseTO()
+        .setTimeStamp(Instant.EPOCH)
+        .setStatusMessages(messages);
+  }
+
+  /**
+   * Captures everything written to it.
+   */
+  private static class CapturingOutputStream
+      extends
+        ServletOutputStream {
+
+    private final ByteArrayOutputStream output;
+
+    CapturingOutputStream(ByteArrayOutputStream output) {
+      this.output = output;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      // Not needed, as writing never blocks.
+    }
+
+    @Override
+    public void write(int b) {
+      output.write(b);
+    }
+  }
+}
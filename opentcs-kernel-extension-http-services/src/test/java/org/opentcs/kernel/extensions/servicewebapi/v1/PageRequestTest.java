@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link PageRequest}.
+ */
+class PageRequestTest {
+
+  private final Set<Vehicle> vehicles = Set.of(
+      new Vehicle("vehicle-04"),
+      new Vehicle("vehicle-02"),
+      new Vehicle("vehicle-05"),
+      new Vehicle("vehicle-01"),
+      new Vehicle("vehicle-03")
+  );
+
+  @Test
+  void selectAllObjectsOrderedByName() {
+    Page<Vehicle> page = PageRequest.UNLIMITED.select(vehicles);
+
+    assertThat(page.getElements())
+        .extracting(Vehicle::getName)
+        .containsExactly("vehicle-01", "vehicle-02", "vehicle-03", "vehicle-04", "vehicle-05");
+    assertThat(page.getNextCursor()).isNull();
+  }
+
+  @Test
+  void selectPagesFollowingCursors() {
+    Page<Vehicle> firstPage = new PageRequest(null, 2).select(vehicles);
+    assertThat(firstPage.getElements())
+        .extracting(Vehicle::getName)
+        .containsExactly("vehicle-01", "vehicle-02");
+    assertThat(firstPage.getNextCursor()).isNotNull();
+
+    Page<Vehicle> secondPage = new PageRequest(firstPage.getNextCursor(), 2).select(vehicles);
+    assertThat(secondPage.getElements())
+        .extracting(Vehicle::getName)
+        .containsExactly("vehicle-03", "vehicle-04");
+    assertThat(secondPage.getNextCursor()).isNotNull();
+
+    Page<Vehicle> lastPage = new PageRequest(secondPage.getNextCursor(), 2).select(vehicles);
+    assertThat(lastPage.getElements())
+        .extracting(Vehicle::getName)
+        .containsExactly("vehicle-05");
+    assertThat(lastPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  void provideNoCursorIfPageEndsWithLastObject() {
+    Page<Vehicle> page = new PageRequest(null, 5).select(vehicles);
+
+    assertThat(page.getElements()).hasSize(5);
+    assertThat(page.getNextCursor()).isNull();
+  }
+
+  @Test
+  void continueAfterCursorIfObjectWasRemoved() {
+    Page<Vehicle> firstPage = new PageRequest(null, 2).select(vehicles);
+    Set<Vehicle> remainingVehicles = Set.of(
+        new Vehicle("vehicle-01"),
+        new Vehicle("vehicle-04")
+    );
+
+    Page<Vehicle> secondPage
+        = new PageRequest(firstPage.getNextCursor(), 2).select(remainingVehicles);
+
+    assertThat(secondPage.getElements())
+        .extracting(Vehicle::getName)
+        .containsExactly("vehicle-04");
+  }
+
+  @Test
+  void rejectInvalidLimit() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> new PageRequest(null, 0));
+  }
+
+  @Test
+  void rejectMalformedCursor() {
+    assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> new PageRequest("not a cursor!", 10));
+  }
+}
@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -160,4 +161,132 @@ class StatusEventDispatcherTest {
         .isInstanceOf(PeripheralJobStatusMessage.class)
         .matches(msg -> msg.getSequenceNumber() == 2);
   }
+
+  @Test
+  void keepOnlyLatestEventForModifiedObjectsIfCoalescing() {
+    // Arrange
+    given(configuration.coalesceStatusEvents())
+        .willReturn(true);
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    Vehicle vehicle = new Vehicle("some-vehicle");
+
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(vehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Act
+    GetEventsResponseTO result = statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1);
+
+    // Assert
+    assertThat(result.getStatusMessages()).hasSize(2);
+    assertThat(result.getStatusMessages().get(0))
+        .isInstanceOf(VehicleStatusMessage.class)
+        .matches(msg -> msg.getSequenceNumber() == 2);
+    assertThat(result.getStatusMessages().get(1))
+        .isInstanceOf(OrderStatusMessage.class)
+        .matches(msg -> msg.getSequenceNumber() == 3);
+  }
+
+  @Test
+  void keepEventsForCreatedObjectsIfCoalescing() {
+    // Arrange
+    given(configuration.coalesceStatusEvents())
+        .willReturn(true);
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, null, TCSObjectEvent.Type.OBJECT_CREATED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Act
+    GetEventsResponseTO result = statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1);
+
+    // Assert
+    assertThat(result.getStatusMessages()).hasSize(2);
+    assertThat(result.getStatusMessages().get(0).getSequenceNumber()).isEqualTo(0);
+    assertThat(result.getStatusMessages().get(1).getSequenceNumber()).isEqualTo(2);
+  }
+
+  @Test
+  void completeAsyncFetchImmediatelyIfThereAreEvents() {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Act
+    CompletableFuture<GetEventsResponseTO> result
+        = statusEventDispatcher.fetchEventsAsync(0, Long.MAX_VALUE);
+
+    // Assert
+    assertThat(result).isDone();
+    assertThat(result.join().getStatusMessages()).hasSize(1);
+  }
+
+  @Test
+  void completeAsyncFetchWhenEventWithinRangeArrives() {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    CompletableFuture<GetEventsResponseTO> result
+        = statusEventDispatcher.fetchEventsAsync(1, Long.MAX_VALUE);
+
+    // Act & Assert
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    assertThat(result).isNotDone();
+
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    assertThat(result).isDone();
+    assertThat(result.join().getStatusMessages()).hasSize(1);
+    assertThat(result.join().getStatusMessages().get(0).getSequenceNumber()).isEqualTo(1);
+  }
+
+  @Test
+  void completeAsyncFetchWithoutEventsOnTermination() {
+    // Arrange
+    CompletableFuture<GetEventsResponseTO> result
+        = statusEventDispatcher.fetchEventsAsync(0, Long.MAX_VALUE);
+
+    // Act
+    statusEventDispatcher.terminate();
+
+    // Assert
+    assertThat(result).isDone();
+    assertThat(result.join().getStatusMessages()).isEmpty();
+  }
 }
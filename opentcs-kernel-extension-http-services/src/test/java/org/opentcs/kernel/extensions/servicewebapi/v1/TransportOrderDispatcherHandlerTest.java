@@ -2,7 +2,9 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.extensions.servicewebapi.v1;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.from;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
@@ -11,6 +13,7 @@ import java.util.List;
 import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.VehicleService;
 import org.opentcs.data.ObjectUnknownException;
@@ -18,6 +21,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.BatchItemResultTO;
 
 /**
  * Unit tests for {@link TransportOrderDispatcherHandler}.
@@ -107,6 +111,35 @@ class TransportOrderDispatcherHandlerTest {
         .isThrownBy(() -> handler.withdrawByTransportOrder("some-unknown-order", false, false));
   }
 
+  @Test
+  void withdrawByTransportOrdersInBatch() {
+    given(dispatcherService.withdrawByTransportOrders(List.of(order.getReference()), true))
+        .willReturn(List.of(BatchItemResult.success(order.getReference())));
+
+    List<BatchItemResultTO> result = handler.withdrawByTransportOrders(
+        List.of("some-unknown-order", "some-order"),
+        true,
+        true
+    );
+
+    then(vehicleService)
+        .should()
+        .updateVehicleIntegrationLevel(
+            vehicle.getReference(),
+            Vehicle.IntegrationLevel.TO_BE_RESPECTED
+        );
+    then(dispatcherService)
+        .should()
+        .withdrawByTransportOrders(List.of(order.getReference()), true);
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0))
+        .returns("some-unknown-order", from(BatchItemResultTO::getName))
+        .returns(false, from(BatchItemResultTO::isSuccessful));
+    assertThat(result.get(1))
+        .returns("some-order", from(BatchItemResultTO::getName))
+        .returns(true, from(BatchItemResultTO::isSuccessful));
+  }
+
   @Test
   void withdrawByVehicleRegularly() {
     handler.withdrawByVehicle("some-vehicle", false, false);
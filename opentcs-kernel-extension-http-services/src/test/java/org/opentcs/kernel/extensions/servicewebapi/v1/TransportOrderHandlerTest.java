@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import java.time.Instant;
 import java.util.List;
@@ -27,6 +28,8 @@ import org.mockito.ArgumentMatchers;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.BatchItemResult;
+import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.Vehicle;
@@ -37,7 +40,12 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceRe
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedOrderSequence;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedTransportOrder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.BatchItemResultTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 
 /**
@@ -46,15 +54,17 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 class TransportOrderHandlerTest {
 
   private TransportOrderService orderService;
+  private DispatcherService dispatcherService;
   private KernelExecutorWrapper executorWrapper;
   private TransportOrderHandler handler;
 
   @BeforeEach
   void setUp() {
     orderService = mock();
+    dispatcherService = mock();
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
 
-    handler = new TransportOrderHandler(orderService, executorWrapper);
+    handler = new TransportOrderHandler(orderService, dispatcherService, executorWrapper);
   }
 
   @Test
@@ -116,6 +126,78 @@ class TransportOrderHandlerTest {
         );
   }
 
+  @Test
+  void createTransportOrdersInBatch() {
+    // Arrange
+    OrderSequence orderSequence = new OrderSequence("some-sequence");
+    TransportOrder transportOrder = new TransportOrder("some-order-01", List.of());
+    given(orderService.createOrderSequences(ArgumentMatchers.anyList()))
+        .willReturn(List.of(BatchItemResult.success(orderSequence)));
+    given(orderService.createTransportOrders(ArgumentMatchers.anyList()))
+        .willReturn(
+            List.of(
+                BatchItemResult.success(transportOrder),
+                BatchItemResult.failure("Unknown location: some-location")
+            )
+        );
+
+    // Act
+    PostTransportOrdersResponseTO result = handler.createOrders(
+        new PostTransportOrdersRequestTO()
+            .setOrderSequences(List.of(new NamedOrderSequence("some-sequence")))
+            .setTransportOrders(
+                List.of(
+                    namedTransportOrder("some-order-", "some-sequence"),
+                    namedTransportOrder("another-order", null)
+                )
+            )
+    );
+
+    // Assert
+    assertThat(result.getOrderSequences()).hasSize(1);
+    assertThat(result.getOrderSequences().get(0))
+        .returns("some-sequence", from(BatchItemResultTO::getName))
+        .returns(true, from(BatchItemResultTO::isSuccessful));
+    assertThat(result.getTransportOrders()).hasSize(2);
+    assertThat(result.getTransportOrders().get(0))
+        .returns("some-order-01", from(BatchItemResultTO::getName))
+        .returns(true, from(BatchItemResultTO::isSuccessful))
+        .returns(null, from(BatchItemResultTO::getError));
+    assertThat(result.getTransportOrders().get(1))
+        .returns("another-order", from(BatchItemResultTO::getName))
+        .returns(false, from(BatchItemResultTO::isSuccessful))
+        .returns("Unknown location: some-location", from(BatchItemResultTO::getError));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransportOrderCreationTO>> captor = ArgumentCaptor.forClass(List.class);
+    then(orderService).should().createTransportOrders(captor.capture());
+    assertThat(captor.getValue()).hasSize(2);
+    assertThat(captor.getValue().get(0))
+        .returns("some-order-", from(TransportOrderCreationTO::getName))
+        .returns(true, from(TransportOrderCreationTO::hasIncompleteName))
+        .returns("some-sequence", from(TransportOrderCreationTO::getWrappingSequence));
+    then(dispatcherService).should().dispatch();
+  }
+
+  @Test
+  void skipDispatchingIfNoTransportOrderWasCreatedInBatch() {
+    // Arrange
+    given(orderService.createOrderSequences(ArgumentMatchers.anyList()))
+        .willReturn(List.of());
+    given(orderService.createTransportOrders(ArgumentMatchers.anyList()))
+        .willReturn(List.of(BatchItemResult.failure("Unknown location: some-location")));
+
+    // Act
+    PostTransportOrdersResponseTO result = handler.createOrders(
+        new PostTransportOrdersRequestTO()
+            .setTransportOrders(List.of(namedTransportOrder("some-order", null)))
+    );
+
+    // Assert
+    assertThat(result.getTransportOrders()).hasSize(1);
+    then(dispatcherService).should(never()).dispatch();
+  }
+
   @Test
   void setTransportOrderIntendedVehicle() {
     // Arrange
@@ -338,4 +420,19 @@ class TransportOrderHandlerTest {
         .isThrownBy(() -> handler.getOrderSequenceByName("some-other-sequence"));
   }
 
+  private NamedTransportOrder namedTransportOrder(String name, String wrappingSequence) {
+    return new NamedTransportOrder(
+        name,
+        name.endsWith("-"),
+        false,
+        null,
+        null,
+        null,
+        wrappingSequence,
+        null,
+        List.of(new Destination("some-location", "some-operation", List.of())),
+        null,
+        null
+    );
+  }
 }
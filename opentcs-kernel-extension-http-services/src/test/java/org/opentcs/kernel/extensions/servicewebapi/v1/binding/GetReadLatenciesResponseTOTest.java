@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.approvaltests.Approvals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper.ReadPath;
+import org.opentcs.util.LatencyHistogram;
+
+/**
+ * Unit tests for {@link GetReadLatenciesResponseTO}.
+ */
+class GetReadLatenciesResponseTOTest {
+
+  private JsonBinder jsonBinder;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = new JsonBinder();
+  }
+
+  @Test
+  void jsonSample() {
+    LatencyHistogram executorLatencies = new LatencyHistogram();
+    for (int i = 0; i < 90; i++) {
+      executorLatencies.record(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+    for (int i = 0; i < 10; i++) {
+      executorLatencies.record(TimeUnit.MICROSECONDS.toNanos(5000));
+    }
+    LatencyHistogram directLatencies = new LatencyHistogram();
+    for (int i = 0; i < 3; i++) {
+      directLatencies.record(TimeUnit.MICROSECONDS.toNanos(20));
+    }
+
+    Map<ReadPath, LatencyHistogram.Snapshot> snapshots = new EnumMap<>(ReadPath.class);
+    snapshots.put(ReadPath.KERNEL_EXECUTOR, executorLatencies.getSnapshot());
+    snapshots.put(ReadPath.DIRECT, directLatencies.getSnapshot());
+
+    Approvals.verify(jsonBinder.toJson(GetReadLatenciesResponseTO.fromSnapshots(snapshots)));
+  }
+}
@@ -0,0 +1,48 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import java.util.List;
+import org.approvaltests.Approvals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.BatchItemResultTO;
+
+/**
+ * Unit tests for {@link PostTransportOrdersResponseTO}.
+ */
+class PostTransportOrdersResponseTOTest {
+
+  private JsonBinder jsonBinder;
+
+  @BeforeEach
+  void setUp() {
+    jsonBinder = new JsonBinder();
+  }
+
+  @Test
+  void jsonSample() {
+    PostTransportOrdersResponseTO to = new PostTransportOrdersResponseTO()
+        .setOrderSequences(
+            List.of(
+                new BatchItemResultTO()
+                    .setName("some-sequence")
+                    .setSuccessful(true)
+            )
+        )
+        .setTransportOrders(
+            List.of(
+                new BatchItemResultTO()
+                    .setName("some-order-01")
+                    .setSuccessful(true),
+                new BatchItemResultTO()
+                    .setName("another-order")
+                    .setSuccessful(false)
+                    .setError("Unknown location: some-location")
+            )
+        );
+
+    Approvals.verify(jsonBinder.toJson(to));
+  }
+}
@@ -0,0 +1,134 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opentcs.access.rmi.services.EncodedEventBatch;
+import org.opentcs.access.rmi.services.EncodedObjectEvent;
+import org.opentcs.access.rmi.services.EncodedObjectState;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * Encodes events for a single client, with object states encoded as deltas against the states the
+ * client is known to have received.
+ *
+ * @see EncodedEventBatch
+ */
+class DeltaEventEncoder {
+
+  /**
+   * The serialized states the client has acknowledged receiving, mapped by object references.
+   */
+  private final Map<TCSObjectReference<?>, byte[]> acknowledgedStates = new HashMap<>();
+  /**
+   * The serialized states transferred with the last batch, mapped by object references.
+   * A {@code null} value indicates the object was removed.
+   */
+  private final Map<TCSObjectReference<?>, byte[]> pendingStates = new HashMap<>();
+  /**
+   * The ID of the last batch created.
+   */
+  private long lastBatchId = EncodedEventBatch.NO_BATCH;
+
+  /**
+   * Creates a new instance.
+   */
+  DeltaEventEncoder() {
+  }
+
+  /**
+   * Encodes the given events into a new batch.
+   *
+   * @param events The events.
+   * @param acknowledgedBatchId The ID of the batch the client acknowledges having received.
+   * @return The new batch.
+   */
+  @Nonnull
+  synchronized EncodedEventBatch encode(
+      @Nonnull
+      List<Object> events,
+      long acknowledgedBatchId
+  ) {
+    requireNonNull(events, "events");
+
+    if (acknowledgedBatchId != EncodedEventBatch.NO_BATCH && acknowledgedBatchId == lastBatchId) {
+      pendingStates.forEach((ref, state) -> {
+        if (state == null) {
+          acknowledgedStates.remove(ref);
+        }
+        else {
+          acknowledgedStates.put(ref, state);
+        }
+      });
+    }
+    else {
+      // The client did not receive the last batch or requests a resynchronization.
+      acknowledgedStates.clear();
+    }
+    pendingStates.clear();
+
+    List<Object> result = new ArrayList<>(events.size());
+    for (Object event : events) {
+      if (event instanceof TCSObjectEvent objectEvent) {
+        result.add(encode(objectEvent));
+      }
+      else {
+        result.add(event);
+      }
+    }
+
+    lastBatchId++;
+    return new EncodedEventBatch(lastBatchId, result);
+  }
+
+  private EncodedObjectEvent encode(TCSObjectEvent event) {
+    // The order in which the states are encoded must match the order in which they are decoded.
+    EncodedObjectState previousState = encode(event.getPreviousObjectState());
+    EncodedObjectState currentState = encode(event.getCurrentObjectState());
+
+    if (event.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      pendingStates.put(event.getPreviousObjectState().getReference(), null);
+    }
+
+    return new EncodedObjectEvent(event.getType(), currentState, previousState);
+  }
+
+  private EncodedObjectState encode(TCSObject<?> object) {
+    if (object == null) {
+      return null;
+    }
+
+    TCSObjectReference<?> ref = object.getReference();
+    byte[] state = serialize(object);
+    byte[] base = pendingStates.containsKey(ref)
+        ? pendingStates.get(ref)
+        : acknowledgedStates.get(ref);
+    pendingStates.put(ref, state);
+
+    return base == null
+        ? EncodedObjectState.fullState(ref, state)
+        : EncodedObjectState.deltaState(ref, state, base);
+  }
+
+  private static byte[] serialize(TCSObject<?> object) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(object);
+    }
+    catch (IOException exc) {
+      throw new IllegalStateException("Could not serialize " + object.getName(), exc);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -7,25 +7,44 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.function.Predicate;
 import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
 import org.opentcs.util.event.EventHandler;
 
 /**
  * Stores events and keeps them until a client fetches them.
+ * <p>
+ * Consecutive modification events for the same object are always merged into a single event.
+ * In addition, a buffer may coalesce events per object: Between two fetches, a modification event
+ * is then merged with any buffered modification event for the same object, even if events for
+ * other objects were buffered in between, so that the client receives only the latest state of
+ * every modified object. The merged event takes the position of the latest modification in the
+ * buffer. Creation and removal events are never merged, and modifications are never merged across
+ * them, so their order relative to an object's modifications is preserved.
+ * </p>
  */
 public class EventBuffer
     implements
       EventHandler {
 
   /**
-   * The buffered events.
+   * The buffered events, in the order they are to be delivered, mapped by keys identifying them.
    */
-  private final Deque<Object> events = new LinkedList<>();
+  private final Map<Object, Object> events = new LinkedHashMap<>();
+  /**
+   * The keys of buffered modification events that subsequent modification events for the same
+   * object may be merged with, mapped by the references of the respective objects.
+   */
+  private final Map<TCSObjectReference<?>, Object> mergeableEventKeys = new HashMap<>();
+  /**
+   * Whether this buffer coalesces events per object.
+   */
+  private final boolean coalescingPerObject;
   /**
    * This buffer's event filter.
    */
@@ -43,8 +62,23 @@ public class EventBuffer
   public EventBuffer(
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(eventFilter, false);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param eventFilter This buffer's initial event filter.
+   * @param coalescingPerObject Whether this buffer coalesces events per object.
+   */
+  public EventBuffer(
+      @Nonnull
+      Predicate<Object> eventFilter,
+      boolean coalescingPerObject
   ) {
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.coalescingPerObject = coalescingPerObject;
   }
 
   // Methods declared in interface EventListener start here
@@ -53,8 +87,8 @@ public class EventBuffer
     requireNonNull(event, "event");
     synchronized (events) {
       if (eventFilter.test(event)) {
-        if (!tryMergeWithPreviousEvent(event)) {
-          events.add(event);
+        if (!tryMergeWithBufferedEvent(event)) {
+          addEvent(event);
         }
 
         // If the client is waiting for an event, wake it up, since there is one now.
@@ -94,8 +128,9 @@ public class EventBuffer
           waitingClient = false;
         }
       }
-      List<Object> result = new ArrayList<>(events);
+      List<Object> result = new ArrayList<>(events.values());
       events.clear();
+      mergeableEventKeys.clear();
       return result;
     }
   }
@@ -128,31 +163,50 @@ public class EventBuffer
   }
 
   /**
-   * If possible, merge the given new event with the previous one in the buffer.
+   * Appends the given event to the buffer.
    *
-   * @param event The new event.
-   * @return <code>true</code> if the new event was merged with the previous one.
+   * @param event The event.
    */
-  private boolean tryMergeWithPreviousEvent(Object event) {
-    if (!(event instanceof TCSObjectEvent currentEvent)
-        || !(events.peekLast() instanceof TCSObjectEvent previousEvent)) {
-      return false;
+  private void addEvent(Object event) {
+    // Without coalescing per object, only the last buffered event may be merged with.
+    if (!coalescingPerObject) {
+      mergeableEventKeys.clear();
+    }
+
+    Object key = new Object();
+    events.put(key, event);
+
+    if (event instanceof TCSObjectEvent objectEvent) {
+      TCSObjectReference<?> ref = objectEvent.getCurrentOrPreviousObjectState().getReference();
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED) {
+        mergeableEventKeys.put(ref, key);
+      }
+      else {
+        mergeableEventKeys.remove(ref);
+      }
     }
+  }
 
-    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
-        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+  /**
+   * If possible, merge the given new event with a buffered one.
+   *
+   * @param event The new event.
+   * @return <code>true</code> if the new event was merged with a buffered one.
+   */
+  private boolean tryMergeWithBufferedEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent currentEvent)
+        || currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
       return false;
     }
 
-    if (!Objects.equals(
-        currentEvent.getCurrentObjectState().getReference(),
-        previousEvent.getCurrentObjectState().getReference()
-    )) {
+    Object previousKey
+        = mergeableEventKeys.get(currentEvent.getCurrentObjectState().getReference());
+    if (previousKey == null) {
       return false;
     }
 
-    events.removeLast();
-    events.add(
+    TCSObjectEvent previousEvent = (TCSObjectEvent) events.remove(previousKey);
+    addEvent(
         new TCSObjectEvent(
             currentEvent.getCurrentObjectState(),
             previousEvent.getPreviousObjectState(),
@@ -130,6 +130,18 @@ public interface RmiKernelInterfaceConfiguration {
   )
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to coalesce events per object for each client between two fetches.",
+          "If 'true', a client fetching events receives only the latest state of each modified "
+              + "object, while the order of object creations and removals is preserved."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events"
+  )
+  boolean coalesceEventsPerObject();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
@@ -9,12 +9,14 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteDispatcherService;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectReference;
@@ -200,6 +202,24 @@ public class StandardRemoteDispatcherService
     }
   }
 
+  @Override
+  public List<BatchItemResult<TCSObjectReference<TransportOrder>>> withdrawByTransportOrders(
+      ClientID clientId,
+      List<TCSObjectReference<TransportOrder>> refs,
+      boolean immediateAbort
+  ) {
+    userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
+
+    try {
+      return kernelExecutor
+          .submit(() -> dispatcherService.withdrawByTransportOrders(refs, immediateAbort))
+          .get();
+    }
+    catch (InterruptedException | ExecutionException exc) {
+      throw findSuitableExceptionFor(exc);
+    }
+  }
+
   @Override
   public void reroute(
       ClientID clientId,
@@ -18,6 +18,7 @@ import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
+import org.opentcs.access.rmi.services.EncodedEventBatch;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteKernelServicePortal;
 import org.opentcs.components.kernel.KernelExtension;
@@ -191,7 +192,11 @@ public class StandardRemoteKernelClientPortal
     // Generate a new ID for the client.
     ClientID clientId = new ClientID(userName);
     // Add an entry for the newly connected client.
-    ClientEntry clientEntry = new ClientEntry(userName, account.getPermissions());
+    ClientEntry clientEntry = new ClientEntry(
+        userName,
+        account.getPermissions(),
+        configuration.coalesceEventsPerObject()
+    );
     clientEntry.getEventBuffer().setEventFilter(eventFilter);
     userManager.registerClient(clientId, clientEntry);
     LOG.debug("New client named {} logged in", clientId.getClientName());
@@ -223,6 +228,18 @@ public class StandardRemoteKernelClientPortal
     return userManager.pollEvents(clientId, timeout);
   }
 
+  @Override
+  public EncodedEventBatch fetchEncodedEvents(
+      ClientID clientId,
+      long timeout,
+      long acknowledgedBatchId
+  )
+      throws RemoteException {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return userManager.pollEncodedEvents(clientId, timeout, acknowledgedBatchId);
+  }
+
   @Override
   public void publishEvent(ClientID clientId, Object event)
       throws KernelRuntimeException {
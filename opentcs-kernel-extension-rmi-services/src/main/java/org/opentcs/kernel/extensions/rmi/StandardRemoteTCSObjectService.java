@@ -11,6 +11,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.services.RemoteTCSObjectService;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectHistory;
@@ -92,6 +93,17 @@ public abstract class StandardRemoteTCSObjectService
     return objectService.fetchObjects(clazz, predicate);
   }
 
+  @Override
+  public <T extends TCSObject<T>, V> Set<T> fetchObjects(
+      ClientID clientId,
+      ObjectAttribute<T, V> attribute,
+      V value
+  ) {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return objectService.fetchObjects(attribute, value);
+  }
+
   @Override
   public void updateObjectProperty(
       ClientID clientId,
@@ -21,6 +21,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.access.rmi.services.EncodedEventBatch;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
@@ -265,6 +266,32 @@ public class UserManager
     return events;
   }
 
+  /**
+   * Polls events for the given client, with object states encoded as deltas against the states
+   * the client has acknowledged receiving.
+   *
+   * @param clientID The client's ID.
+   * @param timeout The maximum time to wait for events (in ms) if there currently aren't any.
+   * @param acknowledgedBatchId The ID of the batch the client acknowledges having received.
+   * @return The batch of events.
+   */
+  public EncodedEventBatch pollEncodedEvents(
+      ClientID clientID,
+      long timeout,
+      long acknowledgedBatchId
+  ) {
+    requireNonNull(clientID, "clientID");
+
+    List<Object> events = pollEvents(clientID, timeout);
+    DeltaEventEncoder eventEncoder;
+    synchronized (knownClients) {
+      ClientEntry clientEntry = getClient(clientID);
+      checkArgument(clientEntry != null, "Unknown client ID: %s", clientID);
+      eventEncoder = clientEntry.getEventEncoder();
+    }
+    return eventEncoder.encode(events, acknowledgedBatchId);
+  }
+
   /**
    * Check whether the user described by the given credentials is granted permissions according to
    * the specified user role.
@@ -339,7 +366,11 @@ public class UserManager
     /**
      * The client's event buffer.
      */
-    private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    private final EventBuffer eventBuffer;
+    /**
+     * Encodes events for the client if it fetches them with object states encoded as deltas.
+     */
+    private final DeltaEventEncoder eventEncoder = new DeltaEventEncoder();
     /**
      * The client's alive flag.
      */
@@ -352,8 +383,21 @@ public class UserManager
      * @param perms The client's permissions.
      */
     public ClientEntry(String name, Set<UserPermission> perms) {
+      this(name, perms, false);
+    }
+
+    /**
+     * Creates a new ClientEntry.
+     *
+     * @param name The client's name.
+     * @param perms The client's permissions.
+     * @param coalesceEventsPerObject Whether the client's event buffer coalesces events per
+     * object.
+     */
+    public ClientEntry(String name, Set<UserPermission> perms, boolean coalesceEventsPerObject) {
       userName = requireNonNull(name, "name");
       permissions = requireNonNull(perms, "perms");
+      eventBuffer = new EventBuffer(event -> false, coalesceEventsPerObject);
     }
 
     /**
@@ -382,6 +426,10 @@ public class UserManager
       return eventBuffer;
     }
 
+    DeltaEventEncoder getEventEncoder() {
+      return eventEncoder;
+    }
+
     public Set<UserPermission> getPermissions() {
       return permissions;
     }
@@ -0,0 +1,113 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.theInstance;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.rmi.services.EncodedEventBatch;
+import org.opentcs.access.rmi.services.EncodedObjectEvent;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Unit tests for {@link DeltaEventEncoder}.
+ */
+class DeltaEventEncoderTest {
+
+  private DeltaEventEncoder encoder;
+  private Vehicle vehicle;
+
+  @BeforeEach
+  void setUp() {
+    encoder = new DeltaEventEncoder();
+    vehicle = new Vehicle("some-vehicle");
+  }
+
+  @Test
+  void passThroughOtherEvents() {
+    Object event = new Object();
+
+    EncodedEventBatch batch = encoder.encode(List.of(event), EncodedEventBatch.NO_BATCH);
+
+    assertThat(batch.getEvents(), hasSize(1));
+    assertThat(batch.getEvents().get(0), is(theInstance(event)));
+  }
+
+  @Test
+  void encodeUnknownStatesInFull() {
+    EncodedObjectEvent event = encodeSingle(modification(vehicle, 42), EncodedEventBatch.NO_BATCH);
+
+    assertThat(event.getType(), is(TCSObjectEvent.Type.OBJECT_MODIFIED));
+    assertThat(event.getPreviousObjectState().isDelta(), is(false));
+    // The current state is encoded against the previous one in the same batch.
+    assertThat(event.getCurrentObjectState().isDelta(), is(true));
+  }
+
+  @Test
+  void encodeStatesAsDeltasAfterAcknowledgement() {
+    EncodedEventBatch firstBatch = encoder.encode(
+        List.of(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED)),
+        EncodedEventBatch.NO_BATCH
+    );
+
+    EncodedObjectEvent event = encodeSingle(modification(vehicle, 42), firstBatch.getBatchId());
+
+    assertThat(event.getPreviousObjectState().isDelta(), is(true));
+    assertThat(event.getPreviousObjectState().getEncodedLength(), is(0));
+    assertThat(event.getCurrentObjectState().isDelta(), is(true));
+  }
+
+  @Test
+  void encodeStatesInFullWithoutAcknowledgement() {
+    encoder.encode(
+        List.of(new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED)),
+        EncodedEventBatch.NO_BATCH
+    );
+
+    EncodedObjectEvent event = encodeSingle(modification(vehicle, 42), EncodedEventBatch.NO_BATCH);
+
+    assertThat(event.getPreviousObjectState().isDelta(), is(false));
+  }
+
+  @Test
+  void encodeStatesInFullAfterRemoval() {
+    EncodedEventBatch firstBatch = encoder.encode(
+        List.of(
+            new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED),
+            new TCSObjectEvent(null, vehicle, TCSObjectEvent.Type.OBJECT_REMOVED)
+        ),
+        EncodedEventBatch.NO_BATCH
+    );
+
+    EncodedObjectEvent event = encodeSingle(
+        new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED),
+        firstBatch.getBatchId()
+    );
+
+    assertThat(event.getPreviousObjectState(), is(nullValue()));
+    assertThat(event.getCurrentObjectState().isDelta(), is(false));
+  }
+
+  private TCSObjectEvent modification(Vehicle previousState, int energyLevel) {
+    return new TCSObjectEvent(
+        previousState.withEnergyLevel(energyLevel),
+        previousState,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+  }
+
+  private EncodedObjectEvent encodeSingle(TCSObjectEvent event, long acknowledgedBatchId) {
+    EncodedEventBatch batch = encoder.encode(List.of(event), acknowledgedBatchId);
+    assertThat(batch.getEvents(), hasSize(1));
+    assertThat(batch.getEvents().get(0), is(instanceOf(EncodedObjectEvent.class)));
+    return (EncodedObjectEvent) batch.getEvents().get(0);
+  }
+}
@@ -172,4 +172,107 @@ class EventBufferTest {
     assertThat(result.get(1), is(equalTo(event2)));
     assertThat(result.get(2), is(equalTo(event3)));
   }
+
+  @Test
+  void keepOnlyLatestStateOfEachObjectWhenCoalescingPerObject() {
+    eventBuffer = new EventBuffer(event -> true, true);
+
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(43);
+    Point point = new Point("point");
+    Point pointA = point.withProperty("key", "valueA");
+    Point pointB = pointA.withProperty("key", "valueB");
+
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    eventBuffer.onEvent(new TCSObjectEvent(pointA, point, TCSObjectEvent.Type.OBJECT_MODIFIED));
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    eventBuffer.onEvent(new TCSObjectEvent(pointB, pointA, TCSObjectEvent.Type.OBJECT_MODIFIED));
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(2));
+    assertThat(
+        ((TCSObjectEvent) result.get(0)).getPreviousObjectState(),
+        is(theInstance(vehicle))
+    );
+    assertThat(
+        ((TCSObjectEvent) result.get(0)).getCurrentObjectState(),
+        is(theInstance(vehicleB))
+    );
+    assertThat(
+        ((TCSObjectEvent) result.get(1)).getPreviousObjectState(),
+        is(theInstance(point))
+    );
+    assertThat(
+        ((TCSObjectEvent) result.get(1)).getCurrentObjectState(),
+        is(theInstance(pointB))
+    );
+  }
+
+  @Test
+  void dontCoalesceAcrossCreationOrRemovalWhenCoalescingPerObject() {
+    eventBuffer = new EventBuffer(event -> true, true);
+
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(43);
+    Point point = new Point("point");
+
+    TCSObjectEvent event1 = new TCSObjectEvent(
+        vehicleA,
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    TCSObjectEvent event2 = new TCSObjectEvent(point, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent event3 = new TCSObjectEvent(null, vehicleA, TCSObjectEvent.Type.OBJECT_REMOVED);
+    TCSObjectEvent event4 = new TCSObjectEvent(vehicle, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    TCSObjectEvent event5 = new TCSObjectEvent(
+        vehicleB,
+        vehicle,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+
+    eventBuffer.onEvent(event1);
+    eventBuffer.onEvent(event2);
+    eventBuffer.onEvent(event3);
+    eventBuffer.onEvent(event4);
+    eventBuffer.onEvent(event5);
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(5));
+    assertThat(result.get(0), is(theInstance(event1)));
+    assertThat(result.get(1), is(theInstance(event2)));
+    assertThat(result.get(2), is(theInstance(event3)));
+    assertThat(result.get(3), is(theInstance(event4)));
+    assertThat(result.get(4), is(theInstance(event5)));
+  }
+
+  @Test
+  void dontCoalesceEventsFetchedBeforeWhenCoalescingPerObject() {
+    eventBuffer = new EventBuffer(event -> true, true);
+
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(43);
+
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    assertThat(eventBuffer.getEvents(0), hasSize(1));
+
+    TCSObjectEvent event = new TCSObjectEvent(
+        vehicleB,
+        vehicleA,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    eventBuffer.onEvent(event);
+
+    List<Object> result = eventBuffer.getEvents(0);
+    assertThat(result, hasSize(1));
+    assertThat(result.get(0), is(theInstance(event)));
+  }
 }
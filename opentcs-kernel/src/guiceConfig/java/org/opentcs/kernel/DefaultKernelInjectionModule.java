@@ -6,12 +6,14 @@ import com.google.inject.assistedinject.FactoryModuleBuilder;
 import com.google.inject.multibindings.MapBinder;
 import jakarta.inject.Singleton;
 import java.io.File;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.SslParameterSet;
+import org.opentcs.common.DiscreteEventSimulationExecutor;
 import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.kernel.ObjectNameProvider;
 import org.opentcs.components.kernel.services.DispatcherService;
@@ -37,6 +39,7 @@ import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
+import org.opentcs.drivers.vehicle.VehicleCommAdapterExecutorProvider;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.VehicleEntryPool;
@@ -61,6 +64,7 @@ import org.opentcs.kernel.services.StandardRouterService;
 import org.opentcs.kernel.services.StandardTCSObjectService;
 import org.opentcs.kernel.services.StandardTransportOrderService;
 import org.opentcs.kernel.services.StandardVehicleService;
+import org.opentcs.kernel.vehicles.DefaultVehicleCommAdapterExecutorProvider;
 import org.opentcs.kernel.vehicles.DefaultVehicleControllerPool;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.vehicles.VehicleCommAdapterRegistry;
@@ -76,6 +80,7 @@ import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
 import org.opentcs.kernel.workingset.TCSObjectManager;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
 import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.util.event.AsyncEventBus;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.SimpleEventBus;
@@ -220,6 +225,11 @@ public class DefaultKernelInjectionModule
         .to(DefaultVehicleControllerPool.class);
     bind(LocalVehicleControllerPool.class)
         .to(DefaultVehicleControllerPool.class);
+
+    bind(DefaultVehicleCommAdapterExecutorProvider.class)
+        .in(Singleton.class);
+    bind(VehicleCommAdapterExecutorProvider.class)
+        .to(DefaultVehicleCommAdapterExecutorProvider.class);
   }
 
   private void configurePeripheralControllers() {
@@ -238,7 +248,25 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureEventHub() {
-    EventBus newEventBus = new SimpleEventBus();
+    EventBusConfiguration configuration
+        = getConfigBindingProvider().get(
+            EventBusConfiguration.PREFIX,
+            EventBusConfiguration.class
+        );
+    EventBus newEventBus;
+    switch (configuration.type()) {
+      case ASYNCHRONOUS:
+        Set<String> asynchronousHandlers = Set.copyOf(configuration.asynchronousHandlers());
+        newEventBus = new AsyncEventBus(
+            handler -> asynchronousHandlers.contains(handler.getClass().getName()),
+            configuration.queueCapacity(),
+            configuration.overflowPolicy()
+        );
+        break;
+      case SYNCHRONOUS:
+      default:
+        newEventBus = new SimpleEventBus();
+    }
     bind(EventHandler.class)
         .annotatedWith(ApplicationEventBus.class)
         .toInstance(newEventBus);
@@ -319,6 +347,9 @@ public class DefaultKernelInjectionModule
     bind(Executor.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
+    // Shared by all simulating drivers; it does not start a thread unless actually being used.
+    bind(DiscreteEventSimulationExecutor.class)
+        .toInstance(new DiscreteEventSimulationExecutor(executor));
   }
 
   private void configureWatchdogExtension() {
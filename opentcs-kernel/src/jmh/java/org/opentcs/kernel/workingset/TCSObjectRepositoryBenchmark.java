@@ -0,0 +1,201 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.components.kernel.services.ObjectAttribute;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Benchmarks retrieving objects from a {@link TCSObjectRepository} filled with vehicles and
+ * transport orders, most of which are finished.
+ * <p>
+ * The single-threaded benchmarks compare filtering transport orders with a predicate, looking them
+ * up via an indexed attribute and filtering them in a snapshot. The benchmark groups compare the
+ * read throughput of threads reading while holding a global lock with that of threads reading from
+ * snapshots, while another thread continuously updates vehicles (holding the global lock, like the
+ * kernel does).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TCSObjectRepositoryBenchmark {
+
+  /**
+   * The number of vehicles in the repository.
+   */
+  private static final int VEHICLE_COUNT = 100;
+  /**
+   * Every n-th transport order is dispatchable, all others are finished.
+   */
+  private static final int DISPATCHABLE_INTERVAL = 10;
+  @Param({"1000", "10000"})
+  private int transportOrderCount;
+  private final Object globalSyncObject = new Object();
+  private final TCSObjectRepository repository = new TCSObjectRepository();
+  private final List<Vehicle> vehicles = new ArrayList<>();
+  private int energyLevel;
+
+  /**
+   * Creates a new instance.
+   */
+  public TCSObjectRepositoryBenchmark() {
+  }
+
+  /**
+   * Fills the repository.
+   */
+  @Setup
+  public void setUp() {
+    Point point = new Point("Point-1");
+    repository.addObject(point);
+    for (int i = 0; i < VEHICLE_COUNT; i++) {
+      Vehicle vehicle = new Vehicle(String.format("Vehicle-%04d", i));
+      repository.addObject(vehicle);
+      vehicles.add(vehicle);
+    }
+    for (int i = 0; i < transportOrderCount; i++) {
+      repository.addObject(
+          new TransportOrder(
+              String.format("TransportOrder-%05d", i),
+              List.of(new DriveOrder(new DriveOrder.Destination(point.getReference())))
+          )
+              .withState(
+                  i % DISPATCHABLE_INTERVAL == 0
+                      ? TransportOrder.State.DISPATCHABLE
+                      : TransportOrder.State.FINISHED
+              )
+      );
+    }
+  }
+
+  /**
+   * Filters the dispatchable transport orders with a predicate.
+   *
+   * @return The dispatchable transport orders.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Set<TransportOrder> getObjectsWithPredicate() {
+    return repository.getObjects(TransportOrder.class, this::isDispatchable);
+  }
+
+  /**
+   * Looks up the dispatchable transport orders via the index of their states.
+   *
+   * @return The dispatchable transport orders.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Set<TransportOrder> getObjectsWithIndexedAttribute() {
+    return repository.getObjects(
+        ObjectAttribute.TRANSPORT_ORDER_STATE,
+        TransportOrder.State.DISPATCHABLE
+    );
+  }
+
+  /**
+   * Filters the dispatchable transport orders in a snapshot with a predicate.
+   *
+   * @return The dispatchable transport orders.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Set<TransportOrder> getObjectsFromSnapshot() {
+    return repository.getSnapshot().getObjects(TransportOrder.class, this::isDispatchable);
+  }
+
+  /**
+   * Reads vehicles and transport orders while holding the global lock.
+   *
+   * @return The number of objects read.
+   */
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int readLocked() {
+    synchronized (globalSyncObject) {
+      return repository.getObjects(Vehicle.class).size()
+          + repository.getObjects(TransportOrder.class, this::isDispatchable).size();
+    }
+  }
+
+  /**
+   * Updates a vehicle while holding the global lock, concurrently to {@link #readLocked()}.
+   */
+  @Benchmark
+  @Group("locked")
+  @GroupThreads(1)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void updateWhileReadingLocked() {
+    updateVehicle();
+  }
+
+  /**
+   * Reads vehicles and transport orders from a snapshot.
+   *
+   * @return The number of objects read.
+   */
+  @Benchmark
+  @Group("snapshot")
+  @GroupThreads(3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int readFromSnapshot() {
+    TCSObjectSnapshot snapshot = repository.getSnapshot();
+    return snapshot.getObjects(Vehicle.class).size()
+        + snapshot.getObjects(TransportOrder.class, this::isDispatchable).size();
+  }
+
+  /**
+   * Updates a vehicle while holding the global lock, concurrently to {@link #readFromSnapshot()}.
+   */
+  @Benchmark
+  @Group("snapshot")
+  @GroupThreads(1)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void updateWhileReadingFromSnapshot() {
+    updateVehicle();
+  }
+
+  private boolean isDispatchable(TransportOrder order) {
+    return order.hasState(TransportOrder.State.DISPATCHABLE);
+  }
+
+  private void updateVehicle() {
+    // Only a single thread updates vehicles, so there is no need to synchronize the counter.
+    energyLevel = (energyLevel + 1) % 100;
+    Vehicle vehicle = vehicles.get(energyLevel % vehicles.size());
+    synchronized (globalSyncObject) {
+      repository.replaceObject(vehicle.withEnergyLevel(energyLevel));
+    }
+  }
+}
@@ -0,0 +1,86 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import java.util.List;
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+import org.opentcs.util.event.AsyncEventBus;
+
+/**
+ * Provides methods to configure the kernel's application event bus.
+ */
+@ConfigurationPrefix(EventBusConfiguration.PREFIX)
+public interface EventBusConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "eventbus";
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The type of event bus to be used.",
+          "SYNCHRONOUS: Deliver events to all handlers synchronously.",
+          "ASYNCHRONOUS: Deliver events to the handlers configured via 'asynchronousHandlers' "
+              + "asynchronously, via a bounded queue for each handler."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_type"
+  )
+  EventBusType type();
+
+  @ConfigurationEntry(
+      type = "Comma-separated list of strings",
+      description = {
+          "The fully qualified names of the classes of handlers that events are delivered to "
+              + "asynchronously.",
+          "Used only with the ASYNCHRONOUS event bus."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_async_0"
+  )
+  List<String> asynchronousHandlers();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events queued for each handler that events are delivered to "
+              + "asynchronously.",
+          "Used only with the ASYNCHRONOUS event bus."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_async_1"
+  )
+  int queueCapacity();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "What to do with events for a handler whose queue is full.",
+          "BLOCK: Let the publishing thread wait until there is space in the queue again.",
+          "DROP_OLDEST: Drop the oldest event in the queue.",
+          "COALESCE_BY_OBJECT: Merge an object change event with the latest queued event for the "
+              + "same object, if possible, and let the publishing thread wait otherwise.",
+          "Used only with the ASYNCHRONOUS event bus."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_async_2"
+  )
+  AsyncEventBus.OverflowPolicy overflowPolicy();
+
+  /**
+   * The types of event buses available.
+   */
+  enum EventBusType {
+    /**
+     * Deliver events to all handlers synchronously.
+     */
+    SYNCHRONOUS,
+    /**
+     * Deliver events to designated handlers asynchronously.
+     */
+    ASYNCHRONOUS;
+  }
+}
@@ -92,6 +92,74 @@ public interface KernelApplicationConfiguration {
   )
   VehicleResourceManagementType vehicleResourceManagementType();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of history entries kept for each object.",
+          "If exceeded, the oldest entries are discarded. If 0 or less, the number is unlimited."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "6_history"
+  )
+  int maxObjectHistoryEntries();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether objects are read from snapshots of the kernel's objects without synchronizing "
+              + "with the kernel's global lock.",
+          "If true, read-heavy clients do not contend with kernel threads modifying objects.",
+          "As a new snapshot is published with every modified object, objects read while the "
+              + "kernel modifies several objects at once may reflect an intermediate state of that "
+              + "modification. Enable this only if clients can cope with that."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "7_reads"
+  )
+  boolean lockFreeObjectReads();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The minimum time (in ms) between two updates of a vehicle's pose, energy level and "
+              + "bounding box as reported by its communication adapter.",
+          "Changes reported in between are conflated, with only the latest value of each "
+              + "attribute being applied. If 0, every change is applied immediately."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "8_telemetry"
+  )
+  int vehicleTelemetryPublishInterval();
+
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The type of executor communication adapters requesting an executor run their tasks on.",
+          "Possible values:",
+          "KERNEL_EXECUTOR: All communication adapters share the kernel executor.",
+          "STRIPED: Communication adapters are distributed evenly across a pool of dedicated "
+              + "single-threaded executors. Changes reported by the adapters are processed on the "
+              + "kernel executor in batches. As the kernel still reads the adapters' process "
+              + "models on the kernel executor, this is safe only for adapters whose process "
+              + "models may be read concurrently to being modified."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "9_commadapter_executor_1"
+  )
+  CommAdapterExecutorType vehicleCommAdapterExecutorType();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of dedicated executors communication adapters are distributed across, if "
+              + "the executor type is STRIPED.",
+          "If 0 or less, the number of processors available to the kernel is used."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "9_commadapter_executor_2"
+  )
+  int vehicleCommAdapterExecutorThreads();
+
   /**
    * Defines the different types of how vehicle resources (i.e., paths, points and locations
    * allocated by vehicles) are managed.
@@ -118,4 +186,19 @@ public interface KernelApplicationConfiguration {
      */
     LENGTH_RESPECTED;
   }
+
+  /**
+   * Defines the types of executors communication adapters may run their tasks on.
+   */
+  enum CommAdapterExecutorType {
+    /**
+     * All communication adapters share the kernel executor.
+     */
+    KERNEL_EXECUTOR,
+    /**
+     * Communication adapters are distributed evenly across a pool of dedicated single-threaded
+     * executors.
+     */
+    STRIPED;
+  }
 }
@@ -25,6 +25,7 @@ import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.peripherals.LocalPeripheralControllerPool;
 import org.opentcs.kernel.peripherals.PeripheralAttachmentManager;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.vehicles.DefaultVehicleCommAdapterExecutorProvider;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
 import org.opentcs.kernel.workingset.PlantModelManager;
@@ -108,6 +109,10 @@ public class KernelStateOperating
    * Triggers dispatching of vehicles and transport orders on certain events.
    */
   private final VehicleDispatchTrigger vehicleDispatchTrigger;
+  /**
+   * Provides executors for communication adapters.
+   */
+  private final DefaultVehicleCommAdapterExecutorProvider commAdapterExecutorProvider;
   /**
    * A handle for the cleaner task.
    */
@@ -141,6 +146,7 @@ public class KernelStateOperating
    * @param pathLockListener Listens to path lock events and updates the routing topology.
    * @param vehicleDispatchTrigger Triggers dispatching of vehicles and transport orders on certain
    * events.
+   * @param commAdapterExecutorProvider Provides executors for communication adapters.
    */
   @Inject
   public KernelStateOperating(
@@ -166,7 +172,8 @@ public class KernelStateOperating
       PeripheralAttachmentManager peripheralAttachmentManager,
       InternalVehicleService vehicleService,
       PathLockEventListener pathLockListener,
-      VehicleDispatchTrigger vehicleDispatchTrigger
+      VehicleDispatchTrigger vehicleDispatchTrigger,
+      DefaultVehicleCommAdapterExecutorProvider commAdapterExecutorProvider
   ) {
     super(
         globalSyncObject,
@@ -199,6 +206,10 @@ public class KernelStateOperating
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.pathLockListener = requireNonNull(pathLockListener, "pathLockListener");
     this.vehicleDispatchTrigger = requireNonNull(vehicleDispatchTrigger, "vehicleDispatchTrigger");
+    this.commAdapterExecutorProvider = requireNonNull(
+        commAdapterExecutorProvider,
+        "commAdapterExecutorProvider"
+    );
   }
 
   // Implementation of interface Kernel starts here.
@@ -234,6 +245,11 @@ public class KernelStateOperating
     vehicleControllerPool.initialize();
     LOG.debug("Initializing peripheral controller pool '{}'...", peripheralControllerPool);
     peripheralControllerPool.initialize();
+    LOG.debug(
+        "Initializing communication adapter executor provider '{}'...",
+        commAdapterExecutorProvider
+    );
+    commAdapterExecutorProvider.initialize();
     LOG.debug("Initializing attachment manager '{}'...", attachmentManager);
     attachmentManager.initialize();
     LOG.debug("Initializing peripheral attachment manager '{}'...", peripheralAttachmentManager);
@@ -302,6 +318,12 @@ public class KernelStateOperating
     vehicleControllerPool.terminate();
     LOG.debug("Terminating attachment manager '{}'...", attachmentManager);
     attachmentManager.terminate();
+    // Shut down the communication adapters' executors only after the adapters have been detached.
+    LOG.debug(
+        "Terminating communication adapter executor provider '{}'...",
+        commAdapterExecutorProvider
+    );
+    commAdapterExecutorProvider.terminate();
     LOG.debug("Terminating peripheral attachment manager '{}'...", peripheralAttachmentManager);
     peripheralAttachmentManager.terminate();
 
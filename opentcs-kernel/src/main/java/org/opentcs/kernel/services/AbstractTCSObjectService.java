@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.function.Predicate;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
@@ -76,6 +77,19 @@ public abstract class AbstractTCSObjectService
     return getObjectService().fetchObjects(clazz, predicate);
   }
 
+  @Override
+  public <T extends TCSObject<T>, V> Set<T> fetchObjects(
+      @Nonnull
+      ObjectAttribute<T, V> attribute,
+      @Nullable
+      V value
+  )
+      throws CredentialsException {
+    requireNonNull(attribute, "attribute");
+
+    return getObjectService().fetchObjects(attribute, value);
+  }
+
   @Override
   public void updateObjectProperty(
       TCSObjectReference<?> ref,
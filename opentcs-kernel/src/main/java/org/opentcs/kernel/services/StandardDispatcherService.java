@@ -5,8 +5,11 @@ package org.opentcs.kernel.services;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentException;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectUnknownException;
@@ -88,6 +91,26 @@ public class StandardDispatcherService
     }
   }
 
+  @Override
+  public List<BatchItemResult<TCSObjectReference<TransportOrder>>> withdrawByTransportOrders(
+      List<TCSObjectReference<TransportOrder>> refs,
+      boolean immediateAbort
+  ) {
+    requireNonNull(refs, "refs");
+
+    synchronized (globalSyncObject) {
+      return refs.stream()
+          .map(ref -> BatchItemResult.of(() -> {
+            dispatcher.withdrawOrder(
+                objectRepo.getObject(TransportOrder.class, ref),
+                immediateAbort
+            );
+            return ref;
+          }))
+          .collect(Collectors.toList());
+    }
+  }
+
   @Override
   public void reroute(TCSObjectReference<Vehicle> ref, ReroutingType reroutingType)
       throws ObjectUnknownException {
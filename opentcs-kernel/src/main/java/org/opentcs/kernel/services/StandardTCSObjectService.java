@@ -10,17 +10,24 @@ import jakarta.inject.Inject;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.workingset.TCSObjectManager;
 import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TCSObjectSnapshot;
 
 /**
  * This class is the standard implementation of the {@link TCSObjectService} interface.
+ * <p>
+ * If configured to do so, objects are fetched from the object repository's most recent snapshot,
+ * without synchronizing with the kernel's global lock.
+ * </p>
  */
 public class StandardTCSObjectService
     implements
@@ -34,21 +41,28 @@ public class StandardTCSObjectService
    * The object manager.
    */
   private final TCSObjectManager objectManager;
+  /**
+   * The kernel application's configuration.
+   */
+  private final KernelApplicationConfiguration configuration;
 
   /**
    * Creates a new instance.
    *
    * @param globalSyncObject The kernel threads' global synchronization object.
    * @param objectManager The object manager.
+   * @param configuration The kernel application's configuration.
    */
   @Inject
   public StandardTCSObjectService(
       @GlobalSyncObject
       Object globalSyncObject,
-      TCSObjectManager objectManager
+      TCSObjectManager objectManager,
+      KernelApplicationConfiguration configuration
   ) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
     this.objectManager = requireNonNull(objectManager, "objectManager");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
@@ -56,6 +70,10 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(ref, "ref");
 
+    if (configuration.lockFreeObjectReads()) {
+      return getObjectSnapshot().getObjectOrNull(clazz, ref);
+    }
+
     synchronized (getGlobalSyncObject()) {
       return getObjectRepo().getObjectOrNull(clazz, ref);
     }
@@ -65,6 +83,10 @@ public class StandardTCSObjectService
   public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
     requireNonNull(clazz, "clazz");
 
+    if (configuration.lockFreeObjectReads()) {
+      return getObjectSnapshot().getObjectOrNull(clazz, name);
+    }
+
     synchronized (getGlobalSyncObject()) {
       return getObjectRepo().getObjectOrNull(clazz, name);
     }
@@ -74,6 +96,10 @@ public class StandardTCSObjectService
   public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
     requireNonNull(clazz, "clazz");
 
+    if (configuration.lockFreeObjectReads()) {
+      return getObjectSnapshot().getObjects(clazz);
+    }
+
     synchronized (getGlobalSyncObject()) {
       Set<T> objects = getObjectRepo().getObjects(clazz);
       Set<T> copies = new HashSet<>();
@@ -94,11 +120,29 @@ public class StandardTCSObjectService
     requireNonNull(clazz, "clazz");
     requireNonNull(predicate, "predicate");
 
+    if (configuration.lockFreeObjectReads()) {
+      return getObjectSnapshot().getObjects(clazz, predicate);
+    }
+
     synchronized (getGlobalSyncObject()) {
       return getObjectRepo().getObjects(clazz, predicate);
     }
   }
 
+  @Override
+  public <T extends TCSObject<T>, V> Set<T> fetchObjects(
+      @Nonnull
+      ObjectAttribute<T, V> attribute,
+      @Nullable
+      V value
+  ) {
+    requireNonNull(attribute, "attribute");
+
+    synchronized (getGlobalSyncObject()) {
+      return getObjectRepo().getObjects(attribute, value);
+    }
+  }
+
   @Override
   public void updateObjectProperty(
       TCSObjectReference<?> ref,
@@ -133,4 +177,8 @@ public class StandardTCSObjectService
   protected TCSObjectRepository getObjectRepo() {
     return objectManager.getObjectRepo();
   }
+
+  protected TCSObjectSnapshot getObjectSnapshot() {
+    return getObjectRepo().getSnapshot();
+  }
 }
@@ -6,8 +6,10 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.BatchItemResult;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.components.kernel.services.TransportOrderService;
@@ -210,6 +212,32 @@ public class StandardTransportOrderService
     }
   }
 
+  @Override
+  public List<BatchItemResult<OrderSequence>> createOrderSequences(
+      List<OrderSequenceCreationTO> tos
+  ) {
+    requireNonNull(tos, "tos");
+
+    synchronized (globalSyncObject) {
+      return tos.stream()
+          .map(to -> BatchItemResult.of(() -> orderPoolManager.createOrderSequence(to)))
+          .collect(Collectors.toList());
+    }
+  }
+
+  @Override
+  public List<BatchItemResult<TransportOrder>> createTransportOrders(
+      List<TransportOrderCreationTO> tos
+  ) {
+    requireNonNull(tos, "tos");
+
+    synchronized (globalSyncObject) {
+      return tos.stream()
+          .map(to -> BatchItemResult.of(() -> orderPoolManager.createTransportOrder(to)))
+          .collect(Collectors.toList());
+    }
+  }
+
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
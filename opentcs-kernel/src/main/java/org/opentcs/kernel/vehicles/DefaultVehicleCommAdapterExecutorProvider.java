@@ -0,0 +1,153 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.drivers.vehicle.VehicleCommAdapterExecutorProvider;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides executors for communication adapters according to the kernel's configuration.
+ * <p>
+ * With {@link KernelApplicationConfiguration.CommAdapterExecutorType#STRIPED}, vehicles are
+ * assigned to a fixed number of single-threaded executors in a round-robin fashion. A vehicle keeps
+ * its executor until this instance is terminated, so tasks of communication adapters attached to
+ * the same vehicle are always executed sequentially.
+ * </p>
+ * <p>
+ * Terminating this instance shuts down the dedicated executors. It should therefore be terminated
+ * only after all communication adapters using them have been terminated.
+ * </p>
+ */
+public class DefaultVehicleCommAdapterExecutorProvider
+    implements
+      VehicleCommAdapterExecutorProvider,
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG
+      = LoggerFactory.getLogger(DefaultVehicleCommAdapterExecutorProvider.class);
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The type of executors to provide.
+   */
+  private final KernelApplicationConfiguration.CommAdapterExecutorType executorType;
+  /**
+   * The dedicated executors, created on demand.
+   */
+  private final ScheduledExecutorService[] stripes;
+  /**
+   * The dedicated executors assigned to vehicles, mapped by vehicle name.
+   */
+  private final Map<String, ScheduledExecutorService> assignedExecutors = new HashMap<>();
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor.
+   * @param configuration The kernel's configuration.
+   */
+  @Inject
+  public DefaultVehicleCommAdapterExecutorProvider(
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      KernelApplicationConfiguration configuration
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    requireNonNull(configuration, "configuration");
+    this.executorType = configuration.vehicleCommAdapterExecutorType();
+    this.stripes = new ScheduledExecutorService[
+        configuration.vehicleCommAdapterExecutorThreads() > 0
+            ? configuration.vehicleCommAdapterExecutorThreads()
+            : Runtime.getRuntime().availableProcessors()
+    ];
+  }
+
+  @Override
+  public synchronized void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public synchronized boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public synchronized void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    for (int i = 0; i < stripes.length; i++) {
+      if (stripes[i] != null) {
+        LOG.debug("Shutting down communication adapter executor {}...", i);
+        stripes[i].shutdown();
+        stripes[i] = null;
+      }
+    }
+    assignedExecutors.clear();
+
+    initialized = false;
+  }
+
+  @Override
+  @Nonnull
+  public synchronized ScheduledExecutorService getExecutorFor(
+      @Nonnull
+      Vehicle vehicle
+  ) {
+    requireNonNull(vehicle, "vehicle");
+
+    if (executorType == KernelApplicationConfiguration.CommAdapterExecutorType.KERNEL_EXECUTOR) {
+      return kernelExecutor;
+    }
+
+    return assignedExecutors.computeIfAbsent(
+        vehicle.getName(),
+        vehicleName -> stripe(assignedExecutors.size() % stripes.length)
+    );
+  }
+
+  private ScheduledExecutorService stripe(int index) {
+    if (stripes[index] == null) {
+      LOG.debug("Creating communication adapter executor {}...", index);
+      stripes[index] = new LoggingScheduledThreadPoolExecutor(
+          1,
+          runnable -> {
+            Thread thread = new Thread(runnable, "vehicleCommAdapterExecutor-" + index);
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+            return thread;
+          }
+      );
+    }
+    return stripes[index];
+  }
+}
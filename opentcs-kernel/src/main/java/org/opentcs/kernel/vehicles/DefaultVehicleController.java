@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
 import org.opentcs.components.kernel.Scheduler;
@@ -32,6 +33,7 @@ import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
@@ -47,6 +49,7 @@ import org.opentcs.data.order.ReroutingType;
 import org.opentcs.data.order.Route.Step;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.AdapterCommand;
+import org.opentcs.drivers.vehicle.BasicVehicleCommAdapter;
 import org.opentcs.drivers.vehicle.IncomingPoseTransformer;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
 import org.opentcs.drivers.vehicle.MovementCommand;
@@ -55,6 +58,7 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleController;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
 import org.opentcs.drivers.vehicle.management.ProcessModelEvent;
+import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.vehicles.transformers.VehicleDataTransformerRegistry;
 import org.opentcs.util.ExplainedBoolean;
@@ -156,6 +160,21 @@ public class DefaultVehicleController
    */
   private final Map<MovementCommand, MovementCommand> transformedToOriginalCommands
       = new HashMap<>();
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * Conflates high-frequency telemetry updates reported by the communication adapter.
+   * Created when this instance is initialized.
+   */
+  private TelemetryConflator telemetryConflator;
+  /**
+   * Relays changes of the process model to the kernel executor, or {@code null}, if the
+   * communication adapter runs its tasks on the kernel executor and changes are processed
+   * immediately. Created when this instance is initialized.
+   */
+  private ProcessModelEventRelay processModelEventRelay;
 
   /**
    * Creates a new instance associated with the given vehicle.
@@ -173,6 +192,7 @@ public class DefaultVehicleController
    * @param configuration The configuration to use.
    * @param commandProcessingTracker Track processing of movement commands.
    * @param dataTransformerRegistry A registry for data transformer factories.
+   * @param kernelExecutor The kernel executor, on which conflated telemetry updates are applied.
    */
   @Inject
   public DefaultVehicleController(
@@ -204,7 +224,10 @@ public class DefaultVehicleController
       @Nonnull
       CommandProcessingTracker commandProcessingTracker,
       @Nonnull
-      VehicleDataTransformerRegistry dataTransformerRegistry
+      VehicleDataTransformerRegistry dataTransformerRegistry,
+      @Nonnull
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor
   ) {
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.commAdapter = requireNonNull(adapter, "adapter");
@@ -230,6 +253,7 @@ public class DefaultVehicleController
         = dataTransformerRegistry
             .findFactoryFor(vehicle)
             .createIncomingPoseTransformer(vehicle);
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
   }
 
   @Override
@@ -249,6 +273,16 @@ public class DefaultVehicleController
         vehicle.getReference(),
         commAdapter.getRechargeOperation()
     );
+    telemetryConflator = new TelemetryConflator(
+        kernelExecutor,
+        configuration.vehicleTelemetryPublishInterval(),
+        this::handleConflatedProcessModelEvents
+    );
+    processModelEventRelay
+        = commAdapter instanceof BasicVehicleCommAdapter basicAdapter
+            && basicAdapter.getExecutor() != kernelExecutor
+                ? new ProcessModelEventRelay(kernelExecutor, this::handleRelayedProcessModelEvents)
+                : null;
     commAdapter.getProcessModel().addPropertyChangeListener(this);
 
     // Initialize standard attributes once.
@@ -283,6 +317,7 @@ public class DefaultVehicleController
     peripheralInteractor.terminate();
 
     commAdapter.getProcessModel().removePropertyChangeListener(this);
+    telemetryConflator.clear();
     // Reset the vehicle's position.
     updatePosition(null, null);
     updateVehiclePose(new Pose(null, Double.NaN));
@@ -304,7 +339,12 @@ public class DefaultVehicleController
       return;
     }
 
-    handleProcessModelEvent(evt);
+    if (processModelEventRelay != null) {
+      processModelEventRelay.relay(evt);
+      return;
+    }
+
+    processProcessModelEvent(evt);
   }
 
   @Override
@@ -839,15 +879,53 @@ public class DefaultVehicleController
     dispatcherService.withdrawByVehicle(vehicle.getReference(), false);
   }
 
-  @SuppressWarnings("unchecked")
-  private void handleProcessModelEvent(PropertyChangeEvent evt) {
+  private void handleRelayedProcessModelEvents(List<PropertyChangeEvent> events) {
+    if (!isInitialized()) {
+      return;
+    }
+
+    for (PropertyChangeEvent evt : events) {
+      processProcessModelEvent(evt);
+    }
+  }
+
+  private void processProcessModelEvent(PropertyChangeEvent evt) {
+    if (telemetryConflator.offer(evt)) {
+      return;
+    }
+
+    // Apply pending telemetry first, so changes are applied in the order they were made.
+    List<PropertyChangeEvent> pendingTelemetry = telemetryConflator.takePendingChanges();
+    if (!pendingTelemetry.isEmpty()) {
+      handleConflatedProcessModelEvents(pendingTelemetry);
+    }
+
     eventBus.onEvent(
         new ProcessModelEvent(
             evt.getPropertyName(),
             commAdapter.createTransferableProcessModel()
         )
     );
+    handleProcessModelEvent(evt);
+  }
 
+  private void handleConflatedProcessModelEvents(List<PropertyChangeEvent> events) {
+    if (!isInitialized()) {
+      return;
+    }
+
+    // Create the serializable representation of the process model only once for the whole batch.
+    VehicleProcessModelTO processModel = commAdapter.createTransferableProcessModel();
+    for (PropertyChangeEvent evt : events) {
+      eventBus.onEvent(new ProcessModelEvent(evt.getPropertyName(), processModel));
+    }
+    for (PropertyChangeEvent evt : events) {
+      handleProcessModelEvent(evt);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void handleProcessModelEvent(PropertyChangeEvent evt) {
     if (Objects.equals(evt.getPropertyName(), VehicleProcessModel.Attribute.POSITION.name())) {
       updateVehiclePosition((String) evt.getNewValue());
     }
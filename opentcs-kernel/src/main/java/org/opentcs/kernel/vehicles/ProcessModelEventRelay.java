@@ -0,0 +1,89 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Relays changes of a process model that are made on arbitrary threads to an executor.
+ * <p>
+ * Changes are handed over to the handler in batches, in the order they were made. At most one task
+ * handing over pending changes waits for execution at any time, so the number of tasks submitted
+ * to the executor does not grow with the rate of changes.
+ * </p>
+ */
+class ProcessModelEventRelay {
+
+  /**
+   * The executor the handler is called on.
+   */
+  private final Executor executor;
+  /**
+   * Handles batches of changes.
+   */
+  private final Consumer<List<PropertyChangeEvent>> handler;
+  /**
+   * The changes not yet handed over to the handler.
+   */
+  private final Queue<PropertyChangeEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+  /**
+   * Whether a task handing over the pending changes has been submitted and not started, yet.
+   */
+  private final AtomicBoolean drainSubmitted = new AtomicBoolean();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor The executor the handler is called on.
+   * @param handler Handles batches of changes.
+   */
+  ProcessModelEventRelay(
+      @Nonnull
+      Executor executor,
+      @Nonnull
+      Consumer<List<PropertyChangeEvent>> handler
+  ) {
+    this.executor = requireNonNull(executor, "executor");
+    this.handler = requireNonNull(handler, "handler");
+  }
+
+  /**
+   * Relays the given change to the executor.
+   *
+   * @param evt The change.
+   */
+  public void relay(
+      @Nonnull
+      PropertyChangeEvent evt
+  ) {
+    pendingChanges.add(requireNonNull(evt, "evt"));
+    if (drainSubmitted.compareAndSet(false, true)) {
+      executor.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    // Reset the flag first, so changes made while draining will be handled by a subsequent task.
+    drainSubmitted.set(false);
+
+    List<PropertyChangeEvent> changes = new ArrayList<>();
+    PropertyChangeEvent evt;
+    while ((evt = pendingChanges.poll()) != null) {
+      changes.add(evt);
+    }
+
+    if (!changes.isEmpty()) {
+      handler.accept(changes);
+    }
+  }
+}
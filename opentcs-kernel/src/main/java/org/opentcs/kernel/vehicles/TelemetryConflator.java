@@ -0,0 +1,168 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+
+/**
+ * Conflates high-frequency telemetry updates of a single vehicle's process model.
+ * <p>
+ * Changes of the vehicle's pose, energy level and bounding box are not handled immediately.
+ * Instead, only the latest change of each of these attributes is kept and handed over to the
+ * handler in a batch, at most once per publish interval. All other changes are not conflated.
+ * </p>
+ * <p>
+ * To keep changes in the order they were made, callers should take the pending changes and handle
+ * them before handling a change that is not conflated.
+ * </p>
+ */
+class TelemetryConflator {
+
+  /**
+   * The names of the process model attributes that are conflated.
+   */
+  private static final Set<String> CONFLATED_ATTRIBUTES = Set.of(
+      VehicleProcessModel.Attribute.POSE.name(),
+      VehicleProcessModel.Attribute.ENERGY_LEVEL.name(),
+      VehicleProcessModel.Attribute.BOUNDING_BOX.name()
+  );
+  /**
+   * The executor the handler is called on.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The minimum time between two batches handed over to the handler (in ns).
+   */
+  private final long publishInterval;
+  /**
+   * Handles batches of conflated changes.
+   */
+  private final Consumer<List<PropertyChangeEvent>> handler;
+  /**
+   * The latest pending change per attribute name, in the order the attributes first changed.
+   */
+  private final Map<String, PropertyChangeEvent> pendingChanges = new LinkedHashMap<>();
+  /**
+   * The scheduled flush of the pending changes, or {@code null}, if no flush is scheduled.
+   */
+  private ScheduledFuture<?> scheduledFlush;
+  /**
+   * The point of time the pending changes were last flushed (in ns, see
+   * {@link System#nanoTime()}).
+   */
+  private long lastFlush;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor The executor the handler is called on.
+   * @param publishInterval The minimum time between two batches handed over to the handler
+   * (in ms). If 0, changes are not conflated at all.
+   * @param handler Handles batches of conflated changes.
+   */
+  TelemetryConflator(
+      @Nonnull
+      ScheduledExecutorService executor,
+      long publishInterval,
+      @Nonnull
+      Consumer<List<PropertyChangeEvent>> handler
+  ) {
+    this.executor = requireNonNull(executor, "executor");
+    this.publishInterval = TimeUnit.MILLISECONDS.toNanos(
+        checkInRange(publishInterval, 0, Long.MAX_VALUE, "publishInterval")
+    );
+    this.handler = requireNonNull(handler, "handler");
+    this.lastFlush = System.nanoTime() - this.publishInterval;
+  }
+
+  /**
+   * Offers the given change for conflation.
+   *
+   * @param evt The change.
+   * @return {@code true} if, and only if, the change will be handed over to the handler later.
+   * If {@code false}, the change is not conflated and the caller is responsible for handling it.
+   */
+  public synchronized boolean offer(
+      @Nonnull
+      PropertyChangeEvent evt
+  ) {
+    requireNonNull(evt, "evt");
+
+    if (publishInterval == 0 || !CONFLATED_ATTRIBUTES.contains(evt.getPropertyName())) {
+      return false;
+    }
+
+    // Latest value wins, but keep the attribute's original position in the batch.
+    pendingChanges.put(evt.getPropertyName(), evt);
+    if (scheduledFlush == null) {
+      long delay = Math.max(0, lastFlush + publishInterval - System.nanoTime());
+      scheduledFlush = executor.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+    }
+    return true;
+  }
+
+  /**
+   * Discards all pending changes and cancels any scheduled flush.
+   */
+  public synchronized void clear() {
+    pendingChanges.clear();
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+  }
+
+  /**
+   * Takes all pending changes, so they are not handed over to the handler, and cancels any
+   * scheduled flush.
+   *
+   * @return The pending changes, in the order the attributes first changed.
+   */
+  @Nonnull
+  public synchronized List<PropertyChangeEvent> takePendingChanges() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+    return drainPendingChanges();
+  }
+
+  private void flush() {
+    List<PropertyChangeEvent> changes;
+    synchronized (this) {
+      if (scheduledFlush == null) {
+        // Cleared or taken in the meantime.
+        return;
+      }
+      scheduledFlush = null;
+      changes = drainPendingChanges();
+    }
+
+    if (!changes.isEmpty()) {
+      handler.accept(changes);
+    }
+  }
+
+  private List<PropertyChangeEvent> drainPendingChanges() {
+    List<PropertyChangeEvent> changes = new ArrayList<>(pendingChanges.values());
+    if (!changes.isEmpty()) {
+      pendingChanges.clear();
+      lastFlush = System.nanoTime();
+    }
+    return changes;
+  }
+}
@@ -0,0 +1,124 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.opentcs.components.kernel.services.ObjectAttribute;
+import org.opentcs.data.TCSObject;
+
+/**
+ * A secondary index mapping the values of an attribute to the names of the objects having the
+ * respective value.
+ *
+ * @param <T> The type of the indexed objects.
+ */
+class ObjectAttributeIndex<T extends TCSObject<T>> {
+
+  /**
+   * The indexed attribute.
+   */
+  private final ObjectAttribute<T, ?> attribute;
+  /**
+   * The names of the indexed objects, mapped by their attribute values.
+   */
+  private final Map<Object, Set<String>> namesByValue = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param attribute The indexed attribute.
+   */
+  ObjectAttributeIndex(
+      @Nonnull
+      ObjectAttribute<T, ?> attribute
+  ) {
+    this.attribute = requireNonNull(attribute, "attribute");
+  }
+
+  /**
+   * Returns the indexed attribute.
+   *
+   * @return The indexed attribute.
+   */
+  @Nonnull
+  ObjectAttribute<T, ?> getAttribute() {
+    return attribute;
+  }
+
+  /**
+   * Adds the given object to this index.
+   *
+   * @param object The object.
+   */
+  void add(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    namesByValue.computeIfAbsent(valueOf(object), value -> new HashSet<>()).add(object.getName());
+  }
+
+  /**
+   * Removes the given object from this index.
+   *
+   * @param object The object.
+   */
+  void remove(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    Object value = valueOf(object);
+    Set<String> names = namesByValue.get(value);
+    if (names == null) {
+      return;
+    }
+    names.remove(object.getName());
+    if (names.isEmpty()) {
+      namesByValue.remove(value);
+    }
+  }
+
+  /**
+   * Updates this index for an object being replaced.
+   *
+   * @param oldObject The object being replaced.
+   * @param newObject The replacing object.
+   */
+  void replace(
+      @Nonnull
+      TCSObject<?> oldObject,
+      @Nonnull
+      TCSObject<?> newObject
+  ) {
+    if (Objects.equals(valueOf(oldObject), valueOf(newObject))) {
+      return;
+    }
+    remove(oldObject);
+    add(newObject);
+  }
+
+  /**
+   * Returns the names of the objects having the given attribute value.
+   *
+   * @param value The attribute value.
+   * @return The names of the objects having the given attribute value.
+   */
+  @Nonnull
+  Set<String> getNames(
+      @Nullable
+      Object value
+  ) {
+    return namesByValue.getOrDefault(value, Set.of());
+  }
+
+  private Object valueOf(TCSObject<?> object) {
+    return attribute.getValue(attribute.getObjectClass().cast(object));
+  }
+}
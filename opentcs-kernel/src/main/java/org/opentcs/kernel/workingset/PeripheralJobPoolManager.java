@@ -21,6 +21,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +52,7 @@ public class PeripheralJobPoolManager
    * @param objectRepo The object repo.
    * @param eventHandler The event handler to publish events to.
    * @param orderNameProvider Provides names for peripheral jobs.
+   * @param configuration The kernel application's configuration.
    */
   @Inject
   public PeripheralJobPoolManager(
@@ -60,9 +62,11 @@ public class PeripheralJobPoolManager
       @ApplicationEventBus
       EventHandler eventHandler,
       @Nonnull
-      ObjectNameProvider orderNameProvider
+      ObjectNameProvider orderNameProvider,
+      @Nonnull
+      KernelApplicationConfiguration configuration
   ) {
-    super(objectRepo, eventHandler);
+    super(objectRepo, eventHandler, configuration);
     this.objectNameProvider = requireNonNull(orderNameProvider, "orderNameProvider");
   }
 
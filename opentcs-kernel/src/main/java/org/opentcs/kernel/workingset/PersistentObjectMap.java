@@ -0,0 +1,395 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.opentcs.data.TCSObject;
+
+/**
+ * An immutable map of object names to objects.
+ * <p>
+ * The map is implemented as a hash array mapped trie: Entries are stored in a tree of nodes with up
+ * to 32 children each, where each level of the tree is indexed by five bits of the names' hash
+ * codes. Adding, replacing or removing an entry creates a new map that shares all nodes with the
+ * original one except for the (logarithmically many) nodes on the path to the modified entry.
+ * </p>
+ */
+final class PersistentObjectMap {
+
+  /**
+   * An empty map.
+   */
+  static final PersistentObjectMap EMPTY = new PersistentObjectMap(null, 0);
+  /**
+   * The number of hash code bits used for indexing each level of the trie.
+   */
+  private static final int BITS_PER_LEVEL = 5;
+  /**
+   * The mask for extracting the bits used for indexing a single level of the trie.
+   */
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+  /**
+   * The root node, or {@code null}, if this map is empty.
+   */
+  private final Node root;
+  /**
+   * The number of entries in this map.
+   */
+  private final int size;
+
+  private PersistentObjectMap(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns the number of entries in this map.
+   *
+   * @return The number of entries in this map.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the object with the given name.
+   *
+   * @param name The name.
+   * @return The object with the given name, or {@code null}, if this map does not contain it.
+   */
+  @Nullable
+  TCSObject<?> get(
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(name, "name");
+
+    return root == null ? null : root.get(name.hashCode(), 0, name);
+  }
+
+  /**
+   * Returns a map with the given object added or replacing the object with the same name.
+   *
+   * @param object The object.
+   * @return The new map.
+   */
+  @Nonnull
+  PersistentObjectMap with(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    requireNonNull(object, "object");
+
+    Leaf leaf = new Leaf(object);
+    if (root == null) {
+      return new PersistentObjectMap(leaf, 1);
+    }
+    Node newRoot = root.with(0, leaf);
+    return new PersistentObjectMap(newRoot, get(object.getName()) == null ? size + 1 : size);
+  }
+
+  /**
+   * Returns a map without the object with the given name.
+   *
+   * @param name The name.
+   * @return The new map, or this map, if it does not contain an object with the given name.
+   */
+  @Nonnull
+  PersistentObjectMap without(
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(name, "name");
+
+    if (get(name) == null) {
+      return this;
+    }
+    Node newRoot = root.without(name.hashCode(), 0, name);
+    return newRoot == null ? EMPTY : new PersistentObjectMap(newRoot, size - 1);
+  }
+
+  /**
+   * Passes every object in this map to the given consumer.
+   *
+   * @param consumer The consumer.
+   */
+  void forEach(
+      @Nonnull
+      Consumer<TCSObject<?>> consumer
+  ) {
+    requireNonNull(consumer, "consumer");
+
+    if (root != null) {
+      root.forEach(consumer);
+    }
+  }
+
+  private static int index(int hash, int shift) {
+    return (hash >>> shift) & LEVEL_MASK;
+  }
+
+  /**
+   * Creates a node containing the given two nodes, which must have different hash codes.
+   */
+  private static Node merge(Node node1, Node node2, int shift) {
+    int index1 = index(node1.hash(), shift);
+    int index2 = index(node2.hash(), shift);
+    if (index1 == index2) {
+      return new BranchNode(1 << index1, new Node[]{merge(node1, node2, shift + BITS_PER_LEVEL)});
+    }
+    return new BranchNode(
+        (1 << index1) | (1 << index2),
+        index1 < index2 ? new Node[]{node1, node2} : new Node[]{node2, node1}
+    );
+  }
+
+  /**
+   * A node of the trie.
+   */
+  private interface Node {
+
+    /**
+     * Returns the hash code shared by all entries in this node (leaves and collision nodes only).
+     */
+    int hash();
+
+    TCSObject<?> get(int hash, int shift, String name);
+
+    Node with(int shift, Leaf leaf);
+
+    /**
+     * Returns this node without the entry with the given name, or {@code null}, if the resulting
+     * node would be empty.
+     */
+    Node without(int hash, int shift, String name);
+
+    void forEach(Consumer<TCSObject<?>> consumer);
+  }
+
+  /**
+   * A node containing a single entry.
+   */
+  private static final class Leaf
+      implements
+        Node {
+
+    private final int hash;
+    private final TCSObject<?> object;
+
+    Leaf(TCSObject<?> object) {
+      this.hash = object.getName().hashCode();
+      this.object = object;
+    }
+
+    @Override
+    public int hash() {
+      return hash;
+    }
+
+    @Override
+    public TCSObject<?> get(int hash, int shift, String name) {
+      return this.hash == hash && object.getName().equals(name) ? object : null;
+    }
+
+    @Override
+    public Node with(int shift, Leaf leaf) {
+      if (leaf.hash != hash) {
+        return merge(this, leaf, shift);
+      }
+      if (leaf.object.getName().equals(object.getName())) {
+        return leaf;
+      }
+      return new CollisionNode(hash, new Leaf[]{this, leaf});
+    }
+
+    @Override
+    public Node without(int hash, int shift, String name) {
+      return get(hash, shift, name) == null ? this : null;
+    }
+
+    @Override
+    public void forEach(Consumer<TCSObject<?>> consumer) {
+      consumer.accept(object);
+    }
+  }
+
+  /**
+   * A node containing entries whose names have the same hash code.
+   */
+  private static final class CollisionNode
+      implements
+        Node {
+
+    private final int hash;
+    private final Leaf[] leaves;
+
+    CollisionNode(int hash, Leaf[] leaves) {
+      this.hash = hash;
+      this.leaves = leaves;
+    }
+
+    @Override
+    public int hash() {
+      return hash;
+    }
+
+    @Override
+    public TCSObject<?> get(int hash, int shift, String name) {
+      int position = find(name);
+      return this.hash == hash && position >= 0 ? leaves[position].object : null;
+    }
+
+    @Override
+    public Node with(int shift, Leaf leaf) {
+      if (leaf.hash != hash) {
+        return merge(this, leaf, shift);
+      }
+      int position = find(leaf.object.getName());
+      Leaf[] newLeaves;
+      if (position >= 0) {
+        newLeaves = leaves.clone();
+        newLeaves[position] = leaf;
+      }
+      else {
+        newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+        newLeaves[leaves.length] = leaf;
+      }
+      return new CollisionNode(hash, newLeaves);
+    }
+
+    @Override
+    public Node without(int hash, int shift, String name) {
+      int position = this.hash == hash ? find(name) : -1;
+      if (position < 0) {
+        return this;
+      }
+      if (leaves.length == 2) {
+        return leaves[1 - position];
+      }
+      Leaf[] newLeaves = new Leaf[leaves.length - 1];
+      System.arraycopy(leaves, 0, newLeaves, 0, position);
+      System.arraycopy(leaves, position + 1, newLeaves, position, newLeaves.length - position);
+      return new CollisionNode(hash, newLeaves);
+    }
+
+    @Override
+    public void forEach(Consumer<TCSObject<?>> consumer) {
+      for (Leaf leaf : leaves) {
+        consumer.accept(leaf.object);
+      }
+    }
+
+    private int find(String name) {
+      for (int i = 0; i < leaves.length; i++) {
+        if (leaves[i].object.getName().equals(name)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * An inner node with up to 32 children, indexed by five bits of the entries' hash codes.
+   */
+  private static final class BranchNode
+      implements
+        Node {
+
+    /**
+     * The indices (i.e. set bits) for which this node has children.
+     */
+    private final int bitmap;
+    /**
+     * The children, ordered by their indices.
+     */
+    private final Node[] children;
+
+    BranchNode(int bitmap, Node[] children) {
+      this.bitmap = bitmap;
+      this.children = children;
+    }
+
+    @Override
+    public int hash() {
+      throw new UnsupportedOperationException("Branch nodes do not have a hash code");
+    }
+
+    @Override
+    public TCSObject<?> get(int hash, int shift, String name) {
+      int bit = 1 << index(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      return children[position(bit)].get(hash, shift + BITS_PER_LEVEL, name);
+    }
+
+    @Override
+    public Node with(int shift, Leaf leaf) {
+      int bit = 1 << index(leaf.hash, shift);
+      int position = position(bit);
+      if ((bitmap & bit) == 0) {
+        Node[] newChildren = new Node[children.length + 1];
+        System.arraycopy(children, 0, newChildren, 0, position);
+        newChildren[position] = leaf;
+        System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+        return new BranchNode(bitmap | bit, newChildren);
+      }
+      Node[] newChildren = children.clone();
+      newChildren[position] = children[position].with(shift + BITS_PER_LEVEL, leaf);
+      return new BranchNode(bitmap, newChildren);
+    }
+
+    @Override
+    public Node without(int hash, int shift, String name) {
+      int bit = 1 << index(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+      int position = position(bit);
+      Node child = children[position];
+      Node newChild = child.without(hash, shift + BITS_PER_LEVEL, name);
+      if (newChild == child) {
+        return this;
+      }
+      if (newChild != null) {
+        Node[] newChildren = children.clone();
+        newChildren[position] = newChild;
+        return new BranchNode(bitmap, newChildren);
+      }
+      if (children.length == 1) {
+        return null;
+      }
+      if (children.length == 2 && !(children[1 - position] instanceof BranchNode)) {
+        // Leaves and collision nodes do not depend on their depth, so they can replace this node.
+        return children[1 - position];
+      }
+      Node[] newChildren = new Node[children.length - 1];
+      System.arraycopy(children, 0, newChildren, 0, position);
+      System.arraycopy(
+          children,
+          position + 1,
+          newChildren,
+          position,
+          newChildren.length - position
+      );
+      return new BranchNode(bitmap & ~bit, newChildren);
+    }
+
+    @Override
+    public void forEach(Consumer<TCSObject<?>> consumer) {
+      for (Node child : children) {
+        child.forEach(consumer);
+      }
+    }
+
+    private int position(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+  }
+}
@@ -51,6 +51,7 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +86,7 @@ public class PlantModelManager
    *
    * @param objectRepo The object repo.
    * @param eventHandler The event handler to publish events to.
+   * @param configuration The kernel application's configuration.
    */
   @Inject
   public PlantModelManager(
@@ -92,9 +94,11 @@ public class PlantModelManager
       TCSObjectRepository objectRepo,
       @Nonnull
       @ApplicationEventBus
-      EventHandler eventHandler
+      EventHandler eventHandler,
+      @Nonnull
+      KernelApplicationConfiguration configuration
   ) {
-    super(objectRepo, eventHandler);
+    super(objectRepo, eventHandler, configuration);
   }
 
   /**
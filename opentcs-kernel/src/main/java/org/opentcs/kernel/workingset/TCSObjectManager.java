@@ -13,6 +13,7 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,12 +39,17 @@ public class TCSObjectManager {
    * A handler we should emit object events to.
    */
   private final EventHandler eventHandler;
+  /**
+   * The kernel application's configuration.
+   */
+  private final KernelApplicationConfiguration configuration;
 
   /**
    * Creates a new instance.
    *
    * @param objectRepo The object repo.
    * @param eventHandler The event handler to publish events to.
+   * @param configuration The kernel application's configuration.
    */
   @Inject
   public TCSObjectManager(
@@ -51,10 +57,13 @@ public class TCSObjectManager {
       TCSObjectRepository objectRepo,
       @Nonnull
       @ApplicationEventBus
-      EventHandler eventHandler
+      EventHandler eventHandler,
+      @Nonnull
+      KernelApplicationConfiguration configuration
   ) {
     this.objectRepo = requireNonNull(objectRepo, "objectRepo");
     this.eventHandler = requireNonNull(eventHandler, "eventHandler");
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   /**
@@ -103,6 +112,10 @@ public class TCSObjectManager {
 
   /**
    * Appends a history entry to the referenced object.
+   * <p>
+   * If the object's history exceeds the configured maximum number of entries, the oldest entries
+   * are discarded.
+   * </p>
    *
    * @param ref A reference to the object to be modified.
    * @param entry The history entry to be appended.
@@ -121,7 +134,10 @@ public class TCSObjectManager {
     TCSObject<?> object = objectRepo.getObject(ref);
     TCSObject<?> previousState = object;
     LOG.debug("Appending history entry to object named '{}': {}", ref.getName(), entry);
-    object = object.withHistoryEntry(entry);
+    int maxEntries = configuration.maxObjectHistoryEntries();
+    object = maxEntries > 0
+        ? object.withHistory(object.getHistory().withEntryAppended(entry, maxEntries))
+        : object.withHistoryEntry(entry);
     objectRepo.replaceObject(object);
     emitObjectEvent(object, previousState, TCSObjectEvent.Type.OBJECT_MODIFIED);
   }
@@ -7,11 +7,16 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
@@ -22,18 +27,54 @@ import org.opentcs.data.TCSObjectReference;
  * <p>
  * Provides access to a set of data objects and ensures they have unique names.
  * </p>
+ * <p>
+ * For the attributes in {@link #INDEXED_ATTRIBUTES}, secondary indexes are maintained, so that
+ * looking up objects by one of these attributes takes time proportional to the number of matching
+ * objects.
+ * </p>
+ * <p>
+ * Modifications of the repository are expected to be synchronized externally. With every
+ * modification, a new {@link TCSObjectSnapshot} is published, which may be read concurrently
+ * without any synchronization (see {@link #getSnapshot()}).
+ * </p>
  */
 public class TCSObjectRepository {
 
+  /**
+   * The attributes for which secondary indexes are maintained.
+   */
+  public static final List<ObjectAttribute<?, ?>> INDEXED_ATTRIBUTES = List.of(
+      ObjectAttribute.TRANSPORT_ORDER_STATE,
+      ObjectAttribute.TRANSPORT_ORDER_INTENDED_VEHICLE,
+      ObjectAttribute.TRANSPORT_ORDER_PROCESSING_VEHICLE,
+      ObjectAttribute.TRANSPORT_ORDER_WRAPPING_SEQUENCE,
+      ObjectAttribute.VEHICLE_CURRENT_POSITION,
+      ObjectAttribute.VEHICLE_PROC_STATE
+  );
   /**
    * The objects contained in this pool, mapped by their names, grouped by their classes.
    */
   private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  /**
+   * The secondary indexes, mapped by their attributes.
+   */
+  private final Map<ObjectAttribute<?, ?>, ObjectAttributeIndex<?>> indexes = new HashMap<>();
+  /**
+   * The secondary indexes, grouped by the classes of the indexed objects.
+   */
+  private final Map<Class<?>, List<ObjectAttributeIndex<?>>> indexesByClass = new HashMap<>();
+  /**
+   * The most recently published snapshot of this repository's content.
+   */
+  private volatile TCSObjectSnapshot snapshot = TCSObjectSnapshot.EMPTY;
 
   /**
    * Creates a new instance.
    */
   public TCSObjectRepository() {
+    for (ObjectAttribute<?, ?> attribute : INDEXED_ATTRIBUTES) {
+      addIndex(attribute);
+    }
   }
 
   /**
@@ -60,6 +101,10 @@ public class TCSObjectRepository {
       objects.put(newObject.getClass(), objectsByName);
     }
     objectsByName.put(newObject.getName(), newObject);
+    for (ObjectAttributeIndex<?> index : indexesFor(newObject)) {
+      index.add(newObject);
+    }
+    snapshot = snapshot.withObject(newObject);
   }
 
   /**
@@ -92,6 +137,10 @@ public class TCSObjectRepository {
     );
 
     objects.get(object.getClass()).put(object.getName(), object);
+    for (ObjectAttributeIndex<?> index : indexesFor(object)) {
+      index.replace(oldObject, object);
+    }
+    snapshot = snapshot.withObject(object);
   }
 
   /**
@@ -321,6 +370,43 @@ public class TCSObjectRepository {
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Returns a set of objects for which the given attribute has the given value.
+   * <p>
+   * If the given attribute is indexed, the objects are looked up via the respective index.
+   * Otherwise, all objects of the attribute's class are examined.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param <V> The type of the attribute's values.
+   * @param attribute The attribute.
+   * @param value The value the attribute must have for returned objects.
+   * @return A set of objects for which the given attribute has the given value. If no such objects
+   * exist, the returned set is empty.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>, V> Set<T> getObjects(
+      @Nonnull
+      ObjectAttribute<T, V> attribute,
+      @Nullable
+      V value
+  ) {
+    requireNonNull(attribute, "attribute");
+
+    Class<T> clazz = attribute.getObjectClass();
+    ObjectAttributeIndex<?> index = indexes.get(attribute);
+    if (index == null) {
+      return getObjects(clazz, object -> Objects.equals(attribute.getValue(object), value));
+    }
+
+    Map<String, TCSObject<?>> objectsByName = objects.getOrDefault(clazz, Map.of());
+    Set<T> result = new HashSet<>();
+    for (String name : index.getNames(value)) {
+      result.add(clazz.cast(objectsByName.get(name)));
+    }
+    return result;
+  }
+
   /**
    * Removes a referenced object from this pool.
    *
@@ -341,10 +427,39 @@ public class TCSObjectRepository {
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    for (ObjectAttributeIndex<?> index : indexesFor(obj)) {
+      index.remove(obj);
+    }
+    snapshot = snapshot.withoutObject(obj);
     return obj;
   }
 
+  /**
+   * Returns a snapshot of this repository's content, reflecting all modifications made so far.
+   * <p>
+   * This method does not require any synchronization, and neither does reading the returned
+   * snapshot.
+   * </p>
+   *
+   * @return A snapshot of this repository's content.
+   */
+  @Nonnull
+  public TCSObjectSnapshot getSnapshot() {
+    return snapshot;
+  }
+
   private boolean containsName(String name) {
     return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
   }
+
+  private <T extends TCSObject<T>> void addIndex(ObjectAttribute<T, ?> attribute) {
+    ObjectAttributeIndex<T> index = new ObjectAttributeIndex<>(attribute);
+    indexes.put(attribute, index);
+    indexesByClass.computeIfAbsent(attribute.getObjectClass(), clazz -> new ArrayList<>())
+        .add(index);
+  }
+
+  private List<ObjectAttributeIndex<?>> indexesFor(TCSObject<?> object) {
+    return indexesByClass.getOrDefault(object.getClass(), List.of());
+  }
 }
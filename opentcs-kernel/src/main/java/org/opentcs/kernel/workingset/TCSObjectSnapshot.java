@@ -0,0 +1,227 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * An immutable view of the objects contained in a {@link TCSObjectRepository} at a specific
+ * version.
+ * <p>
+ * Snapshots are published by the repository whenever its content is modified and may be read
+ * concurrently without any synchronization. Since the objects themselves are immutable, a snapshot
+ * provides a consistent view of all objects even while new versions are being published.
+ * </p>
+ * <p>
+ * To keep the costs of publishing a new version low, the objects of each class are kept in a
+ * {@link PersistentObjectMap}. Creating a new version copies only the few nodes of that map on the
+ * path to the modified object and shares everything else with the previous version.
+ * </p>
+ */
+public class TCSObjectSnapshot {
+
+  /**
+   * An empty snapshot.
+   */
+  static final TCSObjectSnapshot EMPTY = new TCSObjectSnapshot(0, Map.of());
+  /**
+   * This snapshot's version.
+   */
+  private final long version;
+  /**
+   * The objects contained in this snapshot, grouped by their classes.
+   */
+  private final Map<Class<?>, PersistentObjectMap> tables;
+
+  private TCSObjectSnapshot(long version, Map<Class<?>, PersistentObjectMap> tables) {
+    this.version = version;
+    this.tables = tables;
+  }
+
+  /**
+   * Returns this snapshot's version.
+   * <p>
+   * The version is incremented with every modification of the repository.
+   * </p>
+   *
+   * @return This snapshot's version.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param ref A reference to the object to be returned.
+   * @return The referenced object, or {@code null}, if no such object exists in this snapshot or if
+   * an object exists but is not an instance of the given class.
+   */
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      TCSObjectReference<T> ref
+  ) {
+    requireNonNull(ref, "ref");
+
+    return getObjectOrNull(clazz, ref.getName());
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param <T> The object's type.
+   * @param clazz The class of the object to be returned.
+   * @param name The name of the object to be returned.
+   * @return The named object, or {@code null}, if no such object exists in this snapshot or if an
+   * object exists but is not an instance of the given class.
+   */
+  @Nullable
+  public <T extends TCSObject<T>> T getObjectOrNull(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(name, "name");
+
+    PersistentObjectMap table = tables.get(clazz);
+    if (table == null) {
+      return null;
+    }
+    TCSObject<?> result = table.get(name);
+    return clazz.isInstance(result) ? clazz.cast(result) : null;
+  }
+
+  /**
+   * Returns an object from this snapshot.
+   *
+   * @param name The name of the object to return.
+   * @return The object with the given name, or {@code null}, if no such object exists in this
+   * snapshot.
+   */
+  @Nullable
+  public TCSObject<?> getObjectOrNull(
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(name, "name");
+
+    for (PersistentObjectMap table : tables.values()) {
+      TCSObject<?> result = table.get(name);
+      if (result != null) {
+        return result;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a set of objects belonging to the given class.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @return A set of objects belonging to the given class.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> getObjects(
+      @Nonnull
+      Class<T> clazz
+  ) {
+    return getObjects(clazz, object -> true);
+  }
+
+  /**
+   * Returns a set of objects of the given class for which the given predicate is true.
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @param predicate The predicate that must be true for returned objects.
+   * @return A set of objects of the given class for which the given predicate is true. If no such
+   * objects exist, the returned set is empty.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Set<T> getObjects(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(predicate, "predicate");
+
+    PersistentObjectMap table = tables.get(clazz);
+    if (table == null) {
+      return new HashSet<>();
+    }
+
+    Set<T> result = new HashSet<>();
+    table.forEach(object -> {
+      T castObject = clazz.cast(object);
+      if (predicate.test(castObject)) {
+        result.add(castObject);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Returns a new version of this snapshot with the given object added or replacing the object with
+   * the same name and class.
+   *
+   * @param object The object.
+   * @return The new version of this snapshot.
+   */
+  @Nonnull
+  TCSObjectSnapshot withObject(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    requireNonNull(object, "object");
+
+    Map<Class<?>, PersistentObjectMap> newTables = new HashMap<>(tables);
+    newTables.put(
+        object.getClass(),
+        tables.getOrDefault(object.getClass(), PersistentObjectMap.EMPTY).with(object)
+    );
+    return new TCSObjectSnapshot(version + 1, newTables);
+  }
+
+  /**
+   * Returns a new version of this snapshot without the given object.
+   *
+   * @param object The object.
+   * @return The new version of this snapshot.
+   */
+  @Nonnull
+  TCSObjectSnapshot withoutObject(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    requireNonNull(object, "object");
+
+    PersistentObjectMap table = tables.get(object.getClass());
+    if (table == null) {
+      return this;
+    }
+
+    Map<Class<?>, PersistentObjectMap> newTables = new HashMap<>(tables);
+    newTables.put(object.getClass(), table.without(object.getName()));
+    return new TCSObjectSnapshot(version + 1, newTables);
+  }
+}
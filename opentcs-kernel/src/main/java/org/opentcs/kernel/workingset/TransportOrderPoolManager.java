@@ -33,6 +33,7 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +64,7 @@ public class TransportOrderPoolManager
    * @param objectRepo The object repo.
    * @param eventHandler The event handler to publish events to.
    * @param orderNameProvider Provides names for transport orders.
+   * @param configuration The kernel application's configuration.
    */
   @Inject
   public TransportOrderPoolManager(
@@ -72,9 +74,11 @@ public class TransportOrderPoolManager
       @ApplicationEventBus
       EventHandler eventHandler,
       @Nonnull
-      ObjectNameProvider orderNameProvider
+      ObjectNameProvider orderNameProvider,
+      @Nonnull
+      KernelApplicationConfiguration configuration
   ) {
-    super(objectRepo, eventHandler);
+    super(objectRepo, eventHandler, configuration);
     this.objectNameProvider = requireNonNull(orderNameProvider, "orderNameProvider");
   }
 
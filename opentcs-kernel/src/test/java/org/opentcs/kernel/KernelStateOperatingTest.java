@@ -29,6 +29,7 @@ import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.peripherals.LocalPeripheralControllerPool;
 import org.opentcs.kernel.peripherals.PeripheralAttachmentManager;
 import org.opentcs.kernel.persistence.ModelPersister;
+import org.opentcs.kernel.vehicles.DefaultVehicleCommAdapterExecutorProvider;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
 import org.opentcs.kernel.workingset.PeripheralJobPoolManager;
 import org.opentcs.kernel.workingset.PlantModelManager;
@@ -168,12 +169,14 @@ class KernelStateOperatingTest {
             new TransportOrderPoolManager(
                 objectPool,
                 new SimpleEventBus(),
-                new PrefixedUlidObjectNameProvider()
+                new PrefixedUlidObjectNameProvider(),
+                configuration
             ),
             new PeripheralJobPoolManager(
                 objectPool,
                 new SimpleEventBus(),
-                new PrefixedUlidObjectNameProvider()
+                new PrefixedUlidObjectNameProvider(),
+                configuration
             ),
             mock(ModelPersister.class),
             configuration,
@@ -190,7 +193,8 @@ class KernelStateOperatingTest {
             mock(PeripheralAttachmentManager.class),
             vehicleService,
             mock(PathLockEventListener.class),
-            mock(VehicleDispatchTrigger.class)
+            mock(VehicleDispatchTrigger.class),
+            mock(DefaultVehicleCommAdapterExecutorProvider.class)
         )
     );
   }
@@ -0,0 +1,88 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+import org.opentcs.kernel.KernelApplicationConfiguration.CommAdapterExecutorType;
+
+/**
+ * Unit tests for {@link DefaultVehicleCommAdapterExecutorProvider}.
+ */
+class DefaultVehicleCommAdapterExecutorProviderTest {
+
+  private ScheduledExecutorService kernelExecutor;
+  private KernelApplicationConfiguration configuration;
+
+  @BeforeEach
+  void setUp() {
+    kernelExecutor = mock(ScheduledExecutorService.class);
+    configuration = mock(KernelApplicationConfiguration.class);
+  }
+
+  @Test
+  void provideKernelExecutorForEveryVehicle() {
+    when(configuration.vehicleCommAdapterExecutorType())
+        .thenReturn(CommAdapterExecutorType.KERNEL_EXECUTOR);
+    DefaultVehicleCommAdapterExecutorProvider provider
+        = new DefaultVehicleCommAdapterExecutorProvider(kernelExecutor, configuration);
+
+    assertThat(provider.getExecutorFor(new Vehicle("vehicle-01"))).isSameAs(kernelExecutor);
+    assertThat(provider.getExecutorFor(new Vehicle("vehicle-02"))).isSameAs(kernelExecutor);
+  }
+
+  @Test
+  void distributeVehiclesAcrossStripes() {
+    when(configuration.vehicleCommAdapterExecutorType())
+        .thenReturn(CommAdapterExecutorType.STRIPED);
+    when(configuration.vehicleCommAdapterExecutorThreads()).thenReturn(2);
+    DefaultVehicleCommAdapterExecutorProvider provider
+        = new DefaultVehicleCommAdapterExecutorProvider(kernelExecutor, configuration);
+
+    ScheduledExecutorService executor1 = provider.getExecutorFor(new Vehicle("vehicle-01"));
+    ScheduledExecutorService executor2 = provider.getExecutorFor(new Vehicle("vehicle-02"));
+    ScheduledExecutorService executor3 = provider.getExecutorFor(new Vehicle("vehicle-03"));
+
+    assertThat(executor1).isNotSameAs(kernelExecutor).isNotSameAs(executor2);
+    assertThat(executor3).isSameAs(executor1);
+    // A vehicle keeps its executor.
+    assertThat(provider.getExecutorFor(new Vehicle("vehicle-02"))).isSameAs(executor2);
+
+    executor1.shutdownNow();
+    executor2.shutdownNow();
+  }
+
+  @Test
+  void shutDownStripesOnTermination() {
+    when(configuration.vehicleCommAdapterExecutorType())
+        .thenReturn(CommAdapterExecutorType.STRIPED);
+    when(configuration.vehicleCommAdapterExecutorThreads()).thenReturn(2);
+    DefaultVehicleCommAdapterExecutorProvider provider
+        = new DefaultVehicleCommAdapterExecutorProvider(kernelExecutor, configuration);
+    provider.initialize();
+
+    ScheduledExecutorService executor1 = provider.getExecutorFor(new Vehicle("vehicle-01"));
+    ScheduledExecutorService executor2 = provider.getExecutorFor(new Vehicle("vehicle-02"));
+
+    provider.terminate();
+
+    assertThat(executor1.isShutdown()).isTrue();
+    assertThat(executor2.isShutdown()).isTrue();
+
+    // After re-initialization, vehicles are assigned to new executors.
+    provider.initialize();
+    ScheduledExecutorService executor3 = provider.getExecutorFor(new Vehicle("vehicle-01"));
+
+    assertThat(executor3).isNotSameAs(executor1);
+    assertThat(executor3.isShutdown()).isFalse();
+
+    provider.terminate();
+  }
+}
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -170,7 +171,8 @@ class DefaultVehicleControllerTest {
         mock(MovementCommandMapper.class),
         mock(KernelApplicationConfiguration.class),
         new CommandProcessingTracker(),
-        dataTransformerRegistry
+        dataTransformerRegistry,
+        mock(ScheduledExecutorService.class)
     );
     stdVehicleController.initialize();
   }
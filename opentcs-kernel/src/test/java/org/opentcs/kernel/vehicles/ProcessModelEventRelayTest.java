@@ -0,0 +1,64 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ProcessModelEventRelay}.
+ */
+class ProcessModelEventRelayTest {
+
+  private List<Runnable> submittedTasks;
+  private List<List<PropertyChangeEvent>> batchesHandled;
+  private ProcessModelEventRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    submittedTasks = new ArrayList<>();
+    batchesHandled = new ArrayList<>();
+    relay = new ProcessModelEventRelay(submittedTasks::add, batchesHandled::add);
+  }
+
+  @Test
+  void handOverChangesInBatchesInOrder() {
+    PropertyChangeEvent first = change("POSITION");
+    PropertyChangeEvent second = change("STATE");
+    PropertyChangeEvent third = change("COMMAND_EXECUTED");
+
+    relay.relay(first);
+    relay.relay(second);
+    relay.relay(third);
+
+    assertThat(submittedTasks).hasSize(1);
+    assertThat(batchesHandled).isEmpty();
+
+    submittedTasks.get(0).run();
+
+    assertThat(batchesHandled).containsExactly(List.of(first, second, third));
+  }
+
+  @Test
+  void submitNewTaskForChangesAfterDraining() {
+    relay.relay(change("POSITION"));
+    submittedTasks.get(0).run();
+
+    PropertyChangeEvent later = change("STATE");
+    relay.relay(later);
+
+    assertThat(submittedTasks).hasSize(2);
+    submittedTasks.get(1).run();
+    assertThat(batchesHandled).hasSize(2);
+    assertThat(batchesHandled.get(1)).containsExactly(later);
+  }
+
+  private static PropertyChangeEvent change(String attribute) {
+    return new PropertyChangeEvent(new Object(), attribute, null, null);
+  }
+}
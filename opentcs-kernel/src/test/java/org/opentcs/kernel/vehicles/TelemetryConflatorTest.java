@@ -0,0 +1,147 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.drivers.vehicle.VehicleProcessModel;
+
+/**
+ * Unit tests for {@link TelemetryConflator}.
+ */
+class TelemetryConflatorTest {
+
+  private ScheduledExecutorService executor;
+  private ScheduledFuture<?> scheduledFuture;
+  private List<List<PropertyChangeEvent>> batchesHandled;
+
+  @BeforeEach
+  void setUp() {
+    executor = mock(ScheduledExecutorService.class);
+    scheduledFuture = mock(ScheduledFuture.class);
+    batchesHandled = new ArrayList<>();
+    when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> scheduledFuture);
+  }
+
+  @Test
+  void handOverOnlyLatestChangePerAttribute() {
+    TelemetryConflator conflator = new TelemetryConflator(executor, 100, batchesHandled::add);
+
+    assertThat(conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-1"))).isTrue();
+    assertThat(conflator.offer(change(VehicleProcessModel.Attribute.ENERGY_LEVEL, 80))).isTrue();
+    assertThat(conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-2"))).isTrue();
+    assertThat(conflator.offer(change(VehicleProcessModel.Attribute.ENERGY_LEVEL, 79))).isTrue();
+
+    capturedFlush().run();
+
+    assertThat(batchesHandled).hasSize(1);
+    assertThat(batchesHandled.get(0))
+        .extracting(PropertyChangeEvent::getPropertyName, PropertyChangeEvent::getNewValue)
+        .containsExactly(
+            tuple(VehicleProcessModel.Attribute.POSE.name(), "pose-2"),
+            tuple(VehicleProcessModel.Attribute.ENERGY_LEVEL.name(), 79)
+        );
+  }
+
+  @Test
+  void scheduleSingleFlushPerInterval() {
+    TelemetryConflator conflator = new TelemetryConflator(executor, 100, batchesHandled::add);
+
+    conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-1"));
+    conflator.offer(change(VehicleProcessModel.Attribute.BOUNDING_BOX, "box-1"));
+    conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-2"));
+
+    verify(executor, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    capturedFlush().run();
+    conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-3"));
+
+    // The next flush is delayed until the publish interval has passed.
+    ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(executor, times(2))
+        .schedule(any(Runnable.class), delayCaptor.capture(), eq(TimeUnit.NANOSECONDS));
+    assertThat(delayCaptor.getAllValues().get(1)).isPositive();
+  }
+
+  @Test
+  void rejectAttributesNotConflated() {
+    TelemetryConflator conflator = new TelemetryConflator(executor, 100, batchesHandled::add);
+
+    assertThat(conflator.offer(change(VehicleProcessModel.Attribute.POSITION, "point-1")))
+        .isFalse();
+    assertThat(conflator.offer(change(VehicleProcessModel.Attribute.STATE, "EXECUTING")))
+        .isFalse();
+
+    verify(executor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  void rejectAllChangesWithZeroInterval() {
+    TelemetryConflator conflator = new TelemetryConflator(executor, 0, batchesHandled::add);
+
+    assertThat(conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-1"))).isFalse();
+
+    verify(executor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  void discardPendingChangesOnClear() {
+    TelemetryConflator conflator = new TelemetryConflator(executor, 100, batchesHandled::add);
+
+    conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-1"));
+    Runnable flush = capturedFlush();
+    conflator.clear();
+    flush.run();
+
+    verify(scheduledFuture).cancel(false);
+    assertThat(batchesHandled).isEmpty();
+  }
+
+  @Test
+  void handOverNothingAfterTakingPendingChanges() {
+    TelemetryConflator conflator = new TelemetryConflator(executor, 100, batchesHandled::add);
+
+    conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-1"));
+    conflator.offer(change(VehicleProcessModel.Attribute.POSE, "pose-2"));
+    Runnable flush = capturedFlush();
+
+    assertThat(conflator.takePendingChanges())
+        .extracting(PropertyChangeEvent::getNewValue)
+        .containsExactly("pose-2");
+    assertThat(conflator.takePendingChanges()).isEmpty();
+
+    flush.run();
+
+    verify(scheduledFuture).cancel(false);
+    assertThat(batchesHandled).isEmpty();
+  }
+
+  private Runnable capturedFlush() {
+    ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(executor, times(1)).schedule(flushCaptor.capture(), anyLong(), any(TimeUnit.class));
+    return flushCaptor.getValue();
+  }
+
+  private static PropertyChangeEvent change(VehicleProcessModel.Attribute attribute, Object value) {
+    return new PropertyChangeEvent(new Object(), attribute.name(), null, value);
+  }
+}
@@ -8,6 +8,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.opentcs.access.to.peripherals.PeripheralOperationCreationTO;
 import org.opentcs.data.model.Triple;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -42,11 +44,16 @@ class PeripheralJobPoolManagerTest {
   @BeforeEach
   void setUp() {
     objectRepo = new TCSObjectRepository();
-    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus());
+    plantModelManager = new PlantModelManager(
+        objectRepo,
+        new SimpleEventBus(),
+        mock(KernelApplicationConfiguration.class)
+    );
     jobPoolManager = new PeripheralJobPoolManager(
         objectRepo,
         new SimpleEventBus(),
-        new PrefixedUlidObjectNameProvider()
+        new PrefixedUlidObjectNameProvider(),
+        mock(KernelApplicationConfiguration.class)
     );
 
     // Set up a minimal plant model.
@@ -0,0 +1,118 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link PersistentObjectMap}.
+ */
+class PersistentObjectMapTest {
+
+  @Test
+  void returnAddedObjects() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+
+    PersistentObjectMap map = PersistentObjectMap.EMPTY.with(point1).with(point2);
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get("Point-00001"), is(point1));
+    assertThat(map.get("Point-00002"), is(point2));
+    assertThat(map.get("Point-00003"), is(nullValue()));
+  }
+
+  @Test
+  void replaceObjectWithSameName() {
+    Point point = new Point("Point-00001");
+    Point modifiedPoint = point.withType(Point.Type.PARK_POSITION);
+
+    PersistentObjectMap map = PersistentObjectMap.EMPTY.with(point).with(modifiedPoint);
+
+    assertThat(map.size(), is(1));
+    assertThat(map.get("Point-00001"), is(sameInstance(modifiedPoint)));
+  }
+
+  @Test
+  void leaveOriginalMapUnchanged() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+    PersistentObjectMap map = PersistentObjectMap.EMPTY.with(point1);
+
+    map.with(point2);
+    map.with(point1.withType(Point.Type.PARK_POSITION));
+    map.without("Point-00001");
+
+    assertThat(map.size(), is(1));
+    assertThat(map.get("Point-00001"), is(sameInstance(point1)));
+    assertThat(map.get("Point-00002"), is(nullValue()));
+  }
+
+  @Test
+  void returnSameMapWhenRemovingUnknownName() {
+    PersistentObjectMap map = PersistentObjectMap.EMPTY.with(new Point("Point-00001"));
+
+    assertThat(map.without("Point-00002"), is(sameInstance(map)));
+  }
+
+  @Test
+  void handleNamesWithSameHashCode() {
+    // "Aa" and "BB" have the same hash code.
+    Point point1 = new Point("Aa");
+    Point point2 = new Point("BB");
+
+    PersistentObjectMap map = PersistentObjectMap.EMPTY.with(point1).with(point2);
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get("Aa"), is(point1));
+    assertThat(map.get("BB"), is(point2));
+
+    map = map.without("Aa");
+
+    assertThat(map.size(), is(1));
+    assertThat(map.get("Aa"), is(nullValue()));
+    assertThat(map.get("BB"), is(point2));
+  }
+
+  @Test
+  void matchHashMapForRandomModifications() {
+    Random random = new Random(42);
+    Map<String, TCSObject<?>> expected = new HashMap<>();
+    PersistentObjectMap map = PersistentObjectMap.EMPTY;
+
+    for (int i = 0; i < 20000; i++) {
+      String name = "Point-" + random.nextInt(2000);
+      if (random.nextInt(3) == 0) {
+        expected.remove(name);
+        map = map.without(name);
+      }
+      else {
+        Point point = new Point(name);
+        expected.put(name, point);
+        map = map.with(point);
+      }
+    }
+
+    assertThat(map.size(), is(expected.size()));
+    for (int i = 0; i < 2000; i++) {
+      String name = "Point-" + i;
+      assertThat(map.get(name), is(expected.get(name)));
+    }
+    List<TCSObject<?>> objects = new ArrayList<>();
+    map.forEach(objects::add);
+    assertThat(objects, containsInAnyOrder(expected.values().toArray()));
+  }
+}
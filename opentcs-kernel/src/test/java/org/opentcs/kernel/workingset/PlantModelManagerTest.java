@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.mock;
 
 import java.util.List;
 import java.util.Set;
@@ -31,6 +32,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Triple;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.model.visualization.VisualLayout;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -45,7 +47,11 @@ class PlantModelManagerTest {
   @BeforeEach
   void setUp() {
     objectRepo = new TCSObjectRepository();
-    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus());
+    plantModelManager = new PlantModelManager(
+        objectRepo,
+        new SimpleEventBus(),
+        mock(KernelApplicationConfiguration.class)
+    );
     plantModelCreationTo = new PlantModelCreationTO("some-plant-model")
         .withPoint(new PointCreationTO("point1"))
         .withPoint(new PointCreationTO("point2"))
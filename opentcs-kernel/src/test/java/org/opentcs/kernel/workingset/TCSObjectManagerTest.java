@@ -3,14 +3,19 @@
 package org.opentcs.kernel.workingset;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.data.ObjectHistory;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Point;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.SimpleEventBus;
 
@@ -21,13 +26,15 @@ class TCSObjectManagerTest {
 
   private TCSObjectRepository objectRepo;
   private EventBus eventBus;
+  private KernelApplicationConfiguration configuration;
   private TCSObjectManager objectManager;
 
   @BeforeEach
   void setUp() {
     objectRepo = new TCSObjectRepository();
     eventBus = new SimpleEventBus();
-    objectManager = new TCSObjectManager(objectRepo, eventBus);
+    configuration = mock();
+    objectManager = new TCSObjectManager(objectRepo, eventBus, configuration);
   }
 
   @Test
@@ -47,4 +54,39 @@ class TCSObjectManagerTest {
     assertThat(receivedEvents, hasSize(1));
   }
 
+  @Test
+  void appendHistoryEntries() {
+    Point point = new Point("Point-00001");
+    objectRepo.addObject(point);
+    ObjectHistory.Entry entry1 = new ObjectHistory.Entry("event-1");
+    ObjectHistory.Entry entry2 = new ObjectHistory.Entry("event-2");
+
+    objectManager.appendObjectHistoryEntry(point.getReference(), entry1);
+    objectManager.appendObjectHistoryEntry(point.getReference(), entry2);
+
+    assertThat(
+        objectRepo.getObject(point.getReference()).getHistory().getEntries(),
+        contains(entry1, entry2)
+    );
+  }
+
+  @Test
+  void discardOldestHistoryEntriesWhenExceedingMaximum() {
+    when(configuration.maxObjectHistoryEntries()).thenReturn(2);
+    Point point = new Point("Point-00001");
+    objectRepo.addObject(point);
+    ObjectHistory.Entry entry1 = new ObjectHistory.Entry("event-1");
+    ObjectHistory.Entry entry2 = new ObjectHistory.Entry("event-2");
+    ObjectHistory.Entry entry3 = new ObjectHistory.Entry("event-3");
+
+    objectManager.appendObjectHistoryEntry(point.getReference(), entry1);
+    objectManager.appendObjectHistoryEntry(point.getReference(), entry2);
+    objectManager.appendObjectHistoryEntry(point.getReference(), entry3);
+
+    assertThat(
+        objectRepo.getObject(point.getReference()).getHistory().getEntries(),
+        contains(entry2, entry3)
+    );
+  }
+
 }
@@ -10,14 +10,19 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
 
 /**
  * Unit tests for {@link TCSObjectRepository}.
@@ -228,4 +233,133 @@ class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  void returnObjectsByIndexedAttribute() {
+    TransportOrder order1 = createTransportOrder("TransportOrder-00001");
+    TransportOrder order2 = createTransportOrder("TransportOrder-00002")
+        .withState(TransportOrder.State.ACTIVE);
+    TransportOrder order3 = createTransportOrder("TransportOrder-00003");
+
+    pool.addObject(order1);
+    pool.addObject(order2);
+    pool.addObject(order3);
+
+    assertThat(
+        pool.getObjects(ObjectAttribute.TRANSPORT_ORDER_STATE, TransportOrder.State.RAW),
+        containsInAnyOrder(order1, order3)
+    );
+    assertThat(
+        pool.getObjects(ObjectAttribute.TRANSPORT_ORDER_STATE, TransportOrder.State.ACTIVE),
+        contains(order2)
+    );
+    assertThat(
+        pool.getObjects(ObjectAttribute.TRANSPORT_ORDER_STATE, TransportOrder.State.FINISHED),
+        is(empty())
+    );
+  }
+
+  @Test
+  void updateIndexOnReplaceObject() {
+    Point point = new Point("Point-00001");
+    Vehicle vehicle = new Vehicle("Vehicle-00001");
+
+    pool.addObject(vehicle);
+    pool.replaceObject(vehicle.withCurrentPosition(point.getReference()));
+
+    assertThat(pool.getObjects(ObjectAttribute.VEHICLE_CURRENT_POSITION, null), is(empty()));
+    assertThat(
+        pool.getObjects(ObjectAttribute.VEHICLE_CURRENT_POSITION, point.getReference()),
+        contains(vehicle)
+    );
+  }
+
+  @Test
+  void updateIndexOnRemoveObject() {
+    TransportOrder order = createTransportOrder("TransportOrder-00001");
+
+    pool.addObject(order);
+    pool.removeObject(order.getReference());
+
+    assertThat(
+        pool.getObjects(ObjectAttribute.TRANSPORT_ORDER_STATE, TransportOrder.State.RAW),
+        is(empty())
+    );
+  }
+
+  @Test
+  void returnObjectsByNonIndexedAttribute() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002").withType(Point.Type.PARK_POSITION);
+    ObjectAttribute<Point, Point.Type> pointType
+        = new ObjectAttribute<>(Point.class, "type", Point::getType);
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+
+    assertThat(pool.getObjects(pointType, Point.Type.PARK_POSITION), contains(point2));
+  }
+
+  @Test
+  void reflectModificationsInSnapshot() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+    pool.replaceObject(point1.withType(Point.Type.PARK_POSITION));
+    pool.removeObject(point2.getReference());
+
+    TCSObjectSnapshot snapshot = pool.getSnapshot();
+    assertThat(snapshot.getVersion(), is(4L));
+    assertThat(
+        snapshot.getObjectOrNull(Point.class, "Point-00001").getType(),
+        is(Point.Type.PARK_POSITION)
+    );
+    assertThat(snapshot.getObjectOrNull(Point.class, point2.getReference()), is(nullValue()));
+    assertThat(snapshot.getObjects(Point.class), contains(point1));
+  }
+
+  @Test
+  void keepSnapshotUnchangedOnModification() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002");
+    pool.addObject(point1);
+    TCSObjectSnapshot snapshot = pool.getSnapshot();
+
+    pool.replaceObject(point1.withType(Point.Type.PARK_POSITION));
+    pool.addObject(point2);
+
+    assertThat(snapshot.getObjects(Point.class), contains(point1));
+    assertThat(
+        snapshot.getObjectOrNull(Point.class, "Point-00001").getType(),
+        is(Point.Type.HALT_POSITION)
+    );
+    assertThat(snapshot.getObjectOrNull("Point-00002"), is(nullValue()));
+    assertThat(pool.getSnapshot().getObjects(Point.class), containsInAnyOrder(point1, point2));
+  }
+
+  @Test
+  void returnObjectsFromSnapshotByPredicate() {
+    Point point1 = new Point("Point-00001");
+    Point point2 = new Point("Point-00002").withType(Point.Type.PARK_POSITION);
+    Path path = new Path("Path-00001", point1.getReference(), point2.getReference());
+
+    pool.addObject(point1);
+    pool.addObject(point2);
+    pool.addObject(path);
+
+    assertThat(
+        pool.getSnapshot().getObjects(Point.class, Point::isParkingPosition),
+        contains(point2)
+    );
+    assertThat(pool.getSnapshot().getObjectOrNull(path.getName()), is(path));
+  }
+
+  private TransportOrder createTransportOrder(String name) {
+    return new TransportOrder(
+        name,
+        List.of(new DriveOrder(new DriveOrder.Destination(new Point("Point-1").getReference())))
+    );
+  }
 }
@@ -8,6 +8,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.mock;
 
 import java.util.HashSet;
 import java.util.List;
@@ -29,6 +30,7 @@ import org.opentcs.data.model.Triple;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -52,11 +54,16 @@ class TransportOrderPoolManagerTest {
   @BeforeEach
   void setUp() {
     objectRepo = new TCSObjectRepository();
-    plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus());
+    plantModelManager = new PlantModelManager(
+        objectRepo,
+        new SimpleEventBus(),
+        mock(KernelApplicationConfiguration.class)
+    );
     orderPoolManager = new TransportOrderPoolManager(
         objectRepo,
         new SimpleEventBus(),
-        new PrefixedUlidObjectNameProvider()
+        new PrefixedUlidObjectNameProvider(),
+        mock(KernelApplicationConfiguration.class)
     );
 
     // Set up a minimal plant model.
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.kernel.KernelApplicationConfiguration;
 import org.opentcs.kernel.OrderPoolConfiguration;
 
 class WorkingSetCleanupTaskTest {
@@ -33,13 +34,15 @@ class WorkingSetCleanupTaskTest {
         = new PeripheralJobPoolManager(
             objectRepository,
             mock(),
-            new PrefixedUlidObjectNameProvider()
+            new PrefixedUlidObjectNameProvider(),
+            mock(KernelApplicationConfiguration.class)
         );
     TransportOrderPoolManager orderPoolManager
         = new TransportOrderPoolManager(
             objectRepository,
             mock(),
-            new PrefixedUlidObjectNameProvider()
+            new PrefixedUlidObjectNameProvider(),
+            mock(KernelApplicationConfiguration.class)
         );
     DefaultPeripheralJobCleanupApproval peripheralJobCleanupApproval
         = new DefaultPeripheralJobCleanupApproval(creationTimeThreshold);
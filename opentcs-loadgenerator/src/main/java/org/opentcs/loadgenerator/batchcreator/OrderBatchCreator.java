@@ -1,6 +1,6 @@
 // SPDX-FileCopyrightText: The openTCS Authors
 // SPDX-License-Identifier: MIT
-package org.opentcs.guing.plugins.panels.loadgenerator.batchcreator;
+package org.opentcs.loadgenerator.batchcreator;
 
 import java.util.Set;
 import org.opentcs.access.KernelRuntimeException;
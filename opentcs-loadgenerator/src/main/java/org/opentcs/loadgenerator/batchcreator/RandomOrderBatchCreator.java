@@ -1,10 +1,11 @@
 // SPDX-FileCopyrightText: The openTCS Authors
 // SPDX-License-Identifier: MIT
-package org.opentcs.guing.plugins.panels.loadgenerator.batchcreator;
+package org.opentcs.loadgenerator.batchcreator;
 
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -60,7 +61,7 @@ public class RandomOrderBatchCreator
   /**
    * A random number generator for selecting locations and operations.
    */
-  private final Random random = new Random();
+  private final Random random;
 
   /**
    * Creates a new RandomOrderBatchCreator.
@@ -75,11 +76,35 @@ public class RandomOrderBatchCreator
       DispatcherService dispatcherService,
       int batchSize,
       int orderSize
+  ) {
+    this(transportOrderService, dispatcherService, batchSize, orderSize, new Random());
+  }
+
+  /**
+   * Creates a new RandomOrderBatchCreator.
+   * <p>
+   * Given a random number generator with a fixed seed and the same plant model, instances create
+   * the same sequence of transport orders.
+   * </p>
+   *
+   * @param transportOrderService The transport order service.
+   * @param dispatcherService The dispatcher service.
+   * @param batchSize The number of transport orders per batch.
+   * @param orderSize The number of drive orders per transport order.
+   * @param random The random number generator for selecting locations.
+   */
+  public RandomOrderBatchCreator(
+      TransportOrderService transportOrderService,
+      DispatcherService dispatcherService,
+      int batchSize,
+      int orderSize,
+      Random random
   ) {
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
     this.dispatcherService = requireNonNull(dispatcherService, "dispatcherService");
     this.batchSize = batchSize;
     this.orderSize = orderSize;
+    this.random = requireNonNull(random, "random");
     this.locations = initializeLocations();
   }
 
@@ -125,6 +150,7 @@ public class RandomOrderBatchCreator
         .stream()
         .filter(location -> !location.getAttachedLinks().isEmpty())
         .filter(location -> suitableLocationTypeRefs.contains(location.getType()))
+        .sorted(Comparator.comparing(Location::getName))
         .collect(Collectors.toList());
   }
 }
@@ -1,6 +1,6 @@
 // SPDX-FileCopyrightText: The openTCS Authors
 // SPDX-License-Identifier: MIT
-package org.opentcs.guing.plugins.panels.loadgenerator.trigger;
+package org.opentcs.loadgenerator.trigger;
 
 import org.opentcs.access.KernelRuntimeException;
 
@@ -1,10 +1,10 @@
 // SPDX-FileCopyrightText: The openTCS Authors
 // SPDX-License-Identifier: MIT
-package org.opentcs.guing.plugins.panels.loadgenerator.trigger;
+package org.opentcs.loadgenerator.trigger;
 
 import java.util.Objects;
 import org.opentcs.access.KernelRuntimeException;
-import org.opentcs.guing.plugins.panels.loadgenerator.batchcreator.OrderBatchCreator;
+import org.opentcs.loadgenerator.batchcreator.OrderBatchCreator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -1,6 +1,6 @@
 // SPDX-FileCopyrightText: The openTCS Authors
 // SPDX-License-Identifier: MIT
-package org.opentcs.guing.plugins.panels.loadgenerator.trigger;
+package org.opentcs.loadgenerator.trigger;
 
 import static java.util.Objects.requireNonNull;
 
@@ -11,7 +11,7 @@ import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.order.TransportOrder;
-import org.opentcs.guing.plugins.panels.loadgenerator.batchcreator.OrderBatchCreator;
+import org.opentcs.loadgenerator.batchcreator.OrderBatchCreator;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
 import org.slf4j.Logger;
@@ -1,6 +1,6 @@
 // SPDX-FileCopyrightText: The openTCS Authors
 // SPDX-License-Identifier: MIT
-package org.opentcs.guing.plugins.panels.loadgenerator.batchcreator;
+package org.opentcs.loadgenerator.batchcreator;
 
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -15,9 +15,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.TransportOrderService;
@@ -143,4 +146,46 @@ class RandomOrderBatchCreatorTest {
     verify(transportOrderService, times(10))
         .createTransportOrder(any(TransportOrderCreationTO.class));
   }
+
+  @Test
+  void givenSameSeedThenSelectSameDestinations() {
+    Location otherSuitableLoc = new Location("otherSuitableLoc", suitableLocType.getReference());
+    when(transportOrderService.fetchObjects(LocationType.class))
+        .thenReturn(Set.of(suitableLocType));
+    when(transportOrderService.fetchObjects(Location.class))
+        .thenReturn(
+            Set.of(
+                suitableLoc.withAttachedLinks(
+                    Set.of(new Location.Link(suitableLoc.getReference(), point.getReference()))
+                ),
+                otherSuitableLoc.withAttachedLinks(
+                    Set.of(new Location.Link(otherSuitableLoc.getReference(), point.getReference()))
+                )
+            )
+        );
+    when(transportOrderService.createTransportOrder(any(TransportOrderCreationTO.class)))
+        .thenAnswer(
+            invocation -> new TransportOrder(
+                randomUUID().toString(),
+                List.of()
+            )
+        );
+
+    new RandomOrderBatchCreator(transportOrderService, dispatcherService, 10, 3, new Random(42))
+        .createOrderBatch();
+    new RandomOrderBatchCreator(transportOrderService, dispatcherService, 10, 3, new Random(42))
+        .createOrderBatch();
+
+    ArgumentCaptor<TransportOrderCreationTO> captor
+        = ArgumentCaptor.forClass(TransportOrderCreationTO.class);
+    verify(transportOrderService, times(20)).createTransportOrder(captor.capture());
+    List<List<String>> destinations = captor.getAllValues().stream()
+        .map(
+            to -> to.getDestinations().stream()
+                .map(DestinationCreationTO::getDestLocationName)
+                .toList()
+        )
+        .toList();
+    assertThat(destinations.subList(10, 20), is(destinations.subList(0, 10)));
+  }
 }
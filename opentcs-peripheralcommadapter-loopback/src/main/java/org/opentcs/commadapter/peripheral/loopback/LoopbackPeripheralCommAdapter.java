@@ -13,6 +13,7 @@ import java.util.Queue;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import org.opentcs.common.DiscreteEventSimulationExecutor;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Location;
@@ -43,6 +44,11 @@ public class LoopbackPeripheralCommAdapter
    * The kernel's executor.
    */
   private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The executor to simulate the processing of jobs on in virtual time, or {@code null}, if jobs
+   * are processed in real time.
+   */
+  private final ScheduledExecutorService simulationExecutor;
   /**
    * The queue of tasks to be executed to simulate the processing of jobs.
    * This queue may contain at most one item at any time.
@@ -64,6 +70,8 @@ public class LoopbackPeripheralCommAdapter
    * @param location The reference to the location this adapter is attached to.
    * @param eventHandler The handler used to send events to.
    * @param kernelExecutor The kernel's executor.
+   * @param simulationExecutor The executor to simulate the processing of jobs on in virtual time.
+   * @param configuration This class's configuration.
    */
   @Inject
   public LoopbackPeripheralCommAdapter(
@@ -72,10 +80,15 @@ public class LoopbackPeripheralCommAdapter
       @ApplicationEventBus
       EventHandler eventHandler,
       @KernelExecutor
-      ScheduledExecutorService kernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      DiscreteEventSimulationExecutor simulationExecutor,
+      VirtualPeripheralConfiguration configuration
   ) {
     super(new LoopbackPeripheralProcessModel(location), eventHandler);
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    requireNonNull(simulationExecutor, "simulationExecutor");
+    requireNonNull(configuration, "configuration");
+    this.simulationExecutor = configuration.discreteEventSimulation() ? simulationExecutor : null;
   }
 
   @Override
@@ -131,11 +144,7 @@ public class LoopbackPeripheralCommAdapter
     sendProcessModelChangedEvent(PeripheralProcessModel.Attribute.STATE);
 
     if (!getProcessModel().isManualModeEnabled()) {
-      currentJobFuture = kernelExecutor.schedule(
-          jobTaskQueue.poll(),
-          JOB_PROCESSING_DURATION.getSeconds(),
-          TimeUnit.SECONDS
-      );
+      currentJobFuture = scheduleJobTask(jobTaskQueue.poll());
     }
   }
 
@@ -204,6 +213,24 @@ public class LoopbackPeripheralCommAdapter
     });
   }
 
+  private Future<?> scheduleJobTask(Runnable jobTask) {
+    if (simulationExecutor == null) {
+      return kernelExecutor.schedule(
+          jobTask,
+          JOB_PROCESSING_DURATION.getSeconds(),
+          TimeUnit.SECONDS
+      );
+    }
+
+    // Let the job task itself be executed in kernel context, and consider the simulated processing
+    // finished only after it has been executed.
+    return simulationExecutor.schedule(
+        () -> kernelExecutor.submit(jobTask).get(),
+        JOB_PROCESSING_DURATION.getSeconds(),
+        TimeUnit.SECONDS
+    );
+  }
+
   private boolean hasJobWaitingToBeProcessed() {
     return !jobTaskQueue.isEmpty() || !isCurrentJobFutureDone();
   }
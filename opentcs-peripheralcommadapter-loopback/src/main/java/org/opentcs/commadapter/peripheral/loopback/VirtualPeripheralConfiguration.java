@@ -23,4 +23,16 @@ public interface VirtualPeripheralConfiguration {
       orderKey = "0_enable"
   )
   boolean enable();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to simulate the processing of peripheral jobs in virtual time instead of real "
+              + "time.",
+          "Should be set to the same value as virtualvehicle.discreteEventSimulation."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "1_simulation_1"
+  )
+  boolean discreteEventSimulation();
 }
@@ -39,15 +39,15 @@ import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.guing.plugins.panels.loadgenerator.PropertyTableModel.PropEntry;
 import org.opentcs.guing.plugins.panels.loadgenerator.batchcreator.ExplicitOrderBatchGenerator;
-import org.opentcs.guing.plugins.panels.loadgenerator.batchcreator.OrderBatchCreator;
-import org.opentcs.guing.plugins.panels.loadgenerator.batchcreator.RandomOrderBatchCreator;
-import org.opentcs.guing.plugins.panels.loadgenerator.trigger.OrderGenerationTrigger;
-import org.opentcs.guing.plugins.panels.loadgenerator.trigger.SingleOrderGenTrigger;
-import org.opentcs.guing.plugins.panels.loadgenerator.trigger.ThresholdOrderGenTrigger;
-import org.opentcs.guing.plugins.panels.loadgenerator.trigger.TimeoutOrderGenTrigger;
 import org.opentcs.guing.plugins.panels.loadgenerator.xmlbinding.DriveOrderEntry;
 import org.opentcs.guing.plugins.panels.loadgenerator.xmlbinding.TransportOrderEntry;
 import org.opentcs.guing.plugins.panels.loadgenerator.xmlbinding.TransportOrdersDocument;
+import org.opentcs.loadgenerator.batchcreator.OrderBatchCreator;
+import org.opentcs.loadgenerator.batchcreator.RandomOrderBatchCreator;
+import org.opentcs.loadgenerator.trigger.OrderGenerationTrigger;
+import org.opentcs.loadgenerator.trigger.SingleOrderGenTrigger;
+import org.opentcs.loadgenerator.trigger.ThresholdOrderGenTrigger;
+import org.opentcs.loadgenerator.trigger.TimeoutOrderGenTrigger;
 import org.opentcs.util.Comparators;
 import org.opentcs.util.event.EventSource;
 import org.opentcs.util.gui.StringListCellRenderer;
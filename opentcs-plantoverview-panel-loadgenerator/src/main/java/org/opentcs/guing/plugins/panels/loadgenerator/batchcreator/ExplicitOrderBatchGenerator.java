@@ -17,6 +17,7 @@ import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.guing.plugins.panels.loadgenerator.DriveOrderStructure;
 import org.opentcs.guing.plugins.panels.loadgenerator.TransportOrderData;
+import org.opentcs.loadgenerator.batchcreator.OrderBatchCreator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
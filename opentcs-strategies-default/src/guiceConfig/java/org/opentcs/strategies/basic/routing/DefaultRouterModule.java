@@ -14,6 +14,7 @@ import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorTravelTime;
 import org.opentcs.strategies.basic.routing.edgeevaluator.ExplicitPropertiesConfiguration;
 import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ContractionHierarchyPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
 import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
@@ -81,6 +82,10 @@ public class DefaultRouterModule
         bind(PointRouterFactory.class)
             .to(FloydWarshallPointRouterFactory.class);
         break;
+      case CONTRACTION_HIERARCHY:
+        bind(PointRouterFactory.class)
+            .to(ContractionHierarchyPointRouterFactory.class);
+        break;
       default:
         LOG.warn(
             "Unhandled algorithm selected ({}), falling back to Dijkstra's algorithm.",
@@ -0,0 +1,23 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.benchmark;
+
+/**
+ * The layouts of synthetic plant models used in benchmarks.
+ */
+public enum PlantLayout {
+  /**
+   * A square grid of points, each connected to its horizontal and vertical neighbours by paths
+   * that can be travelled in both directions.
+   */
+  GRID,
+  /**
+   * Parallel aisles that can be travelled in both directions and are connected to each other only
+   * at both of their ends, as is typical for warehouses.
+   */
+  WAREHOUSE_AISLE,
+  /**
+   * A single ring of points connected by paths that can be travelled in one direction only.
+   */
+  RING;
+}
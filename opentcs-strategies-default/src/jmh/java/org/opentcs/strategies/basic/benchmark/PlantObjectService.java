@@ -0,0 +1,92 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.ObjectHistory;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * A read-only object service providing a fixed set of objects, e.g. those of a
+ * {@link SyntheticPlant}.
+ */
+public class PlantObjectService
+    implements
+      TCSObjectService {
+
+  /**
+   * The objects, mapped by their names, grouped by their classes.
+   */
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objects The objects to be provided.
+   */
+  public PlantObjectService(
+      @Nonnull
+      Collection<TCSObject<?>> objects
+  ) {
+    requireNonNull(objects, "objects");
+
+    for (TCSObject<?> object : objects) {
+      this.objects.computeIfAbsent(object.getClass(), clazz -> new HashMap<>())
+          .put(object.getName(), object);
+    }
+  }
+
+  @Override
+  public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, TCSObjectReference<T> ref) {
+    return fetchObject(clazz, ref.getName());
+  }
+
+  @Override
+  public <T extends TCSObject<T>> T fetchObject(Class<T> clazz, String name) {
+    return clazz.cast(objects.getOrDefault(clazz, Map.of()).get(name));
+  }
+
+  @Override
+  public <T extends TCSObject<T>> Set<T> fetchObjects(Class<T> clazz) {
+    return fetchObjects(clazz, object -> true);
+  }
+
+  @Override
+  public <T extends TCSObject<T>> Set<T> fetchObjects(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Predicate<? super T> predicate
+  ) {
+    return objects.getOrDefault(clazz, Map.of()).values().stream()
+        .map(object -> clazz.cast(object))
+        .filter(predicate)
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public void updateObjectProperty(
+      TCSObjectReference<?> ref,
+      String key,
+      @Nullable
+      String value
+  ) {
+    throw new UnsupportedOperationException("Objects are read-only.");
+  }
+
+  @Override
+  public void appendObjectHistoryEntry(TCSObjectReference<?> ref, ObjectHistory.Entry entry) {
+    throw new UnsupportedOperationException("Objects are read-only.");
+  }
+}
@@ -0,0 +1,185 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.benchmark;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import org.opentcs.components.kernel.routing.EdgeEvaluator;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.strategies.basic.routing.DefaultRouter;
+import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
+import org.opentcs.strategies.basic.routing.PointRouterFactory;
+import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorDistance;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
+import org.opentcs.strategies.basic.routing.jgrapht.BellmanFordPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.ContractionHierarchyPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.DefaultModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.DijkstraPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.FloydWarshallPointRouterFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.GeneralModelGraphMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphMutator;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.MapperComponentsFactory;
+import org.opentcs.strategies.basic.routing.jgrapht.PathEdgeMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
+import org.opentcs.strategies.basic.routing.jgrapht.PointVertexMapper;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+
+/**
+ * The routing components for a plant model, wired the same way the default router module wires
+ * them, with distances as edge weights.
+ */
+public class RoutingComponents {
+
+  private final TCSObjectService objectService;
+  private final ShortestPathConfiguration configuration;
+  private final DefaultRoutingGroupMapper routingGroupMapper = new DefaultRoutingGroupMapper();
+  private final GraphProvider graphProvider;
+  private final PointRouterFactory pointRouterFactory;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService Provides the plant model.
+   * @param algorithm The routing algorithm to be used.
+   * @param useCostTable Whether routing costs are to be looked up in cost tables.
+   */
+  public RoutingComponents(
+      @Nonnull
+      TCSObjectService objectService,
+      @Nonnull
+      ShortestPathConfiguration.Algorithm algorithm,
+      boolean useCostTable
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.configuration = new Configuration(requireNonNull(algorithm, "algorithm"), useCostTable);
+
+    MapperComponentsFactory mapperComponentsFactory = new MapperComponentsFactory() {
+      @Override
+      public PointVertexMapper createPointVertexMapper() {
+        return new PointVertexMapper();
+      }
+
+      @Override
+      public PathEdgeMapper createPathEdgeMapper(
+          @Nonnull
+          EdgeEvaluator edgeEvaluator,
+          boolean excludeLockedPaths
+      ) {
+        return new PathEdgeMapper(edgeEvaluator, excludeLockedPaths, configuration);
+      }
+    };
+    this.graphProvider = new GraphProvider(
+        objectService,
+        new GeneralModelGraphMapper(new EdgeEvaluatorHops(), mapperComponentsFactory),
+        new DefaultModelGraphMapper(
+            new EdgeEvaluatorComposite(
+                configuration,
+                Map.of(EdgeEvaluatorDistance.CONFIGURATION_KEY, new EdgeEvaluatorDistance())
+            ),
+            mapperComponentsFactory
+        ),
+        routingGroupMapper,
+        new GraphMutator()
+    );
+    this.pointRouterFactory = createPointRouterFactory(algorithm, graphProvider);
+  }
+
+  /**
+   * Returns the graph provider.
+   *
+   * @return The graph provider.
+   */
+  @Nonnull
+  public GraphProvider getGraphProvider() {
+    return graphProvider;
+  }
+
+  /**
+   * Returns the point router factory for the configured algorithm.
+   *
+   * @return The point router factory.
+   */
+  @Nonnull
+  public PointRouterFactory getPointRouterFactory() {
+    return pointRouterFactory;
+  }
+
+  /**
+   * Creates a new (uninitialized) router.
+   *
+   * @return The router.
+   */
+  @Nonnull
+  public DefaultRouter createRouter() {
+    return new DefaultRouter(
+        objectService,
+        new PointRouterProvider(
+            objectService,
+            new ResourceAvoidanceExtractor(objectService),
+            routingGroupMapper,
+            pointRouterFactory,
+            graphProvider,
+            configuration
+        ),
+        routingGroupMapper,
+        () -> false
+    );
+  }
+
+  private static PointRouterFactory createPointRouterFactory(
+      ShortestPathConfiguration.Algorithm algorithm,
+      GraphProvider graphProvider
+  ) {
+    switch (algorithm) {
+      case DIJKSTRA:
+        return new DijkstraPointRouterFactory(graphProvider);
+      case BELLMAN_FORD:
+        return new BellmanFordPointRouterFactory(graphProvider);
+      case FLOYD_WARSHALL:
+        return new FloydWarshallPointRouterFactory(graphProvider);
+      case CONTRACTION_HIERARCHY:
+        return new ContractionHierarchyPointRouterFactory(graphProvider);
+      default:
+        throw new IllegalArgumentException("Unhandled algorithm: " + algorithm);
+    }
+  }
+
+  private static class Configuration
+      implements
+        ShortestPathConfiguration {
+
+    private final Algorithm algorithm;
+    private final boolean useCostTable;
+
+    Configuration(Algorithm algorithm, boolean useCostTable) {
+      this.algorithm = algorithm;
+      this.useCostTable = useCostTable;
+    }
+
+    @Override
+    public Algorithm algorithm() {
+      return algorithm;
+    }
+
+    @Override
+    public List<String> edgeEvaluators() {
+      return List.of(EdgeEvaluatorDistance.CONFIGURATION_KEY);
+    }
+
+    @Override
+    public boolean useCostTable() {
+      return useCostTable;
+    }
+
+    @Override
+    public int derivedPointRouterCacheSize() {
+      return 100;
+    }
+  }
+}
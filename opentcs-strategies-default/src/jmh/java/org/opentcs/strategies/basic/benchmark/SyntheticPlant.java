@@ -0,0 +1,250 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.benchmark;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Pose;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * A synthetic plant model with a given layout, meant for benchmarks.
+ * <p>
+ * Points are one metre apart from their neighbours. Every {@link #LOCATION_INTERVAL}th point has a
+ * location attached, which is also linked to the point's successor, so that routing to a location
+ * has to choose between two destination points.
+ * </p>
+ */
+public class SyntheticPlant {
+
+  /**
+   * The operation allowed at all locations.
+   */
+  public static final String OPERATION = "Load cargo";
+  /**
+   * The number of points after which another location is attached.
+   */
+  public static final int LOCATION_INTERVAL = 5;
+  /**
+   * The distance between neighbouring points (in mm).
+   */
+  private static final long POINT_DISTANCE = 1000;
+  /**
+   * The distance between neighbouring aisles (in mm).
+   */
+  private static final long AISLE_DISTANCE = 3000;
+  private final List<Point> points = new ArrayList<>();
+  private final List<Path> paths = new ArrayList<>();
+  private final List<Location> locations = new ArrayList<>();
+  private final LocationType locationType
+      = new LocationType("Station").withAllowedOperations(List.of(OPERATION));
+  private final Vehicle vehicle = new Vehicle("Vehicle-0001");
+
+  private SyntheticPlant() {
+  }
+
+  /**
+   * Creates a plant model with the given layout.
+   *
+   * @param layout The layout.
+   * @param pointCount The (minimum) number of points in the plant model. Depending on the layout,
+   * this may be rounded up.
+   * @return The plant model.
+   */
+  @Nonnull
+  public static SyntheticPlant create(
+      @Nonnull
+      PlantLayout layout,
+      int pointCount
+  ) {
+    requireNonNull(layout, "layout");
+    checkArgument(pointCount >= 4, "pointCount < 4: %s", pointCount);
+
+    SyntheticPlant plant = new SyntheticPlant();
+    switch (layout) {
+      case GRID:
+        plant.createGrid(pointCount);
+        break;
+      case WAREHOUSE_AISLE:
+        plant.createAisles(pointCount);
+        break;
+      case RING:
+        plant.createRing(pointCount);
+        break;
+      default:
+        throw new IllegalArgumentException("Unhandled layout: " + layout);
+    }
+    plant.createLocations();
+    return plant;
+  }
+
+  /**
+   * Returns the plant model's points.
+   *
+   * @return The plant model's points.
+   */
+  @Nonnull
+  public List<Point> getPoints() {
+    return Collections.unmodifiableList(points);
+  }
+
+  /**
+   * Returns the plant model's paths.
+   *
+   * @return The plant model's paths.
+   */
+  @Nonnull
+  public List<Path> getPaths() {
+    return Collections.unmodifiableList(paths);
+  }
+
+  /**
+   * Returns the plant model's locations.
+   *
+   * @return The plant model's locations.
+   */
+  @Nonnull
+  public List<Location> getLocations() {
+    return Collections.unmodifiableList(locations);
+  }
+
+  /**
+   * Returns the type of all of the plant model's locations.
+   *
+   * @return The type of all of the plant model's locations.
+   */
+  @Nonnull
+  public LocationType getLocationType() {
+    return locationType;
+  }
+
+  /**
+   * Returns the plant model's (only) vehicle.
+   *
+   * @return The plant model's vehicle.
+   */
+  @Nonnull
+  public Vehicle getVehicle() {
+    return vehicle;
+  }
+
+  /**
+   * Returns all of the plant model's objects.
+   *
+   * @return All of the plant model's objects.
+   */
+  @Nonnull
+  public List<TCSObject<?>> getObjects() {
+    List<TCSObject<?>> result = new ArrayList<>();
+    result.addAll(points);
+    result.addAll(paths);
+    result.add(locationType);
+    result.addAll(locations);
+    result.add(vehicle);
+    return result;
+  }
+
+  private void createGrid(int pointCount) {
+    int size = (int) Math.ceil(Math.sqrt(pointCount));
+    for (int row = 0; row < size; row++) {
+      for (int column = 0; column < size; column++) {
+        addPoint(column * POINT_DISTANCE, row * POINT_DISTANCE);
+      }
+    }
+    for (int row = 0; row < size; row++) {
+      for (int column = 0; column < size; column++) {
+        Point point = points.get(row * size + column);
+        if (column + 1 < size) {
+          addPath(point, points.get(row * size + column + 1), POINT_DISTANCE, true);
+        }
+        if (row + 1 < size) {
+          addPath(point, points.get((row + 1) * size + column), POINT_DISTANCE, true);
+        }
+      }
+    }
+  }
+
+  private void createAisles(int pointCount) {
+    int aisleCount = Math.max(2, (int) Math.round(Math.sqrt(pointCount / 4.0)));
+    int aisleLength = Math.max(2, (int) Math.ceil((double) pointCount / aisleCount));
+    for (int aisle = 0; aisle < aisleCount; aisle++) {
+      for (int position = 0; position < aisleLength; position++) {
+        addPoint(aisle * AISLE_DISTANCE, position * POINT_DISTANCE);
+      }
+    }
+    for (int aisle = 0; aisle < aisleCount; aisle++) {
+      int first = aisle * aisleLength;
+      int last = first + aisleLength - 1;
+      for (int position = first; position < last; position++) {
+        addPath(points.get(position), points.get(position + 1), POINT_DISTANCE, true);
+      }
+      // Aisles are connected to their neighbours at both ends only.
+      if (aisle + 1 < aisleCount) {
+        addPath(points.get(first), points.get(first + aisleLength), AISLE_DISTANCE, true);
+        addPath(points.get(last), points.get(last + aisleLength), AISLE_DISTANCE, true);
+      }
+    }
+  }
+
+  private void createRing(int pointCount) {
+    double radius = pointCount * POINT_DISTANCE / (2 * Math.PI);
+    for (int i = 0; i < pointCount; i++) {
+      double angle = 2 * Math.PI * i / pointCount;
+      addPoint(Math.round(radius * Math.cos(angle)), Math.round(radius * Math.sin(angle)));
+    }
+    for (int i = 0; i < pointCount; i++) {
+      addPath(points.get(i), points.get((i + 1) % pointCount), POINT_DISTANCE, false);
+    }
+  }
+
+  private void createLocations() {
+    for (int i = 0; i < points.size(); i += LOCATION_INTERVAL) {
+      Location location = new Location(
+          String.format("Location-%05d", locations.size()),
+          locationType.getReference()
+      );
+      locations.add(
+          location.withAttachedLinks(
+              Set.of(
+                  new Location.Link(location.getReference(), points.get(i).getReference()),
+                  new Location.Link(
+                      location.getReference(),
+                      points.get((i + 1) % points.size()).getReference()
+                  )
+              )
+          )
+      );
+    }
+  }
+
+  private void addPoint(long x, long y) {
+    points.add(
+        new Point(String.format("Point-%05d", points.size()))
+            .withPose(new Pose(new Triple(x, y, 0), Double.NaN))
+    );
+  }
+
+  private void addPath(Point source, Point destination, long length, boolean reversible) {
+    paths.add(
+        new Path(
+            source.getName() + " --- " + destination.getName(),
+            source.getReference(),
+            destination.getReference()
+        )
+            .withLength(length)
+            .withMaxReverseVelocity(reversible ? 1000 : 0)
+    );
+  }
+}
@@ -0,0 +1,127 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.benchmark.PlantLayout;
+import org.opentcs.strategies.basic.benchmark.PlantObjectService;
+import org.opentcs.strategies.basic.benchmark.RoutingComponents;
+import org.opentcs.strategies.basic.benchmark.SyntheticPlant;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+
+/**
+ * Benchmarks computing routes for transport orders with multiple drive orders.
+ * <p>
+ * Every drive order's destination is a location linked to two points, so the router has to find
+ * the cheapest combination of destination points for the whole transport order.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultRouterBenchmark {
+
+  /**
+   * The number of (random) transport orders to compute routes for.
+   */
+  private static final int ORDER_COUNT = 256;
+  /**
+   * The number of points in the plant model.
+   */
+  private static final int POINT_COUNT = 1000;
+  @Param({"GRID", "WAREHOUSE_AISLE", "RING"})
+  private PlantLayout layout;
+  @Param({"1", "3", "5"})
+  private int driveOrderCount;
+  @Param({"false", "true"})
+  private boolean useCostTable;
+  private DefaultRouter router;
+  private Vehicle vehicle;
+  private final Point[] sourcePoints = new Point[ORDER_COUNT];
+  private final TransportOrder[] transportOrders = new TransportOrder[ORDER_COUNT];
+  private int orderIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public DefaultRouterBenchmark() {
+  }
+
+  /**
+   * Creates the router and the transport orders to compute routes for.
+   */
+  @Setup
+  public void setUp() {
+    SyntheticPlant plant = SyntheticPlant.create(layout, POINT_COUNT);
+    router = new RoutingComponents(
+        new PlantObjectService(plant.getObjects()),
+        ShortestPathConfiguration.Algorithm.DIJKSTRA,
+        useCostTable
+    )
+        .createRouter();
+    router.initialize();
+    vehicle = plant.getVehicle();
+
+    List<Point> points = plant.getPoints();
+    List<Location> locations = plant.getLocations();
+    Random random = new Random(42);
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      sourcePoints[i] = points.get(random.nextInt(points.size()));
+      List<DriveOrder> driveOrders = new ArrayList<>();
+      for (int j = 0; j < driveOrderCount; j++) {
+        driveOrders.add(
+            new DriveOrder(
+                new DriveOrder.Destination(
+                    locations.get(random.nextInt(locations.size())).getReference()
+                )
+                    .withOperation(SyntheticPlant.OPERATION)
+            )
+        );
+      }
+      transportOrders[i] = new TransportOrder(String.format("Order-%04d", i), driveOrders);
+    }
+  }
+
+  /**
+   * Terminates the router.
+   */
+  @TearDown
+  public void tearDown() {
+    router.terminate();
+  }
+
+  /**
+   * Computes the route for a transport order.
+   *
+   * @return The transport order's drive orders with their routes.
+   */
+  @Benchmark
+  public Optional<List<DriveOrder>> getRoute() {
+    orderIndex = (orderIndex + 1) % ORDER_COUNT;
+    return router.getRoute(vehicle, sourcePoints[orderIndex], transportOrders[orderIndex]);
+  }
+}
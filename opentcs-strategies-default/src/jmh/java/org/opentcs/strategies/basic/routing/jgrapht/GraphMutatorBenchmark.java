@@ -0,0 +1,98 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.benchmark.PlantLayout;
+import org.opentcs.strategies.basic.benchmark.PlantObjectService;
+import org.opentcs.strategies.basic.benchmark.RoutingComponents;
+import org.opentcs.strategies.basic.benchmark.SyntheticPlant;
+import org.opentcs.strategies.basic.routing.jgrapht.GraphProvider.GraphResult;
+
+/**
+ * Benchmarks deriving a routing graph with some points and paths excluded, as is done for
+ * transport orders with resources to be avoided.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphMutatorBenchmark {
+
+  @Param({"GRID", "WAREHOUSE_AISLE", "RING"})
+  private PlantLayout layout;
+  @Param({"100", "1000", "10000"})
+  private int pointCount;
+  /**
+   * The percentage of the plant model's points and paths to be excluded.
+   */
+  @Param({"1", "10"})
+  private int excludedPercentage;
+  private final GraphMutator graphMutator = new GraphMutator();
+  private GraphResult baseGraph;
+  private final Set<Point> pointsToExclude = new HashSet<>();
+  private final Set<Path> pathsToExclude = new HashSet<>();
+
+  /**
+   * Creates a new instance.
+   */
+  public GraphMutatorBenchmark() {
+  }
+
+  /**
+   * Creates the base graph and selects the points and paths to be excluded.
+   */
+  @Setup
+  public void setUp() {
+    SyntheticPlant plant = SyntheticPlant.create(layout, pointCount);
+    baseGraph = new RoutingComponents(
+        new PlantObjectService(plant.getObjects()),
+        ShortestPathConfiguration.Algorithm.DIJKSTRA,
+        false
+    )
+        .getGraphProvider()
+        .getGraphResult(plant.getVehicle());
+
+    Random random = new Random(42);
+    pointsToExclude.addAll(select(plant.getPoints(), random));
+    pathsToExclude.addAll(select(plant.getPaths(), random));
+  }
+
+  /**
+   * Derives a graph from the base graph.
+   *
+   * @return The derived graph.
+   */
+  @Benchmark
+  public GraphResult deriveGraph() {
+    return graphMutator.deriveGraph(pointsToExclude, pathsToExclude, baseGraph);
+  }
+
+  private <T> Set<T> select(List<T> candidates, Random random) {
+    Set<T> result = new HashSet<>();
+    int count = Math.max(1, candidates.size() * excludedPercentage / 100);
+    while (result.size() < count) {
+      result.add(candidates.get(random.nextInt(candidates.size())));
+    }
+    return result;
+  }
+}
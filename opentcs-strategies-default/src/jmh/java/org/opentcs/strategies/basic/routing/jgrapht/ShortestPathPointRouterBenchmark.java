@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.benchmark.PlantLayout;
+import org.opentcs.strategies.basic.benchmark.PlantObjectService;
+import org.opentcs.strategies.basic.benchmark.RoutingComponents;
+import org.opentcs.strategies.basic.benchmark.SyntheticPlant;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Benchmarks route and cost lookups of the point routers created by each point router factory.
+ * <p>
+ * Lookups are made for a fixed sequence of random pairs of points. The time it takes to create
+ * the point routers themselves (including any precomputation) is not measured.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShortestPathPointRouterBenchmark {
+
+  /**
+   * The number of (random) pairs of points to look up routes for.
+   */
+  private static final int QUERY_COUNT = 1024;
+  @Param({"GRID", "WAREHOUSE_AISLE", "RING"})
+  private PlantLayout layout;
+  @Param({"100", "1000"})
+  private int pointCount;
+  @Param({"DIJKSTRA", "BELLMAN_FORD", "FLOYD_WARSHALL", "CONTRACTION_HIERARCHY"})
+  private ShortestPathConfiguration.Algorithm algorithm;
+  private PointRouter pointRouter;
+  private final Point[] sourcePoints = new Point[QUERY_COUNT];
+  private final Point[] destinationPoints = new Point[QUERY_COUNT];
+  private int queryIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public ShortestPathPointRouterBenchmark() {
+  }
+
+  /**
+   * Creates the point router and the pairs of points to look up routes for.
+   */
+  @Setup
+  public void setUp() {
+    SyntheticPlant plant = SyntheticPlant.create(layout, pointCount);
+    pointRouter = new RoutingComponents(
+        new PlantObjectService(plant.getObjects()),
+        algorithm,
+        false
+    )
+        .getPointRouterFactory()
+        .createPointRouter(plant.getVehicle(), Set.of(), Set.of());
+
+    List<Point> points = plant.getPoints();
+    Random random = new Random(42);
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      sourcePoints[i] = points.get(random.nextInt(points.size()));
+      destinationPoints[i] = points.get(random.nextInt(points.size()));
+    }
+  }
+
+  /**
+   * Looks up the steps of a route.
+   *
+   * @return The steps of the route.
+   */
+  @Benchmark
+  public List<Route.Step> getRouteSteps() {
+    int i = nextQueryIndex();
+    return pointRouter.getRouteSteps(sourcePoints[i], destinationPoints[i]);
+  }
+
+  /**
+   * Looks up the costs of a route.
+   *
+   * @return The costs of the route.
+   */
+  @Benchmark
+  public long getCosts() {
+    int i = nextQueryIndex();
+    return pointRouter.getCosts(sourcePoints[i], destinationPoints[i]);
+  }
+
+  private int nextQueryIndex() {
+    queryIndex = (queryIndex + 1) % QUERY_COUNT;
+    return queryIndex;
+  }
+}
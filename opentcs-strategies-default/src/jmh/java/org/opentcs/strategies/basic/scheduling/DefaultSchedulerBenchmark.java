@@ -0,0 +1,195 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.components.kernel.ResourceAllocationException;
+import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.benchmark.PlantLayout;
+import org.opentcs.strategies.basic.benchmark.SyntheticPlant;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Benchmarks immediate allocations of resources via the {@link DefaultScheduler} and its
+ * {@link ReservationPool}, with a given number of other clients holding allocations.
+ * <p>
+ * Resources allocated in a benchmark are released via the reservation pool directly, as releasing
+ * them via the scheduler would also trigger (asynchronous) retries of deferred allocations.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultSchedulerBenchmark {
+
+  /**
+   * The number of resources allocated by each of the other clients.
+   */
+  private static final int RESOURCES_PER_CLIENT = 10;
+  /**
+   * The number of resources in a single request.
+   */
+  private static final int REQUEST_SIZE = 3;
+  /**
+   * The number of (random) requests.
+   */
+  private static final int REQUEST_COUNT = 256;
+  @Param({"10", "100", "1000"})
+  private int clientCount;
+  private final ScheduledExecutorService kernelExecutor
+      = Executors.newSingleThreadScheduledExecutor();
+  private final ReservationPool reservationPool = new ReservationPool();
+  private final DefaultScheduler scheduler = new DefaultScheduler(
+      new AllocationAdvisor(Set.of()),
+      reservationPool,
+      kernelExecutor,
+      new SimpleEventBus(),
+      new Object()
+  );
+  private final Scheduler.Client client = new BenchmarkClient("client");
+  private final List<Set<TCSResource<?>>> freeRequests = new ArrayList<>();
+  private final List<Set<TCSResource<?>>> mixedRequests = new ArrayList<>();
+  private int requestIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public DefaultSchedulerBenchmark() {
+  }
+
+  /**
+   * Lets the other clients allocate their resources and creates the requests.
+   *
+   * @throws ResourceAllocationException Never.
+   */
+  @Setup
+  public void setUp()
+      throws ResourceAllocationException {
+    scheduler.initialize();
+
+    // Half of the points are allocated by other clients, the other half is free.
+    List<Point> points = SyntheticPlant.create(
+        PlantLayout.GRID,
+        2 * clientCount * RESOURCES_PER_CLIENT
+    )
+        .getPoints();
+    List<Point> allocatedPoints = points.subList(0, clientCount * RESOURCES_PER_CLIENT);
+    List<Point> freePoints = points.subList(clientCount * RESOURCES_PER_CLIENT, points.size());
+    for (int i = 0; i < clientCount; i++) {
+      scheduler.allocateNow(
+          new BenchmarkClient(String.format("Client-%04d", i)),
+          new HashSet<>(
+              allocatedPoints.subList(i * RESOURCES_PER_CLIENT, (i + 1) * RESOURCES_PER_CLIENT)
+          )
+      );
+    }
+
+    Random random = new Random(42);
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      freeRequests.add(randomRequest(freePoints, random));
+      mixedRequests.add(randomRequest(points, random));
+    }
+  }
+
+  /**
+   * Terminates the scheduler.
+   */
+  @TearDown
+  public void tearDown() {
+    scheduler.terminate();
+    kernelExecutor.shutdown();
+  }
+
+  /**
+   * Allocates free resources immediately and releases them again.
+   *
+   * @throws ResourceAllocationException Never.
+   */
+  @Benchmark
+  public void allocateNowAndFree()
+      throws ResourceAllocationException {
+    Set<TCSResource<?>> resources = freeRequests.get(nextRequestIndex());
+    scheduler.allocateNow(client, resources);
+    reservationPool.free(client, resources);
+  }
+
+  /**
+   * Checks whether resources, some of which may be allocated by other clients, could be allocated
+   * immediately.
+   *
+   * @return Whether the resources could be allocated immediately.
+   */
+  @Benchmark
+  public boolean mayAllocateNow() {
+    return scheduler.mayAllocateNow(client, mixedRequests.get(nextRequestIndex()));
+  }
+
+  private Set<TCSResource<?>> randomRequest(List<Point> candidates, Random random) {
+    Set<TCSResource<?>> result = new HashSet<>();
+    while (result.size() < REQUEST_SIZE) {
+      result.add(candidates.get(random.nextInt(candidates.size())));
+    }
+    return result;
+  }
+
+  private int nextRequestIndex() {
+    requestIndex = (requestIndex + 1) % REQUEST_COUNT;
+    return requestIndex;
+  }
+
+  private static class BenchmarkClient
+      implements
+        Scheduler.Client {
+
+    private final String id;
+
+    BenchmarkClient(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public TCSObjectReference<Vehicle> getRelatedVehicle() {
+      return null;
+    }
+
+    @Override
+    public boolean allocationSuccessful(Set<TCSResource<?>> resources) {
+      return false;
+    }
+
+    @Override
+    public void allocationFailed(Set<TCSResource<?>> resources) {
+    }
+  }
+}
@@ -0,0 +1,145 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Benchmarks checking whether a vehicle may allocate areas, with a given number of other vehicles
+ * holding area allocations.
+ * <p>
+ * Every vehicle holds allocations of consecutive areas along its own lane. Areas are diamonds, so
+ * that their bounding boxes may intersect while the areas themselves do not.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AreaAllocationsBenchmark {
+
+  /**
+   * The number of areas allocated by each vehicle.
+   */
+  private static final int AREAS_PER_VEHICLE = 10;
+  /**
+   * The number of areas in a single request.
+   */
+  private static final int REQUEST_SIZE = 3;
+  /**
+   * The number of (random) requests.
+   */
+  private static final int REQUEST_COUNT = 256;
+  /**
+   * The distance between the centers of consecutive areas and of neighbouring lanes (in mm).
+   */
+  private static final double AREA_DISTANCE = 1000;
+  /**
+   * Half of the diagonal of each area (in mm).
+   */
+  private static final double AREA_RADIUS = 600;
+  /**
+   * The length of each lane (in mm).
+   */
+  private static final double LANE_LENGTH = 100000;
+  @Param({"10", "100", "1000"})
+  private int vehicleCount;
+  /**
+   * Whether the areas are prepared geometries, as provided by the {@link CachingAreaProvider}.
+   */
+  @Param({"false", "true"})
+  private boolean prepared;
+  private final GeometryFactory geometryFactory = new GeometryFactory();
+  private final AreaAllocations areaAllocations = new AreaAllocations();
+  private final TCSObjectReference<Vehicle> vehicleRef = new Vehicle("Vehicle").getReference();
+  private final GeometryCollection[] requests = new GeometryCollection[REQUEST_COUNT];
+  private int requestIndex;
+
+  /**
+   * Creates a new instance.
+   */
+  public AreaAllocationsBenchmark() {
+  }
+
+  /**
+   * Lets the other vehicles allocate their areas and creates the requests.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    for (int i = 0; i < vehicleCount; i++) {
+      areaAllocations.setAreaAllocation(
+          new Vehicle(String.format("Vehicle-%04d", i)).getReference(),
+          createAreas(
+              random.nextDouble() * LANE_LENGTH,
+              i * 2 * AREA_DISTANCE,
+              AREAS_PER_VEHICLE
+          )
+      );
+    }
+
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      requests[i] = createAreas(
+          random.nextDouble() * LANE_LENGTH,
+          random.nextDouble() * vehicleCount * 2 * AREA_DISTANCE,
+          REQUEST_SIZE
+      );
+    }
+  }
+
+  /**
+   * Checks whether the vehicle may allocate the requested areas.
+   *
+   * @return Whether the vehicle may allocate the requested areas.
+   */
+  @Benchmark
+  public boolean isAreaAllocationAllowed() {
+    requestIndex = (requestIndex + 1) % REQUEST_COUNT;
+    return areaAllocations.isAreaAllocationAllowed(vehicleRef, requests[requestIndex]);
+  }
+
+  private GeometryCollection createAreas(double x, double y, int count) {
+    Geometry[] areas = new Geometry[count];
+    for (int i = 0; i < count; i++) {
+      areas[i] = createDiamond(x + i * AREA_DISTANCE, y);
+    }
+    return geometryFactory.createGeometryCollection(areas);
+  }
+
+  private Geometry createDiamond(double x, double y) {
+    Geometry diamond = geometryFactory.createPolygon(
+        new Coordinate[]{
+            new Coordinate(x - AREA_RADIUS, y),
+            new Coordinate(x, y + AREA_RADIUS),
+            new Coordinate(x + AREA_RADIUS, y),
+            new Coordinate(x, y - AREA_RADIUS),
+            new Coordinate(x - AREA_RADIUS, y)
+        }
+    );
+    if (prepared) {
+      diamond.setUserData(PreparedGeometryFactory.prepare(diamond));
+    }
+    return diamond;
+  }
+}
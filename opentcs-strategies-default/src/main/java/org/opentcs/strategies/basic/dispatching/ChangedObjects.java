@@ -0,0 +1,112 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * The vehicles and transport orders that changed since the last dispatch run.
+ */
+public class ChangedObjects {
+
+  /**
+   * The vehicles that changed.
+   */
+  private final Set<TCSObjectReference<Vehicle>> vehicles;
+  /**
+   * The transport orders that changed.
+   */
+  private final Set<TCSObjectReference<TransportOrder>> transportOrders;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicles The vehicles that changed.
+   * @param transportOrders The transport orders that changed.
+   */
+  public ChangedObjects(
+      Set<TCSObjectReference<Vehicle>> vehicles,
+      Set<TCSObjectReference<TransportOrder>> transportOrders
+  ) {
+    this.vehicles = Set.copyOf(requireNonNull(vehicles, "vehicles"));
+    this.transportOrders = Set.copyOf(requireNonNull(transportOrders, "transportOrders"));
+  }
+
+  /**
+   * Returns the vehicles that changed.
+   *
+   * @return The vehicles that changed.
+   */
+  public Set<TCSObjectReference<Vehicle>> getVehicles() {
+    return vehicles;
+  }
+
+  /**
+   * Returns the transport orders that changed.
+   *
+   * @return The transport orders that changed.
+   */
+  public Set<TCSObjectReference<TransportOrder>> getTransportOrders() {
+    return transportOrders;
+  }
+
+  /**
+   * Checks whether no objects changed at all.
+   *
+   * @return {@code true} if, and only if, neither vehicles nor transport orders changed.
+   */
+  public boolean isEmpty() {
+    return vehicles.isEmpty() && transportOrders.isEmpty();
+  }
+
+  /**
+   * Fetches the current states of the vehicles that changed and still exist.
+   *
+   * @param objectService The object service to fetch the vehicles from.
+   * @return The current states of the vehicles that changed.
+   */
+  public List<Vehicle> fetchVehicles(TCSObjectService objectService) {
+    return fetch(objectService, Vehicle.class, vehicles);
+  }
+
+  /**
+   * Fetches the current states of the transport orders that changed and still exist.
+   *
+   * @param objectService The object service to fetch the transport orders from.
+   * @return The current states of the transport orders that changed.
+   */
+  public List<TransportOrder> fetchTransportOrders(TCSObjectService objectService) {
+    return fetch(objectService, TransportOrder.class, transportOrders);
+  }
+
+  @Override
+  public String toString() {
+    return "ChangedObjects{"
+        + "vehicles=" + vehicles
+        + ", transportOrders=" + transportOrders
+        + '}';
+  }
+
+  private <T extends TCSObject<T>> List<T> fetch(
+      TCSObjectService objectService,
+      Class<T> clazz,
+      Collection<TCSObjectReference<T>> refs
+  ) {
+    requireNonNull(objectService, "objectService");
+
+    return refs.stream()
+        .map(ref -> objectService.fetchObject(clazz, ref))
+        .filter(Objects::nonNull)
+        .toList();
+  }
+}
@@ -0,0 +1,178 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps track of the vehicles and transport orders that changed since the last dispatch run, based
+ * on the {@link TCSObjectEvent}s emitted by the kernel.
+ * <p>
+ * Changes to plant model elements (e.g. locked paths or locations) may affect the dispatching of
+ * any vehicle or transport order. Such changes are not tracked individually, but result in a full
+ * dispatch run being requested.
+ * </p>
+ */
+public class ChangedObjectsTracker
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * Where we receive events from.
+   */
+  private final EventSource eventSource;
+  /**
+   * The vehicles that changed since the changes were last retrieved.
+   */
+  private Set<TCSObjectReference<Vehicle>> changedVehicles = new HashSet<>();
+  /**
+   * The transport orders that changed since the changes were last retrieved.
+   */
+  private Set<TCSObjectReference<TransportOrder>> changedTransportOrders = new HashSet<>();
+  /**
+   * Whether a full dispatch run is required.
+   */
+  private boolean fullRunRequired;
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where this instance receives events from.
+   */
+  @Inject
+  public ChangedObjectsTracker(
+      @ApplicationEventBus
+      EventSource eventSource
+  ) {
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    clear();
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    clear();
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    if (object instanceof Vehicle vehicle) {
+      markVehicleChanged(vehicle.getReference());
+    }
+    else if (object instanceof TransportOrder order) {
+      markTransportOrderChanged(order.getReference());
+    }
+    else if (object instanceof OrderSequence sequence) {
+      // Changes to a sequence affect the vehicle processing it (e.g. when the sequence is
+      // complete or a successor can be assigned).
+      if (sequence.getProcessingVehicle() != null) {
+        markVehicleChanged(sequence.getProcessingVehicle());
+      }
+    }
+    else if (object instanceof Point
+        || object instanceof Path
+        || object instanceof Location
+        || object instanceof Block) {
+      requireFullRun();
+    }
+  }
+
+  /**
+   * Marks the given vehicle as changed.
+   *
+   * @param vehicleRef The vehicle.
+   */
+  public synchronized void markVehicleChanged(TCSObjectReference<Vehicle> vehicleRef) {
+    changedVehicles.add(requireNonNull(vehicleRef, "vehicleRef"));
+  }
+
+  /**
+   * Marks the given transport order as changed.
+   *
+   * @param orderRef The transport order.
+   */
+  public synchronized void markTransportOrderChanged(
+      TCSObjectReference<TransportOrder> orderRef
+  ) {
+    changedTransportOrders.add(requireNonNull(orderRef, "orderRef"));
+  }
+
+  /**
+   * Requests the next dispatch run to be a full one.
+   */
+  public synchronized void requireFullRun() {
+    fullRunRequired = true;
+  }
+
+  /**
+   * Returns the objects that changed since this method was last called, and starts tracking changes
+   * anew.
+   *
+   * @return The objects that changed since this method was last called, or an empty optional, if a
+   * full dispatch run has been requested since then.
+   */
+  public synchronized Optional<ChangedObjects> retrieveChanges() {
+    Optional<ChangedObjects> result = fullRunRequired
+        ? Optional.empty()
+        : Optional.of(new ChangedObjects(changedVehicles, changedTransportOrders));
+    clear();
+    return result;
+  }
+
+  private synchronized void clear() {
+    changedVehicles = new HashSet<>();
+    changedTransportOrders = new HashSet<>();
+    fullRunRequired = false;
+  }
+}
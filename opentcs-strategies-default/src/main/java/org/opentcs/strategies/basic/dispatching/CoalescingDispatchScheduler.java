@@ -0,0 +1,157 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules dispatch runs, collapsing triggers that arrive while a run is already pending into that
+ * run.
+ * <p>
+ * A trigger schedules a run only if there is no pending run, yet. The run is delayed so that at
+ * least the configured minimum interval lies between the starts of two consecutive runs. A trigger
+ * is therefore never delayed by more than the minimum interval. As runs are executed via the
+ * (usually single-threaded) kernel executor, triggers that have already been queued there when a
+ * run is scheduled are collapsed into that run even if no delay is configured.
+ * </p>
+ */
+class CoalescingDispatchScheduler {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CoalescingDispatchScheduler.class);
+  /**
+   * Executes the dispatch runs.
+   */
+  private final ScheduledExecutorService executor;
+  /**
+   * The kernel threads' global synchronization object, held while a dispatch run is executed.
+   */
+  private final Object globalSyncObject;
+  /**
+   * The actual dispatch run.
+   */
+  private final Runnable dispatchTask;
+  /**
+   * The minimum time (in ms) between the starts of two consecutive dispatch runs.
+   */
+  private final long minInterval;
+  /**
+   * The number of triggers received.
+   */
+  private final AtomicLong triggerCount = new AtomicLong();
+  /**
+   * The number of dispatch runs executed.
+   */
+  private final AtomicLong runCount = new AtomicLong();
+  /**
+   * The pending dispatch run, or {@code null}, if there is none.
+   */
+  private ScheduledFuture<?> pendingRun;
+  /**
+   * The time (as returned by {@link System#nanoTime()}) at which the last dispatch run started.
+   */
+  private long lastRunStartTime;
+  /**
+   * Whether a dispatch run has been executed, yet.
+   */
+  private boolean runExecuted;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param executor Executes the dispatch runs.
+   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param dispatchTask The actual dispatch run.
+   * @param minInterval The minimum time (in ms) between the starts of two consecutive runs.
+   */
+  CoalescingDispatchScheduler(
+      ScheduledExecutorService executor,
+      Object globalSyncObject,
+      Runnable dispatchTask,
+      long minInterval
+  ) {
+    this.executor = requireNonNull(executor, "executor");
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.dispatchTask = requireNonNull(dispatchTask, "dispatchTask");
+    checkArgument(minInterval >= 0, "minInterval is negative: %s", minInterval);
+    this.minInterval = minInterval;
+  }
+
+  /**
+   * Requests a dispatch run, which is either scheduled or collapsed into an already pending run.
+   */
+  synchronized void trigger() {
+    triggerCount.incrementAndGet();
+
+    if (pendingRun != null) {
+      LOG.debug("Dispatch run already pending, not scheduling another one.");
+      return;
+    }
+
+    long delay = 0;
+    if (runExecuted) {
+      long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastRunStartTime);
+      delay = Math.max(minInterval - elapsed, 0);
+    }
+
+    LOG.debug("Scheduling dispatch run with a delay of {} ms...", delay);
+    pendingRun = executor.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Cancels the pending dispatch run, if any.
+   */
+  synchronized void cancel() {
+    if (pendingRun != null) {
+      pendingRun.cancel(false);
+      pendingRun = null;
+    }
+  }
+
+  /**
+   * Returns the number of triggers received.
+   *
+   * @return The number of triggers received.
+   */
+  long getTriggerCount() {
+    return triggerCount.get();
+  }
+
+  /**
+   * Returns the number of dispatch runs executed.
+   *
+   * @return The number of dispatch runs executed.
+   */
+  long getRunCount() {
+    return runCount.get();
+  }
+
+  private void run() {
+    synchronized (this) {
+      pendingRun = null;
+      lastRunStartTime = System.nanoTime();
+      runExecuted = true;
+    }
+
+    LOG.debug(
+        "Executing dispatch run #{} ({} triggers received so far)...",
+        runCount.incrementAndGet(),
+        triggerCount.get()
+    );
+    // Triggers received during the run schedule a new run, so changes made by this run are
+    // considered, too.
+    synchronized (globalSyncObject) {
+      dispatchTask.run();
+    }
+  }
+}
@@ -8,6 +8,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -15,6 +16,7 @@ import org.opentcs.components.kernel.Dispatcher;
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentException;
 import org.opentcs.components.kernel.dipatching.TransportOrderAssignmentVeto;
 import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.ReroutingType;
@@ -25,6 +27,17 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Dispatches transport orders and vehicles.
+ * <p>
+ * Calls to {@link #dispatch()} do not execute a dispatch run directly, i.e. they return before the
+ * run has happened. Instead, the run is scheduled for execution via the kernel executor, and calls
+ * arriving while a run is still pending are collapsed into that run (see
+ * {@link DefaultDispatcherConfiguration#dispatchMinInterval()}).
+ * </p>
+ * <p>
+ * With incremental dispatching enabled, a dispatch run only considers the vehicles and transport
+ * orders that changed since the previous run, as far as possible. Full dispatch runs are still
+ * performed periodically and after changes to plant model elements.
+ * </p>
  */
 public class DefaultDispatcher
     implements
@@ -62,8 +75,29 @@ public class DefaultDispatcher
   private final OrderAssigner orderAssigner;
 
   private final TransportOrderAssignmentChecker transportOrderAssignmentChecker;
+  /**
+   * The kernel threads' global synchronization object.
+   */
+  private final Object globalSyncObject;
+  /**
+   * Keeps track of the objects that changed since the last dispatch run.
+   */
+  private final ChangedObjectsTracker changedObjectsTracker;
 
   private ScheduledFuture<?> periodicDispatchTaskFuture;
+  /**
+   * Schedules dispatch runs.
+   */
+  private volatile CoalescingDispatchScheduler dispatchScheduler;
+  /**
+   * Whether dispatch runs are performed incrementally.
+   */
+  private boolean incrementalDispatching;
+  /**
+   * The time (as returned by {@link System#nanoTime()}) at which the last full dispatch run
+   * started.
+   */
+  private long lastFullRunTime;
   /**
    * Indicates whether this component is enabled.
    */
@@ -83,6 +117,9 @@ public class DefaultDispatcher
    * @param orderAssigner Handles assignments of transport orders to vehicles.
    * @param transportOrderAssignmentChecker Checks whether the assignment of transport orders to
    * vehicles is possible.
+   * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param changedObjectsTracker Keeps track of the objects that changed since the last dispatch
+   * run.
    */
   @Inject
   public DefaultDispatcher(
@@ -96,7 +133,10 @@ public class DefaultDispatcher
       DefaultDispatcherConfiguration configuration,
       RerouteUtil rerouteUtil,
       OrderAssigner orderAssigner,
-      TransportOrderAssignmentChecker transportOrderAssignmentChecker
+      TransportOrderAssignmentChecker transportOrderAssignmentChecker,
+      @GlobalSyncObject
+      Object globalSyncObject,
+      ChangedObjectsTracker changedObjectsTracker
   ) {
     this.orderReservationPool = requireNonNull(orderReservationPool, "orderReservationPool");
     this.transportOrderUtil = requireNonNull(transportOrderUtil, "transportOrderUtil");
@@ -114,6 +154,8 @@ public class DefaultDispatcher
         transportOrderAssignmentChecker,
         "transportOrderAssignmentChecker"
     );
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.changedObjectsTracker = requireNonNull(changedObjectsTracker, "changedObjectsTracker");
   }
 
   @Override
@@ -126,9 +168,24 @@ public class DefaultDispatcher
 
     transportOrderUtil.initialize();
     orderReservationPool.clear();
+    orderAssigner.initialize();
 
     fullDispatchTask.initialize();
 
+    incrementalDispatching = configuration.incrementalDispatching();
+    if (incrementalDispatching) {
+      changedObjectsTracker.initialize();
+      // Start with a full dispatch run.
+      changedObjectsTracker.requireFullRun();
+    }
+
+    dispatchScheduler = new CoalescingDispatchScheduler(
+        kernelExecutor,
+        globalSyncObject,
+        this::executeDispatchRun,
+        configuration.dispatchMinInterval()
+    );
+
     LOG.debug(
         "Scheduling periodic dispatch task with interval of {} ms...",
         configuration.idleVehicleRedispatchingInterval()
@@ -154,7 +211,16 @@ public class DefaultDispatcher
     periodicDispatchTaskFuture.cancel(false);
     periodicDispatchTaskFuture = null;
 
+    dispatchScheduler.cancel();
+    LOG.debug(
+        "Dispatch triggers received: {}, dispatch runs executed: {}",
+        dispatchScheduler.getTriggerCount(),
+        dispatchScheduler.getRunCount()
+    );
+
+    changedObjectsTracker.terminate();
     fullDispatchTask.terminate();
+    orderAssigner.terminate();
 
     initialized = false;
   }
@@ -166,8 +232,57 @@ public class DefaultDispatcher
 
   @Override
   public void dispatch() {
-    LOG.debug("Executing dispatch task...");
-    fullDispatchTask.run();
+    if (!isInitialized()) {
+      LOG.debug("Not initialized, ignoring dispatch request.");
+      return;
+    }
+
+    LOG.debug("Scheduling dispatch task...");
+    dispatchScheduler.trigger();
+  }
+
+  /**
+   * Returns the number of dispatch requests received since this dispatcher was initialized.
+   *
+   * @return The number of dispatch requests received.
+   */
+  public long getDispatchTriggerCount() {
+    return dispatchScheduler == null ? 0 : dispatchScheduler.getTriggerCount();
+  }
+
+  /**
+   * Returns the number of dispatch runs executed since this dispatcher was initialized.
+   * <p>
+   * As dispatch requests arriving while a dispatch run is pending are collapsed into that run, this
+   * number is usually (much) lower than the number of dispatch requests received.
+   * </p>
+   *
+   * @return The number of dispatch runs executed.
+   */
+  public long getDispatchRunCount() {
+    return dispatchScheduler == null ? 0 : dispatchScheduler.getRunCount();
+  }
+
+  private void executeDispatchRun() {
+    if (!incrementalDispatching) {
+      fullDispatchTask.run();
+      return;
+    }
+
+    // Retrieve the changes before the dispatch run, so changes made by the run itself are
+    // considered in the next one.
+    Optional<ChangedObjects> changedObjects = changedObjectsTracker.retrieveChanges();
+    long now = System.nanoTime();
+
+    if (changedObjects.isEmpty()
+        || TimeUnit.NANOSECONDS.toMillis(now - lastFullRunTime)
+            >= configuration.fullDispatchInterval()) {
+      lastFullRunTime = now;
+      fullDispatchTask.run();
+    }
+    else {
+      fullDispatchTask.runIncrementally(changedObjects.get());
+    }
   }
 
   @Override
@@ -153,6 +153,68 @@ public interface DefaultDispatcherConfiguration {
   )
   boolean keepRechargingUntilFullyCharged();
 
+  @ConfigurationEntry(
+      type = "String",
+      description = {
+          "The strategy to use for assigning free transport orders to vehicles.",
+          "Possible values:",
+          "GREEDY: Assign the best transport order to one vehicle after the other (or vice "
+              + "versa), according to the configured priorities.",
+          "MIN_COST_MATCHING: Assign transport orders to vehicles such that as many as possible "
+              + "are assigned and the sum of the routing costs to their first destinations is "
+              + "minimal. Priorities are only used for breaking ties."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_0"
+  )
+  FreeOrderAssignmentStrategy freeOrderAssignmentStrategy();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether assignment candidates (i.e. routes for vehicle/transport order pairs) are "
+              + "computed in parallel.",
+          "If true, the router in use must be able to process routing requests concurrently.",
+          "As computing candidates requires reading kernel objects, they are computed in "
+              + "parallel while dispatching holds the kernel's global lock only if "
+              + "'lockFreeObjectReads' is 'true'."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_1"
+  )
+  boolean parallelCandidateComputation();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of threads used for computing assignment candidates in parallel.",
+          "If 0 or less, the number of available processors is used."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_2"
+  )
+  int candidateComputationThreads();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum time (in ms) to wait for assignment candidates computed in parallel.",
+          "If exceeded, the remaining candidates are computed sequentially."},
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "0_assign_3"
+  )
+  int candidateComputationTimeout();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether the kernel reads objects without its global lock.",
+          "Must only be set to 'true' if 'kernelapp.lockFreeObjectReads' is set to 'true', too.",
+          "If 'true', assignment candidates are computed in parallel even while dispatching holds "
+              + "the kernel's global lock."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_assign_4"
+  )
+  boolean lockFreeObjectReads();
+
   @ConfigurationEntry(
       type = "Integer",
       description = "The interval between redispatching of vehicles.",
@@ -161,6 +223,54 @@ public interface DefaultDispatcherConfiguration {
   )
   long idleVehicleRedispatchingInterval();
 
+  @ConfigurationEntry(
+      type = "Long",
+      description = {
+          "The minimum time (in ms) between the starts of two consecutive dispatch runs.",
+          "Dispatch requests arriving while a dispatch run is pending are collapsed into that "
+              + "run.",
+          "A dispatch request is never delayed by more than this interval."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "9_misc_1"
+  )
+  long dispatchMinInterval();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether dispatch runs only consider the vehicles and transport orders that changed "
+              + "since the previous dispatch run.",
+          "Full dispatch runs are still performed periodically and after changes to plant model "
+              + "elements."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "9_misc_3"
+  )
+  boolean incrementalDispatching();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum time (in ms) between two full dispatch runs with incremental dispatching.",
+          "If 0 or less, every dispatch run is a full one."},
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
+      orderKey = "9_misc_4"
+  )
+  long fullDispatchInterval();
+
+  /**
+   * The available strategies for assigning free transport orders to vehicles.
+   */
+  enum FreeOrderAssignmentStrategy {
+    /**
+     * Assign the best transport order to one vehicle after the other (or vice versa).
+     */
+    GREEDY,
+    /**
+     * Assign transport orders to vehicles such that the total routing costs are minimal.
+     */
+    MIN_COST_MATCHING;
+  }
+
   /**
    * The available strategies for situations in which rerouting is not possible.
    */
@@ -21,6 +21,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Performs a full dispatch run.
+ * <p>
+ * Alternatively, a dispatch run can be performed incrementally, i.e. only for the objects that
+ * changed since the last dispatch run (see {@link #runIncrementally(ChangedObjects)}).
+ * </p>
  */
 public class FullDispatchTask
     implements
@@ -149,6 +153,35 @@ public class FullDispatchTask
     LOG.debug("Finished full dispatch run.");
   }
 
+  /**
+   * Performs an incremental dispatch run, considering only the given objects that changed since the
+   * last dispatch run (where possible).
+   * <p>
+   * Note that the customization hooks {@link #assignOrders()}, {@link #rechargeVehicles()} and
+   * {@link #parkVehicles()} are used for full dispatch runs only.
+   * </p>
+   *
+   * @param changedObjects The objects that changed since the last dispatch run.
+   */
+  public final void runIncrementally(ChangedObjects changedObjects) {
+    requireNonNull(changedObjects, "changedObjects");
+
+    LOG.debug("Starting incremental dispatch run for {}...", changedObjects);
+
+    checkNewOrdersPhase.runIncrementally(changedObjects);
+    finishWithdrawalsPhase.runIncrementally(changedObjects);
+    assignNextDriveOrdersPhase.runIncrementally(changedObjects);
+    assignSequenceSuccessorsPhase.runIncrementally(changedObjects);
+    assignReservedOrdersPhase.runIncrementally(changedObjects);
+    assignFreeOrdersPhase.runIncrementally(changedObjects);
+    rechargeIdleVehiclesPhase.runIncrementally(changedObjects);
+    prioritizedReparkPhase.runIncrementally(changedObjects);
+    prioritizedParkingPhase.runIncrementally(changedObjects);
+    parkIdleVehiclesPhase.runIncrementally(changedObjects);
+
+    LOG.debug("Finished incremental dispatch run.");
+  }
+
   /**
    * Assignment of orders to vehicles.
    * <p>
@@ -12,4 +12,16 @@ public interface Phase
       Runnable,
       Lifecycle {
 
+  /**
+   * Performs this phase for the given objects that changed since the last dispatch run, only.
+   * <p>
+   * Implementations may consider other objects, too, where necessary for their results to be
+   * correct. By default, this method performs the full phase via {@link #run()}.
+   * </p>
+   *
+   * @param changedObjects The objects that changed since the last dispatch run.
+   */
+  default void runIncrementally(ChangedObjects changedObjects) {
+    run();
+  }
 }
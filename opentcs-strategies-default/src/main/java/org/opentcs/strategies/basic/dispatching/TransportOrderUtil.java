@@ -13,6 +13,7 @@ import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.InternalVehicleService;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
@@ -146,8 +147,8 @@ public class TransportOrderUtil
    * marking them as DISPATCHABLE.
    */
   public void markNewDispatchableOrders() {
-    transportOrderService.fetchObjects(TransportOrder.class).stream()
-        .filter(order -> order.hasState(TransportOrder.State.ACTIVE))
+    transportOrderService
+        .fetchObjects(ObjectAttribute.TRANSPORT_ORDER_STATE, TransportOrder.State.ACTIVE).stream()
         .filter(order -> !hasUnfinishedDependencies(order))
         .forEach(
             order -> updateTransportOrderState(
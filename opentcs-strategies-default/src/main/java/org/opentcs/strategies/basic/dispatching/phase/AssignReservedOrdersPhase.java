@@ -13,6 +13,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -100,6 +101,20 @@ public class AssignReservedOrdersPhase
     }
   }
 
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    // Reservations are only made for vehicles that are busy, so a reserved order can only become
+    // assignable when the vehicle it is reserved for changes.
+    for (Vehicle vehicle : changedObjects.fetchVehicles(objectService)) {
+      if (availableForReservedOrders(vehicle)) {
+        checkForReservedOrder(vehicle);
+      }
+      else if (unusableForReservedOrders(vehicle)) {
+        orderReservationPool.removeReservations(vehicle.getReference());
+      }
+    }
+  }
+
   private void checkForReservedOrder(Vehicle vehicle) {
     // Check if there's an order reserved for this vehicle that is in an assignable state. If yes,
     // try to assign that.
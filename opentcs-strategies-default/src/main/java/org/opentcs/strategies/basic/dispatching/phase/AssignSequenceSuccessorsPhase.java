@@ -13,6 +13,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
@@ -90,6 +91,13 @@ public class AssignSequenceSuccessorsPhase
     }
   }
 
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    changedObjects.fetchVehicles(objectService).stream()
+        .filter(this::readyForNextInSequence)
+        .forEach(vehicle -> tryAssignNextOrderInSequence(vehicle));
+  }
+
   private void tryAssignNextOrderInSequence(Vehicle vehicle) {
     nextOrderInCurrentSequence(vehicle)
         .map(order -> computeCandidate(vehicle, order))
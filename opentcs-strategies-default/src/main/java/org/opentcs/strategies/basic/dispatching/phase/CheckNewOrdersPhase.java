@@ -6,8 +6,10 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
 import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -74,7 +76,14 @@ public class CheckNewOrdersPhase
 
   @Override
   public void run() {
-    objectService.fetchObjects(TransportOrder.class, this::inRawState).stream()
+    objectService.fetchObjects(ObjectAttribute.TRANSPORT_ORDER_STATE, TransportOrder.State.RAW)
+        .forEach(order -> checkRawTransportOrder(order));
+  }
+
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    changedObjects.fetchTransportOrders(objectService).stream()
+        .filter(this::inRawState)
         .forEach(order -> checkRawTransportOrder(order));
   }
 
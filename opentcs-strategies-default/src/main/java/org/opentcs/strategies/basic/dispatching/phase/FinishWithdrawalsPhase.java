@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 
@@ -66,6 +67,14 @@ public class FinishWithdrawalsPhase
         .forEach(vehicle -> transportOrderUtil.finishAbortion(vehicle));
   }
 
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    changedObjects.fetchVehicles(objectService).stream()
+        .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
+        .filter(vehicle -> hasWithdrawnTransportOrder(vehicle))
+        .forEach(vehicle -> transportOrderUtil.finishAbortion(vehicle));
+  }
+
   private boolean hasWithdrawnTransportOrder(Vehicle vehicle) {
     return objectService.fetchObject(TransportOrder.class, vehicle.getTransportOrder())
         .hasState(TransportOrder.State.WITHDRAWN);
@@ -8,10 +8,14 @@ import jakarta.inject.Inject;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.ObjectAttribute;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.phase.OrderFilterResult;
 import org.opentcs.strategies.basic.dispatching.phase.VehicleFilterResult;
@@ -58,6 +62,10 @@ public class AssignFreeOrdersPhase
    * Provides methods to check and update the dispatching status of transport orders.
    */
   private final DispatchingStatusMarker dispatchingStatusMarker;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
   /**
    * Indicates whether this component is initialized.
    */
@@ -71,7 +79,8 @@ public class AssignFreeOrdersPhase
       IsFreelyDispatchableToAnyVehicle isFreelyDispatchableToAnyVehicle,
       CompositeTransportOrderSelectionFilter transportOrderSelectionFilter,
       OrderAssigner orderAssigner,
-      DispatchingStatusMarker dispatchingStatusMarker
+      DispatchingStatusMarker dispatchingStatusMarker,
+      DefaultDispatcherConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.vehicleSelectionFilter = requireNonNull(vehicleSelectionFilter, "vehicleSelectionFilter");
@@ -89,6 +98,7 @@ public class AssignFreeOrdersPhase
         dispatchingStatusMarker,
         "dispatchingStatusMarker"
     );
+    this.configuration = requireNonNull(configuration, "configuration");
   }
 
   @Override
@@ -114,37 +124,109 @@ public class AssignFreeOrdersPhase
 
   @Override
   public void run() {
-    Map<Boolean, List<VehicleFilterResult>> vehiclesSplitByFilter
-        = objectService.fetchObjects(Vehicle.class, isAvailableForAnyOrder)
-            .stream()
-            .map(vehicle -> new VehicleFilterResult(vehicle, vehicleSelectionFilter.apply(vehicle)))
-            .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
-
-    Collection<Vehicle> availableVehicles = vehiclesSplitByFilter.get(Boolean.TRUE).stream()
-        .map(VehicleFilterResult::getVehicle)
-        .collect(Collectors.toList());
+    List<Vehicle> availableVehicles
+        = availableVehicles(objectService.fetchObjects(Vehicle.class, isAvailableForAnyOrder));
 
     if (availableVehicles.isEmpty()) {
       LOG.debug("No vehicles available, skipping potentially expensive fetching of orders.");
       return;
     }
 
-    // Select only dispatchable orders first, then apply the composite filter, handle
-    // the orders that can be tried as usual and mark the others as filtered (if they aren't, yet).
-    Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter
-        = objectService.fetchObjects(TransportOrder.class, isFreelyDispatchableToAnyVehicle)
-            .stream()
-            .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
-            .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
+    tryAssignments(availableVehicles, availableOrders(fetchFreelyDispatchableOrders()));
+  }
 
-    markNewlyFilteredOrders(ordersSplitByFilter.get(Boolean.FALSE));
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Only pairs of vehicles and transport orders of which at least one changed are considered. This
+   * means that the minimal total costs of the {@code MIN_COST_MATCHING} strategy are found for
+   * these pairs, only.
+   * </p>
+   */
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    // First try to assign changed vehicles to any available orders...
+    List<Vehicle> changedVehicles = availableVehicles(
+        changedObjects.fetchVehicles(objectService).stream()
+            .filter(isAvailableForAnyOrder)
+            .toList()
+    );
+    if (!changedVehicles.isEmpty()) {
+      tryAssignments(changedVehicles, availableOrders(fetchFreelyDispatchableOrders()));
+    }
 
-    orderAssigner.tryAssignments(
-        availableVehicles,
-        ordersSplitByFilter.get(Boolean.TRUE).stream()
-            .map(OrderFilterResult::getOrder)
-            .collect(Collectors.toList())
+    // ...then try to assign changed orders to any available vehicles. Fetch the orders only now to
+    // skip those that have just been assigned.
+    List<TransportOrder> changedOrders = availableOrders(
+        changedObjects.fetchTransportOrders(objectService).stream()
+            .filter(isFreelyDispatchableToAnyVehicle)
+            .toList()
     );
+    if (changedOrders.isEmpty()) {
+      return;
+    }
+
+    List<Vehicle> availableVehicles
+        = availableVehicles(objectService.fetchObjects(Vehicle.class, isAvailableForAnyOrder));
+    if (!availableVehicles.isEmpty()) {
+      tryAssignments(availableVehicles, changedOrders);
+    }
+  }
+
+  private Set<TransportOrder> fetchFreelyDispatchableOrders() {
+    return objectService
+        .fetchObjects(ObjectAttribute.TRANSPORT_ORDER_STATE, TransportOrder.State.DISPATCHABLE)
+        .stream()
+        .filter(isFreelyDispatchableToAnyVehicle)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Applies the vehicle selection filter to the given vehicles.
+   *
+   * @param vehicles The vehicles.
+   * @return The vehicles that passed the filter.
+   */
+  private List<Vehicle> availableVehicles(Collection<Vehicle> vehicles) {
+    Map<Boolean, List<VehicleFilterResult>> vehiclesSplitByFilter = vehicles.stream()
+        .map(vehicle -> new VehicleFilterResult(vehicle, vehicleSelectionFilter.apply(vehicle)))
+        .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
+
+    return vehiclesSplitByFilter.get(Boolean.TRUE).stream()
+        .map(VehicleFilterResult::getVehicle)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Applies the transport order selection filter to the given (dispatchable) transport orders and
+   * marks the filtered ones as deferred.
+   *
+   * @param orders The transport orders.
+   * @return The transport orders that passed the filter.
+   */
+  private List<TransportOrder> availableOrders(Collection<TransportOrder> orders) {
+    // Apply the composite filter, handle the orders that can be tried as usual and mark the others
+    // as filtered (if they aren't, yet).
+    Map<Boolean, List<OrderFilterResult>> ordersSplitByFilter = orders.stream()
+        .map(order -> new OrderFilterResult(order, transportOrderSelectionFilter.apply(order)))
+        .collect(Collectors.partitioningBy(filterResult -> !filterResult.isFiltered()));
+
+    markNewlyFilteredOrders(ordersSplitByFilter.get(Boolean.FALSE));
+
+    return ordersSplitByFilter.get(Boolean.TRUE).stream()
+        .map(OrderFilterResult::getOrder)
+        .collect(Collectors.toList());
+  }
+
+  private void tryAssignments(List<Vehicle> vehicles, List<TransportOrder> orders) {
+    switch (configuration.freeOrderAssignmentStrategy()) {
+      case MIN_COST_MATCHING:
+        orderAssigner.tryMinCostAssignments(vehicles, orders);
+        break;
+      case GREEDY:
+      default:
+        orderAssigner.tryAssignments(vehicles, orders);
+    }
   }
 
   private void markNewlyFilteredOrders(Collection<OrderFilterResult> filterResults) {
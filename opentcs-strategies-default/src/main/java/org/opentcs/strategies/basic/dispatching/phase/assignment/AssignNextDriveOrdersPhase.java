@@ -11,6 +11,7 @@ import org.opentcs.components.kernel.services.InternalVehicleService;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.slf4j.Logger;
@@ -87,6 +88,13 @@ public class AssignNextDriveOrdersPhase
         .forEach(vehicle -> checkForNextDriveOrder(vehicle));
   }
 
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    changedObjects.fetchVehicles(vehicleService).stream()
+        .filter(vehicle -> vehicle.hasProcState(Vehicle.ProcState.AWAITING_ORDER))
+        .forEach(vehicle -> checkForNextDriveOrder(vehicle));
+  }
+
   private void checkForNextDriveOrder(Vehicle vehicle) {
     LOG.debug("Vehicle '{}' finished a drive order.", vehicle.getName());
     // The vehicle is processing a transport order and has finished a drive order.
@@ -0,0 +1,185 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Solves the (rectangular) assignment problem, i.e. finds a matching of rows to columns of a cost
+ * matrix with minimal total costs, using the Hungarian algorithm.
+ * <p>
+ * If there are less rows than columns, every row is assigned a column, and vice versa. Pairs that
+ * may not be matched are marked with {@link #NOT_ASSIGNABLE}. Such pairs are avoided in favour of
+ * matching as many assignable pairs as possible, i.e. a matching with more assignable pairs is
+ * always preferred to one with less assignable pairs, regardless of their costs.
+ * </p>
+ */
+final class MinCostAssignment {
+
+  /**
+   * Marks pairs of rows and columns that may not be matched.
+   */
+  static final double NOT_ASSIGNABLE = Double.POSITIVE_INFINITY;
+  /**
+   * Indicates that no column was assigned to a row.
+   */
+  static final int UNASSIGNED = -1;
+
+  /**
+   * Prevents instantiation.
+   */
+  private MinCostAssignment() {
+  }
+
+  /**
+   * Computes a matching of rows to columns with minimal total costs.
+   *
+   * @param costs The cost matrix, with costs for every pair of row and column. All rows must have
+   * the same length, and all costs must be non-negative or {@link #NOT_ASSIGNABLE}.
+   * @return The column assigned to each row, or {@link #UNASSIGNED} for rows that could not be
+   * assigned a column (because there are more rows than columns, or because all possible matches
+   * are not assignable).
+   */
+  static int[] solve(double[][] costs) {
+    requireNonNull(costs, "costs");
+
+    int rowCount = costs.length;
+    int columnCount = rowCount == 0 ? 0 : costs[0].length;
+    for (double[] row : costs) {
+      checkArgument(row.length == columnCount, "Cost matrix is not rectangular.");
+    }
+
+    int[] result = new int[rowCount];
+    Arrays.fill(result, UNASSIGNED);
+    if (rowCount == 0 || columnCount == 0) {
+      return result;
+    }
+
+    // Replace the markers for pairs that are not assignable with costs exceeding the sum of all
+    // costs of assignable pairs that could possibly be part of a matching.
+    double penalty = 1;
+    for (double[] row : costs) {
+      double maxRowCosts = 0;
+      for (double cost : row) {
+        checkArgument(cost >= 0, "Negative costs: %s", cost);
+        if (cost != NOT_ASSIGNABLE) {
+          maxRowCosts = Math.max(maxRowCosts, cost);
+        }
+      }
+      penalty += maxRowCosts;
+    }
+
+    // The algorithm requires at most as many rows as columns, so transpose the matrix if necessary.
+    boolean transposed = rowCount > columnCount;
+    int n = transposed ? columnCount : rowCount;
+    int m = transposed ? rowCount : columnCount;
+    double[][] matrix = new double[n][m];
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < columnCount; column++) {
+        double cost = costs[row][column] == NOT_ASSIGNABLE ? penalty : costs[row][column];
+        if (transposed) {
+          matrix[column][row] = cost;
+        }
+        else {
+          matrix[row][column] = cost;
+        }
+      }
+    }
+
+    int[] columnsByRow = solveRectangular(matrix, n, m);
+
+    for (int i = 0; i < n; i++) {
+      int j = columnsByRow[i];
+      if (j == UNASSIGNED) {
+        continue;
+      }
+      int row = transposed ? j : i;
+      int column = transposed ? i : j;
+      if (costs[row][column] != NOT_ASSIGNABLE) {
+        result[row] = column;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Solves the assignment problem for a matrix with at most as many rows as columns, using the
+   * Hungarian algorithm with potentials in O(n^2 * m).
+   *
+   * @param matrix The cost matrix.
+   * @param n The number of rows.
+   * @param m The number of columns (at least {@code n}).
+   * @return The column assigned to each row.
+   */
+  private static int[] solveRectangular(double[][] matrix, int n, int m) {
+    // Potentials for rows and columns, and the row matched to every column. Index 0 is used as a
+    // sentinel for the row currently being added to the matching.
+    double[] rowPotentials = new double[n + 1];
+    double[] columnPotentials = new double[m + 1];
+    int[] rowsByColumn = new int[m + 1];
+    int[] predecessors = new int[m + 1];
+    double[] minSlacks = new double[m + 1];
+    boolean[] visited = new boolean[m + 1];
+
+    for (int i = 1; i <= n; i++) {
+      rowsByColumn[0] = i;
+      int currentColumn = 0;
+      Arrays.fill(minSlacks, Double.POSITIVE_INFINITY);
+      Arrays.fill(visited, false);
+
+      // Find an augmenting path starting at row i.
+      do {
+        visited[currentColumn] = true;
+        int currentRow = rowsByColumn[currentColumn];
+        double delta = Double.POSITIVE_INFINITY;
+        int nextColumn = 0;
+        for (int j = 1; j <= m; j++) {
+          if (visited[j]) {
+            continue;
+          }
+          double slack = matrix[currentRow - 1][j - 1]
+              - rowPotentials[currentRow] - columnPotentials[j];
+          if (slack < minSlacks[j]) {
+            minSlacks[j] = slack;
+            predecessors[j] = currentColumn;
+          }
+          if (minSlacks[j] < delta) {
+            delta = minSlacks[j];
+            nextColumn = j;
+          }
+        }
+        for (int j = 0; j <= m; j++) {
+          if (visited[j]) {
+            rowPotentials[rowsByColumn[j]] += delta;
+            columnPotentials[j] -= delta;
+          }
+          else {
+            minSlacks[j] -= delta;
+          }
+        }
+        currentColumn = nextColumn;
+      }
+      while (rowsByColumn[currentColumn] != 0);
+
+      // Augment the matching along the path found.
+      do {
+        int previousColumn = predecessors[currentColumn];
+        rowsByColumn[currentColumn] = rowsByColumn[previousColumn];
+        currentColumn = previousColumn;
+      }
+      while (currentColumn != 0);
+    }
+
+    int[] columnsByRow = new int[n];
+    Arrays.fill(columnsByRow, UNASSIGNED);
+    for (int j = 1; j <= m; j++) {
+      if (rowsByColumn[j] != 0) {
+        columnsByRow[rowsByColumn[j] - 1] = j - 1;
+      }
+    }
+    return columnsByRow;
+  }
+}
@@ -5,20 +5,32 @@ package org.opentcs.strategies.basic.dispatching.phase.assignment;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.phase.AssignmentState;
@@ -33,8 +45,23 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Handles assignments of transport orders to vehicles.
+ * <p>
+ * If configured to do so, the assignment candidates for a vehicle or transport order are computed
+ * in parallel. The candidates are collected in the same order in which they would have been
+ * computed sequentially, and filtering, sorting and assignment still happen on the calling thread,
+ * so the results of the assignment process do not depend on the mode of computation.
+ * </p>
+ * <p>
+ * Computing candidates requires reading kernel objects, which usually requires the kernel's global
+ * synchronization object. If the calling thread holds it, candidates are therefore computed
+ * sequentially on the calling thread, unless the configuration states that kernel objects can be
+ * read without it. If computing candidates in parallel takes longer than the configured timeout,
+ * the remaining candidates are computed sequentially on the calling thread, too.
+ * </p>
  */
-public class OrderAssigner {
+public class OrderAssigner
+    implements
+      Lifecycle {
 
   /**
    * This class's Logger.
@@ -78,6 +105,23 @@ public class OrderAssigner {
    * Provides methods to check and update the dispatching status of transport orders.
    */
   private final DispatchingStatusMarker dispatchingStatusMarker;
+  /**
+   * The dispatcher configuration.
+   */
+  private final DefaultDispatcherConfiguration configuration;
+  /**
+   * The kernel threads' global synchronization object.
+   */
+  private final Object globalSyncObject;
+  /**
+   * The pool used for computing assignment candidates in parallel, or {@code null}, if candidates
+   * are computed sequentially.
+   */
+  private ForkJoinPool candidateComputationPool;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
 
   @Inject
   public OrderAssigner(
@@ -90,7 +134,10 @@ public class OrderAssigner {
       CompositeVehicleCandidateComparator vehicleCandidateComparator,
       CompositeAssignmentCandidateSelectionFilter assignmentCandidateSelectionFilter,
       TransportOrderUtil transportOrderUtil,
-      DispatchingStatusMarker dispatchingStatusMarker
+      DispatchingStatusMarker dispatchingStatusMarker,
+      DefaultDispatcherConfiguration configuration,
+      @GlobalSyncObject
+      Object globalSyncObject
   ) {
     this.router = requireNonNull(router, "router");
     this.objectService = requireNonNull(objectService, "objectService");
@@ -114,6 +161,44 @@ public class OrderAssigner {
         dispatchingStatusMarker,
         "dispatchingStatusMarker"
     );
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    if (configuration.parallelCandidateComputation()) {
+      int parallelism = configuration.candidateComputationThreads() > 0
+          ? configuration.candidateComputationThreads()
+          : Runtime.getRuntime().availableProcessors();
+      LOG.debug("Computing assignment candidates using {} threads.", parallelism);
+      candidateComputationPool = new ForkJoinPool(parallelism);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (candidateComputationPool != null) {
+      candidateComputationPool.shutdown();
+      candidateComputationPool = null;
+    }
+
+    initialized = false;
   }
 
   /**
@@ -144,6 +229,88 @@ public class OrderAssigner {
           .forEach(order -> tryAssignVehicle(order, availableVehicles, assignmentState));
     }
 
+    updateDispatchingStatus(availableOrders, assignmentState);
+  }
+
+  /**
+   * Tries to assign the given transport orders to the given vehicles such that the sum of the
+   * routing costs for reaching the transport orders' first destinations is minimal.
+   * <p>
+   * In contrast to {@link #tryAssignments(Collection, Collection)}, which assigns the best
+   * transport order to one vehicle after the other (or vice versa), this considers all possible
+   * assignments at once. As many vehicles/transport orders as possible are assigned, and among
+   * those assignments, the one with the minimum total costs is chosen.
+   * </p>
+   *
+   * @param availableVehicles The vehicles available for order assignment.
+   * @param availableOrders The transport order available to be assigned to a vehicle.
+   */
+  public void tryMinCostAssignments(
+      Collection<Vehicle> availableVehicles,
+      Collection<TransportOrder> availableOrders
+  ) {
+    LOG.debug(
+        "Available for min-cost dispatching: {} transport orders and {} vehicles.",
+        availableOrders.size(),
+        availableVehicles.size()
+    );
+
+    // Sort vehicles and orders so that the matching (in case of equal costs) does not depend on
+    // the order in which the given collections are iterated.
+    List<Vehicle> vehicles = availableVehicles.stream().sorted(vehicleComparator).toList();
+    List<TransportOrder> orders = availableOrders.stream().sorted(orderComparator).toList();
+    Map<TransportOrder, Integer> orderIndices = new HashMap<>();
+    for (int i = 0; i < orders.size(); i++) {
+      orderIndices.put(orders.get(i), i);
+    }
+
+    AssignmentState assignmentState = new AssignmentState();
+    AssignmentCandidate[][] candidates = new AssignmentCandidate[vehicles.size()][orders.size()];
+    double[][] costs = new double[vehicles.size()][orders.size()];
+    for (int i = 0; i < vehicles.size(); i++) {
+      Arrays.fill(costs[i], MinCostAssignment.NOT_ASSIGNABLE);
+
+      Vehicle vehicle = vehicles.get(i);
+      Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
+      List<TransportOrder> candidateOrders = orders.stream()
+          .filter(
+              order -> vehicleCanTakeOrder(vehicle, order)
+                  && orderAssignableToVehicle(order, vehicle)
+          )
+          .toList();
+
+      for (AssignmentCandidate candidate : computeCandidates(
+          candidateOrders,
+          order -> computeCandidate(vehicle, vehiclePosition, order)
+      )) {
+        CandidateFilterResult filterResult = new CandidateFilterResult(
+            candidate,
+            assignmentCandidateSelectionFilter.apply(candidate)
+        );
+        if (filterResult.isFiltered()) {
+          assignmentState.addFilteredOrder(filterResult.toFilterResult());
+          continue;
+        }
+        int j = orderIndices.get(candidate.getTransportOrder());
+        candidates[i][j] = candidate;
+        costs[i][j] = candidate.getInitialRoutingCosts();
+      }
+    }
+
+    int[] assignedOrders = MinCostAssignment.solve(costs);
+    for (int i = 0; i < vehicles.size(); i++) {
+      if (assignedOrders[i] != MinCostAssignment.UNASSIGNED) {
+        assignOrder(candidates[i][assignedOrders[i]], assignmentState);
+      }
+    }
+
+    updateDispatchingStatus(availableOrders, assignmentState);
+  }
+
+  private void updateDispatchingStatus(
+      Collection<TransportOrder> availableOrders,
+      AssignmentState assignmentState
+  ) {
     assignmentState.getFilteredOrders().values().stream()
         .filter(filterResult -> !assignmentState.wasAssignedToVehicle(filterResult.getOrder()))
         .filter(dispatchingStatusMarker::haveDeferralReasonsForOrderChanged)
@@ -167,16 +334,19 @@ public class OrderAssigner {
 
     Point vehiclePosition = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
+    List<TransportOrder> candidateOrders = availableOrders.stream()
+        .filter(
+            order -> (!assignmentState.wasAssignedToVehicle(order)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .toList();
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableOrders.stream()
-            .filter(
-                order -> (!assignmentState.wasAssignedToVehicle(order)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(order -> computeCandidate(vehicle, vehiclePosition, order))
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
+        = computeCandidates(
+            candidateOrders,
+            order -> computeCandidate(vehicle, vehiclePosition, order)
+        ).stream()
             .map(
                 candidate -> new CandidateFilterResult(
                     candidate,
@@ -203,22 +373,23 @@ public class OrderAssigner {
   ) {
     LOG.debug("Trying to find vehicle for transport order '{}'...", order.getName());
 
+    List<Vehicle> candidateVehicles = availableVehicles.stream()
+        .filter(
+            vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
+                && vehicleCanTakeOrder(vehicle, order)
+                && orderAssignableToVehicle(order, vehicle))
+        )
+        .toList();
+
     Map<Boolean, List<CandidateFilterResult>> ordersSplitByFilter
-        = availableVehicles.stream()
-            .filter(
-                vehicle -> (!assignmentState.wasAssignedToOrder(vehicle)
-                    && vehicleCanTakeOrder(vehicle, order)
-                    && orderAssignableToVehicle(order, vehicle))
-            )
-            .map(
-                vehicle -> computeCandidate(
-                    vehicle,
-                    objectService.fetchObject(Point.class, vehicle.getCurrentPosition()),
-                    order
-                )
+        = computeCandidates(
+            candidateVehicles,
+            vehicle -> computeCandidate(
+                vehicle,
+                objectService.fetchObject(Point.class, vehicle.getCurrentPosition()),
+                order
             )
-            .filter(optCandidate -> optCandidate.isPresent())
-            .map(optCandidate -> optCandidate.get())
+        ).stream()
             .map(
                 candidate -> new CandidateFilterResult(
                     candidate,
@@ -279,6 +450,85 @@ public class OrderAssigner {
     }
   }
 
+  /**
+   * Computes assignment candidates for the given elements.
+   *
+   * @param <T> The type of the elements.
+   * @param elements The elements (i.e. vehicles or transport orders) to compute candidates for.
+   * @param candidateComputation Computes the candidate for a single element.
+   * @return The candidates that could be computed, in the order of the elements they were computed
+   * for.
+   */
+  private <T> List<AssignmentCandidate> computeCandidates(
+      List<T> elements,
+      Function<T, Optional<AssignmentCandidate>> candidateComputation
+  ) {
+    ForkJoinPool pool = candidateComputationPool;
+    if (pool == null || elements.size() < 2 || !mayComputeInParallel()) {
+      return elements.stream()
+          .map(candidateComputation)
+          .flatMap(Optional::stream)
+          .toList();
+    }
+
+    List<Future<Optional<AssignmentCandidate>>> futures = elements.stream()
+        .<Future<Optional<AssignmentCandidate>>>map(
+            element -> pool.submit(() -> candidateComputation.apply(element))
+        )
+        .toList();
+
+    long deadline = System.nanoTime()
+        + TimeUnit.MILLISECONDS.toNanos(configuration.candidateComputationTimeout());
+    try {
+      // Collect the results in the order of the elements, which keeps the result deterministic.
+      List<AssignmentCandidate> result = new ArrayList<>(elements.size());
+      for (int i = 0; i < futures.size(); i++) {
+        try {
+          futures.get(i).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+              .ifPresent(result::add);
+        }
+        catch (TimeoutException exc) {
+          LOG.warn(
+              "Computing assignment candidates timed out, computing the remaining {} sequentially.",
+              elements.size() - i
+          );
+          futures.subList(i, futures.size()).forEach(future -> future.cancel(false));
+          elements.subList(i, elements.size()).stream()
+              .map(candidateComputation)
+              .flatMap(Optional::stream)
+              .forEach(result::add);
+          break;
+        }
+      }
+      return result;
+    }
+    catch (InterruptedException exc) {
+      futures.forEach(future -> future.cancel(false));
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while computing assignment candidates", exc);
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed computing assignment candidates", exc.getCause());
+    }
+  }
+
+  /**
+   * Checks whether candidates may be computed by other threads without them blocking on the
+   * global synchronization object held by the calling thread.
+   * <p>
+   * The global synchronization object is never released while dispatching, as that would allow
+   * other threads to modify kernel objects in the middle of a dispatch run.
+   * </p>
+   *
+   * @return Whether candidates may be computed in parallel.
+   */
+  private boolean mayComputeInParallel() {
+    return configuration.lockFreeObjectReads() || !Thread.holdsLock(globalSyncObject);
+  }
+
   private Optional<AssignmentCandidate> computeCandidate(
       Vehicle vehicle,
       Point vehiclePosition,
@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.data.model.Vehicle;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
 import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
@@ -66,4 +67,18 @@ public class PrioritizedParkingPhase
         .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
         .forEach(vehicle -> createParkingOrder(vehicle));
   }
+
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    if (!getConfiguration().parkIdleVehicles()
+        || !getConfiguration().considerParkingPositionPriorities()) {
+      return;
+    }
+
+    LOG.debug("Looking for changed vehicles to send to prioritized parking positions...");
+
+    changedObjects.fetchVehicles(getOrderService()).stream()
+        .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
+        .forEach(vehicle -> createParkingOrder(vehicle));
+  }
 }
@@ -18,6 +18,7 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.dispatching.AssignmentCandidate;
+import org.opentcs.strategies.basic.dispatching.ChangedObjects;
 import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
 import org.opentcs.strategies.basic.dispatching.Phase;
 import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
@@ -126,6 +127,17 @@ public class RechargeIdleVehiclesPhase
         .forEach(vehicle -> createRechargeOrder(vehicle));
   }
 
+  @Override
+  public void runIncrementally(ChangedObjects changedObjects) {
+    if (!configuration.rechargeIdleVehicles()) {
+      return;
+    }
+
+    changedObjects.fetchVehicles(orderService).stream()
+        .filter(vehicle -> vehicleSelectionFilter.apply(vehicle).isEmpty())
+        .forEach(vehicle -> createRechargeOrder(vehicle));
+  }
+
   private void createRechargeOrder(Vehicle vehicle) {
     List<DriveOrder.Destination> rechargeDests = rechargePosSupplier.findRechargeSequence(vehicle);
     LOG.debug("Recharge sequence for {}: {}", vehicle, rechargeDests);
@@ -35,6 +35,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A basic {@link Router} implementation.
+ * <p>
+ * Routing requests (i.e. routability checks and route/cost computations) do not modify any state
+ * and are processed concurrently, without taking a lock. They use the point routers provided by
+ * the {@link PointRouterProvider}, which are immutable and replaced atomically whenever the
+ * routing topology changes. Only methods changing the router's state are mutually exclusive.
+ * </p>
  */
 public class DefaultRouter
     implements
@@ -67,7 +73,7 @@ public class DefaultRouter
   /**
    * Indicates whether this component is enabled.
    */
-  private boolean initialized;
+  private volatile boolean initialized;
 
   /**
    * Creates a new instance.
@@ -134,46 +140,42 @@ public class DefaultRouter
   public Set<Vehicle> checkRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      Set<Vehicle> result = new HashSet<>();
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-
-      for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
-          .getPointRoutersByVehicleGroup().entrySet()) {
-        // Get all points at the first location at which a vehicle of the current
-        // type can execute the desired operation and check if an acceptable route
-        // originating in one of them exists.
-        for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-          if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
-            result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
-            break;
-          }
+    Set<Vehicle> result = new HashSet<>();
+    List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+    DriveOrder[] driveOrders
+        = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+
+    for (Map.Entry<String, PointRouter> curEntry : pointRouterProvider
+        .getPointRoutersByVehicleGroup().entrySet()) {
+      // Get all points at the first location at which a vehicle of the current
+      // type can execute the desired operation and check if an acceptable route
+      // originating in one of them exists.
+      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+        if (isRoutable(curStartPoint, driveOrders, 1, curEntry.getValue())) {
+          result.addAll(getVehiclesByRoutingGroup(curEntry.getKey()));
+          break;
         }
       }
-      return result;
     }
+    return result;
   }
 
   @Override
   public boolean checkGeneralRoutability(TransportOrder order) {
     requireNonNull(order, "order");
 
-    synchronized (this) {
-      List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
-      DriveOrder[] driveOrders
-          = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+    List<DriveOrder> driveOrderList = order.getFutureDriveOrders();
+    DriveOrder[] driveOrders
+        = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
 
-      PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
+    PointRouter generalPointRouter = pointRouterProvider.getGeneralPointRouter(order);
 
-      for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
-        if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
-          return false;
-        }
+    for (Point curStartPoint : getDestinationPoints(driveOrders[0])) {
+      if (!isRoutable(curStartPoint, driveOrders, 1, generalPointRouter)) {
+        return false;
       }
-      return true;
     }
+    return true;
   }
 
   @Override
@@ -186,20 +188,18 @@ public class DefaultRouter
     requireNonNull(sourcePoint, "sourcePoint");
     requireNonNull(transportOrder, "transportOrder");
 
-    synchronized (this) {
-      List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
-      DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
-      PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
-          vehicle,
-          transportOrder
-      );
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Optional.empty()
-          : Optional.of(Arrays.asList(resultStruct.bestRoute));
-    }
+    List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
+    DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
+    PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
+        vehicle,
+        transportOrder
+    );
+    OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
+    OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
+    computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
+    return (resultStruct.bestCosts == Long.MAX_VALUE)
+        ? Optional.empty()
+        : Optional.of(Arrays.asList(resultStruct.bestRoute));
   }
 
   @Override
@@ -214,20 +214,18 @@ public class DefaultRouter
     requireNonNull(destinationPoint, "destinationPoint");
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
 
-    synchronized (this) {
-      PointRouter pointRouter = pointRouterProvider
-          .getPointRouterForVehicle(vehicle, resourcesToAvoid);
-      List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
-      if (steps == null) {
-        return Optional.empty();
-      }
-      if (steps.isEmpty()) {
-        // If the list of steps is empty, we're already at the destination point
-        // Create a single step without a path.
-        steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0));
-      }
-      return Optional.of(new Route(steps));
+    PointRouter pointRouter = pointRouterProvider
+        .getPointRouterForVehicle(vehicle, resourcesToAvoid);
+    List<Route.Step> steps = pointRouter.getRouteSteps(sourcePoint, destinationPoint);
+    if (steps == null) {
+      return Optional.empty();
+    }
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point
+      // Create a single step without a path.
+      steps.add(new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0));
     }
+    return Optional.of(new Route(steps));
   }
 
   @Deprecated
@@ -243,11 +241,9 @@ public class DefaultRouter
     requireNonNull(destinationPoint, "destinationPoint");
     requireNonNull(resourcesToAvoid, "resourcesToAvoid");
 
-    synchronized (this) {
-      return pointRouterProvider
-          .getPointRouterForVehicle(vehicle, resourcesToAvoid)
-          .getCosts(sourcePoint, destinationPoint);
-    }
+    return pointRouterProvider
+        .getPointRouterForVehicle(vehicle, resourcesToAvoid)
+        .getCosts(sourcePoint, destinationPoint);
   }
 
   @Deprecated
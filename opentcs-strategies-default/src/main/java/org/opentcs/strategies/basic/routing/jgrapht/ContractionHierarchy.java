@@ -0,0 +1,769 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntPredicate;
+
+/**
+ * A contraction hierarchy over an {@link IndexedGraph}.
+ * <p>
+ * During construction, vertices are contracted one by one in the order of their (heuristically
+ * determined) importance. Whenever contracting a vertex would remove the only shortest path
+ * between two of its neighbours, a shortcut arc bridging the contracted vertex is inserted. Queries
+ * are then answered by two Dijkstra searches (from the source and towards the destination) that
+ * only ever follow arcs to vertices with a higher rank and thus only settle a small fraction of the
+ * graph.
+ * </p>
+ * <p>
+ * The hierarchy requires the graph to have non-negative edge weights. Its memory usage is linear
+ * in the number of vertices plus the number of arcs (i.e. edges plus shortcuts), which for the
+ * sparse graphs of plant models is typically well below twice the number of edges.
+ * </p>
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ */
+public class ContractionHierarchy {
+
+  /**
+   * The maximum number of vertices a witness search settles before giving up when contracting a
+   * vertex.
+   * Giving up early results in shortcuts being added that may not be strictly necessary, which
+   * does not affect the correctness of query results.
+   */
+  private static final int MAX_WITNESS_SEARCH_SETTLED_VERTICES = 500;
+  /**
+   * The maximum number of vertices a witness search settles before giving up when merely
+   * estimating the number of shortcuts required for contracting a vertex.
+   */
+  private static final int MAX_ESTIMATION_SEARCH_SETTLED_VERTICES = 30;
+  /**
+   * The number of vertices.
+   */
+  private final int vertexCount;
+  /**
+   * The number of arcs that are shortcuts.
+   */
+  private final int shortcutCount;
+  /**
+   * The source vertex of every arc.
+   */
+  private final int[] arcSources;
+  /**
+   * The target vertex of every arc.
+   */
+  private final int[] arcTargets;
+  /**
+   * The index of the original edge for every arc, or -1 for shortcuts.
+   */
+  private final int[] arcEdges;
+  /**
+   * The first arc a shortcut bridges, or -1 for arcs that are not shortcuts.
+   */
+  private final int[] arcFirstChildren;
+  /**
+   * The second arc a shortcut bridges, or -1 for arcs that are not shortcuts.
+   */
+  private final int[] arcSecondChildren;
+  /**
+   * The arcs leading upwards from every vertex, used by the forward search.
+   */
+  private final SearchGraph upwardGraph;
+  /**
+   * The arcs leading upwards towards every vertex (in reverse), used by the backward search.
+   */
+  private final SearchGraph downwardGraph;
+  /**
+   * Reusable query states.
+   */
+  private final Queue<QueryState> queryStates = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to create the contraction hierarchy for.
+   * @throws IllegalArgumentException If the given graph contains edges with negative weights.
+   */
+  public ContractionHierarchy(
+      @Nonnull
+      IndexedGraph graph
+  )
+      throws IllegalArgumentException {
+    requireNonNull(graph, "graph");
+    checkArgument(
+        !graph.hasNegativeWeights(),
+        "Contraction hierarchies do not support negative edge weights."
+    );
+
+    vertexCount = graph.getVertexCount();
+
+    Preprocessing preprocessing = new Preprocessing(graph);
+    preprocessing.contractAll();
+
+    ArcList arcs = preprocessing.arcs;
+    shortcutCount = arcs.size - preprocessing.originalArcCount;
+    arcSources = Arrays.copyOf(arcs.sources, arcs.size);
+    arcTargets = Arrays.copyOf(arcs.targets, arcs.size);
+    arcEdges = Arrays.copyOf(arcs.edges, arcs.size);
+    arcFirstChildren = Arrays.copyOf(arcs.firstChildren, arcs.size);
+    arcSecondChildren = Arrays.copyOf(arcs.secondChildren, arcs.size);
+
+    int[] ranks = preprocessing.ranks;
+    upwardGraph = new SearchGraph(
+        vertexCount,
+        arcs,
+        arc -> ranks[arcs.sources[arc]] < ranks[arcs.targets[arc]],
+        true
+    );
+    downwardGraph = new SearchGraph(
+        vertexCount,
+        arcs,
+        arc -> ranks[arcs.sources[arc]] > ranks[arcs.targets[arc]],
+        false
+    );
+  }
+
+  /**
+   * Returns the number of shortcuts that were added to the graph.
+   *
+   * @return The number of shortcuts that were added to the graph.
+   */
+  public int getShortcutCount() {
+    return shortcutCount;
+  }
+
+  /**
+   * Returns the costs of the shortest path between the given vertices.
+   *
+   * @param srcIndex The index of the source vertex.
+   * @param destIndex The index of the destination vertex.
+   * @return The costs of the shortest path, or {@link Double#POSITIVE_INFINITY} if there is no path
+   * between the given vertices.
+   */
+  public double getCosts(int srcIndex, int destIndex) {
+    if (srcIndex == destIndex) {
+      return 0;
+    }
+
+    QueryState state = acquireQueryState();
+    try {
+      int meetingVertex = search(srcIndex, destIndex, state);
+      return meetingVertex < 0
+          ? Double.POSITIVE_INFINITY
+          : state.forwardDistances[meetingVertex] + state.backwardDistances[meetingVertex];
+    }
+    finally {
+      releaseQueryState(state);
+    }
+  }
+
+  /**
+   * Returns the edges of the shortest path between the given vertices, with all shortcuts
+   * unpacked.
+   *
+   * @param srcIndex The index of the source vertex.
+   * @param destIndex The index of the destination vertex.
+   * @return The indices of the (original) edges along the shortest path, in the order they are to
+   * be travelled, or {@code null} if there is no path between the given vertices.
+   */
+  @Nullable
+  public int[] getPathEdges(int srcIndex, int destIndex) {
+    if (srcIndex == destIndex) {
+      return new int[0];
+    }
+
+    QueryState state = acquireQueryState();
+    try {
+      int meetingVertex = search(srcIndex, destIndex, state);
+      if (meetingVertex < 0) {
+        return null;
+      }
+
+      // Collect the arcs of the path from the source vertex to the meeting vertex (in reverse)...
+      IntList pathArcs = new IntList();
+      for (int vertex = meetingVertex; state.forwardArcs[vertex] >= 0;) {
+        int arc = state.forwardArcs[vertex];
+        pathArcs.add(arc);
+        vertex = arcSources[arc];
+      }
+      pathArcs.reverse();
+      // ...and the ones from the meeting vertex to the destination vertex.
+      for (int vertex = meetingVertex; state.backwardArcs[vertex] >= 0;) {
+        int arc = state.backwardArcs[vertex];
+        pathArcs.add(arc);
+        vertex = arcTargets[arc];
+      }
+
+      return unpack(pathArcs);
+    }
+    finally {
+      releaseQueryState(state);
+    }
+  }
+
+  private int search(int srcIndex, int destIndex, QueryState state) {
+    state.reset();
+
+    double bestCosts = Double.POSITIVE_INFINITY;
+    int meetingVertex = -1;
+
+    state.forwardDistances[srcIndex] = 0;
+    state.forwardTouched.add(srcIndex);
+    state.forwardHeap.insertOrDecrease(srcIndex, 0);
+    state.backwardDistances[destIndex] = 0;
+    state.backwardTouched.add(destIndex);
+    state.backwardHeap.insertOrDecrease(destIndex, 0);
+
+    while (!state.forwardHeap.isEmpty() || !state.backwardHeap.isEmpty()) {
+      if (!state.forwardHeap.isEmpty()) {
+        if (state.forwardHeap.peekKey() >= bestCosts) {
+          state.forwardHeap.clear();
+        }
+        else {
+          int vertex = settle(
+              upwardGraph,
+              state.forwardHeap,
+              state.forwardDistances,
+              state.forwardArcs,
+              state.forwardTouched
+          );
+          double costs = state.forwardDistances[vertex] + state.backwardDistances[vertex];
+          if (costs < bestCosts) {
+            bestCosts = costs;
+            meetingVertex = vertex;
+          }
+        }
+      }
+      if (!state.backwardHeap.isEmpty()) {
+        if (state.backwardHeap.peekKey() >= bestCosts) {
+          state.backwardHeap.clear();
+        }
+        else {
+          int vertex = settle(
+              downwardGraph,
+              state.backwardHeap,
+              state.backwardDistances,
+              state.backwardArcs,
+              state.backwardTouched
+          );
+          double costs = state.forwardDistances[vertex] + state.backwardDistances[vertex];
+          if (costs < bestCosts) {
+            bestCosts = costs;
+            meetingVertex = vertex;
+          }
+        }
+      }
+    }
+
+    return meetingVertex;
+  }
+
+  private int settle(
+      SearchGraph searchGraph,
+      IndexedMinHeap heap,
+      double[] distances,
+      int[] predecessorArcs,
+      IntList touched
+  ) {
+    int vertex = heap.poll();
+    for (int i = searchGraph.firstArcs[vertex]; i < searchGraph.firstArcs[vertex + 1]; i++) {
+      int neighbour = searchGraph.neighbours[i];
+      double distance = distances[vertex] + searchGraph.weights[i];
+      if (distance < distances[neighbour]) {
+        if (distances[neighbour] == Double.POSITIVE_INFINITY) {
+          touched.add(neighbour);
+        }
+        distances[neighbour] = distance;
+        predecessorArcs[neighbour] = searchGraph.arcs[i];
+        heap.insertOrDecrease(neighbour, distance);
+      }
+    }
+    return vertex;
+  }
+
+  private int[] unpack(IntList pathArcs) {
+    IntList edges = new IntList();
+    IntList stack = new IntList();
+    for (int i = pathArcs.size - 1; i >= 0; i--) {
+      stack.add(pathArcs.values[i]);
+    }
+    while (stack.size > 0) {
+      int arc = stack.removeLast();
+      if (arcFirstChildren[arc] < 0) {
+        edges.add(arcEdges[arc]);
+      }
+      else {
+        stack.add(arcSecondChildren[arc]);
+        stack.add(arcFirstChildren[arc]);
+      }
+    }
+    return Arrays.copyOf(edges.values, edges.size);
+  }
+
+  private QueryState acquireQueryState() {
+    QueryState state = queryStates.poll();
+    return state == null ? new QueryState(vertexCount) : state;
+  }
+
+  private void releaseQueryState(QueryState state) {
+    queryStates.offer(state);
+  }
+
+  /**
+   * Performs the contraction of all vertices.
+   */
+  private static class Preprocessing {
+
+    private final int vertexCount;
+    private final ArcList arcs = new ArcList();
+    private final int originalArcCount;
+    private final IntList[] outgoingArcs;
+    private final IntList[] incomingArcs;
+    private final boolean[] contracted;
+    private final int[] contractedNeighbourCounts;
+    private final int[] ranks;
+    private final double[] witnessDistances;
+    private final IntList witnessTouched = new IntList();
+    private final IndexedMinHeap witnessHeap;
+    private final int[] neighbourMarks;
+
+    Preprocessing(IndexedGraph graph) {
+      vertexCount = graph.getVertexCount();
+      outgoingArcs = new IntList[vertexCount];
+      incomingArcs = new IntList[vertexCount];
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        outgoingArcs[vertex] = new IntList();
+        incomingArcs[vertex] = new IntList();
+      }
+      contracted = new boolean[vertexCount];
+      contractedNeighbourCounts = new int[vertexCount];
+      ranks = new int[vertexCount];
+      witnessDistances = new double[vertexCount];
+      Arrays.fill(witnessDistances, Double.POSITIVE_INFINITY);
+      witnessHeap = new IndexedMinHeap(vertexCount);
+      neighbourMarks = new int[vertexCount];
+      Arrays.fill(neighbourMarks, -1);
+
+      // Add one arc for every pair of adjacent vertices, using the cheapest of any parallel edges.
+      // Self-loops are never part of a shortest path and can be ignored.
+      int[] arcsByTarget = new int[vertexCount];
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        for (int edge = graph.getFirstOutgoingEdge(vertex);
+            edge < graph.getFirstOutgoingEdge(vertex + 1);
+            edge++) {
+          int target = graph.getEdgeTarget(edge);
+          double weight = graph.getEdgeWeight(edge);
+          if (target == vertex) {
+            continue;
+          }
+          if (neighbourMarks[target] == vertex) {
+            int arc = arcsByTarget[target];
+            if (weight < arcs.weights[arc]) {
+              arcs.weights[arc] = weight;
+              arcs.edges[arc] = edge;
+            }
+          }
+          else {
+            neighbourMarks[target] = vertex;
+            arcsByTarget[target] = addArc(vertex, target, weight, edge, -1, -1);
+          }
+        }
+      }
+      Arrays.fill(neighbourMarks, -1);
+      originalArcCount = arcs.size;
+    }
+
+    void contractAll() {
+      IndexedMinHeap queue = new IndexedMinHeap(vertexCount);
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        queue.insertOrDecrease(vertex, computePriority(vertex));
+      }
+
+      int nextRank = 0;
+      while (!queue.isEmpty()) {
+        int vertex = queue.poll();
+        // Priorities are updated lazily (which is considerably cheaper than updating the
+        // priorities of all neighbours after every contraction). If the vertex's current priority
+        // is no longer the lowest, put it back and try the next one.
+        double priority = computePriority(vertex);
+        if (!queue.isEmpty() && priority > queue.peekKey()) {
+          queue.insertOrDecrease(vertex, priority);
+          continue;
+        }
+
+        processShortcuts(vertex, true);
+        contracted[vertex] = true;
+        ranks[vertex] = nextRank;
+        nextRank++;
+        detach(vertex);
+
+        for (int neighbour : collectUncontractedNeighbours(vertex)) {
+          contractedNeighbourCounts[neighbour]++;
+        }
+      }
+    }
+
+    /**
+     * Removes the arcs of the given (contracted) vertex from the adjacency lists of its neighbours,
+     * so that subsequent witness searches do not have to skip them over and over again.
+     *
+     * @param vertex The vertex.
+     */
+    private void detach(int vertex) {
+      for (int i = 0; i < incomingArcs[vertex].size; i++) {
+        int source = arcs.sources[incomingArcs[vertex].values[i]];
+        outgoingArcs[source].removeIf(arc -> arcs.targets[arc] == vertex);
+      }
+      for (int i = 0; i < outgoingArcs[vertex].size; i++) {
+        int target = arcs.targets[outgoingArcs[vertex].values[i]];
+        incomingArcs[target].removeIf(arc -> arcs.sources[arc] == vertex);
+      }
+    }
+
+    private double computePriority(int vertex) {
+      int removedArcs = 0;
+      for (int i = 0; i < outgoingArcs[vertex].size; i++) {
+        if (!contracted[arcs.targets[outgoingArcs[vertex].values[i]]]) {
+          removedArcs++;
+        }
+      }
+      for (int i = 0; i < incomingArcs[vertex].size; i++) {
+        if (!contracted[arcs.sources[incomingArcs[vertex].values[i]]]) {
+          removedArcs++;
+        }
+      }
+
+      // The edge difference keeps the number of shortcuts low, while the number of contracted
+      // neighbours ensures that vertices are contracted uniformly across the graph.
+      return processShortcuts(vertex, false) - removedArcs + contractedNeighbourCounts[vertex];
+    }
+
+    private int[] collectUncontractedNeighbours(int vertex) {
+      IntList neighbours = new IntList();
+      for (int i = 0; i < outgoingArcs[vertex].size; i++) {
+        markNeighbour(vertex, arcs.targets[outgoingArcs[vertex].values[i]], neighbours);
+      }
+      for (int i = 0; i < incomingArcs[vertex].size; i++) {
+        markNeighbour(vertex, arcs.sources[incomingArcs[vertex].values[i]], neighbours);
+      }
+      return Arrays.copyOf(neighbours.values, neighbours.size);
+    }
+
+    private void markNeighbour(int vertex, int neighbour, IntList neighbours) {
+      if (!contracted[neighbour] && neighbourMarks[neighbour] != vertex) {
+        neighbourMarks[neighbour] = vertex;
+        neighbours.add(neighbour);
+      }
+    }
+
+    /**
+     * Determines the shortcuts required for contracting the given vertex.
+     *
+     * @param vertex The vertex.
+     * @param add Whether the required shortcuts should actually be added.
+     * @return The number of required shortcuts.
+     */
+    private int processShortcuts(int vertex, boolean add) {
+      int shortcuts = 0;
+      IntList incoming = incomingArcs[vertex];
+      IntList outgoing = outgoingArcs[vertex];
+
+      for (int i = 0; i < incoming.size; i++) {
+        int incomingArc = incoming.values[i];
+        int source = arcs.sources[incomingArc];
+        if (contracted[source]) {
+          continue;
+        }
+
+        double maxCosts = -1;
+        for (int j = 0; j < outgoing.size; j++) {
+          int target = arcs.targets[outgoing.values[j]];
+          if (!contracted[target] && target != source) {
+            maxCosts = Math.max(
+                maxCosts,
+                arcs.weights[incomingArc] + arcs.weights[outgoing.values[j]]
+            );
+          }
+        }
+        if (maxCosts < 0) {
+          continue;
+        }
+
+        searchWitnesses(
+            source,
+            vertex,
+            maxCosts,
+            add ? MAX_WITNESS_SEARCH_SETTLED_VERTICES : MAX_ESTIMATION_SEARCH_SETTLED_VERTICES
+        );
+        for (int j = 0; j < outgoing.size; j++) {
+          int outgoingArc = outgoing.values[j];
+          int target = arcs.targets[outgoingArc];
+          if (contracted[target] || target == source) {
+            continue;
+          }
+          double costs = arcs.weights[incomingArc] + arcs.weights[outgoingArc];
+          if (witnessDistances[target] > costs) {
+            shortcuts++;
+            if (add) {
+              addArc(source, target, costs, -1, incomingArc, outgoingArc);
+            }
+          }
+        }
+        resetWitnesses();
+      }
+
+      return shortcuts;
+    }
+
+    /**
+     * Searches for paths starting at the given source vertex that do not lead via the given
+     * excluded vertex.
+     *
+     * @param source The source vertex.
+     * @param excluded The excluded vertex.
+     * @param maxCosts The maximum costs of paths to be considered.
+     * @param maxSettledVertices The maximum number of vertices to be settled.
+     */
+    private void searchWitnesses(
+        int source,
+        int excluded,
+        double maxCosts,
+        int maxSettledVertices
+    ) {
+      witnessDistances[source] = 0;
+      witnessTouched.add(source);
+      witnessHeap.insertOrDecrease(source, 0);
+
+      int settled = 0;
+      while (!witnessHeap.isEmpty()
+          && witnessHeap.peekKey() <= maxCosts
+          && settled < maxSettledVertices) {
+        int vertex = witnessHeap.poll();
+        settled++;
+        IntList outgoing = outgoingArcs[vertex];
+        for (int i = 0; i < outgoing.size; i++) {
+          int arc = outgoing.values[i];
+          int target = arcs.targets[arc];
+          if (target == excluded || contracted[target]) {
+            continue;
+          }
+          double distance = witnessDistances[vertex] + arcs.weights[arc];
+          if (distance < witnessDistances[target]) {
+            if (witnessDistances[target] == Double.POSITIVE_INFINITY) {
+              witnessTouched.add(target);
+            }
+            witnessDistances[target] = distance;
+            witnessHeap.insertOrDecrease(target, distance);
+          }
+        }
+      }
+      witnessHeap.clear();
+    }
+
+    private void resetWitnesses() {
+      for (int i = 0; i < witnessTouched.size; i++) {
+        witnessDistances[witnessTouched.values[i]] = Double.POSITIVE_INFINITY;
+      }
+      witnessTouched.clear();
+    }
+
+    private int addArc(
+        int source,
+        int target,
+        double weight,
+        int edge,
+        int firstChild,
+        int secondChild
+    ) {
+      int arc = arcs.add(source, target, weight, edge, firstChild, secondChild);
+      outgoingArcs[source].add(arc);
+      incomingArcs[target].add(arc);
+      return arc;
+    }
+  }
+
+  /**
+   * A compact adjacency representation of the arcs followed by one of the two searches.
+   */
+  private static class SearchGraph {
+
+    private final int[] firstArcs;
+    private final int[] neighbours;
+    private final double[] weights;
+    private final int[] arcs;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param vertexCount The number of vertices.
+     * @param arcList All arcs.
+     * @param filter Selects the arcs to be included.
+     * @param forward Whether arcs are to be followed from their source to their target (or the
+     * other way round).
+     */
+    SearchGraph(int vertexCount, ArcList arcList, ArcFilter filter, boolean forward) {
+      firstArcs = new int[vertexCount + 1];
+      for (int arc = 0; arc < arcList.size; arc++) {
+        if (filter.accept(arc)) {
+          firstArcs[(forward ? arcList.sources : arcList.targets)[arc] + 1]++;
+        }
+      }
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        firstArcs[vertex + 1] += firstArcs[vertex];
+      }
+
+      neighbours = new int[firstArcs[vertexCount]];
+      weights = new double[firstArcs[vertexCount]];
+      arcs = new int[firstArcs[vertexCount]];
+      int[] nextPositions = Arrays.copyOf(firstArcs, vertexCount);
+      for (int arc = 0; arc < arcList.size; arc++) {
+        if (filter.accept(arc)) {
+          int vertex = (forward ? arcList.sources : arcList.targets)[arc];
+          int position = nextPositions[vertex];
+          nextPositions[vertex]++;
+          neighbours[position] = (forward ? arcList.targets : arcList.sources)[arc];
+          weights[position] = arcList.weights[arc];
+          arcs[position] = arc;
+        }
+      }
+    }
+  }
+
+  /**
+   * Selects arcs by index.
+   */
+  @FunctionalInterface
+  private interface ArcFilter {
+
+    boolean accept(int arc);
+  }
+
+  /**
+   * A growable list of arcs.
+   */
+  private static class ArcList {
+
+    private int[] sources = new int[16];
+    private int[] targets = new int[16];
+    private double[] weights = new double[16];
+    private int[] edges = new int[16];
+    private int[] firstChildren = new int[16];
+    private int[] secondChildren = new int[16];
+    private int size;
+
+    int add(int source, int target, double weight, int edge, int firstChild, int secondChild) {
+      if (size == sources.length) {
+        int capacity = size * 2;
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+        edges = Arrays.copyOf(edges, capacity);
+        firstChildren = Arrays.copyOf(firstChildren, capacity);
+        secondChildren = Arrays.copyOf(secondChildren, capacity);
+      }
+      sources[size] = source;
+      targets[size] = target;
+      weights[size] = weight;
+      edges[size] = edge;
+      firstChildren[size] = firstChild;
+      secondChildren[size] = secondChild;
+      return size++;
+    }
+  }
+
+  /**
+   * A growable list of {@code int}s.
+   */
+  private static class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size] = value;
+      size++;
+    }
+
+    int removeLast() {
+      size--;
+      return values[size];
+    }
+
+    void removeIf(IntPredicate predicate) {
+      int newSize = 0;
+      for (int i = 0; i < size; i++) {
+        if (!predicate.test(values[i])) {
+          values[newSize] = values[i];
+          newSize++;
+        }
+      }
+      size = newSize;
+    }
+
+    void reverse() {
+      for (int i = 0, j = size - 1; i < j; i++, j--) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+      }
+    }
+
+    void clear() {
+      size = 0;
+    }
+  }
+
+  /**
+   * The state of a single query, reused across queries to avoid allocations.
+   */
+  private static class QueryState {
+
+    private final double[] forwardDistances;
+    private final double[] backwardDistances;
+    private final int[] forwardArcs;
+    private final int[] backwardArcs;
+    private final IndexedMinHeap forwardHeap;
+    private final IndexedMinHeap backwardHeap;
+    private final IntList forwardTouched = new IntList();
+    private final IntList backwardTouched = new IntList();
+
+    QueryState(int vertexCount) {
+      forwardDistances = new double[vertexCount];
+      backwardDistances = new double[vertexCount];
+      Arrays.fill(forwardDistances, Double.POSITIVE_INFINITY);
+      Arrays.fill(backwardDistances, Double.POSITIVE_INFINITY);
+      forwardArcs = new int[vertexCount];
+      backwardArcs = new int[vertexCount];
+      Arrays.fill(forwardArcs, -1);
+      Arrays.fill(backwardArcs, -1);
+      forwardHeap = new IndexedMinHeap(vertexCount);
+      backwardHeap = new IndexedMinHeap(vertexCount);
+    }
+
+    void reset() {
+      reset(forwardTouched, forwardDistances, forwardArcs);
+      reset(backwardTouched, backwardDistances, backwardArcs);
+      forwardHeap.clear();
+      backwardHeap.clear();
+    }
+
+    private void reset(IntList touched, double[] distances, int[] arcs) {
+      for (int i = 0; i < touched.size; i++) {
+        distances[touched.values[i]] = Double.POSITIVE_INFINITY;
+        arcs[touched.values[i]] = -1;
+      }
+      touched.clear();
+    }
+  }
+}
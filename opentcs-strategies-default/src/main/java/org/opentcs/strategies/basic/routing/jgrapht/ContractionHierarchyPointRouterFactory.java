@@ -0,0 +1,39 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Creates {@link PointRouter} instances based on contraction hierarchies.
+ */
+public class ContractionHierarchyPointRouterFactory
+    extends
+      AbstractPointRouterFactory {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graphProvider Provides routing graphs for vehicles.
+   */
+  @Inject
+  public ContractionHierarchyPointRouterFactory(
+      @Nonnull
+      GraphProvider graphProvider
+  ) {
+    super(graphProvider);
+  }
+
+  @Override
+  protected ShortestPathAlgorithm<String, Edge> createShortestPathAlgorithm(
+      Graph<String, Edge> graph
+  ) {
+    return new ContractionHierarchyShortestPath(graph);
+  }
+
+}
@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.ListSingleSourcePathsImpl;
+import org.jgrapht.graph.GraphWalk;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * A shortest path algorithm answering queries using a {@link ContractionHierarchy}.
+ * <p>
+ * The contraction hierarchy is computed once, when an instance is created. Paths returned by this
+ * algorithm contain only edges of the original graph, i.e. all shortcuts are unpacked.
+ * </p>
+ */
+public class ContractionHierarchyShortestPath
+    implements
+      ShortestPathAlgorithm<String, Edge> {
+
+  private final Graph<String, Edge> graph;
+  private final IndexedGraph indexedGraph;
+  private final ContractionHierarchy contractionHierarchy;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph. Must not contain edges with negative weights.
+   */
+  public ContractionHierarchyShortestPath(Graph<String, Edge> graph) {
+    this.graph = requireNonNull(graph, "graph");
+    this.indexedGraph = new IndexedGraph(graph);
+    this.contractionHierarchy = new ContractionHierarchy(indexedGraph);
+  }
+
+  @Override
+  public GraphPath<String, Edge> getPath(String source, String sink) {
+    int srcIndex = indexOf(source);
+    int destIndex = indexOf(sink);
+    if (srcIndex == destIndex) {
+      return createEmptyPath(source);
+    }
+
+    int[] pathEdges = contractionHierarchy.getPathEdges(srcIndex, destIndex);
+    if (pathEdges == null) {
+      return null;
+    }
+
+    // Sum up the weights in the order the edges are travelled, just like the other shortest path
+    // algorithms do, to get exactly the same (floating point) weights.
+    List<Edge> edgeList = new ArrayList<>(pathEdges.length);
+    double weight = 0;
+    for (int edge : pathEdges) {
+      edgeList.add(indexedGraph.getEdge(edge));
+      weight += indexedGraph.getEdgeWeight(edge);
+    }
+
+    return new GraphWalk<>(graph, source, sink, edgeList, weight);
+  }
+
+  @Override
+  public double getPathWeight(String source, String sink) {
+    return contractionHierarchy.getCosts(indexOf(source), indexOf(sink));
+  }
+
+  @Override
+  public SingleSourcePaths<String, Edge> getPaths(String source) {
+    Map<String, GraphPath<String, Edge>> paths = new HashMap<>();
+    for (String sink : graph.vertexSet()) {
+      GraphPath<String, Edge> path = getPath(source, sink);
+      if (path != null) {
+        paths.put(sink, path);
+      }
+    }
+    return new ListSingleSourcePathsImpl<>(graph, source, paths);
+  }
+
+  private GraphPath<String, Edge> createEmptyPath(String vertex) {
+    return GraphWalk.singletonWalk(graph, vertex, 0.0);
+  }
+
+  private int indexOf(String vertex) {
+    int index = indexedGraph.indexOf(vertex);
+    checkArgument(index >= 0, "Graph does not contain vertex %s", vertex);
+    return index;
+  }
+}
@@ -0,0 +1,136 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.order.Route;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * A {@link PointRouter} that looks up routing costs in a cost table instead of running a shortest
+ * path search for every request.
+ * <p>
+ * The cost table is organized in rows, one per source point. A row contains the costs from its
+ * source point to every other point in the graph and is computed with a single single-source
+ * search the first time costs from the respective source point are requested. Subsequent requests
+ * for the same source point are simple array lookups.
+ * </p>
+ * <p>
+ * Route steps are still computed by the given delegate point router. The same applies to costs for
+ * graphs with negative edge weights (which the search used for computing the cost table cannot
+ * handle) and for points not contained in the graph.
+ * </p>
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ */
+public class CostTablePointRouter
+    implements
+      PointRouter {
+
+  /**
+   * The point router to delegate to.
+   */
+  private final PointRouter delegate;
+  /**
+   * The graph the cost table is computed for.
+   */
+  private final IndexedGraph graph;
+  /**
+   * The rows of the cost table by source vertex index, or {@code null} if no cost table is used.
+   */
+  private final AtomicReferenceArray<long[]> costTable;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param delegate The point router to delegate to for computing route steps. Must work on the
+   * same graph as the given one.
+   * @param graph The graph the cost table is to be computed for.
+   */
+  public CostTablePointRouter(
+      @Nonnull
+      PointRouter delegate,
+      @Nonnull
+      IndexedGraph graph
+  ) {
+    this.delegate = requireNonNull(delegate, "delegate");
+    this.graph = requireNonNull(graph, "graph");
+    this.costTable = graph.hasNegativeWeights()
+        ? null
+        : new AtomicReferenceArray<>(graph.getVertexCount());
+  }
+
+  @Override
+  public List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint) {
+    return delegate.getRouteSteps(srcPoint, destPoint);
+  }
+
+  @Override
+  public long getCosts(
+      TCSObjectReference<Point> srcPointRef,
+      TCSObjectReference<Point> destPointRef
+  ) {
+    requireNonNull(srcPointRef, "srcPointRef");
+    requireNonNull(destPointRef, "destPointRef");
+
+    if (Objects.equals(srcPointRef.getName(), destPointRef.getName())) {
+      return 0;
+    }
+
+    int srcIndex = graph.indexOf(srcPointRef.getName());
+    int destIndex = graph.indexOf(destPointRef.getName());
+    if (costTable == null || srcIndex < 0 || destIndex < 0) {
+      return delegate.getCosts(srcPointRef, destPointRef);
+    }
+
+    return getCostTableRow(srcIndex)[destIndex];
+  }
+
+  private long[] getCostTableRow(int srcIndex) {
+    long[] row = costTable.get(srcIndex);
+    if (row == null) {
+      // Concurrent computations of the same row yield identical results, so it does not matter
+      // which one ends up in the table.
+      row = computeCostTableRow(srcIndex);
+      costTable.set(srcIndex, row);
+    }
+    return row;
+  }
+
+  private long[] computeCostTableRow(int srcIndex) {
+    double[] distances = new double[graph.getVertexCount()];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    distances[srcIndex] = 0;
+
+    IndexedMinHeap heap = new IndexedMinHeap(graph.getVertexCount());
+    heap.insertOrDecrease(srcIndex, 0);
+    while (!heap.isEmpty()) {
+      int vertex = heap.poll();
+      for (int edge = graph.getFirstOutgoingEdge(vertex);
+          edge < graph.getFirstOutgoingEdge(vertex + 1);
+          edge++) {
+        int target = graph.getEdgeTarget(edge);
+        double distance = distances[vertex] + graph.getEdgeWeight(edge);
+        if (distance < distances[target]) {
+          distances[target] = distance;
+          heap.insertOrDecrease(target, distance);
+        }
+      }
+    }
+
+    long[] row = new long[distances.length];
+    for (int i = 0; i < distances.length; i++) {
+      row[i] = distances[i] == Double.POSITIVE_INFINITY ? INFINITE_COSTS : (long) distances[i];
+    }
+    return row;
+  }
+}
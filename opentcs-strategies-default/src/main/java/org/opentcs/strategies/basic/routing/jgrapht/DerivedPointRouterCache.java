@@ -0,0 +1,210 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * A bounded cache for point routers that are derived from a routing group's point router by
+ * excluding sets of points and paths.
+ * <p>
+ * When the cache is full, the least recently used point router is evicted. The cache keeps track of
+ * the number of hits, misses and evictions.
+ * </p>
+ * <p>
+ * Instances of this class are safe for use by multiple threads.
+ * </p>
+ */
+public class DerivedPointRouterCache {
+
+  /**
+   * The maximum number of cached point routers.
+   */
+  private final int capacity;
+  /**
+   * The cached point routers, in access order.
+   */
+  private final Map<Key, PointRouter> pointRouters;
+  /**
+   * The number of requests that could be served from the cache.
+   */
+  private long hitCount;
+  /**
+   * The number of requests that could not be served from the cache.
+   */
+  private long missCount;
+  /**
+   * The number of point routers that were evicted from the cache.
+   */
+  private long evictionCount;
+  /**
+   * Incremented whenever the cache is cleared.
+   */
+  private long generation;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of cached point routers. A capacity of 0 disables caching.
+   */
+  public DerivedPointRouterCache(int capacity) {
+    checkArgument(capacity >= 0, "capacity must not be negative: %s", capacity);
+    this.capacity = capacity;
+    this.pointRouters = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Returns the point router for the given routing group and sets of excluded points and paths,
+   * creating it if it is not cached.
+   *
+   * @param routingGroup The routing group.
+   * @param pointsToExclude The set of points excluded from the point router.
+   * @param pathsToExclude The set of paths excluded from the point router.
+   * @param pointRouterSupplier Creates the point router if it is not cached.
+   * @return The point router.
+   */
+  @Nonnull
+  public PointRouter getPointRouter(
+      @Nonnull
+      String routingGroup,
+      @Nonnull
+      Set<Point> pointsToExclude,
+      @Nonnull
+      Set<Path> pathsToExclude,
+      @Nonnull
+      Supplier<PointRouter> pointRouterSupplier
+  ) {
+    requireNonNull(routingGroup, "routingGroup");
+    requireNonNull(pointsToExclude, "pointsToExclude");
+    requireNonNull(pathsToExclude, "pathsToExclude");
+    requireNonNull(pointRouterSupplier, "pointRouterSupplier");
+
+    Key key = new Key(routingGroup, pointsToExclude, pathsToExclude);
+    long generationBefore;
+    synchronized (this) {
+      PointRouter pointRouter = pointRouters.get(key);
+      if (pointRouter != null) {
+        hitCount++;
+        return pointRouter;
+      }
+      missCount++;
+      generationBefore = generation;
+    }
+
+    // Create the point router without holding the lock, so that requests for other point routers
+    // are not blocked in the meantime.
+    PointRouter pointRouter = pointRouterSupplier.get();
+
+    synchronized (this) {
+      // Don't cache point routers that may have been created for an outdated routing topology.
+      if (capacity > 0 && generation == generationBefore) {
+        pointRouters.put(key, pointRouter);
+        if (pointRouters.size() > capacity) {
+          // Evict the least recently used point router.
+          Iterator<Key> keyIter = pointRouters.keySet().iterator();
+          keyIter.next();
+          keyIter.remove();
+          evictionCount++;
+        }
+      }
+    }
+    return pointRouter;
+  }
+
+  /**
+   * Removes all point routers from this cache.
+   */
+  public synchronized void clear() {
+    pointRouters.clear();
+    generation++;
+  }
+
+  /**
+   * Returns the number of point routers currently cached.
+   *
+   * @return The number of point routers currently cached.
+   */
+  public synchronized int size() {
+    return pointRouters.size();
+  }
+
+  /**
+   * Returns the number of requests that could be served from this cache.
+   *
+   * @return The number of requests that could be served from this cache.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of requests that could not be served from this cache.
+   *
+   * @return The number of requests that could not be served from this cache.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the number of point routers that were evicted from this cache.
+   *
+   * @return The number of point routers that were evicted from this cache.
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * The key for a cached point router.
+   * <p>
+   * Points and paths are compared by name, so a key remains valid as long as the routing topology
+   * of the routing group does not change.
+   * </p>
+   */
+  private static class Key {
+
+    private final String routingGroup;
+    private final Set<Point> excludedPoints;
+    private final Set<Path> excludedPaths;
+    private final int hash;
+
+    Key(String routingGroup, Set<Point> excludedPoints, Set<Path> excludedPaths) {
+      this.routingGroup = routingGroup;
+      this.excludedPoints = Set.copyOf(excludedPoints);
+      this.excludedPaths = Set.copyOf(excludedPaths);
+      this.hash = Objects.hash(routingGroup, this.excludedPoints, this.excludedPaths);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key other)) {
+        return false;
+      }
+      return hash == other.hash
+          && routingGroup.equals(other.routingGroup)
+          && excludedPoints.equals(other.excludedPoints)
+          && excludedPaths.equals(other.excludedPaths);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -26,6 +26,10 @@ import org.opentcs.data.model.Vehicle;
  * <p>
  * This provider caches computed routing graphs until it is {@link #invalidate() invalidated}.
  * </p>
+ * <p>
+ * Instances of this class are safe for use by multiple threads. The routing graphs provided are
+ * never modified after they have been handed out, so they may be used concurrently with updates.
+ * </p>
  */
 public class GraphProvider {
 
@@ -95,7 +99,7 @@ public class GraphProvider {
   /**
    * Invalidates any graphs that have already been calculated.
    */
-  public void invalidate() {
+  public synchronized void invalidate() {
     currentPointBase.clear();
     currentPathBase.clear();
     graphResultsByRoutingGroup.clear();
@@ -109,7 +113,7 @@ public class GraphProvider {
    * @param vehicle The vehicle.
    * @return A {@link GraphResult} containing the routing graph for the given vehicle.
    */
-  public GraphResult getGraphResult(Vehicle vehicle) {
+  public synchronized GraphResult getGraphResult(Vehicle vehicle) {
     return graphResultsByRoutingGroup.computeIfAbsent(
         routingGroupMapper.apply(vehicle),
         routingGroup -> new GraphResult(
@@ -133,7 +137,7 @@ public class GraphProvider {
    *
    * @return A {@link GraphResult} containing the routing graph.
    */
-  public GraphResult getGeneralGraphResult() {
+  public synchronized GraphResult getGeneralGraphResult() {
     if (generalGraphResult == null) {
       generalGraphResult = new GraphResult(
           new Vehicle("Dummy"),
@@ -161,7 +165,7 @@ public class GraphProvider {
    * @param pathsToExclude The set of paths to not include in the derived routing graph.
    * @return The derived {@link GraphResult}.
    */
-  public GraphResult getDerivedGraphResult(
+  public synchronized GraphResult getDerivedGraphResult(
       @Nonnull
       Vehicle vehicle,
       @Nonnull
@@ -187,7 +191,7 @@ public class GraphProvider {
    * @param pathsToExclude The set of paths to not include in the derived routing graph.
    * @return The derived {@link GraphResult}.
    */
-  public GraphResult getDerivedGeneralGraphResult(
+  public synchronized GraphResult getDerivedGeneralGraphResult(
       @Nonnull
       Set<Point> pointsToExclude,
       @Nonnull
@@ -208,7 +212,7 @@ public class GraphProvider {
    *
    * @param paths The paths to use for the update.
    */
-  public void updateGraphResults(
+  public synchronized void updateGraphResults(
       @Nonnull
       Collection<Path> paths
   ) {
@@ -0,0 +1,199 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import org.jgrapht.Graph;
+import org.opentcs.components.kernel.routing.Edge;
+
+/**
+ * An immutable, compact representation of a routing graph.
+ * <p>
+ * Vertices are mapped to dense integer indices (in the range {@code [0, getVertexCount())}) and
+ * the outgoing edges of every vertex are stored in primitive arrays, which allows algorithms to
+ * work on the graph without any lookups by vertex name and without boxing of edge weights.
+ * </p>
+ * <p>
+ * The outgoing edges of vertex {@code v} have the (edge) indices
+ * {@code [getFirstOutgoingEdge(v), getFirstOutgoingEdge(v + 1))}.
+ * </p>
+ */
+public class IndexedGraph {
+
+  /**
+   * The vertex indices mapped to the vertices.
+   */
+  private final Map<String, Integer> indicesByVertex;
+  /**
+   * The vertices by index.
+   */
+  private final String[] vertices;
+  /**
+   * The index of the first outgoing edge for every vertex, plus one trailing element containing
+   * the total number of edges.
+   */
+  private final int[] firstOutgoingEdges;
+  /**
+   * The index of the target vertex for every edge.
+   */
+  private final int[] edgeTargets;
+  /**
+   * The weight of every edge.
+   */
+  private final double[] edgeWeights;
+  /**
+   * The original edge for every edge.
+   */
+  private final Edge[] edges;
+  /**
+   * Whether the graph contains any edges with negative weights.
+   */
+  private final boolean negativeWeights;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param graph The graph to be compiled.
+   */
+  public IndexedGraph(
+      @Nonnull
+      Graph<String, Edge> graph
+  ) {
+    requireNonNull(graph, "graph");
+
+    int vertexCount = graph.vertexSet().size();
+    int edgeCount = graph.edgeSet().size();
+
+    indicesByVertex = new HashMap<>(vertexCount * 2);
+    vertices = new String[vertexCount];
+    firstOutgoingEdges = new int[vertexCount + 1];
+    edgeTargets = new int[edgeCount];
+    edgeWeights = new double[edgeCount];
+    edges = new Edge[edgeCount];
+
+    int vertexIndex = 0;
+    for (String vertex : graph.vertexSet()) {
+      indicesByVertex.put(vertex, vertexIndex);
+      vertices[vertexIndex] = vertex;
+      vertexIndex++;
+    }
+
+    boolean foundNegativeWeight = false;
+    int edgeIndex = 0;
+    for (vertexIndex = 0; vertexIndex < vertexCount; vertexIndex++) {
+      firstOutgoingEdges[vertexIndex] = edgeIndex;
+      for (Edge edge : graph.outgoingEdgesOf(vertices[vertexIndex])) {
+        double weight = graph.getEdgeWeight(edge);
+        edgeTargets[edgeIndex] = indicesByVertex.get(graph.getEdgeTarget(edge));
+        edgeWeights[edgeIndex] = weight;
+        edges[edgeIndex] = edge;
+        foundNegativeWeight |= weight < 0;
+        edgeIndex++;
+      }
+    }
+    firstOutgoingEdges[vertexCount] = edgeIndex;
+    negativeWeights = foundNegativeWeight;
+  }
+
+  /**
+   * Returns the number of vertices in this graph.
+   *
+   * @return The number of vertices in this graph.
+   */
+  public int getVertexCount() {
+    return vertices.length;
+  }
+
+  /**
+   * Returns the number of edges in this graph.
+   *
+   * @return The number of edges in this graph.
+   */
+  public int getEdgeCount() {
+    return edges.length;
+  }
+
+  /**
+   * Returns the index of the given vertex.
+   *
+   * @param vertex The vertex.
+   * @return The index of the given vertex, or -1, if the vertex is not contained in this graph.
+   */
+  public int indexOf(
+      @Nullable
+      String vertex
+  ) {
+    Integer index = indicesByVertex.get(vertex);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * Returns the vertex with the given index.
+   *
+   * @param vertexIndex The vertex index.
+   * @return The vertex with the given index.
+   */
+  @Nonnull
+  public String getVertex(int vertexIndex) {
+    return vertices[vertexIndex];
+  }
+
+  /**
+   * Returns the index of the first outgoing edge of the given vertex.
+   * <p>
+   * Passing {@link #getVertexCount()} returns the total number of edges, so the outgoing edges of
+   * vertex {@code v} always end (exclusively) at {@code getFirstOutgoingEdge(v + 1)}.
+   * </p>
+   *
+   * @param vertexIndex The vertex index.
+   * @return The index of the first outgoing edge of the given vertex.
+   */
+  public int getFirstOutgoingEdge(int vertexIndex) {
+    return firstOutgoingEdges[vertexIndex];
+  }
+
+  /**
+   * Returns the index of the given edge's target vertex.
+   *
+   * @param edgeIndex The edge index.
+   * @return The index of the given edge's target vertex.
+   */
+  public int getEdgeTarget(int edgeIndex) {
+    return edgeTargets[edgeIndex];
+  }
+
+  /**
+   * Returns the weight of the given edge.
+   *
+   * @param edgeIndex The edge index.
+   * @return The weight of the given edge.
+   */
+  public double getEdgeWeight(int edgeIndex) {
+    return edgeWeights[edgeIndex];
+  }
+
+  /**
+   * Returns the original edge with the given index.
+   *
+   * @param edgeIndex The edge index.
+   * @return The original edge with the given index.
+   */
+  @Nonnull
+  public Edge getEdge(int edgeIndex) {
+    return edges[edgeIndex];
+  }
+
+  /**
+   * Indicates whether this graph contains any edges with negative weights.
+   *
+   * @return {@code true} if, and only if, this graph contains edges with negative weights.
+   */
+  public boolean hasNegativeWeights() {
+    return negativeWeights;
+  }
+}
@@ -0,0 +1,152 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of vertex indices with {@code double} keys that supports decreasing the key of
+ * an element already contained.
+ * <p>
+ * Instances are not thread-safe. An instance may be used for multiple searches on the same
+ * {@link IndexedGraph} if it is cleared in between (see {@link #clear()}).
+ * </p>
+ */
+class IndexedMinHeap {
+
+  /**
+   * The vertex indices in heap order.
+   */
+  private final int[] heap;
+  /**
+   * The position of every vertex within the heap, or -1 for vertices not contained.
+   */
+  private final int[] positions;
+  /**
+   * The key of every vertex contained.
+   */
+  private final double[] keys;
+  /**
+   * The number of elements currently contained.
+   */
+  private int size;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The number of vertices (i.e. the maximum vertex index plus one).
+   */
+  IndexedMinHeap(int capacity) {
+    heap = new int[capacity];
+    positions = new int[capacity];
+    keys = new double[capacity];
+    Arrays.fill(positions, -1);
+  }
+
+  /**
+   * Indicates whether this heap is empty.
+   *
+   * @return {@code true} if, and only if, this heap is empty.
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Inserts the given vertex with the given key or, if the vertex is already contained, lowers its
+   * key to the given one. If the vertex is contained with a lower key already, nothing happens.
+   *
+   * @param vertex The vertex index.
+   * @param key The key.
+   */
+  void insertOrDecrease(int vertex, double key) {
+    int position = positions[vertex];
+    if (position < 0) {
+      position = size;
+      size++;
+      heap[position] = vertex;
+      positions[vertex] = position;
+    }
+    else if (key >= keys[vertex]) {
+      return;
+    }
+    keys[vertex] = key;
+    siftUp(position);
+  }
+
+  /**
+   * Returns the smallest key contained.
+   *
+   * @return The smallest key contained.
+   */
+  double peekKey() {
+    return keys[heap[0]];
+  }
+
+  /**
+   * Removes the vertex with the smallest key from this heap and returns it.
+   *
+   * @return The vertex with the smallest key.
+   */
+  int poll() {
+    int result = heap[0];
+    positions[result] = -1;
+    size--;
+    if (size > 0) {
+      heap[0] = heap[size];
+      positions[heap[0]] = 0;
+      siftDown(0);
+    }
+    return result;
+  }
+
+  /**
+   * Removes all elements from this heap.
+   */
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      positions[heap[i]] = -1;
+    }
+    size = 0;
+  }
+
+  private void siftUp(int position) {
+    int vertex = heap[position];
+    double key = keys[vertex];
+    while (position > 0) {
+      int parentPosition = (position - 1) / 2;
+      int parent = heap[parentPosition];
+      if (keys[parent] <= key) {
+        break;
+      }
+      heap[position] = parent;
+      positions[parent] = position;
+      position = parentPosition;
+    }
+    heap[position] = vertex;
+    positions[vertex] = position;
+  }
+
+  private void siftDown(int position) {
+    int vertex = heap[position];
+    double key = keys[vertex];
+    while (true) {
+      int childPosition = 2 * position + 1;
+      if (childPosition >= size) {
+        break;
+      }
+      if (childPosition + 1 < size && keys[heap[childPosition + 1]] < keys[heap[childPosition]]) {
+        childPosition++;
+      }
+      int child = heap[childPosition];
+      if (keys[child] >= key) {
+        break;
+      }
+      heap[position] = child;
+      positions[child] = position;
+      position = childPosition;
+    }
+    heap[position] = vertex;
+    positions[vertex] = position;
+  }
+}
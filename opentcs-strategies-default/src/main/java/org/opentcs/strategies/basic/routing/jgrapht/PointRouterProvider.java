@@ -11,7 +11,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Path;
@@ -22,24 +22,43 @@ import org.opentcs.strategies.basic.routing.PointRouter;
 import org.opentcs.strategies.basic.routing.PointRouterFactory;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor;
 import org.opentcs.strategies.basic.routing.ResourceAvoidanceExtractor.ResourcesToAvoid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Provides point routers for vehicles (more specifically for routing groups of vehicles).
  * <p>
  * This provider caches constructed point routers until it is {@link #invalidate() invalidated}.
+ * Point routers derived for sets of resources to be avoided are kept in a bounded cache.
+ * </p>
+ * <p>
+ * Point routers are provided without any locking: The point routers for the routing groups are
+ * kept in immutable snapshots that are replaced atomically, and a new (empty) snapshot is only
+ * published after the routing graphs have been updated. Callers that obtained a point router
+ * before a topology update may thus still use it, while all requests made after the update are
+ * guaranteed to be served by point routers for the updated topology. Methods that change the
+ * routing topology are mutually exclusive.
  * </p>
  */
 public class PointRouterProvider {
 
+  private static final Logger LOG = LoggerFactory.getLogger(PointRouterProvider.class);
+
   private final TCSObjectService objectService;
   private final ResourceAvoidanceExtractor resourceAvoidanceExtractor;
   private final GroupMapper routingGroupMapper;
   private final PointRouterFactory pointRouterFactory;
   private final GraphProvider graphProvider;
+  private final ShortestPathConfiguration configuration;
   /**
-   * The point routers by vehicle routing group.
+   * The current snapshot of point routers by vehicle routing group.
    */
-  private final Map<String, PointRouter> pointRoutersByVehicleGroup = new ConcurrentHashMap<>();
+  private final AtomicReference<PointRouterSnapshot> pointRouterSnapshot
+      = new AtomicReference<>(new PointRouterSnapshot(0, Map.of()));
+  /**
+   * The point routers derived from the routing groups' point routers by excluding resources.
+   */
+  private final DerivedPointRouterCache derivedPointRouterCache;
 
   /**
    * Creates a new instance.
@@ -49,6 +68,7 @@ public class PointRouterProvider {
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param pointRouterFactory A builder for constructing point routers (i.e., the routing tables).
    * @param graphProvider Provides routing graphs for vehicles.
+   * @param configuration The configuration.
    */
   @Inject
   public PointRouterProvider(
@@ -56,7 +76,8 @@ public class PointRouterProvider {
       ResourceAvoidanceExtractor resourceAvoidanceExtractor,
       GroupMapper routingGroupMapper,
       PointRouterFactory pointRouterFactory,
-      GraphProvider graphProvider
+      GraphProvider graphProvider,
+      ShortestPathConfiguration configuration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.resourceAvoidanceExtractor = requireNonNull(
@@ -66,14 +87,18 @@ public class PointRouterProvider {
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.pointRouterFactory = requireNonNull(pointRouterFactory, "pointRouterFactory");
     this.graphProvider = requireNonNull(graphProvider, "graphProvider");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.derivedPointRouterCache
+        = new DerivedPointRouterCache(configuration.derivedPointRouterCacheSize());
   }
 
   /**
    * Invalidates any point routers that have already been constructed.
    */
-  public void invalidate() {
-    pointRoutersByVehicleGroup.clear();
+  public synchronized void invalidate() {
     graphProvider.invalidate();
+    clearDerivedPointRouterCache();
+    publishEmptySnapshot();
   }
 
   /**
@@ -82,20 +107,20 @@ public class PointRouterProvider {
    * @param paths The paths to update in the routing topology. An empty set of paths results in any
    * constructed point routers to be invalidated.
    */
-  public void updateRoutingTopology(
+  public synchronized void updateRoutingTopology(
       @Nonnull
       Set<Path> paths
   ) {
     requireNonNull(paths, "paths");
 
-    pointRoutersByVehicleGroup.clear();
-
     if (paths.isEmpty()) {
       graphProvider.invalidate();
     }
     else {
       graphProvider.updateGraphResults(paths);
     }
+    clearDerivedPointRouterCache();
+    publishEmptySnapshot();
   }
 
   /**
@@ -153,9 +178,16 @@ public class PointRouterProvider {
   public Map<String, PointRouter> getPointRoutersByVehicleGroup() {
     // Since point routers get reset on topology changes, make sure there are point routers for
     // all routing groups.
-    createMissingPointRouters();
+    Map<String, Vehicle> distinctRoutingGroups = new HashMap<>();
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
+      distinctRoutingGroups.putIfAbsent(routingGroupMapper.apply(vehicle), vehicle);
+    }
 
-    return Collections.unmodifiableMap(pointRoutersByVehicleGroup);
+    Map<String, PointRouter> result = new HashMap<>();
+    distinctRoutingGroups.forEach(
+        (routingGroup, vehicle) -> result.put(routingGroup, getRoutingGroupPointRouter(vehicle))
+    );
+    return Collections.unmodifiableMap(result);
   }
 
   /**
@@ -176,32 +208,116 @@ public class PointRouterProvider {
     );
   }
 
-  private void createMissingPointRouters() {
-    Map<String, Vehicle> distinctRoutingGroups = new HashMap<>();
-    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class)) {
-      distinctRoutingGroups.putIfAbsent(routingGroupMapper.apply(vehicle), vehicle);
-    }
-
-    // Lazily create point routers if they don't exist.
-    distinctRoutingGroups.forEach(
-        (routingGroup, vehicle) -> getPointRouterForVehicle(vehicle, (TransportOrder) null)
-    );
+  /**
+   * Returns the cache for point routers derived from the routing groups' point routers by
+   * excluding resources (e.g. for transport orders with resources to be avoided).
+   *
+   * @return The cache for derived point routers.
+   */
+  public DerivedPointRouterCache getDerivedPointRouterCache() {
+    return derivedPointRouterCache;
   }
 
   private PointRouter getPointRouterForVehicle(Vehicle vehicle, ResourcesToAvoid resourcesToAvoid) {
     if (!resourcesToAvoid.isEmpty()) {
-      return pointRouterFactory.createPointRouter(
-          vehicle,
+      return derivedPointRouterCache.getPointRouter(
+          routingGroupMapper.apply(vehicle),
           resourcesToAvoid.getPoints(),
-          resourcesToAvoid.getPaths()
+          resourcesToAvoid.getPaths(),
+          () -> pointRouterFactory.createPointRouter(
+              vehicle,
+              resourcesToAvoid.getPoints(),
+              resourcesToAvoid.getPaths()
+          )
       );
     }
 
     // In all other cases, create a point router if it does not yet exist for the vehicle's routing
     // group.
-    return pointRoutersByVehicleGroup.computeIfAbsent(
-        routingGroupMapper.apply(vehicle),
-        routingGroup -> pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of())
+    return getRoutingGroupPointRouter(vehicle);
+  }
+
+  private PointRouter getRoutingGroupPointRouter(Vehicle vehicle) {
+    String routingGroup = routingGroupMapper.apply(vehicle);
+    PointRouterSnapshot snapshot = pointRouterSnapshot.get();
+    PointRouter pointRouter = snapshot.pointRouters.get(routingGroup);
+    if (pointRouter != null) {
+      return pointRouter;
+    }
+
+    pointRouter = createRoutingGroupPointRouter(vehicle);
+
+    while (true) {
+      PointRouterSnapshot current = pointRouterSnapshot.get();
+      if (current.generation != snapshot.generation) {
+        // The topology was updated while the point router was being created. Use it for this
+        // request only, as it may have been created with the outdated topology.
+        return pointRouter;
+      }
+      PointRouter concurrentlyCreated = current.pointRouters.get(routingGroup);
+      if (concurrentlyCreated != null) {
+        return concurrentlyCreated;
+      }
+      if (pointRouterSnapshot.compareAndSet(current, current.with(routingGroup, pointRouter))) {
+        return pointRouter;
+      }
+    }
+  }
+
+  private void publishEmptySnapshot() {
+    pointRouterSnapshot.set(
+        new PointRouterSnapshot(pointRouterSnapshot.get().generation + 1, Map.of())
     );
   }
+
+  private void clearDerivedPointRouterCache() {
+    LOG.debug(
+        "Clearing derived point router cache with {} entries (hits: {}, misses: {}, evictions: {})",
+        derivedPointRouterCache.size(),
+        derivedPointRouterCache.getHitCount(),
+        derivedPointRouterCache.getMissCount(),
+        derivedPointRouterCache.getEvictionCount()
+    );
+    derivedPointRouterCache.clear();
+  }
+
+  private PointRouter createRoutingGroupPointRouter(Vehicle vehicle) {
+    PointRouter pointRouter = pointRouterFactory.createPointRouter(vehicle, Set.of(), Set.of());
+    if (!configuration.useCostTable()) {
+      return pointRouter;
+    }
+
+    // The graph provider updates its graphs along with the routing topology, so compiling the
+    // graph here ensures the cost table always matches the point router it is used with.
+    return new CostTablePointRouter(
+        pointRouter,
+        new IndexedGraph(graphProvider.getGraphResult(vehicle).getGraph())
+    );
+  }
+
+  /**
+   * An immutable snapshot of point routers by routing group.
+   */
+  private static class PointRouterSnapshot {
+
+    /**
+     * The generation of the routing topology the point routers were created for.
+     */
+    private final long generation;
+    /**
+     * The point routers by routing group.
+     */
+    private final Map<String, PointRouter> pointRouters;
+
+    PointRouterSnapshot(long generation, Map<String, PointRouter> pointRouters) {
+      this.generation = generation;
+      this.pointRouters = pointRouters;
+    }
+
+    PointRouterSnapshot with(String routingGroup, PointRouter pointRouter) {
+      Map<String, PointRouter> newPointRouters = new HashMap<>(pointRouters);
+      newPointRouters.put(routingGroup, pointRouter);
+      return new PointRouterSnapshot(generation, Collections.unmodifiableMap(newPointRouters));
+    }
+  }
 }
@@ -23,7 +23,10 @@ public interface ShortestPathConfiguration {
           "The routing algorithm to be used. Valid values:",
           "'DIJKSTRA': Routes are computed using Dijkstra's algorithm.",
           "'BELLMAN_FORD': Routes are computed using the Bellman-Ford algorithm.",
-          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm."},
+          "'FLOYD_WARSHALL': Routes are computed using the Floyd-Warshall algorithm.",
+          "'CONTRACTION_HIERARCHY': Routes are computed using a contraction hierarchy, which is "
+              + "precomputed for each routing graph and answers queries much faster than the "
+              + "other algorithms on large plant models."},
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
   Algorithm algorithm();
@@ -46,6 +49,31 @@ public interface ShortestPathConfiguration {
   )
   List<String> edgeEvaluators();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether routing costs for vehicles are to be looked up in a cost table that is compiled "
+              + "from each routing group's graph instead of being computed by the routing "
+              + "algorithm for every request.",
+          "A row of the table is computed once for every source point that costs are requested "
+              + "for and is kept until the routing topology changes."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  boolean useCostTable();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of point routers derived for sets of resources to be avoided (e.g. "
+              + "for transport orders with resources to avoid) that are kept for reuse.",
+          "When the limit is reached, the least recently used point router is discarded.",
+          "0 disables caching of derived point routers."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
+  )
+  int derivedPointRouterCacheSize();
+
   /**
    * The available algorithms.
    */
@@ -61,7 +89,11 @@ public interface ShortestPathConfiguration {
     /**
      * The Floyd-Warshall algorithm.
      */
-    FLOYD_WARSHALL(false);
+    FLOYD_WARSHALL(false),
+    /**
+     * Contraction hierarchies.
+     */
+    CONTRACTION_HIERARCHY(false);
 
     private final boolean handlingNegativeCosts;
 
@@ -25,6 +25,11 @@ public class ReservationEntry {
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * The pool this entry belongs to, notified whenever the client allocating the resource changes,
+   * or {@code null}.
+   */
+  private final ReservationPool pool;
   /**
    * The client for which the resource is currently reserved.
    */
@@ -42,7 +47,18 @@ public class ReservationEntry {
    * @param reqResource The resource.
    */
   public ReservationEntry(final TCSResource<?> reqResource) {
+    this(reqResource, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param reqResource The resource.
+   * @param pool The pool this entry belongs to, or {@code null}.
+   */
+  ReservationEntry(final TCSResource<?> reqResource, ReservationPool pool) {
     this.resource = requireNonNull(reqResource, "reqResource");
+    this.pool = pool;
   }
 
   /**
@@ -72,7 +88,8 @@ public class ReservationEntry {
    * @param client The allocating client.
    */
   void allocate(Client client) {
-    if (this.client == null) {
+    boolean previouslyFree = this.client == null;
+    if (previouslyFree) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
     }
@@ -91,6 +108,10 @@ public class ReservationEntry {
       );
     }
     counter++;
+    // Notify the pool only after incrementing the counter, so the entry is consistent by then.
+    if (previouslyFree && pool != null) {
+      pool.entryAllocated(this);
+    }
   }
 
   /**
@@ -102,7 +123,7 @@ public class ReservationEntry {
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
-      client = null;
+      releaseClient();
     }
   }
 
@@ -112,7 +133,7 @@ public class ReservationEntry {
    */
   void freeCompletely() {
     counter = 0;
-    client = null;
+    releaseClient();
   }
 
   /**
@@ -136,6 +157,23 @@ public class ReservationEntry {
     return this.client == client;
   }
 
+  /**
+   * Returns the reservation counter.
+   *
+   * @return The reservation counter.
+   */
+  int getCounter() {
+    return counter;
+  }
+
+  private void releaseClient() {
+    Client formerClient = client;
+    client = null;
+    if (pool != null && formerClient != null) {
+      pool.entryFreed(this, formerClient);
+    }
+  }
+
   @Override
   public String toString() {
     return "ReservationEntry{"
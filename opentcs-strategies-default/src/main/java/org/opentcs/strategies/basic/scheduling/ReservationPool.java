@@ -3,6 +3,7 @@
 package org.opentcs.strategies.basic.scheduling;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkState;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
@@ -21,6 +22,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Keeps track of the resources claimed and allocated by scheduler clients.
+ * <p>
+ * In addition to the reservation entries for all resources, the pool maintains an index of the
+ * entries allocated by each client, so that queries for a client's allocations take time
+ * proportional to the number of resources allocated by that client instead of the total number of
+ * resources.
+ * </p>
  */
 public class ReservationPool {
 
@@ -37,6 +45,19 @@ public class ReservationPool {
    * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
    */
   private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  /**
+   * The reservation entries allocated by each client.
+   */
+  private final Map<Scheduler.Client, Set<ReservationEntry>> allocationsByClient
+      = new HashMap<>();
+  /**
+   * The number of reservation entries currently allocated by any client.
+   */
+  private int allocatedEntryCount;
+  /**
+   * Whether the pool's invariants are checked after every modification of allocations.
+   */
+  private boolean invariantChecksEnabled;
 
   /**
    * Creates a new instance.
@@ -57,7 +78,7 @@ public class ReservationPool {
 
     ReservationEntry entry = reservations.get(resource);
     if (entry == null) {
-      entry = new ReservationEntry(resource);
+      entry = new ReservationEntry(resource, this);
       reservations.put(resource, entry);
     }
     return entry;
@@ -176,9 +197,8 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
+    return allocationsByClient.getOrDefault(client, Set.of()).stream()
+        .map(ReservationEntry::getResource)
         .collect(Collectors.toSet());
   }
 
@@ -200,9 +220,9 @@ public class ReservationPool {
     requireNonNull(client, "client");
 
     for (TCSResource<?> curResource : resources) {
-      // Check if the resource is available.
-      ReservationEntry entry = getReservationEntry(curResource);
-      if (!entry.isFree() && !entry.isAllocatedBy(client)) {
+      // Check if the resource is available. Resources without an entry have never been allocated.
+      ReservationEntry entry = reservations.get(curResource);
+      if (entry != null && !entry.isFree() && !entry.isAllocatedBy(client)) {
         LOG.debug(
             "{}: Resource {} unavailable, reserved by {}",
             client.getId(),
@@ -236,32 +256,157 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
-        .forEach(reservationEntry -> reservationEntry.freeCompletely());
+    Set<ReservationEntry> entries = allocationsByClient.get(client);
+    if (entries == null) {
+      return;
+    }
+    // Freeing an entry removes it from the index, so iterate over a copy.
+    for (ReservationEntry entry : List.copyOf(entries)) {
+      entry.freeCompletely();
+    }
   }
 
   @Nonnull
   public Map<String, Set<TCSResource<?>>> getAllocations() {
     final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
+    for (Map.Entry<Scheduler.Client, Set<ReservationEntry>> curEntry
+        : allocationsByClient.entrySet()) {
+      Set<TCSResource<?>> userResources
+          = result.computeIfAbsent(curEntry.getKey().getId(), id -> new HashSet<>());
+      for (ReservationEntry reservationEntry : curEntry.getValue()) {
+        userResources.add(reservationEntry.getResource());
       }
     }
     return result;
   }
 
+  /**
+   * Returns the number of resources currently allocated by any client.
+   *
+   * @return The number of resources currently allocated by any client.
+   */
+  public int getAllocatedResourceCount() {
+    return allocatedEntryCount;
+  }
+
+  /**
+   * Returns the number of resources known to this pool that are currently not allocated by any
+   * client.
+   *
+   * @return The number of resources known to this pool that are currently not allocated.
+   */
+  public int getFreeResourceCount() {
+    return reservations.size() - allocatedEntryCount;
+  }
+
   public void clear() {
     claimsByClient.clear();
     reservations.clear();
+    allocationsByClient.clear();
+    allocatedEntryCount = 0;
+  }
+
+  /**
+   * Enables or disables checking this pool's invariants after every modification of allocations.
+   * <p>
+   * As the checks take time proportional to the total number of resources, they are meant to be
+   * enabled for testing only.
+   * </p>
+   *
+   * @param enabled Whether to check this pool's invariants.
+   */
+  public void setInvariantChecksEnabled(boolean enabled) {
+    this.invariantChecksEnabled = enabled;
+  }
+
+  /**
+   * Checks that the index of allocations by client is consistent with the reservation entries.
+   *
+   * @throws IllegalStateException If the index is inconsistent with the reservation entries.
+   */
+  public void checkInvariants()
+      throws IllegalStateException {
+    int allocatedCount = 0;
+    for (ReservationEntry entry : reservations.values()) {
+      Scheduler.Client client = entry.getClient();
+      if (client == null) {
+        checkState(entry.getCounter() == 0, "Free entry with non-zero counter: %s", entry);
+        continue;
+      }
+      allocatedCount++;
+      checkState(entry.getCounter() > 0, "Allocated entry with counter < 1: %s", entry);
+      checkState(
+          allocationsByClient.getOrDefault(client, Set.of()).contains(entry),
+          "Allocated entry missing in index: %s",
+          entry
+      );
+    }
+
+    int indexedCount = 0;
+    for (Map.Entry<Scheduler.Client, Set<ReservationEntry>> curEntry
+        : allocationsByClient.entrySet()) {
+      checkState(!curEntry.getValue().isEmpty(), "Empty index for %s", curEntry.getKey().getId());
+      for (ReservationEntry entry : curEntry.getValue()) {
+        checkState(
+            entry.isAllocatedBy(curEntry.getKey()),
+            "Indexed entry not allocated by %s: %s",
+            curEntry.getKey().getId(),
+            entry
+        );
+        checkState(
+            reservations.get(entry.getResource()) == entry,
+            "Indexed entry unknown: %s",
+            entry
+        );
+        indexedCount++;
+      }
+    }
+
+    checkState(
+        allocatedCount == indexedCount && allocatedCount == allocatedEntryCount,
+        "Inconsistent allocation counts: allocated=%s, indexed=%s, counted=%s",
+        allocatedCount,
+        indexedCount,
+        allocatedEntryCount
+    );
+  }
+
+  /**
+   * Called by a reservation entry of this pool when it has been allocated by a client.
+   *
+   * @param entry The reservation entry.
+   */
+  void entryAllocated(ReservationEntry entry) {
+    if (reservations.get(entry.getResource()) != entry) {
+      // The entry was created before this pool was cleared.
+      return;
+    }
+    if (allocationsByClient.computeIfAbsent(entry.getClient(), client -> new HashSet<>())
+        .add(entry)) {
+      allocatedEntryCount++;
+    }
+    if (invariantChecksEnabled) {
+      checkInvariants();
+    }
+  }
+
+  /**
+   * Called by a reservation entry of this pool when it has been freed completely.
+   *
+   * @param entry The reservation entry.
+   * @param formerClient The client that allocated the entry before.
+   */
+  void entryFreed(ReservationEntry entry, Scheduler.Client formerClient) {
+    Set<ReservationEntry> entries = allocationsByClient.get(formerClient);
+    if (entries != null && entries.remove(entry)) {
+      allocatedEntryCount--;
+      if (entries.isEmpty()) {
+        allocationsByClient.remove(formerClient);
+      }
+    }
+    if (invariantChecksEnabled) {
+      checkInvariants();
+    }
   }
 
   /**
@@ -283,8 +428,8 @@ public class ReservationPool {
     // Make sure we're freeing only resources that are allocated by us.
     final Set<TCSResource<?>> freeableResources = new HashSet<>();
     for (TCSResource<?> curRes : resources) {
-      ReservationEntry entry = getReservationEntry(curRes);
-      if (!entry.isAllocatedBy(client)) {
+      ReservationEntry entry = reservations.get(curRes);
+      if (entry == null || !entry.isAllocatedBy(client)) {
         LOG.warn("{}: Freed resource not reserved: {}, entry: {}", client.getId(), curRes, entry);
       }
       else {
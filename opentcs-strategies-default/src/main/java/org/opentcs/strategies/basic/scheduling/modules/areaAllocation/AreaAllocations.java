@@ -2,21 +2,41 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.scheduling.modules.areaAllocation;
 
+import static java.util.Objects.requireNonNull;
+
 import jakarta.inject.Inject;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.index.quadtree.Quadtree;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 
 /**
  * A container for keeping track of areas allocated by vehicles.
+ * <p>
+ * The individual areas allocated are kept in a spatial index, so that checking whether an area may
+ * be allocated requires exact intersection tests only for allocated areas whose bounding boxes
+ * intersect the requested area's bounding box.
+ * </p>
  */
 public class AreaAllocations {
 
-  private final Map<TCSObjectReference<Vehicle>, GeometryCollection> allocatedAreasByVehicles
+  /**
+   * The areas allocated by each vehicle.
+   */
+  private final Map<TCSObjectReference<Vehicle>, List<AllocatedArea>> allocatedAreasByVehicles
       = new HashMap<>();
+  /**
+   * A spatial index of all allocated areas.
+   */
+  private Quadtree allocatedAreasIndex = new Quadtree();
 
   @Inject
   public AreaAllocations() {
@@ -27,6 +47,7 @@ public class AreaAllocations {
    */
   public void clearAreaAllocations() {
     allocatedAreasByVehicles.clear();
+    allocatedAreasIndex = new Quadtree();
   }
 
   /**
@@ -40,7 +61,18 @@ public class AreaAllocations {
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection allocatedAreas
   ) {
-    allocatedAreasByVehicles.put(vehicleRef, allocatedAreas);
+    requireNonNull(vehicleRef, "vehicleRef");
+    requireNonNull(allocatedAreas, "allocatedAreas");
+
+    clearAreaAllocation(vehicleRef);
+
+    List<AllocatedArea> areas = new ArrayList<>();
+    for (Geometry geometry : components(allocatedAreas)) {
+      AllocatedArea area = new AllocatedArea(vehicleRef, geometry);
+      allocatedAreasIndex.insert(area.getEnvelope(), area);
+      areas.add(area);
+    }
+    allocatedAreasByVehicles.put(vehicleRef, areas);
   }
 
   /**
@@ -49,7 +81,14 @@ public class AreaAllocations {
    * @param vehicleRef The vehicle reference.
    */
   public void clearAreaAllocation(TCSObjectReference<Vehicle> vehicleRef) {
-    allocatedAreasByVehicles.remove(vehicleRef);
+    List<AllocatedArea> areas = allocatedAreasByVehicles.remove(vehicleRef);
+    if (areas == null) {
+      return;
+    }
+
+    for (AllocatedArea area : areas) {
+      allocatedAreasIndex.remove(area.getEnvelope(), area);
+    }
   }
 
   /**
@@ -65,9 +104,84 @@ public class AreaAllocations {
       TCSObjectReference<Vehicle> vehicleRef,
       GeometryCollection requestedAreas
   ) {
-    return allocatedAreasByVehicles.entrySet().stream()
+    for (Geometry requestedArea : components(requestedAreas)) {
+      Envelope requestedEnvelope = requestedArea.getEnvelopeInternal();
+      // The index may return areas whose bounding boxes do not intersect the requested one, so
+      // check the bounding boxes before doing the (more expensive) exact intersection test.
+      for (Object item : allocatedAreasIndex.query(requestedEnvelope)) {
+        AllocatedArea allocatedArea = (AllocatedArea) item;
         // Only check areas allocated by vehicles other than the given vehicle.
-        .filter(entry -> !Objects.equals(entry.getKey(), vehicleRef))
-        .noneMatch(entry -> entry.getValue().intersects(requestedAreas));
+        if (!Objects.equals(allocatedArea.getVehicleRef(), vehicleRef)
+            && allocatedArea.getEnvelope().intersects(requestedEnvelope)
+            && allocatedArea.intersects(requestedArea)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the non-empty, non-collection geometries contained in the given geometry.
+   *
+   * @param geometry The geometry.
+   * @return The non-empty, non-collection geometries contained in the given geometry.
+   */
+  private static List<Geometry> components(Geometry geometry) {
+    List<Geometry> result = new ArrayList<>();
+    addComponents(geometry, result);
+    return result;
+  }
+
+  private static void addComponents(Geometry geometry, List<Geometry> components) {
+    if (geometry instanceof GeometryCollection) {
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        addComponents(geometry.getGeometryN(i), components);
+      }
+    }
+    else if (!geometry.isEmpty()) {
+      components.add(geometry);
+    }
+  }
+
+  /**
+   * An area allocated by a vehicle.
+   */
+  private static class AllocatedArea {
+
+    private final TCSObjectReference<Vehicle> vehicleRef;
+    private final Geometry geometry;
+    private final Envelope envelope;
+
+    AllocatedArea(TCSObjectReference<Vehicle> vehicleRef, Geometry geometry) {
+      this.vehicleRef = vehicleRef;
+      this.geometry = geometry;
+      this.envelope = geometry.getEnvelopeInternal();
+    }
+
+    TCSObjectReference<Vehicle> getVehicleRef() {
+      return vehicleRef;
+    }
+
+    Envelope getEnvelope() {
+      return envelope;
+    }
+
+    /**
+     * Checks whether this area intersects the given geometry, using a prepared version of either
+     * geometry, if available (see {@link CachingAreaProvider}).
+     *
+     * @param other The geometry to check.
+     * @return {@code true} if, and only if, this area intersects the given geometry.
+     */
+    boolean intersects(Geometry other) {
+      if (geometry.getUserData() instanceof PreparedGeometry preparedGeometry) {
+        return preparedGeometry.intersects(other);
+      }
+      if (other.getUserData() instanceof PreparedGeometry preparedOther) {
+        return preparedOther.intersects(geometry);
+      }
+      return geometry.intersects(other);
+    }
   }
 }
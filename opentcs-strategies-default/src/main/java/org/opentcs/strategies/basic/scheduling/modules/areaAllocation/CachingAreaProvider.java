@@ -15,6 +15,8 @@ import java.util.Set;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Envelope;
 import org.opentcs.data.model.Path;
@@ -24,6 +26,10 @@ import org.opentcs.data.model.TCSResource;
 /**
  * An {@link AreaProvider} implementation that, upon initialization, computes and caches the areas
  * for the {@link Envelope}s defined at all {@link Point}s and {@link Path}s.
+ * <p>
+ * As the cached areas are checked for intersections repeatedly, a {@link PreparedGeometry} is
+ * created for each of them and attached to it as its user data.
+ * </p>
  */
 public class CachingAreaProvider
     implements
@@ -127,7 +133,11 @@ public class CachingAreaProvider
         .map(vertex -> new Coordinate(vertex.getX(), vertex.getY()))
         .toArray(Coordinate[]::new);
 
-    return Optional.of(geometryFactory.createPolygonOrEmptyGeometry(coordinates));
+    Geometry area = geometryFactory.createPolygonOrEmptyGeometry(coordinates);
+    if (area != EMPTY_GEOMETRY) {
+      area.setUserData(PreparedGeometryFactory.prepare(area));
+    }
+    return Optional.of(area);
   }
 
   private Map<String, Envelope> extractVehicleEnvelopes(TCSResource<?> resource) {
@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Tests for {@link ChangedObjectsTracker}.
+ */
+class ChangedObjectsTrackerTest {
+
+  private EventSource eventSource;
+  private ChangedObjectsTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    eventSource = mock();
+    tracker = new ChangedObjectsTracker(eventSource);
+    tracker.initialize();
+  }
+
+  @Test
+  void subscribeToEventSourceOnInitialization() {
+    verify(eventSource).subscribe(tracker);
+  }
+
+  @Test
+  void trackChangedVehiclesAndTransportOrders() {
+    Vehicle vehicle = new Vehicle("Vehicle-1");
+    TransportOrder order = createTransportOrder("TransportOrder-1");
+
+    tracker.onEvent(modified(vehicle));
+    tracker.onEvent(modified(vehicle.withEnergyLevel(50)));
+    tracker.onEvent(modified(order));
+
+    Optional<ChangedObjects> changes = tracker.retrieveChanges();
+
+    assertThat(changes.isPresent(), is(true));
+    assertThat(changes.get().getVehicles(), is(Set.of(vehicle.getReference())));
+    assertThat(changes.get().getTransportOrders(), is(Set.of(order.getReference())));
+  }
+
+  @Test
+  void trackVehicleProcessingChangedOrderSequence() {
+    Vehicle vehicle = new Vehicle("Vehicle-1");
+    OrderSequence sequence = new OrderSequence("OrderSequence-1")
+        .withProcessingVehicle(vehicle.getReference());
+
+    tracker.onEvent(modified(sequence));
+
+    assertThat(tracker.retrieveChanges().get().getVehicles(), is(Set.of(vehicle.getReference())));
+  }
+
+  @Test
+  void startTrackingAnewAfterRetrievingChanges() {
+    tracker.onEvent(modified(new Vehicle("Vehicle-1")));
+    tracker.retrieveChanges();
+
+    Optional<ChangedObjects> changes = tracker.retrieveChanges();
+
+    assertThat(changes.isPresent(), is(true));
+    assertThat(changes.get().isEmpty(), is(true));
+  }
+
+  @Test
+  void requireFullRunAfterPlantModelChange() {
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    tracker.onEvent(modified(new Vehicle("Vehicle-1")));
+    tracker.onEvent(modified(new Path("A --- B", pointA.getReference(), pointB.getReference())));
+
+    assertThat(tracker.retrieveChanges().isPresent(), is(false));
+    // After a full run has been requested once, changes are tracked again.
+    assertThat(tracker.retrieveChanges().isPresent(), is(true));
+  }
+
+  @Test
+  void ignoreOtherEvents() {
+    tracker.onEvent(new Object());
+
+    Optional<ChangedObjects> changes = tracker.retrieveChanges();
+
+    assertThat(changes.isPresent(), is(true));
+    assertThat(changes.get().isEmpty(), is(true));
+  }
+
+  private TransportOrder createTransportOrder(String name) {
+    return new TransportOrder(
+        name,
+        List.of(new DriveOrder(new DriveOrder.Destination(new Point("Point-1").getReference())))
+    );
+  }
+
+  private TCSObjectEvent modified(TCSObject<?> object) {
+    return new TCSObjectEvent(object, object, TCSObjectEvent.Type.OBJECT_MODIFIED);
+  }
+}
@@ -0,0 +1,147 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CoalescingDispatchScheduler}.
+ */
+class CoalescingDispatchSchedulerTest {
+
+  private ScheduledExecutorService executor;
+  private AtomicInteger dispatchRuns;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newSingleThreadScheduledExecutor();
+    dispatchRuns = new AtomicInteger();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void collapseTriggersQueuedOnExecutorIntoOneRun()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler = createScheduler(0);
+
+    // Simulate many vehicle changes, each of which enqueues a dispatch request on the executor.
+    for (int i = 0; i < 50; i++) {
+      executor.execute(scheduler::trigger);
+    }
+    awaitRuns(1);
+    awaitExecutorIdle();
+
+    assertThat(scheduler.getTriggerCount(), is(50L));
+    assertThat(scheduler.getRunCount(), is(1L));
+    assertThat(dispatchRuns.get(), is(1));
+  }
+
+  @Test
+  void scheduleNewRunForTriggerAfterCompletedRun()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler = createScheduler(0);
+
+    scheduler.trigger();
+    awaitExecutorIdle();
+    scheduler.trigger();
+    awaitExecutorIdle();
+
+    assertThat(scheduler.getTriggerCount(), is(2L));
+    assertThat(scheduler.getRunCount(), is(2L));
+  }
+
+  @Test
+  void keepMinimumIntervalBetweenRuns()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler = createScheduler(200);
+
+    scheduler.trigger();
+    awaitExecutorIdle();
+    long start = System.nanoTime();
+    scheduler.trigger();
+    scheduler.trigger();
+    awaitRuns(2);
+
+    assertThat(elapsedMillis(start), is(greaterThanOrEqualTo(150L)));
+    assertThat(scheduler.getTriggerCount(), is(3L));
+    assertThat(scheduler.getRunCount(), is(2L));
+  }
+
+  @Test
+  void executeRunsWhileHoldingGlobalSyncObject()
+      throws Exception {
+    Object globalSyncObject = new Object();
+    CountDownLatch runExecuted = new CountDownLatch(1);
+    CoalescingDispatchScheduler scheduler = new CoalescingDispatchScheduler(
+        executor,
+        globalSyncObject,
+        () -> {
+          if (Thread.holdsLock(globalSyncObject)) {
+            runExecuted.countDown();
+          }
+        },
+        0
+    );
+
+    scheduler.trigger();
+
+    assertThat(runExecuted.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void doNotExecuteCancelledRun()
+      throws Exception {
+    CoalescingDispatchScheduler scheduler = createScheduler(200);
+    scheduler.trigger();
+    awaitExecutorIdle();
+
+    scheduler.trigger();
+    scheduler.cancel();
+    Thread.sleep(300);
+    awaitExecutorIdle();
+
+    assertThat(scheduler.getRunCount(), is(1L));
+  }
+
+  private CoalescingDispatchScheduler createScheduler(long minInterval) {
+    return new CoalescingDispatchScheduler(
+        executor,
+        new Object(),
+        () -> dispatchRuns.incrementAndGet(),
+        minInterval
+    );
+  }
+
+  private void awaitExecutorIdle()
+      throws Exception {
+    executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+  }
+
+  private void awaitRuns(int expectedRuns)
+      throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (dispatchRuns.get() < expectedRuns && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(dispatchRuns.get(), is(expectedRuns));
+  }
+
+  private long elapsedMillis(long start) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+}
@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignment.NOT_ASSIGNABLE;
+import static org.opentcs.strategies.basic.dispatching.phase.assignment.MinCostAssignment.UNASSIGNED;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MinCostAssignment}.
+ */
+class MinCostAssignmentTest {
+
+  @Test
+  void returnEmptyResultForEmptyMatrix() {
+    assertThat(MinCostAssignment.solve(new double[0][0]), is(new int[0]));
+    assertThat(MinCostAssignment.solve(new double[2][0]), is(new int[]{UNASSIGNED, UNASSIGNED}));
+  }
+
+  @Test
+  void preferGlobalOptimumToGreedyChoice() {
+    // Greedily assigning the cheapest column to the first row would result in total costs of 101.
+    double[][] costs = {
+        {1, 2},
+        {100, 3}
+    };
+
+    assertThat(MinCostAssignment.solve(costs), is(new int[]{0, 1}));
+
+    costs = new double[][]{
+        {1, 2},
+        {3, 100}
+    };
+
+    assertThat(MinCostAssignment.solve(costs), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void leaveRowsUnassignedIfThereAreMoreRowsThanColumns() {
+    double[][] costs = {
+        {5},
+        {2},
+        {7}
+    };
+
+    assertThat(MinCostAssignment.solve(costs), is(new int[]{UNASSIGNED, 0, UNASSIGNED}));
+  }
+
+  @Test
+  void maximizeNumberOfAssignablePairs() {
+    // Assigning column 0 to row 0 would be cheapest, but would leave row 1 unassigned.
+    double[][] costs = {
+        {1, 1000},
+        {5, NOT_ASSIGNABLE}
+    };
+
+    assertThat(MinCostAssignment.solve(costs), is(new int[]{1, 0}));
+  }
+
+  @Test
+  void neverAssignPairsThatAreNotAssignable() {
+    double[][] costs = {
+        {NOT_ASSIGNABLE, NOT_ASSIGNABLE},
+        {NOT_ASSIGNABLE, 4}
+    };
+
+    assertThat(MinCostAssignment.solve(costs), is(new int[]{UNASSIGNED, 1}));
+  }
+
+  @Test
+  void rejectNegativeCosts() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MinCostAssignment.solve(new double[][]{{-1}})
+    );
+  }
+
+  @Test
+  void findSameCostsAsExhaustiveSearch() {
+    Random random = new Random(4711);
+    for (int run = 0; run < 200; run++) {
+      int rowCount = 1 + random.nextInt(5);
+      int columnCount = 1 + random.nextInt(5);
+      double[][] costs = new double[rowCount][columnCount];
+      for (int row = 0; row < rowCount; row++) {
+        for (int column = 0; column < columnCount; column++) {
+          costs[row][column] = random.nextInt(4) == 0 ? NOT_ASSIGNABLE : random.nextInt(100);
+        }
+      }
+
+      int[] result = MinCostAssignment.solve(costs);
+      boolean[] usedColumns = new boolean[columnCount];
+      int assignedCount = 0;
+      double totalCosts = 0;
+      for (int row = 0; row < rowCount; row++) {
+        if (result[row] != UNASSIGNED) {
+          assertThat(usedColumns[result[row]], is(false));
+          usedColumns[result[row]] = true;
+          assignedCount++;
+          totalCosts += costs[row][result[row]];
+        }
+      }
+
+      double[] best = bestMatching(costs, 0, new boolean[columnCount]);
+      assertThat(assignedCount, is((int) best[0]));
+      assertThat(totalCosts, is(best[1]));
+    }
+  }
+
+  /**
+   * Returns the maximum number of assignable pairs and the minimum costs for that number.
+   */
+  private double[] bestMatching(double[][] costs, int row, boolean[] usedColumns) {
+    if (row == costs.length) {
+      return new double[]{0, 0};
+    }
+
+    double[] best = bestMatching(costs, row + 1, usedColumns);
+    for (int column = 0; column < usedColumns.length; column++) {
+      if (usedColumns[column] || costs[row][column] == NOT_ASSIGNABLE) {
+        continue;
+      }
+      usedColumns[column] = true;
+      double[] rest = bestMatching(costs, row + 1, usedColumns);
+      usedColumns[column] = false;
+      double count = rest[0] + 1;
+      double sum = rest[1] + costs[row][column];
+      if (count > best[0] || (count == best[0] && sum < best[1])) {
+        best = new double[]{count, sum};
+      }
+    }
+    return best;
+  }
+}
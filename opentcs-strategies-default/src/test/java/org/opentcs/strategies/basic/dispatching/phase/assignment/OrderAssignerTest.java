@@ -0,0 +1,229 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching.phase.assignment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.Router;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.dispatching.DefaultDispatcherConfiguration;
+import org.opentcs.strategies.basic.dispatching.OrderReservationPool;
+import org.opentcs.strategies.basic.dispatching.TransportOrderUtil;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeOrderComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleCandidateComparator;
+import org.opentcs.strategies.basic.dispatching.priorization.CompositeVehicleComparator;
+import org.opentcs.strategies.basic.dispatching.selection.candidates.CompositeAssignmentCandidateSelectionFilter;
+
+/**
+ * Tests for {@link OrderAssigner}.
+ */
+class OrderAssignerTest {
+
+  private final Object globalSyncObject = new Object();
+  private Point point;
+  private Vehicle vehicle;
+  private List<TransportOrder> orders;
+  private TCSObjectService objectService;
+  private Router router;
+  private TransportOrderUtil transportOrderUtil;
+  private DefaultDispatcherConfiguration configuration;
+  private OrderAssigner orderAssigner;
+
+  @BeforeEach
+  void setUp() {
+    point = new Point("Point-1");
+    vehicle = new Vehicle("Vehicle-1").withCurrentPosition(point.getReference());
+    orders = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      orders.add(
+          new TransportOrder(
+              "TransportOrder-" + i,
+              List.of(new DriveOrder(new DriveOrder.Destination(point.getReference())))
+          )
+      );
+    }
+
+    objectService = mock();
+    when(objectService.fetchObject(Point.class, point.getReference())).thenReturn(point);
+    router = mock();
+    transportOrderUtil = mock();
+    configuration = mock();
+    when(configuration.parallelCandidateComputation()).thenReturn(true);
+    when(configuration.candidateComputationThreads()).thenReturn(4);
+    when(configuration.candidateComputationTimeout()).thenReturn(10000);
+
+    CompositeAssignmentCandidateSelectionFilter candidateFilter = mock();
+    when(candidateFilter.apply(any())).thenReturn(List.of());
+
+    orderAssigner = new OrderAssigner(
+        objectService,
+        router,
+        mock(OrderReservationPool.class),
+        mock(CompositeVehicleComparator.class),
+        mock(CompositeOrderComparator.class),
+        mock(CompositeOrderCandidateComparator.class),
+        mock(CompositeVehicleCandidateComparator.class),
+        candidateFilter,
+        transportOrderUtil,
+        mock(DispatchingStatusMarker.class),
+        configuration,
+        globalSyncObject
+    );
+    orderAssigner.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    orderAssigner.terminate();
+  }
+
+  @Test
+  void assignFirstRoutableOrderWhenComputingCandidatesInParallel() {
+    // Let the first few orders be unroutable and let computations for earlier orders take longer,
+    // so that the candidates are computed in a different order than the orders are given in.
+    for (int i = 0; i < orders.size(); i++) {
+      TransportOrder order = orders.get(i);
+      boolean routable = i >= 3;
+      long delay = (orders.size() - i) * 5L;
+      when(router.getRoute(vehicle, point, order)).then(invocation -> {
+        Thread.sleep(delay);
+        return routable ? Optional.of(driveOrdersWithRoute()) : Optional.empty();
+      });
+    }
+
+    orderAssigner.tryAssignments(List.of(vehicle), orders);
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle), eq(orders.get(3)), anyList());
+  }
+
+  @Test
+  void computeCandidatesSequentiallyWhileHoldingGlobalSyncObject() {
+    List<Thread> computingThreads = new CopyOnWriteArrayList<>();
+    for (TransportOrder order : orders) {
+      when(router.getRoute(vehicle, point, order)).then(invocation -> {
+        // Simulates the router reading kernel objects via the object service.
+        synchronized (globalSyncObject) {
+          computingThreads.add(Thread.currentThread());
+          return Optional.of(driveOrdersWithRoute());
+        }
+      });
+    }
+
+    synchronized (globalSyncObject) {
+      orderAssigner.tryAssignments(List.of(vehicle), orders);
+    }
+
+    assertThat(computingThreads, everyItem(is(Thread.currentThread())));
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle), eq(orders.get(0)), anyList());
+  }
+
+  @Test
+  void computeCandidatesInParallelWhileHoldingGlobalSyncObjectWithLockFreeObjectReads() {
+    when(configuration.lockFreeObjectReads()).thenReturn(true);
+    List<Thread> computingThreads = new CopyOnWriteArrayList<>();
+    for (TransportOrder order : orders) {
+      when(router.getRoute(vehicle, point, order)).then(invocation -> {
+        computingThreads.add(Thread.currentThread());
+        return Optional.of(driveOrdersWithRoute());
+      });
+    }
+
+    synchronized (globalSyncObject) {
+      orderAssigner.tryAssignments(List.of(vehicle), orders);
+    }
+
+    assertThat(computingThreads, everyItem(is(not(Thread.currentThread()))));
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle), eq(orders.get(0)), anyList());
+  }
+
+  @Test
+  void computeCandidatesSequentiallyAfterTimeout() {
+    // Pretend that objects can be read without the global lock, although the router does need it.
+    when(configuration.lockFreeObjectReads()).thenReturn(true);
+    when(configuration.candidateComputationTimeout()).thenReturn(100);
+    for (TransportOrder order : orders) {
+      when(router.getRoute(vehicle, point, order)).then(invocation -> {
+        synchronized (globalSyncObject) {
+          return Optional.of(driveOrdersWithRoute());
+        }
+      });
+    }
+
+    synchronized (globalSyncObject) {
+      orderAssigner.tryAssignments(List.of(vehicle), orders);
+    }
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle), eq(orders.get(0)), anyList());
+  }
+
+  @Test
+  void propagateExceptionsFromCandidateComputation() {
+    when(router.getRoute(any(Vehicle.class), any(Point.class), any(TransportOrder.class)))
+        .thenThrow(new IllegalStateException("Routing failed"));
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> orderAssigner.tryAssignments(List.of(vehicle), orders)
+    );
+    verify(transportOrderUtil, never()).assignTransportOrder(any(), any(), anyList());
+  }
+
+  @Test
+  void assignOrdersWithMinimalTotalCosts() {
+    Point otherPoint = new Point("Point-2");
+    Vehicle otherVehicle = new Vehicle("Vehicle-2").withCurrentPosition(otherPoint.getReference());
+    when(objectService.fetchObject(Point.class, otherPoint.getReference())).thenReturn(otherPoint);
+    TransportOrder order0 = orders.get(0);
+    TransportOrder order1 = orders.get(1);
+    // Assigning order 0 to the first vehicle would be cheapest for that vehicle, but would leave
+    // only the expensive order 1 for the other vehicle.
+    when(router.getRoute(vehicle, point, order0)).thenReturn(Optional.of(driveOrdersWithRoute(1)));
+    when(router.getRoute(vehicle, point, order1)).thenReturn(Optional.of(driveOrdersWithRoute(2)));
+    when(router.getRoute(otherVehicle, otherPoint, order0))
+        .thenReturn(Optional.of(driveOrdersWithRoute(3)));
+    when(router.getRoute(otherVehicle, otherPoint, order1))
+        .thenReturn(Optional.of(driveOrdersWithRoute(100)));
+
+    orderAssigner.tryMinCostAssignments(List.of(vehicle, otherVehicle), List.of(order0, order1));
+
+    verify(transportOrderUtil).assignTransportOrder(eq(vehicle), eq(order1), anyList());
+    verify(transportOrderUtil).assignTransportOrder(eq(otherVehicle), eq(order0), anyList());
+  }
+
+  private List<DriveOrder> driveOrdersWithRoute() {
+    return driveOrdersWithRoute(10);
+  }
+
+  private List<DriveOrder> driveOrdersWithRoute(long costs) {
+    Route route = new Route(
+        List.of(new Route.Step(null, null, point, Vehicle.Orientation.FORWARD, 0, costs))
+    );
+    return List.of(
+        new DriveOrder(new DriveOrder.Destination(point.getReference())).withRoute(route)
+    );
+  }
+}
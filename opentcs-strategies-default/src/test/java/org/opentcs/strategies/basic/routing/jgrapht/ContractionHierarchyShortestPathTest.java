@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Random;
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Tests for {@link ContractionHierarchyShortestPath}.
+ */
+class ContractionHierarchyShortestPathTest {
+
+  private static final int GRID_SIZE = 8;
+
+  private Graph<String, Edge> graph;
+
+  @BeforeEach
+  void setUp() {
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+  }
+
+  @Test
+  void returnEmptyPathIfDestinationIsSource() {
+    addEdge("A", "B", 10);
+
+    GraphPath<String, Edge> path = new ContractionHierarchyShortestPath(graph).getPath("A", "A");
+
+    assertNotNull(path);
+    assertThat(path.getEdgeList().isEmpty(), is(true));
+  }
+
+  @Test
+  void returnNullIfNoPathExists() {
+    addEdge("A", "B", 10);
+    graph.addVertex("C");
+
+    ContractionHierarchyShortestPath algorithm = new ContractionHierarchyShortestPath(graph);
+
+    assertNull(algorithm.getPath("A", "C"));
+    assertThat(algorithm.getPath("B", "A"), is(nullValue()));
+    assertEquals(Double.POSITIVE_INFINITY, algorithm.getPathWeight("A", "C"));
+  }
+
+  @Test
+  void useCheapestOfParallelEdges() {
+    addEdge("A", "B", 10);
+    Edge cheapEdge = addEdge("A", "B", 5);
+    addEdge("B", "C", 10);
+
+    GraphPath<String, Edge> path = new ContractionHierarchyShortestPath(graph).getPath("A", "C");
+
+    assertEquals(15, path.getWeight());
+    assertEquals(cheapEdge, path.getEdgeList().get(0));
+  }
+
+  @Test
+  void rejectUnknownVertices() {
+    addEdge("A", "B", 10);
+
+    ContractionHierarchyShortestPath algorithm = new ContractionHierarchyShortestPath(graph);
+
+    assertThrows(IllegalArgumentException.class, () -> algorithm.getPath("A", "X"));
+  }
+
+  @Test
+  void returnSameCostsAsDijkstraAndUnpackShortcuts() {
+    // Create a grid with random (but reproducible) weights and some one-way streets.
+    Random random = new Random(4711);
+    for (int x = 0; x < GRID_SIZE; x++) {
+      for (int y = 0; y < GRID_SIZE; y++) {
+        if (x + 1 < GRID_SIZE) {
+          addEdge(vertex(x, y), vertex(x + 1, y), 1 + random.nextInt(100));
+          if (random.nextInt(4) != 0) {
+            addEdge(vertex(x + 1, y), vertex(x, y), 1 + random.nextInt(100));
+          }
+        }
+        if (y + 1 < GRID_SIZE) {
+          addEdge(vertex(x, y), vertex(x, y + 1), 1 + random.nextInt(100));
+          if (random.nextInt(4) != 0) {
+            addEdge(vertex(x, y + 1), vertex(x, y), 1 + random.nextInt(100));
+          }
+        }
+      }
+    }
+
+    ContractionHierarchyShortestPath algorithm = new ContractionHierarchyShortestPath(graph);
+    DijkstraShortestPath<String, Edge> dijkstra = new DijkstraShortestPath<>(graph);
+
+    for (String src : graph.vertexSet()) {
+      for (String dest : graph.vertexSet()) {
+        GraphPath<String, Edge> expected = dijkstra.getPath(src, dest);
+        GraphPath<String, Edge> actual = algorithm.getPath(src, dest);
+
+        if (expected == null) {
+          assertNull(actual);
+          continue;
+        }
+        assertNotNull(actual);
+        assertEquals(expected.getWeight(), actual.getWeight());
+        assertEquals(expected.getWeight(), algorithm.getPathWeight(src, dest));
+        assertContiguous(src, dest, actual.getEdgeList());
+      }
+    }
+  }
+
+  private void assertContiguous(String src, String dest, List<Edge> edges) {
+    String current = src;
+    for (Edge edge : edges) {
+      assertEquals(current, graph.getEdgeSource(edge));
+      current = graph.getEdgeTarget(edge);
+    }
+    assertEquals(dest, current);
+  }
+
+  private String vertex(int x, int y) {
+    return "Point-" + x + "-" + y;
+  }
+
+  private Edge addEdge(String src, String dest, double weight) {
+    graph.addVertex(src);
+    graph.addVertex(dest);
+    Path path = new Path(
+        src + " --- " + dest + " (" + graph.edgeSet().size() + ")",
+        new Point(src).getReference(),
+        new Point(dest).getReference()
+    );
+    Edge edge = new Edge(path, false);
+    graph.addEdge(src, dest, edge);
+    graph.setEdgeWeight(edge, weight);
+    return edge;
+  }
+}
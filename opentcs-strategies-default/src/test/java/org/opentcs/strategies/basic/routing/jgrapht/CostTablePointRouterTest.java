@@ -0,0 +1,129 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.graph.DirectedWeightedMultigraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Tests for {@link CostTablePointRouter}.
+ */
+class CostTablePointRouterTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Point pointD;
+  private Graph<String, Edge> graph;
+  private PointRouter delegate;
+  private CostTablePointRouter pointRouter;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pointD = new Point("D");
+
+    graph = new DirectedWeightedMultigraph<>(Edge.class);
+    graph.addVertex(pointA.getName());
+    graph.addVertex(pointB.getName());
+    graph.addVertex(pointC.getName());
+    graph.addVertex(pointD.getName());
+    addEdge(pointA, pointB, 10);
+    addEdge(pointB, pointC, 10);
+    addEdge(pointA, pointC, 50);
+    addEdge(pointC, pointA, 5);
+
+    delegate = spy(
+        new ShortestPathPointRouter(
+            new DijkstraShortestPath<>(graph),
+            List.of(pointA, pointB, pointC, pointD)
+        )
+    );
+    pointRouter = new CostTablePointRouter(delegate, new IndexedGraph(graph));
+  }
+
+  @Test
+  void returnZeroCostsIfDestinationIsSource() {
+    assertEquals(0, pointRouter.getCosts(pointA.getReference(), pointA.getReference()));
+  }
+
+  @Test
+  void returnInfiniteCostsIfNoRouteExists() {
+    assertEquals(
+        PointRouter.INFINITE_COSTS,
+        pointRouter.getCosts(pointA.getReference(), pointD.getReference())
+    );
+  }
+
+  @Test
+  void returnSameCostsAsDelegate() {
+    for (Point src : List.of(pointA, pointB, pointC, pointD)) {
+      for (Point dest : List.of(pointA, pointB, pointC, pointD)) {
+        assertEquals(
+            delegate.getCosts(src.getReference(), dest.getReference()),
+            pointRouter.getCosts(src.getReference(), dest.getReference())
+        );
+      }
+    }
+  }
+
+  @Test
+  void lookUpCostsWithoutDelegating() {
+    assertEquals(20, pointRouter.getCosts(pointA.getReference(), pointC.getReference()));
+    assertEquals(15, pointRouter.getCosts(pointB.getReference(), pointA.getReference()));
+
+    verify(delegate, never())
+        .getCosts(
+            ArgumentMatchers.<TCSObjectReference<Point>>any(),
+            ArgumentMatchers.<TCSObjectReference<Point>>any()
+        );
+  }
+
+  @Test
+  void delegateCostsForGraphsWithNegativeWeights() {
+    addEdge(pointD, pointA, -5);
+    PointRouter mockedDelegate = mock();
+    pointRouter = new CostTablePointRouter(mockedDelegate, new IndexedGraph(graph));
+
+    pointRouter.getCosts(pointD.getReference(), pointC.getReference());
+
+    verify(mockedDelegate, times(1)).getCosts(pointD.getReference(), pointC.getReference());
+  }
+
+  @Test
+  void delegateRouteSteps() {
+    pointRouter.getRouteSteps(pointA, pointC);
+
+    verify(delegate, times(1)).getRouteSteps(pointA, pointC);
+  }
+
+  private void addEdge(Point src, Point dest, double weight) {
+    Path path = new Path(
+        src.getName() + " --- " + dest.getName(),
+        src.getReference(),
+        dest.getReference()
+    );
+    Edge edge = new Edge(path, false);
+    graph.addEdge(src.getName(), dest.getName(), edge);
+    graph.setEdgeWeight(edge, weight);
+  }
+}
@@ -0,0 +1,102 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.jgrapht;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.strategies.basic.routing.PointRouter;
+
+/**
+ * Tests for {@link DerivedPointRouterCache}.
+ */
+class DerivedPointRouterCacheTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private DerivedPointRouterCache cache;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    cache = new DerivedPointRouterCache(2);
+  }
+
+  @Test
+  void returnCachedPointRouterForEqualExclusions() {
+    PointRouter first = cache.getPointRouter("group", Set.of(pointA), Set.of(pathAB), () -> mock());
+    PointRouter second = cache.getPointRouter(
+        "group",
+        Set.of(new Point("A")),
+        Set.of(pathAB),
+        () -> mock()
+    );
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(cache.getHitCount(), is(1L));
+    assertThat(cache.getMissCount(), is(1L));
+  }
+
+  @Test
+  void distinguishRoutingGroups() {
+    PointRouter first = cache.getPointRouter("group1", Set.of(pointA), Set.of(), () -> mock());
+    PointRouter second = cache.getPointRouter("group2", Set.of(pointA), Set.of(), () -> mock());
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(cache.getMissCount(), is(2L));
+  }
+
+  @Test
+  void evictLeastRecentlyUsedPointRouter() {
+    PointRouter routerA = cache.getPointRouter("group", Set.of(pointA), Set.of(), () -> mock());
+    PointRouter routerB = cache.getPointRouter("group", Set.of(pointB), Set.of(), () -> mock());
+    // Access A again, so B becomes the least recently used one.
+    cache.getPointRouter("group", Set.of(pointA), Set.of(), () -> mock());
+    cache.getPointRouter("group", Set.of(pointC), Set.of(), () -> mock());
+
+    assertThat(cache.size(), is(2));
+    assertThat(cache.getEvictionCount(), is(1L));
+    assertThat(
+        cache.getPointRouter("group", Set.of(pointA), Set.of(), () -> mock()),
+        is(sameInstance(routerA))
+    );
+    assertThat(
+        cache.getPointRouter("group", Set.of(pointB), Set.of(), () -> mock()),
+        is(not(sameInstance(routerB)))
+    );
+  }
+
+  @Test
+  void createNewPointRoutersAfterClearing() {
+    PointRouter first = cache.getPointRouter("group", Set.of(pointA), Set.of(), () -> mock());
+    cache.clear();
+    PointRouter second = cache.getPointRouter("group", Set.of(pointA), Set.of(), () -> mock());
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(cache.getMissCount(), is(2L));
+  }
+
+  @Test
+  void cacheNothingWithZeroCapacity() {
+    cache = new DerivedPointRouterCache(0);
+
+    PointRouter first = cache.getPointRouter("group", Set.of(pointA), Set.of(), () -> mock());
+    PointRouter second = cache.getPointRouter("group", Set.of(pointA), Set.of(), () -> mock());
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(cache.size(), is(0));
+  }
+}
@@ -2,6 +2,8 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.routing.jgrapht;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -21,6 +23,7 @@ import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.TCSObject;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.strategies.basic.routing.DefaultRoutingGroupMapper;
@@ -44,6 +47,7 @@ public class PointRouterProviderTest {
   private GroupMapper routingGroupMapper;
   private PointRouterFactory pointRouterFactory;
   private GraphProvider graphProvider;
+  private ShortestPathConfiguration configuration;
   private PointRouterProvider pointRouterProvider;
 
   @BeforeEach
@@ -66,13 +70,15 @@ public class PointRouterProviderTest {
     when(pointRouterFactory.createPointRouter(any(Vehicle.class), anySet(), anySet()))
         .thenReturn(mock(PointRouter.class));
     graphProvider = mock();
+    configuration = mock();
 
     pointRouterProvider = new PointRouterProvider(
         objectService,
         resourceAvoidanceExtractor,
         routingGroupMapper,
         pointRouterFactory,
-        graphProvider
+        graphProvider,
+        configuration
     );
   }
 
@@ -153,6 +159,60 @@ public class PointRouterProviderTest {
     verify(pointRouterFactory, times(15)).createPointRouter(any(Vehicle.class), anySet(), anySet());
   }
 
+  @Test
+  void shouldReuseDerivedPointRoutersForSameResourcesToAvoid() {
+    when(configuration.derivedPointRouterCacheSize()).thenReturn(10);
+    pointRouterProvider = new PointRouterProvider(
+        objectService,
+        resourceAvoidanceExtractor,
+        routingGroupMapper,
+        pointRouterFactory,
+        graphProvider,
+        configuration
+    );
+    Point pointToAvoid = new Point("Point-001");
+    ResourcesToAvoid resourcesToAvoid = mock();
+    when(resourcesToAvoid.getPoints()).thenReturn(Set.of(pointToAvoid));
+    when(resourcesToAvoid.getPaths()).thenReturn(Set.of());
+    when(resourceAvoidanceExtractor.extractResourcesToAvoid(anySet())).thenReturn(resourcesToAvoid);
+
+    pointRouterProvider.getPointRouterForVehicle(
+        createVehicle("Vehicle-000", 1),
+        Set.of(pointToAvoid.getReference())
+    );
+    pointRouterProvider.getPointRouterForVehicle(
+        createVehicle("Vehicle-001", 1),
+        Set.of(pointToAvoid.getReference())
+    );
+
+    verify(pointRouterFactory, times(1)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+    assertThat(pointRouterProvider.getDerivedPointRouterCache().getHitCount(), is(1L));
+  }
+
+  @Test
+  void shouldCreateNewPointRoutersAfterTopologyUpdate() {
+    Vehicle vehicle = createVehicle("Vehicle-000", 1);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+
+    pointRouterProvider.updateRoutingTopology(Set.of());
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+    pointRouterProvider.getPointRouterForVehicle(vehicle, (TransportOrder) null);
+
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
+  @Test
+  void shouldProvidePointRoutersForAllRoutingGroups() {
+    createVehicle("Vehicle-000", 1);
+    createVehicle("Vehicle-001", 1);
+    createVehicle("Vehicle-002", 2);
+
+    assertThat(pointRouterProvider.getPointRoutersByVehicleGroup().size(), is(2));
+    assertThat(pointRouterProvider.getPointRoutersByVehicleGroup().size(), is(2));
+    verify(pointRouterFactory, times(2)).createPointRouter(any(Vehicle.class), anySet(), anySet());
+  }
+
   /**
    * Creates a vehicle with a unique id, the given name and the given routing group.
    * If the routing group is negative no property will be added.
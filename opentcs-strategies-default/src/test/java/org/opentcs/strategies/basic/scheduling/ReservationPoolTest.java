@@ -33,6 +33,7 @@ class ReservationPoolTest {
   void setUp() {
     client = new TestClient();
     reservationPool = new ReservationPool();
+    reservationPool.setInvariantChecksEnabled(true);
   }
 
   @Test
@@ -122,6 +123,55 @@ class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  void freeAllOnlyFreesResourcesOfGivenClient() {
+    Scheduler.Client otherClient = new TestClient();
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point2).allocate(otherClient);
+
+    reservationPool.freeAll(client);
+
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(
+        reservationPool.allocatedResources(otherClient),
+        is(Set.<TCSResource<?>>of(point2))
+    );
+    assertThat(reservationPool.getAllocatedResourceCount(), is(1));
+    assertThat(reservationPool.getFreeResourceCount(), is(1));
+  }
+
+  @Test
+  void keepResourceAllocatedUntilFreedAsOftenAsAllocated() {
+    Point point1 = new Point("point1");
+    reservationPool.getReservationEntry(point1).allocate(client);
+    reservationPool.getReservationEntry(point1).allocate(client);
+
+    reservationPool.free(client, Set.of(point1));
+    assertThat(reservationPool.allocatedResources(client), is(Set.<TCSResource<?>>of(point1)));
+
+    reservationPool.free(client, Set.of(point1));
+    assertThat(reservationPool.allocatedResources(client), is(empty()));
+    assertThat(reservationPool.getAllocatedResourceCount(), is(0));
+  }
+
+  @Test
+  void reflectAvailabilityForOtherClients() {
+    Scheduler.Client otherClient = new TestClient();
+    Point point1 = new Point("point1");
+    Point point2 = new Point("point2");
+    reservationPool.getReservationEntry(point1).allocate(client);
+
+    assertThat(reservationPool.resourcesAvailableForUser(Set.of(point1, point2), client), is(true));
+    assertThat(
+        reservationPool.resourcesAvailableForUser(Set.of(point1, point2), otherClient),
+        is(false)
+    );
+    assertThat(reservationPool.resourcesAvailableForUser(Set.of(point2), otherClient), is(true));
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
@@ -106,6 +106,86 @@ class AreaAllocationsTest {
     assertTrue(areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), requestedArea));
   }
 
+  @Test
+  void allowAreaAllocationWhenAreaIsDisjointFromAreasAllocatedByOtherVehicles() {
+    // Arrange
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    Vehicle vehicle3 = new Vehicle("yet-another-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), createSquare(0, 0, 10));
+    areaAllocations.setAreaAllocation(vehicle3.getReference(), createSquare(30, 0, 10));
+
+    // Act & Assert
+    assertTrue(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), createSquare(15, 0, 10))
+    );
+    assertFalse(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), createSquare(35, 5, 10))
+    );
+  }
+
+  @Test
+  void allowAreaAllocationWhenAreaWasReleasedByNewAllocationOfAnotherVehicle() {
+    // Arrange
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), createSquare(0, 0, 10));
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), createSquare(20, 0, 10));
+
+    // Act & Assert
+    assertTrue(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), createSquare(0, 0, 10))
+    );
+    assertFalse(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), createSquare(25, 0, 10))
+    );
+  }
+
+  @Test
+  void allowAreaAllocationWhenAreaAllocationOfAnotherVehicleWasCleared() {
+    // Arrange
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), createSquare(0, 0, 10));
+    areaAllocations.clearAreaAllocation(vehicle2.getReference());
+
+    // Act & Assert
+    assertTrue(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), createSquare(0, 0, 10))
+    );
+  }
+
+  @Test
+  void prohibitAreaAllocationWhenAreaIsInsideBoundingBoxOfAllocatedAreaOnlyIfIntersecting() {
+    // Arrange: An L-shaped area, whose bounding box covers (0,0) to (20,20).
+    GeometryCollection allocatedArea = createCollectionWithOneGeometry(
+        new Coordinate(0, 0),
+        new Coordinate(0, 20),
+        new Coordinate(5, 20),
+        new Coordinate(5, 5),
+        new Coordinate(20, 5),
+        new Coordinate(20, 0),
+        new Coordinate(0, 0)
+    );
+    Vehicle vehicle2 = new Vehicle("some-other-vehicle");
+    areaAllocations.setAreaAllocation(vehicle2.getReference(), allocatedArea);
+
+    // Act & Assert
+    assertTrue(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), createSquare(10, 10, 5))
+    );
+    assertFalse(
+        areaAllocations.isAreaAllocationAllowed(vehicle.getReference(), createSquare(2, 10, 5))
+    );
+  }
+
+  private GeometryCollection createSquare(double x, double y, double size) {
+    return createCollectionWithOneGeometry(
+        new Coordinate(x, y),
+        new Coordinate(x, y + size),
+        new Coordinate(x + size, y + size),
+        new Coordinate(x + size, y),
+        new Coordinate(x, y)
+    );
+  }
+
   private GeometryCollection createCollectionWithOneGeometry(Coordinate... coordinates) {
     GeometryFactory geometryFactory = new GeometryFactory();
     return geometryFactory.createGeometryCollection(